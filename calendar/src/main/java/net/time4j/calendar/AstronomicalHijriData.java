@@ -22,6 +22,7 @@
 package net.time4j.calendar;
 
 import net.time4j.PlainDate;
+import net.time4j.base.GregorianMath;
 import net.time4j.base.ResourceLoader;
 import net.time4j.engine.CalendarEra;
 import net.time4j.engine.EpochDays;
@@ -47,10 +48,13 @@ import java.util.Properties;
  * @since   3.5/4.3
  */
 final class AstronomicalHijriData
-    implements MonthBasedCalendarSystem<HijriCalendar> {
+    implements MonthBasedCalendarSystem<HijriCalendar>, PackedCalendarSystem {
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
+    // blocks of 32 days, every block contains at most two starts of months
+    private static final int BLOCK_SHIFT = 5;
+
     static final AstronomicalHijriData UMALQURA;
 
     static {
@@ -71,6 +75,7 @@ final class AstronomicalHijriData
     private final long maxUTC;
     private final int[] lengthOfMonth;
     private final long[] firstOfMonth;
+    private final int[] monthOfBlock;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -141,6 +146,7 @@ final class AstronomicalHijriData
             this.maxUTC = v - 1;
             this.lengthOfMonth = mlen;
             this.firstOfMonth = mutc;
+            this.monthOfBlock = createBlockIndex(this.minUTC, this.maxUTC, mutc);
 
         } catch (ParseException | NumberFormatException pe) {
             throw new IOException("Wrong file format: " + name, pe);
@@ -159,21 +165,38 @@ final class AstronomicalHijriData
     @Override
     public HijriCalendar transform(long utcDays) {
 
-        int monthStart = search(utcDays, this.firstOfMonth);
-
-        if (monthStart >= 0) {
-            if (
-                (monthStart < this.firstOfMonth.length - 1)
-                || (this.firstOfMonth[monthStart] + this.lengthOfMonth[monthStart] > utcDays)
-            ) {
-                int hyear = (monthStart / 12) + this.minYear;
-                int hmonth = (monthStart % 12) + 1;
-                int hdom = (int) (utcDays - this.firstOfMonth[monthStart] + 1);
-                return HijriCalendar.of(this.variant, hyear, hmonth, hdom);
-            }
+        int index = this.getMonthIndex(utcDays);
+        int hyear = (index / 12) + this.minYear;
+        int hmonth = (index % 12) + 1;
+        int hdom = (int) (utcDays - this.firstOfMonth[index] + 1);
+        return HijriCalendar.of(this.variant, hyear, hmonth, hdom);
+
+    }
+
+    @Override
+    public long toPackedDate(long utcDays) {
+
+        int index = this.getMonthIndex(utcDays);
+        long hyear = (index / 12) + this.minYear;
+        int hmonth = (index % 12) + 1;
+        int hdom = (int) (utcDays - this.firstOfMonth[index] + 1);
+        return ((hyear << 32) | (hmonth << 16) | hdom);
+
+    }
+
+    @Override
+    public long fromPackedDate(long packedDate) {
+
+        int hyear = GregorianMath.readYear(packedDate);
+        int hmonth = GregorianMath.readMonth(packedDate);
+        int hdom = GregorianMath.readDayOfMonth(packedDate);
+
+        if (!this.isValid(HijriEra.ANNO_HEGIRAE, hyear, hmonth, hdom)) {
+            throw new IllegalArgumentException("Invalid packed date: " + hyear + "-" + hmonth + "-" + hdom);
         }
 
-        throw new IllegalArgumentException("Out of range: " + utcDays);
+        int index = (hyear - this.minYear) * 12 + hmonth - 1;
+        return this.firstOfMonth[index] + hdom - 1;
 
     }
 
@@ -301,26 +324,45 @@ final class AstronomicalHijriData
 
     }
 
-    // returns index of month-start associated with utcDays
-    private static int search(
-        long utcDays,
+    // returns index of month associated with utcDays in constant time
+    private int getMonthIndex(long utcDays) {
+
+        if ((utcDays < this.minUTC) || (utcDays > this.maxUTC)) {
+            throw new IllegalArgumentException("Out of range: " + utcDays);
+        }
+
+        int index = this.monthOfBlock[(int) ((utcDays - this.minUTC) >> BLOCK_SHIFT)];
+        int last = this.firstOfMonth.length - 1;
+
+        while ((index < last) && (this.firstOfMonth[index + 1] <= utcDays)) {
+            index++;
+        }
+
+        return index;
+
+    }
+
+    // maps every block of days to the index of the month which contains the first day of block
+    private static int[] createBlockIndex(
+        long minUTC,
+        long maxUTC,
         long[] firstOfMonth
     ) {
 
-        int low = 0;
-        int high = firstOfMonth.length - 1;
-
-        while (low <= high) {
-            int middle = (low + high) / 2;
+        int count = (int) ((maxUTC - minUTC) >> BLOCK_SHIFT) + 1;
+        int[] blocks = new int[count];
+        int index = 0;
+        int last = firstOfMonth.length - 1;
 
-            if (firstOfMonth[middle] <= utcDays) {
-                low = middle + 1;
-            } else {
-                high = middle - 1;
+        for (int b = 0; b < count; b++) {
+            long start = minUTC + (((long) b) << BLOCK_SHIFT);
+            while ((index < last) && (firstOfMonth[index + 1] <= start)) {
+                index++;
             }
+            blocks[b] = index;
         }
 
-        return low - 1;
+        return blocks;
 
     }
 
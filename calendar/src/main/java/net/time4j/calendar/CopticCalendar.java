@@ -27,6 +27,7 @@ import net.time4j.PlainDate;
 import net.time4j.PlainTime;
 import net.time4j.Weekday;
 import net.time4j.Weekmodel;
+import net.time4j.base.GregorianMath;
 import net.time4j.base.MathUtils;
 import net.time4j.base.TimeSource;
 import net.time4j.calendar.service.GenericDatePatterns;
@@ -807,7 +808,7 @@ public final class CopticCalendar
     }
 
     private static class Transformer
-        implements MonthBasedCalendarSystem<CopticCalendar> {
+        implements MonthBasedCalendarSystem<CopticCalendar>, PackedCalendarSystem {
 
         //~ Methoden ------------------------------------------------------
 
@@ -883,48 +884,63 @@ public final class CopticCalendar
         @Override
         public CopticCalendar transform(long utcDays) {
 
-            int cyear =
-                MathUtils.safeCast(
-                    MathUtils.floorDivide(
-                        MathUtils.safeAdd(
-                            MathUtils.safeMultiply(
-                                4,
-                                MathUtils.safeSubtract(utcDays, DIOCLETIAN)),
-                            1463),
-                        1461));
+            long packedDate = this.toPackedDate(utcDays);
 
-            int startOfYear =  MathUtils.safeCast(this.transform(new CopticCalendar(cyear, 1, 1)));
-            int cmonth = 1 + MathUtils.safeCast(MathUtils.floorDivide(utcDays - startOfYear, 30));
-            int startOfMonth = MathUtils.safeCast(this.transform(new CopticCalendar(cyear, cmonth, 1)));
-            int cdom = 1 + MathUtils.safeCast(MathUtils.safeSubtract(utcDays, startOfMonth));
-
-            return CopticCalendar.of(cyear, cmonth, cdom);
+            return CopticCalendar.of(
+                GregorianMath.readYear(packedDate),
+                GregorianMath.readMonth(packedDate),
+                GregorianMath.readDayOfMonth(packedDate));
 
         }
 
         @Override
         public long transform(CopticCalendar date) {
 
-            return (
-                DIOCLETIAN - 1
-                + 365 * (date.cyear - 1) + MathUtils.floorDivide(date.cyear, 4)
-                + 30 * (date.cmonth - 1) + date.cdom);
+            return toUTC(date.cyear, date.cmonth, date.cdom);
+
+        }
+
+        @Override
+        public long toPackedDate(long utcDays) {
+
+            if ((utcDays < this.getMinimumSinceUTC()) || (utcDays > this.getMaximumSinceUTC())) {
+                throw new IllegalArgumentException("Out of range: " + utcDays);
+            }
+
+            long cyear = MathUtils.floorDivide(4 * (utcDays - DIOCLETIAN) + 1463, 1461);
+            long dayOfYear = utcDays - toUTC((int) cyear, 1, 1);
+            int cmonth = (int) (dayOfYear / 30) + 1;
+            int cdom = (int) (dayOfYear % 30) + 1;
+            return ((cyear << 32) | (cmonth << 16) | cdom);
+
+        }
+
+        @Override
+        public long fromPackedDate(long packedDate) {
+
+            int cyear = GregorianMath.readYear(packedDate);
+            int cmonth = GregorianMath.readMonth(packedDate);
+            int cdom = GregorianMath.readDayOfMonth(packedDate);
+
+            if (!this.isValid(CopticEra.ANNO_MARTYRUM, cyear, cmonth, cdom)) {
+                throw new IllegalArgumentException("Invalid packed date: " + cyear + "-" + cmonth + "-" + cdom);
+            }
+
+            return toUTC(cyear, cmonth, cdom);
 
         }
 
         @Override
         public long getMinimumSinceUTC() {
 
-            CopticCalendar min = new CopticCalendar(1, 1, 1);
-            return this.transform(min);
+            return toUTC(1, 1, 1);
 
         }
 
         @Override
         public long getMaximumSinceUTC() {
 
-            CopticCalendar max = new CopticCalendar(9999, 13, 6);
-            return this.transform(max);
+            return toUTC(9999, 13, 6);
 
         }
 
@@ -936,6 +952,19 @@ public final class CopticCalendar
 
         }
 
+        private static long toUTC(
+            int cyear,
+            int cmonth,
+            int cdom
+        ) {
+
+            return (
+                DIOCLETIAN - 1
+                + 365 * (cyear - 1) + MathUtils.floorDivide(cyear, 4)
+                + 30 * (cmonth - 1) + cdom);
+
+        }
+
     }
 
     private static class IntegerRule
@@ -26,6 +26,7 @@ import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.Weekday;
 import net.time4j.Weekmodel;
+import net.time4j.base.GregorianMath;
 import net.time4j.base.MathUtils;
 import net.time4j.base.TimeSource;
 import net.time4j.calendar.service.EthiopianExtension;
@@ -910,7 +911,7 @@ public final class EthiopianCalendar
     }
 
     private static class Transformer
-        implements MonthBasedCalendarSystem<EthiopianCalendar> {
+        implements MonthBasedCalendarSystem<EthiopianCalendar>, PackedCalendarSystem {
 
         //~ Methoden ------------------------------------------------------
 
@@ -983,20 +984,10 @@ public final class EthiopianCalendar
         @Override
         public EthiopianCalendar transform(long utcDays) {
 
-            int mihret =
-                MathUtils.safeCast(
-                    MathUtils.floorDivide(
-                        MathUtils.safeAdd(
-                            MathUtils.safeMultiply(
-                                4,
-                                MathUtils.safeSubtract(utcDays, MIHRET_EPOCH)),
-                            1463),
-                        1461));
-
-            int startOfYear = MathUtils.safeCast(this.transform(new EthiopianCalendar(mihret, 1, 1)));
-            int emonth = 1 + MathUtils.safeCast(MathUtils.floorDivide(utcDays - startOfYear, 30));
-            int startOfMonth = MathUtils.safeCast(this.transform(new EthiopianCalendar(mihret, emonth, 1)));
-            int edom = 1 + MathUtils.safeCast(MathUtils.safeSubtract(utcDays, startOfMonth));
+            long packedDate = this.toPackedDate(utcDays);
+            int mihret = GregorianMath.readYear(packedDate);
+            int emonth = GregorianMath.readMonth(packedDate);
+            int edom = GregorianMath.readDayOfMonth(packedDate);
             EthiopianEra era = EthiopianEra.AMETE_MIHRET;
 
             if (mihret < 1) {
@@ -1011,26 +1002,58 @@ public final class EthiopianCalendar
         @Override
         public long transform(EthiopianCalendar date) {
 
-            return (
-                MIHRET_EPOCH - 1
-                    + 365 * (date.mihret - 1) + MathUtils.floorDivide(date.mihret, 4)
-                    + 30 * (date.emonth - 1) + date.edom);
+            return toUTC(date.mihret, date.emonth, date.edom);
+
+        }
+
+        @Override
+        public long toPackedDate(long utcDays) {
+
+            if ((utcDays < this.getMinimumSinceUTC()) || (utcDays > this.getMaximumSinceUTC())) {
+                throw new IllegalArgumentException("Out of range: " + utcDays);
+            }
+
+            long mihret = MathUtils.floorDivide(4 * (utcDays - MIHRET_EPOCH) + 1463, 1461);
+            long dayOfYear = utcDays - toUTC((int) mihret, 1, 1);
+            int emonth = (int) (dayOfYear / 30) + 1;
+            int edom = (int) (dayOfYear % 30) + 1;
+            return ((mihret << 32) | (emonth << 16) | edom);
+
+        }
+
+        @Override
+        public long fromPackedDate(long packedDate) {
+
+            int mihret = GregorianMath.readYear(packedDate);
+            int emonth = GregorianMath.readMonth(packedDate);
+            int edom = GregorianMath.readDayOfMonth(packedDate);
+            EthiopianEra era = EthiopianEra.AMETE_MIHRET;
+            int yearOfEra = mihret;
+
+            if (mihret < 1) {
+                yearOfEra += DELTA_ALEM_MIHRET;
+                era = EthiopianEra.AMETE_ALEM;
+            }
+
+            if (!this.isValid(era, yearOfEra, emonth, edom)) {
+                throw new IllegalArgumentException("Invalid packed date: " + mihret + "-" + emonth + "-" + edom);
+            }
+
+            return toUTC(mihret, emonth, edom);
 
         }
 
         @Override
         public long getMinimumSinceUTC() {
 
-            EthiopianCalendar min = new EthiopianCalendar(1 - DELTA_ALEM_MIHRET, 1, 1);
-            return this.transform(min);
+            return toUTC(1 - DELTA_ALEM_MIHRET, 1, 1);
 
         }
 
         @Override
         public long getMaximumSinceUTC() {
 
-            EthiopianCalendar max = new EthiopianCalendar(9999, 13, 6);
-            return this.transform(max);
+            return toUTC(9999, 13, 6);
 
         }
 
@@ -1044,6 +1067,19 @@ public final class EthiopianCalendar
 
         }
 
+        private static long toUTC(
+            int mihret,
+            int emonth,
+            int edom
+        ) {
+
+            return (
+                MIHRET_EPOCH - 1
+                    + 365 * (mihret - 1) + MathUtils.floorDivide(mihret, 4)
+                    + 30 * (emonth - 1) + edom);
+
+        }
+
         private static void checkEra(CalendarEra era) {
 
             if (!(era instanceof EthiopianEra)) {
@@ -21,6 +21,7 @@
 
 package net.time4j.calendar;
 
+import net.time4j.base.GregorianMath;
 import net.time4j.base.MathUtils;
 import net.time4j.engine.CalendarEra;
 import net.time4j.engine.VariantSource;
@@ -218,7 +219,7 @@ public enum HijriAlgorithm
 	//~ Innere Klassen ----------------------------------------------------
 
 	private static class Transformer
-		implements MonthBasedCalendarSystem<HijriCalendar> {
+		implements MonthBasedCalendarSystem<HijriCalendar>, PackedCalendarSystem {
 
 		//~ Instanzvariablen ----------------------------------------------
 
@@ -307,6 +308,17 @@ public enum HijriAlgorithm
 		@Override
 		public HijriCalendar transform(long utcDays) {
 
+			long packedDate = this.toPackedDate(utcDays);
+			int hyear = (int) (packedDate >> 32);
+			int hmonth = (int) ((packedDate >> 16) & 0xFF);
+			int hdom = (int) (packedDate & 0xFF);
+			return HijriCalendar.of(this.variant, hyear, hmonth, hdom);
+
+		}
+
+		@Override
+		public long toPackedDate(long utcDays) {
+
 			long start = this.getMinimumSinceUTC();
 
 			if ((utcDays < start) || (utcDays > this.getMaximumSinceUTC())) {
@@ -368,7 +380,7 @@ public enum HijriAlgorithm
 				}
 			}
 
-			return HijriCalendar.of(this.variant, hyear, hmonth, hdom);
+			return ((((long) hyear) << 32) | (hmonth << 16) | hdom);
 
 		}
 
@@ -383,6 +395,31 @@ public enum HijriAlgorithm
 				throw new IllegalArgumentException("Out of supported range: " + date);
 			}
 
+			return this.toUTC(hyear, hmonth, hdom);
+
+		}
+
+		@Override
+		public long fromPackedDate(long packedDate) {
+
+			int hyear = GregorianMath.readYear(packedDate);
+			int hmonth = GregorianMath.readMonth(packedDate);
+			int hdom = GregorianMath.readDayOfMonth(packedDate);
+
+			if (!this.isValid(HijriEra.ANNO_HEGIRAE, hyear, hmonth, hdom)) {
+				throw new IllegalArgumentException("Invalid packed date: " + hyear + "-" + hmonth + "-" + hdom);
+			}
+
+			return this.toUTC(hyear, hmonth, hdom);
+
+		}
+
+		private long toUTC(
+			int hyear,
+			int hmonth,
+			int hdom
+		) {
+
 			long days = ((hyear - 1) / 30) * LENGTH_OF_30_YEAR_CYCLE;
 			int y = ((hyear - 1) % 30) + 1;
 
@@ -407,7 +444,7 @@ public enum HijriAlgorithm
 					(hmonth == 12 && Arrays.binarySearch(this.intercalaries, y) < 0)
 					|| ((hmonth != 12) && (hmonth % 2) == 0)
 				) {
-					throw new IllegalArgumentException("Invalid day-of-month: " + date);
+					throw new IllegalArgumentException("Invalid day-of-month: " + hyear + "-" + hmonth + "-" + hdom);
 				}
 			}
 
@@ -27,6 +27,7 @@ import net.time4j.Month;
 import net.time4j.PlainTime;
 import net.time4j.Weekday;
 import net.time4j.Weekmodel;
+import net.time4j.base.GregorianMath;
 import net.time4j.base.MathUtils;
 import net.time4j.base.TimeSource;
 import net.time4j.calendar.service.GenericDatePatterns;
@@ -859,7 +860,7 @@ public final class JulianCalendar
     }
 
     private static class Transformer
-        implements MonthBasedCalendarSystem<JulianCalendar> {
+        implements MonthBasedCalendarSystem<JulianCalendar>, PackedCalendarSystem {
 
         //~ Methoden ------------------------------------------------------
 
@@ -941,11 +942,38 @@ public final class JulianCalendar
         @Override
         public JulianCalendar transform(long utcDays) {
 
+            long packedDate = this.toPackedDate(utcDays);
+            int y = GregorianMath.readYear(packedDate);
+            HistoricEra era = ((y >= 1) ? HistoricEra.AD : HistoricEra.BC);
+            int yearOfEra = ((y >= 1) ? y : MathUtils.safeSubtract(1, y));
+
+            return JulianCalendar.of(
+                era,
+                yearOfEra,
+                GregorianMath.readMonth(packedDate),
+                GregorianMath.readDayOfMonth(packedDate));
+
+        }
+
+        @Override
+        public long transform(JulianCalendar date) {
+
+            return toUTC(date.prolepticYear, date.month, date.dom);
+
+        }
+
+        @Override
+        public long toPackedDate(long utcDays) {
+
+            if ((utcDays < this.getMinimumSinceUTC()) || (utcDays > this.getMaximumSinceUTC())) {
+                throw new IllegalArgumentException("Out of range: " + utcDays);
+            }
+
             long y;
             int m;
             int d;
 
-            long days = MathUtils.safeAdd(utcDays, OFFSET);
+            long days = utcDays + OFFSET;
 
             long q4 = MathUtils.floorDivide(days, 1461);
             int r4 =  MathUtils.floorModulo(days, 1461);
@@ -968,46 +996,38 @@ public final class JulianCalendar
                 }
             }
 
-            HistoricEra era = ((y >= 1) ? HistoricEra.AD : HistoricEra.BC);
-            int yearOfEra = MathUtils.safeCast((y >= 1) ? y : MathUtils.safeSubtract(1, y));
-            return JulianCalendar.of(era, yearOfEra, m, d);
+            return ((y << 32) | (m << 16) | d);
 
         }
 
         @Override
-        public long transform(JulianCalendar date) {
+        public long fromPackedDate(long packedDate) {
 
-            long y = date.prolepticYear;
-            int m = date.month;
+            int y = GregorianMath.readYear(packedDate);
+            int m = GregorianMath.readMonth(packedDate);
+            int d = GregorianMath.readDayOfMonth(packedDate);
+            HistoricEra era = ((y >= 1) ? HistoricEra.AD : HistoricEra.BC);
+            int yearOfEra = ((y >= 1) ? y : MathUtils.safeSubtract(1, y));
 
-            if (m < 3) {
-                y--;
-                m += 12;
+            if (!this.isValid(era, yearOfEra, m, d)) {
+                throw new IllegalArgumentException("Invalid packed date: " + y + "-" + m + "-" + d);
             }
 
-            long days = (
-                (y * 365)
-                    + MathUtils.floorDivide(y, 4)
-                    + (((m + 1) * 153) / 5) - 123
-                    + date.dom);
-
-            return days - OFFSET;
+            return toUTC(y, m, d);
 
         }
 
         @Override
         public long getMinimumSinceUTC() {
 
-            JulianCalendar min = new JulianCalendar(1 - YMAX, 1, 1);
-            return this.transform(min);
+            return toUTC(1 - YMAX, 1, 1);
 
         }
 
         @Override
         public long getMaximumSinceUTC() {
 
-            JulianCalendar max = new JulianCalendar(YMAX, 12, 31);
-            return this.transform(max);
+            return toUTC(YMAX, 12, 31);
 
         }
 
@@ -1020,6 +1040,30 @@ public final class JulianCalendar
 
         }
 
+        private static long toUTC(
+            long prolepticYear,
+            int month,
+            int dom
+        ) {
+
+            long y = prolepticYear;
+            int m = month;
+
+            if (m < 3) {
+                y--;
+                m += 12;
+            }
+
+            long days = (
+                (y * 365)
+                    + MathUtils.floorDivide(y, 4)
+                    + (((m + 1) * 153) / 5) - 123
+                    + dom);
+
+            return days - OFFSET;
+
+        }
+
     }
 
     private static class IntegerRule
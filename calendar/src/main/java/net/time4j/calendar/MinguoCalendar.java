@@ -700,7 +700,7 @@ public final class MinguoCalendar
     //~ Innere Klassen ----------------------------------------------------
 
     private static class Transformer
-        implements MonthBasedCalendarSystem<MinguoCalendar> {
+        implements MonthBasedCalendarSystem<MinguoCalendar>, PackedCalendarSystem {
 
         //~ Methoden ------------------------------------------------------
 
@@ -768,6 +768,22 @@ public final class MinguoCalendar
             return date.iso.get(EpochDays.UTC);
         }
 
+        @Override
+        public long toPackedDate(long utcDays) {
+            long iso = GregorianMath.toPackedDate(EpochDays.MODIFIED_JULIAN_DATE.transform(utcDays, EpochDays.UTC));
+            long rocYear = GregorianMath.readYear(iso) - 1911L;
+            return ((rocYear << 32) | (iso & 0xFFFFFFFFL));
+        }
+
+        @Override
+        public long fromPackedDate(long packedDate) {
+            int isoYear = MathUtils.safeAdd(GregorianMath.readYear(packedDate), 1911);
+            int month = GregorianMath.readMonth(packedDate);
+            int dom = GregorianMath.readDayOfMonth(packedDate);
+            GregorianMath.checkDate(isoYear, month, dom);
+            return EpochDays.UTC.transform(GregorianMath.toMJD(isoYear, month, dom), EpochDays.MODIFIED_JULIAN_DATE);
+        }
+
         @Override
         public long getMinimumSinceUTC() {
             return PlainDate.axis().getCalendarSystem().getMinimumSinceUTC();
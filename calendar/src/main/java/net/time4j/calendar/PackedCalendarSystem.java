@@ -0,0 +1,79 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PackedCalendarSystem.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.calendar;
+
+
+/**
+ * <p>Calendar system which can convert epoch days to binary packed dates without creating any
+ * calendar date objects. </p>
+ *
+ * <p>The packed format is the same as used by {@code GregorianMath.toPackedDate(long)}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ */
+/*[deutsch]
+ * <p>Kalendersystem, das Epochentage in bin&auml;r gepackte Datumsangaben umrechnen kann, ohne
+ * Kalenderdatumsobjekte zu erzeugen. </p>
+ *
+ * <p>Das gepackte Format ist dasselbe wie in {@code GregorianMath.toPackedDate(long)}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ */
+interface PackedCalendarSystem {
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Converts given epoch days to a binary packed date. </p>
+     *
+     * @param   utcDays     count of days since UTC epoch [1972-01-01]
+     * @return  packed date in binary format
+     * @throws  IllegalArgumentException if the argument is out of range
+     */
+    /*[deutsch]
+     * <p>Konvertiert die angegebenen Epochentage zu einem bin&auml;r gepackten Datum. </p>
+     *
+     * @param   utcDays     count of days since UTC epoch [1972-01-01]
+     * @return  packed date in binary format
+     * @throws  IllegalArgumentException if the argument is out of range
+     */
+    long toPackedDate(long utcDays);
+
+    /**
+     * <p>Converts given binary packed date to epoch days. </p>
+     *
+     * @param   packedDate  packed date in binary format
+     * @return  count of days since UTC epoch [1972-01-01]
+     * @throws  IllegalArgumentException if the packed date is invalid or out of range
+     */
+    /*[deutsch]
+     * <p>Konvertiert das angegebene bin&auml;r gepackte Datum zu Epochentagen. </p>
+     *
+     * @param   packedDate  packed date in binary format
+     * @return  count of days since UTC epoch [1972-01-01]
+     * @throws  IllegalArgumentException if the packed date is invalid or out of range
+     */
+    long fromPackedDate(long packedDate);
+
+}
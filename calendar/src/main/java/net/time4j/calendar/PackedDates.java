@@ -0,0 +1,287 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PackedDates.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.calendar;
+
+import net.time4j.PlainDate;
+import net.time4j.base.GregorianMath;
+import net.time4j.engine.CalendarSystem;
+import net.time4j.engine.EpochDays;
+
+
+/**
+ * <p>Bulk conversions between epoch days and binary packed calendar dates. </p>
+ *
+ * <p>The conversions work on primitive arrays and avoid the creation of any calendar date objects.
+ * The packed format is the same as used by {@link GregorianMath#toPackedDate(long)} so applications
+ * can extract the year, month and day-of-month by help of the methods {@link GregorianMath#readYear(long)},
+ * {@link GregorianMath#readMonth(long)} and {@link GregorianMath#readDayOfMonth(long)}. </p>
+ *
+ * <p>Example for the conversion of gregorian dates to the islamic calendar of Saudi-Arabia: </p>
+ *
+ * <pre>
+ *  CalendarSystem&lt;HijriCalendar&gt; calsys =
+ *      HijriCalendar.family().getCalendarSystem(HijriCalendar.VARIANT_UMALQURA);
+ *  long[] unixDays = {16990, 16991}; // 2016-07-08, 2016-07-09
+ *  long[] packed = PackedDates.fromEpochDays(calsys, EpochDays.UNIX, unixDays);
+ *  System.out.println(GregorianMath.readYear(packed[0])); // 1437
+ *  System.out.println(GregorianMath.readMonth(packed[0])); // 10
+ *  System.out.println(GregorianMath.readDayOfMonth(packed[0])); // 3
+ * </pre>
+ *
+ * <p>Supported are all calendar systems of this package and the calendar system of {@code PlainDate}.
+ * The year component of a packed date is the proleptic year of the main era of the calendar, that is: </p>
+ *
+ * <ul>
+ *     <li>Julian calendar: proleptic julian year (1 BC = 0)</li>
+ *     <li>Ethiopian calendar: year relative to the era Amete Mihret (values smaller than {@code 1}
+ *     belong to the era Amete Alem after adding {@code 5500})</li>
+ *     <li>Minguo calendar: ISO-year minus 1911 (values smaller than {@code 1} are before ROC)</li>
+ *     <li>Thai solar calendar: year of buddhist era</li>
+ *     <li>all other calendars: year of their only era</li>
+ * </ul>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {static}
+ */
+/*[deutsch]
+ * <p>Massenkonversionen zwischen Epochentagen und bin&auml;r gepackten Kalenderdatumsangaben. </p>
+ *
+ * <p>Die Konversionen arbeiten auf primitiven Arrays und vermeiden die Erzeugung von
+ * Kalenderdatumsobjekten. Das gepackte Format ist dasselbe wie in {@link GregorianMath#toPackedDate(long)},
+ * so da&szlig; Anwendungen das Jahr, den Monat und den Tag des Monats mit Hilfe der Methoden
+ * {@link GregorianMath#readYear(long)}, {@link GregorianMath#readMonth(long)} und
+ * {@link GregorianMath#readDayOfMonth(long)} extrahieren k&ouml;nnen. </p>
+ *
+ * <p>Beispiel f&uuml;r die Konversion von gregorianischen Datumsangaben zum islamischen Kalender
+ * von Saudi-Arabien: </p>
+ *
+ * <pre>
+ *  CalendarSystem&lt;HijriCalendar&gt; calsys =
+ *      HijriCalendar.family().getCalendarSystem(HijriCalendar.VARIANT_UMALQURA);
+ *  long[] unixDays = {16990, 16991}; // 2016-07-08, 2016-07-09
+ *  long[] packed = PackedDates.fromEpochDays(calsys, EpochDays.UNIX, unixDays);
+ *  System.out.println(GregorianMath.readYear(packed[0])); // 1437
+ *  System.out.println(GregorianMath.readMonth(packed[0])); // 10
+ *  System.out.println(GregorianMath.readDayOfMonth(packed[0])); // 3
+ * </pre>
+ *
+ * <p>Unterst&uuml;tzt werden alle Kalendersysteme dieses Pakets und das Kalendersystem von
+ * {@code PlainDate}. Die Jahreskomponente eines gepackten Datums ist das proleptische Jahr der
+ * Hauptepoche des Kalenders, n&auml;mlich: </p>
+ *
+ * <ul>
+ *     <li>Julianischer Kalender: proleptisches julianisches Jahr (1 BC = 0)</li>
+ *     <li>&Auml;thiopischer Kalender: Jahr relativ zur &Auml;ra Amete Mihret (Werte kleiner als
+ *     {@code 1} geh&ouml;ren nach Addition von {@code 5500} zur &Auml;ra Amete Alem)</li>
+ *     <li>Minguo-Kalender: ISO-Jahr minus 1911 (Werte kleiner als {@code 1} liegen vor ROC)</li>
+ *     <li>Thail&auml;ndischer Sonnenkalender: Jahr der buddhistischen &Auml;ra</li>
+ *     <li>alle anderen Kalender: Jahr ihrer einzigen &Auml;ra</li>
+ * </ul>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {static}
+ */
+public final class PackedDates {
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private PackedDates() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Converts given epoch days to binary packed dates of given calendar system. </p>
+     *
+     * @param   calsys      calendar system
+     * @param   epoch       epoch reference of given days
+     * @param   days        array of epoch days
+     * @return  new array of packed dates in binary format
+     * @throws  IllegalArgumentException if the calendar system is not supported or any day is out of range
+     * @see     #fromEpochDays(CalendarSystem, EpochDays, long[], long[])
+     */
+    /*[deutsch]
+     * <p>Konvertiert die angegebenen Epochentage zu bin&auml;r gepackten Datumsangaben des
+     * angegebenen Kalendersystems. </p>
+     *
+     * @param   calsys      calendar system
+     * @param   epoch       epoch reference of given days
+     * @param   days        array of epoch days
+     * @return  new array of packed dates in binary format
+     * @throws  IllegalArgumentException if the calendar system is not supported or any day is out of range
+     * @see     #fromEpochDays(CalendarSystem, EpochDays, long[], long[])
+     */
+    public static long[] fromEpochDays(
+        CalendarSystem<?> calsys,
+        EpochDays epoch,
+        long[] days
+    ) {
+
+        long[] packedDates = new long[days.length];
+        fromEpochDays(calsys, epoch, days, packedDates);
+        return packedDates;
+
+    }
+
+    /**
+     * <p>Converts given epoch days to binary packed dates of given calendar system and
+     * stores the results in a preallocated array. </p>
+     *
+     * @param   calsys      calendar system
+     * @param   epoch       epoch reference of given days
+     * @param   days        array of epoch days
+     * @param   packedDates target array for packed dates in binary format
+     * @throws  IllegalArgumentException if the calendar system is not supported or any day is out of range
+     *          or if the target array is too small
+     */
+    /*[deutsch]
+     * <p>Konvertiert die angegebenen Epochentage zu bin&auml;r gepackten Datumsangaben des
+     * angegebenen Kalendersystems und speichert die Ergebnisse in einem vorab angelegten Array. </p>
+     *
+     * @param   calsys      calendar system
+     * @param   epoch       epoch reference of given days
+     * @param   days        array of epoch days
+     * @param   packedDates target array for packed dates in binary format
+     * @throws  IllegalArgumentException if the calendar system is not supported or any day is out of range
+     *          or if the target array is too small
+     */
+    public static void fromEpochDays(
+        CalendarSystem<?> calsys,
+        EpochDays epoch,
+        long[] days,
+        long[] packedDates
+    ) {
+
+        int n = days.length;
+
+        if (packedDates.length < n) {
+            throw new IllegalArgumentException("Target array too small: " + packedDates.length + " < " + n);
+        }
+
+        if (calsys instanceof PackedCalendarSystem) {
+            PackedCalendarSystem pcs = (PackedCalendarSystem) calsys;
+            for (int i = 0; i < n; i++) {
+                packedDates[i] = pcs.toPackedDate(EpochDays.UTC.transform(days[i], epoch));
+            }
+        } else if (calsys == PlainDate.axis().getCalendarSystem()) {
+            for (int i = 0; i < n; i++) {
+                packedDates[i] = GregorianMath.toPackedDate(EpochDays.MODIFIED_JULIAN_DATE.transform(days[i], epoch));
+            }
+        } else {
+            throw new IllegalArgumentException("Calendar system does not support packed dates: " + calsys);
+        }
+
+    }
+
+    /**
+     * <p>Converts given binary packed dates of given calendar system to epoch days. </p>
+     *
+     * @param   calsys      calendar system
+     * @param   epoch       epoch reference of result days
+     * @param   packedDates array of packed dates in binary format
+     * @return  new array of epoch days
+     * @throws  IllegalArgumentException if the calendar system is not supported or any packed date is invalid
+     * @see     #toEpochDays(CalendarSystem, EpochDays, long[], long[])
+     */
+    /*[deutsch]
+     * <p>Konvertiert die angegebenen bin&auml;r gepackten Datumsangaben des angegebenen
+     * Kalendersystems zu Epochentagen. </p>
+     *
+     * @param   calsys      calendar system
+     * @param   epoch       epoch reference of result days
+     * @param   packedDates array of packed dates in binary format
+     * @return  new array of epoch days
+     * @throws  IllegalArgumentException if the calendar system is not supported or any packed date is invalid
+     * @see     #toEpochDays(CalendarSystem, EpochDays, long[], long[])
+     */
+    public static long[] toEpochDays(
+        CalendarSystem<?> calsys,
+        EpochDays epoch,
+        long[] packedDates
+    ) {
+
+        long[] days = new long[packedDates.length];
+        toEpochDays(calsys, epoch, packedDates, days);
+        return days;
+
+    }
+
+    /**
+     * <p>Converts given binary packed dates of given calendar system to epoch days and
+     * stores the results in a preallocated array. </p>
+     *
+     * @param   calsys      calendar system
+     * @param   epoch       epoch reference of result days
+     * @param   packedDates array of packed dates in binary format
+     * @param   days        target array for epoch days
+     * @throws  IllegalArgumentException if the calendar system is not supported or any packed date is invalid
+     *          or if the target array is too small
+     */
+    /*[deutsch]
+     * <p>Konvertiert die angegebenen bin&auml;r gepackten Datumsangaben des angegebenen
+     * Kalendersystems zu Epochentagen und speichert die Ergebnisse in einem vorab angelegten Array. </p>
+     *
+     * @param   calsys      calendar system
+     * @param   epoch       epoch reference of result days
+     * @param   packedDates array of packed dates in binary format
+     * @param   days        target array for epoch days
+     * @throws  IllegalArgumentException if the calendar system is not supported or any packed date is invalid
+     *          or if the target array is too small
+     */
+    public static void toEpochDays(
+        CalendarSystem<?> calsys,
+        EpochDays epoch,
+        long[] packedDates,
+        long[] days
+    ) {
+
+        int n = packedDates.length;
+
+        if (days.length < n) {
+            throw new IllegalArgumentException("Target array too small: " + days.length + " < " + n);
+        }
+
+        if (calsys instanceof PackedCalendarSystem) {
+            PackedCalendarSystem pcs = (PackedCalendarSystem) calsys;
+            for (int i = 0; i < n; i++) {
+                days[i] = epoch.transform(pcs.fromPackedDate(packedDates[i]), EpochDays.UTC);
+            }
+        } else if (calsys == PlainDate.axis().getCalendarSystem()) {
+            for (int i = 0; i < n; i++) {
+                long p = packedDates[i];
+                long mjd =
+                    GregorianMath.toMJD(
+                        GregorianMath.readYear(p),
+                        GregorianMath.readMonth(p),
+                        GregorianMath.readDayOfMonth(p));
+                days[i] = epoch.transform(mjd, EpochDays.MODIFIED_JULIAN_DATE);
+            }
+        } else {
+            throw new IllegalArgumentException("Calendar system does not support packed dates: " + calsys);
+        }
+
+    }
+
+}
@@ -21,13 +21,12 @@
 
 package net.time4j.calendar;
 
-import net.time4j.CalendarUnit;
 import net.time4j.GeneralTimestamp;
 import net.time4j.Moment;
-import net.time4j.PlainDate;
 import net.time4j.PlainTime;
 import net.time4j.Weekday;
 import net.time4j.Weekmodel;
+import net.time4j.base.GregorianMath;
 import net.time4j.base.MathUtils;
 import net.time4j.base.TimeSource;
 import net.time4j.calendar.service.GenericDatePatterns;
@@ -804,7 +803,31 @@ public final class PersianCalendar
     }
 
     private static class Transformer
-        implements MonthBasedCalendarSystem<PersianCalendar> {
+        implements MonthBasedCalendarSystem<PersianCalendar>, PackedCalendarSystem {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final int MAX_YEAR = 3000;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        // utc days of first day of persian years 1-3001 (index = year - 1)
+        private final int[] startOfYear;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Transformer() {
+            super();
+
+            int[] table = new int[MAX_YEAR + 1];
+
+            for (int pyear = 1; pyear <= MAX_YEAR + 1; pyear++) {
+                table[pyear - 1] = (int) vernalEquinox(pyear);
+            }
+
+            this.startOfYear = table;
+
+        }
 
         //~ Methoden ------------------------------------------------------
 
@@ -819,7 +842,7 @@ public final class PersianCalendar
             return (
                 (era == PersianEra.ANNO_PERSICO)
                 && (yearOfEra >= 1)
-                && (yearOfEra <= 3000)
+                && (yearOfEra <= MAX_YEAR)
                 && (monthOfYear >= 1)
                 && (monthOfYear <= 12)
                 && (dayOfMonth >= 1)
@@ -842,7 +865,7 @@ public final class PersianCalendar
             if (
                 (era == PersianEra.ANNO_PERSICO)
                 && (yearOfEra >= 1)
-                && (yearOfEra <= 3000)
+                && (yearOfEra <= MAX_YEAR)
                 && (monthOfYear >= 1)
                 && (monthOfYear <= 12)
             ) {
@@ -871,11 +894,9 @@ public final class PersianCalendar
 
             if (
                 (yearOfEra >= 1)
-                && (yearOfEra <= 3000)
+                && (yearOfEra <= MAX_YEAR)
             ) {
-                PersianCalendar nextYear = new PersianCalendar(yearOfEra + 1, 1, 1);
-                PersianCalendar thisYear = new PersianCalendar(yearOfEra, 1, 1);
-                return (int) (this.transform(nextYear) - this.transform(thisYear));
+                return this.startOfYear[yearOfEra] - this.startOfYear[yearOfEra - 1];
             }
 
             throw new IllegalArgumentException("Out of bounds: year=" + yearOfEra);
@@ -885,62 +906,83 @@ public final class PersianCalendar
         @Override
         public PersianCalendar transform(long utcDays) {
 
-            PlainDate date = PlainDate.of(utcDays, EpochDays.UTC);
-            int pyear = date.getYear() - 621;
+            long packedDate = this.toPackedDate(utcDays);
 
-            if (date.getMonth() < 3) {
-                pyear--; // optimization
+            return PersianCalendar.of(
+                GregorianMath.readYear(packedDate),
+                GregorianMath.readMonth(packedDate),
+                GregorianMath.readDayOfMonth(packedDate));
+
+        }
+
+        @Override
+        public long transform(PersianCalendar date) {
+
+            return this.toUTC(date.pyear, date.pmonth, date.pdom);
+
+        }
+
+        @Override
+        public long toPackedDate(long utcDays) {
+
+            if ((utcDays < this.getMinimumSinceUTC()) || (utcDays > this.getMaximumSinceUTC())) {
+                throw new IllegalArgumentException("Out of range: " + utcDays);
             }
 
-            PlainDate equinox = vernalEquinox(pyear);
-            long delta = CalendarUnit.DAYS.between(equinox, date);
+            // estimation based on 12053 days per 33 years, then correction by table lookup
+            int pyear = (int) Math.min(MAX_YEAR, ((utcDays - this.startOfYear[0]) * 33) / 12053 + 1);
 
-            while (delta < 0) {
+            while (this.startOfYear[pyear - 1] > utcDays) {
                 pyear--;
-                equinox = vernalEquinox(pyear);
-                delta = CalendarUnit.DAYS.between(equinox, date);
             }
 
-            int pmonth = 1;
+            while (this.startOfYear[pyear] <= utcDays) {
+                pyear++;
+            }
 
-            while (pmonth < 12) {
-                int len = ((pmonth <= 6) ? 31 : 30);
+            int delta = (int) (utcDays - this.startOfYear[pyear - 1]);
+            int pmonth;
+            int pdom;
 
-                if (delta < len) {
-                    break;
-                } else {
-                    delta -= len;
-                    pmonth++;
-                }
+            if (delta < 186) {
+                pmonth = delta / 31 + 1;
+                pdom = delta % 31 + 1;
+            } else {
+                delta -= 186;
+                pmonth = delta / 30 + 7;
+                pdom = delta % 30 + 1;
             }
 
-            int pdom = (int) (delta + 1);
-            return PersianCalendar.of(pyear, pmonth, pdom);
+            return ((((long) pyear) << 32) | (pmonth << 16) | pdom);
 
         }
 
         @Override
-        public long transform(PersianCalendar date) {
+        public long fromPackedDate(long packedDate) {
+
+            int pyear = GregorianMath.readYear(packedDate);
+            int pmonth = GregorianMath.readMonth(packedDate);
+            int pdom = GregorianMath.readDayOfMonth(packedDate);
+
+            if (!this.isValid(PersianEra.ANNO_PERSICO, pyear, pmonth, pdom)) {
+                throw new IllegalArgumentException("Invalid packed date: " + pyear + "-" + pmonth + "-" + pdom);
+            }
 
-            long utcDays = vernalEquinox(date.pyear).getDaysSinceEpochUTC();
-            utcDays += ((date.pmonth - 1) * 31 - ((date.pmonth / 7) * (date.pmonth - 7)) + date.pdom - 1);
-            return utcDays;
+            return this.toUTC(pyear, pmonth, pdom);
 
         }
 
         @Override
         public long getMinimumSinceUTC() {
 
-            PersianCalendar min = new PersianCalendar(1, 1, 1);
-            return this.transform(min);
+            return this.startOfYear[0];
 
         }
 
         @Override
         public long getMaximumSinceUTC() {
 
-            PersianCalendar max = new PersianCalendar(3001, 1, 1);
-            return this.transform(max) - 1;
+            return this.startOfYear[MAX_YEAR] - 1;
 
         }
 
@@ -952,7 +994,18 @@ public final class PersianCalendar
 
         }
 
-        private static PlainDate vernalEquinox(int pyear) {
+        private long toUTC(
+            int pyear,
+            int pmonth,
+            int pdom
+        ) {
+
+            return this.startOfYear[pyear - 1] + ((pmonth - 1) * 31 - ((pmonth / 7) * (pmonth - 7)) + pdom - 1);
+
+        }
+
+        // yields the utc days of the vernal equinox in given persian year
+        private static long vernalEquinox(int pyear) {
 
             int[] breaks =
                 new int[] {
@@ -991,7 +1044,8 @@ public final class PersianCalendar
 
             int leapG = gyear / 4 - ((gyear / 100 + 1) * 3) / 4 - 150;
             int marchDay = 20 + leapP - leapG;
-            return PlainDate.of(gyear, 3, marchDay);
+            long mjd = GregorianMath.toMJD(gyear, 3, marchDay);
+            return EpochDays.UTC.transform(mjd, EpochDays.MODIFIED_JULIAN_DATE);
 
         }
 
@@ -771,7 +771,7 @@ public final class ThaiSolarCalendar
     //~ Innere Klassen ----------------------------------------------------
 
     private static class Transformer
-        implements MonthBasedCalendarSystem<ThaiSolarCalendar> {
+        implements MonthBasedCalendarSystem<ThaiSolarCalendar>, PackedCalendarSystem {
 
         //~ Methoden ------------------------------------------------------
 
@@ -847,6 +847,30 @@ public final class ThaiSolarCalendar
             return date.iso.get(EpochDays.UTC);
         }
 
+        @Override
+        public long toPackedDate(long utcDays) {
+            if ((utcDays < this.getMinimumSinceUTC()) || (utcDays > this.getMaximumSinceUTC())) {
+                throw new IllegalArgumentException("Out of range: " + utcDays);
+            }
+            long iso = GregorianMath.toPackedDate(EpochDays.MODIFIED_JULIAN_DATE.transform(utcDays, EpochDays.UTC));
+            int isoYear = GregorianMath.readYear(iso);
+            int month = GregorianMath.readMonth(iso);
+            long thaiYear = (((isoYear >= 1941) || (month >= 4)) ? isoYear + 543 : isoYear + 542);
+            return ((thaiYear << 32) | (iso & 0xFFFFFFFFL));
+        }
+
+        @Override
+        public long fromPackedDate(long packedDate) {
+            int thaiYear = GregorianMath.readYear(packedDate);
+            int month = GregorianMath.readMonth(packedDate);
+            int dom = GregorianMath.readDayOfMonth(packedDate);
+            if (!this.isValid(ThaiSolarEra.BUDDHIST, thaiYear, month, dom)) {
+                throw new IllegalArgumentException("Invalid packed date: " + thaiYear + "-" + month + "-" + dom);
+            }
+            int isoYear = ThaiSolarEra.BUDDHIST.toIsoYear(thaiYear, month);
+            return EpochDays.UTC.transform(GregorianMath.toMJD(isoYear, month, dom), EpochDays.MODIFIED_JULIAN_DATE);
+        }
+
         @Override
         public long getMinimumSinceUTC() {
             return MIN_ISO.getDaysSinceEpochUTC();
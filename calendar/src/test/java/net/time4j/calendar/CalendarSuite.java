@@ -29,6 +29,7 @@ import org.junit.runners.Suite.SuiteClasses;
         MinguoOperatorTest.class,
         MiscellaneousTest.class,
         MonthNameTest.class,
+        PackedDatesTest.class,
         PersianCalendarTest.class,
         PersianOperatorTest.class,
         RelatedGregorianYearTest.class,
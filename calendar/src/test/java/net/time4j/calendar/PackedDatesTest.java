@@ -0,0 +1,140 @@
+package net.time4j.calendar;
+
+import net.time4j.PlainDate;
+import net.time4j.base.GregorianMath;
+import net.time4j.engine.CalendarSystem;
+import net.time4j.engine.EpochDays;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class PackedDatesTest {
+
+    @Test
+    public void umalqura() {
+        CalendarSystem<HijriCalendar> calsys =
+            HijriCalendar.family().getCalendarSystem(HijriCalendar.VARIANT_UMALQURA);
+        long[] packed = PackedDates.fromEpochDays(calsys, EpochDays.UNIX, new long[] {16990});
+        assertThat(GregorianMath.readYear(packed[0]), is(1437));
+        assertThat(GregorianMath.readMonth(packed[0]), is(10));
+        assertThat(GregorianMath.readDayOfMonth(packed[0]), is(3));
+    }
+
+    @Test
+    public void allHijriVariantsConsistent() {
+        String[] variants = {
+            HijriCalendar.VARIANT_UMALQURA,
+            HijriCalendar.VARIANT_DIYANET,
+            HijriCalendar.VARIANT_ICU4J,
+            HijriAlgorithm.WEST_ISLAMIC_CIVIL.getVariant(),
+            HijriAlgorithm.EAST_ISLAMIC_ASTRO.getVariant()
+        };
+        for (String variant : variants) {
+            CalendarSystem<HijriCalendar> calsys = HijriCalendar.family().getCalendarSystem(variant);
+            long min = calsys.getMinimumSinceUTC();
+            long max = calsys.getMaximumSinceUTC();
+            long[] days = new long[(int) (max - min + 1)];
+            for (int i = 0; i < days.length; i++) {
+                days[i] = min + i;
+            }
+            long[] packed = PackedDates.fromEpochDays(calsys, EpochDays.UTC, days);
+            for (int i = 0; i < days.length; i++) {
+                HijriCalendar hijri = calsys.transform(days[i]);
+                assertThat(GregorianMath.readYear(packed[i]), is(hijri.getYear()));
+                assertThat(GregorianMath.readMonth(packed[i]), is(hijri.getMonth().getValue()));
+                assertThat(GregorianMath.readDayOfMonth(packed[i]), is(hijri.getDayOfMonth()));
+                assertThat(calsys.transform(hijri), is(days[i]));
+            }
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void umalquraOutOfRange() {
+        CalendarSystem<HijriCalendar> calsys =
+            HijriCalendar.family().getCalendarSystem(HijriCalendar.VARIANT_UMALQURA);
+        PackedDates.fromEpochDays(calsys, EpochDays.UTC, new long[] {calsys.getMaximumSinceUTC() + 1});
+    }
+
+    @Test
+    public void gregorian() {
+        long[] packed = PackedDates.fromEpochDays(PlainDate.axis().getCalendarSystem(), EpochDays.UNIX, new long[] {16990});
+        assertThat(GregorianMath.readYear(packed[0]), is(2016));
+        assertThat(GregorianMath.readMonth(packed[0]), is(7));
+        assertThat(GregorianMath.readDayOfMonth(packed[0]), is(8));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void targetArrayTooSmall() {
+        PackedDates.fromEpochDays(PlainDate.axis().getCalendarSystem(), EpochDays.UNIX, new long[2], new long[1]);
+    }
+
+    @Test
+    public void roundTripAllCalendars() {
+        CalendarSystem<?>[] systems = {
+            PersianCalendar.axis().getCalendarSystem(),
+            CopticCalendar.axis().getCalendarSystem(),
+            EthiopianCalendar.axis().getCalendarSystem(),
+            JulianCalendar.axis().getCalendarSystem(),
+            ThaiSolarCalendar.axis().getCalendarSystem(),
+            MinguoCalendar.axis().getCalendarSystem(),
+            PlainDate.axis().getCalendarSystem(),
+            HijriCalendar.family().getCalendarSystem(HijriCalendar.VARIANT_UMALQURA)
+        };
+        for (CalendarSystem<?> calsys : systems) {
+            long min = Math.max(calsys.getMinimumSinceUTC(), -800000);
+            long max = Math.min(calsys.getMaximumSinceUTC(), 800000);
+            long[] days = new long[(int) (max - min + 1)];
+            for (int i = 0; i < days.length; i++) {
+                days[i] = min + i;
+            }
+            long[] packed = PackedDates.fromEpochDays(calsys, EpochDays.UTC, days);
+            long[] result = PackedDates.toEpochDays(calsys, EpochDays.UTC, packed);
+            for (int i = 0; i < days.length; i++) {
+                assertThat(result[i], is(days[i]));
+            }
+        }
+    }
+
+    @Test
+    public void persian() {
+        CalendarSystem<PersianCalendar> calsys = PersianCalendar.axis().getCalendarSystem();
+        long utcDays = calsys.transform(PersianCalendar.of(1395, 12, 30));
+        long[] packed = PackedDates.fromEpochDays(calsys, EpochDays.UTC, new long[] {utcDays});
+        assertThat(GregorianMath.readYear(packed[0]), is(1395));
+        assertThat(GregorianMath.readMonth(packed[0]), is(12));
+        assertThat(GregorianMath.readDayOfMonth(packed[0]), is(30));
+    }
+
+    @Test
+    public void ethiopianAmeteAlem() {
+        CalendarSystem<EthiopianCalendar> calsys = EthiopianCalendar.axis().getCalendarSystem();
+        EthiopianCalendar date = EthiopianCalendar.of(EthiopianEra.AMETE_ALEM, 5000, 13, 5);
+        long[] packed = PackedDates.fromEpochDays(calsys, EpochDays.UTC, new long[] {calsys.transform(date)});
+        assertThat(GregorianMath.readYear(packed[0]), is(-500));
+        assertThat(PackedDates.toEpochDays(calsys, EpochDays.UTC, packed)[0], is(calsys.transform(date)));
+    }
+
+    @Test
+    public void thaiSolarBefore1941() {
+        CalendarSystem<ThaiSolarCalendar> calsys = ThaiSolarCalendar.axis().getCalendarSystem();
+        long[] packed =
+            PackedDates.fromEpochDays(
+                calsys,
+                EpochDays.UTC,
+                new long[] {PlainDate.of(1940, 2, 1).get(EpochDays.UTC)});
+        assertThat(GregorianMath.readYear(packed[0]), is(2482));
+        assertThat(GregorianMath.readMonth(packed[0]), is(2));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidPackedDate() {
+        long packed = (1395L << 32) | (7 << 16) | 31;
+        PackedDates.toEpochDays(PersianCalendar.axis().getCalendarSystem(), EpochDays.UTC, new long[] {packed});
+    }
+
+}
@@ -0,0 +1,376 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ByteBufferIO.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+
+
+/**
+ * <p>Adapter which lets the serialization code of {@code SPX} directly read
+ * from or write into a {@code ByteBuffer}. </p>
+ *
+ * <p>All methods behave like those of {@code DataInputStream} and
+ * {@code DataOutputStream}, including the modified UTF-8 encoding of
+ * {@code readUTF()} and {@code writeUTF()}. Buffer under- or overflows
+ * are reported by the usual unchecked exceptions of {@code ByteBuffer}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ */
+final class ByteBufferIO
+    implements DataInput, DataOutput {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ByteBuffer buffer;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    ByteBufferIO(ByteBuffer buffer) {
+        super();
+
+        this.buffer = buffer;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public void write(int b) {
+
+        this.buffer.put((byte) b);
+
+    }
+
+    @Override
+    public void write(byte[] b) {
+
+        this.buffer.put(b);
+
+    }
+
+    @Override
+    public void write(
+        byte[] b,
+        int off,
+        int len
+    ) {
+
+        this.buffer.put(b, off, len);
+
+    }
+
+    @Override
+    public void writeBoolean(boolean v) {
+
+        this.buffer.put((byte) (v ? 1 : 0));
+
+    }
+
+    @Override
+    public void writeByte(int v) {
+
+        this.buffer.put((byte) v);
+
+    }
+
+    @Override
+    public void writeShort(int v) {
+
+        this.buffer.putShort((short) v);
+
+    }
+
+    @Override
+    public void writeChar(int v) {
+
+        this.buffer.putChar((char) v);
+
+    }
+
+    @Override
+    public void writeInt(int v) {
+
+        this.buffer.putInt(v);
+
+    }
+
+    @Override
+    public void writeLong(long v) {
+
+        this.buffer.putLong(v);
+
+    }
+
+    @Override
+    public void writeFloat(float v) {
+
+        this.buffer.putFloat(v);
+
+    }
+
+    @Override
+    public void writeDouble(double v) {
+
+        this.buffer.putDouble(v);
+
+    }
+
+    @Override
+    public void writeBytes(String s) {
+
+        for (int i = 0, n = s.length(); i < n; i++) {
+            this.buffer.put((byte) s.charAt(i));
+        }
+
+    }
+
+    @Override
+    public void writeChars(String s) {
+
+        for (int i = 0, n = s.length(); i < n; i++) {
+            this.buffer.putChar(s.charAt(i));
+        }
+
+    }
+
+    @Override
+    public void writeUTF(String s) throws UTFDataFormatException {
+
+        int n = s.length();
+        long utflen = 0;
+
+        for (int i = 0; i < n; i++) {
+            char c = s.charAt(i);
+            if ((c >= 0x0001) && (c <= 0x007F)) {
+                utflen++;
+            } else if (c > 0x07FF) {
+                utflen += 3;
+            } else {
+                utflen += 2;
+            }
+        }
+
+        if (utflen > 65535) {
+            throw new UTFDataFormatException("Encoded string too long: " + utflen + " bytes");
+        }
+
+        this.buffer.putShort((short) utflen);
+
+        // modifiziertes UTF-8 wie in DataOutputStream (Nullzeichen mit zwei Bytes)
+        for (int i = 0; i < n; i++) {
+            char c = s.charAt(i);
+            if ((c >= 0x0001) && (c <= 0x007F)) {
+                this.buffer.put((byte) c);
+            } else if (c > 0x07FF) {
+                this.buffer.put((byte) (0xE0 | ((c >> 12) & 0x0F)));
+                this.buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                this.buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else {
+                this.buffer.put((byte) (0xC0 | ((c >> 6) & 0x1F)));
+                this.buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+
+    }
+
+    @Override
+    public void readFully(byte[] b) {
+
+        this.buffer.get(b);
+
+    }
+
+    @Override
+    public void readFully(
+        byte[] b,
+        int off,
+        int len
+    ) {
+
+        this.buffer.get(b, off, len);
+
+    }
+
+    @Override
+    public int skipBytes(int n) {
+
+        int count = Math.min(n, this.buffer.remaining());
+        this.buffer.position(this.buffer.position() + count);
+        return count;
+
+    }
+
+    @Override
+    public boolean readBoolean() {
+
+        return (this.buffer.get() != 0);
+
+    }
+
+    @Override
+    public byte readByte() {
+
+        return this.buffer.get();
+
+    }
+
+    @Override
+    public int readUnsignedByte() {
+
+        return (this.buffer.get() & 0xFF);
+
+    }
+
+    @Override
+    public short readShort() {
+
+        return this.buffer.getShort();
+
+    }
+
+    @Override
+    public int readUnsignedShort() {
+
+        return (this.buffer.getShort() & 0xFFFF);
+
+    }
+
+    @Override
+    public char readChar() {
+
+        return this.buffer.getChar();
+
+    }
+
+    @Override
+    public int readInt() {
+
+        return this.buffer.getInt();
+
+    }
+
+    @Override
+    public long readLong() {
+
+        return this.buffer.getLong();
+
+    }
+
+    @Override
+    public float readFloat() {
+
+        return this.buffer.getFloat();
+
+    }
+
+    @Override
+    public double readDouble() {
+
+        return this.buffer.getDouble();
+
+    }
+
+    @Override
+    public String readLine() {
+
+        if (!this.buffer.hasRemaining()) {
+            return null;
+        }
+
+        StringBuilder sb = new StringBuilder();
+
+        while (this.buffer.hasRemaining()) {
+            int c = this.buffer.get() & 0xFF;
+            if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                int pos = this.buffer.position();
+                if ((pos < this.buffer.limit()) && (this.buffer.get(pos) == '\n')) {
+                    this.buffer.position(pos + 1);
+                }
+                break;
+            }
+            sb.append((char) c);
+        }
+
+        return sb.toString();
+
+    }
+
+    @Override
+    public String readUTF() throws UTFDataFormatException {
+
+        int utflen = this.readUnsignedShort();
+        char[] chars = new char[utflen];
+        int count = 0;
+
+        for (int i = 0; i < utflen; i++) {
+            int c = this.buffer.get() & 0xFF;
+            switch (c >> 4) {
+                case 0:
+                case 1:
+                case 2:
+                case 3:
+                case 4:
+                case 5:
+                case 6:
+                case 7:
+                    chars[count++] = (char) c;
+                    break;
+                case 12:
+                case 13:
+                    if (i + 1 >= utflen) {
+                        throw new UTFDataFormatException("Partial character at end.");
+                    }
+                    i++;
+                    int c2 = this.buffer.get() & 0xFF;
+                    if ((c2 & 0xC0) != 0x80) {
+                        throw new UTFDataFormatException("Malformed input around byte " + i);
+                    }
+                    chars[count++] = (char) (((c & 0x1F) << 6) | (c2 & 0x3F));
+                    break;
+                case 14:
+                    if (i + 2 >= utflen) {
+                        throw new UTFDataFormatException("Partial character at end.");
+                    }
+                    i += 2;
+                    int d2 = this.buffer.get() & 0xFF;
+                    int d3 = this.buffer.get() & 0xFF;
+                    if (((d2 & 0xC0) != 0x80) || ((d3 & 0xC0) != 0x80)) {
+                        throw new UTFDataFormatException("Malformed input around byte " + (i - 1));
+                    }
+                    chars[count++] = (char) (((c & 0x0F) << 12) | ((d2 & 0x3F) << 6) | (d3 & 0x3F));
+                    break;
+                default:
+                    throw new UTFDataFormatException("Malformed input around byte " + i);
+            }
+        }
+
+        return new String(chars, 0, count);
+
+    }
+
+}
@@ -1654,7 +1654,7 @@ public final class Moment
 
     }
 
-    private boolean isPositiveLS() {
+    boolean isPositiveLS() {
 
         return ((this.fraction >>> 30) != 0);
 
@@ -1825,6 +1825,22 @@ public final class Moment
     void writeTimestamp(DataOutput out)
         throws IOException {
 
+        this.writeTimestamp(out, false);
+
+    }
+
+    /**
+     * Serialisierungsmethode.
+     *
+     * @param   out         output stream
+     * @param   fixed       always write the nanosecond (fixed length of 13 bytes)?
+     * @throws  IOException
+     */
+    void writeTimestamp(
+        DataOutput out,
+        boolean fixed
+    ) throws IOException {
+
         int header = SPX.MOMENT_TYPE;
         header <<= 4;
 
@@ -1833,15 +1849,16 @@ public final class Moment
         }
 
         int fp = this.getNanosecond();
+        boolean hasNanos = ((fp > 0) || fixed);
 
-        if (fp > 0) {
+        if (hasNanos) {
             header |= 2;
         }
 
         out.writeByte(header);
         out.writeLong(this.posixTime);
 
-        if (fp > 0) {
+        if (hasNanos) {
             out.writeInt(fp);
         }
 
@@ -1863,6 +1880,24 @@ public final class Moment
 
         long unixTime = in.readLong();
         int nano = (hasNanos ? in.readInt() : 0);
+        return create(unixTime, nano, positiveLS);
+
+    }
+
+    /**
+     * Erzeugt einen Moment aus serialisierten oder anders codierten Daten.
+     *
+     * @param   unixTime    elapsed POSIX seconds
+     * @param   nano        nanosecond fraction without leap second bit
+     * @param   positiveLS  positive leap second indicated?
+     * @return  new instance
+     * @throws  InvalidObjectException if the data are inconsistent
+     */
+    static Moment create(
+        long unixTime,
+        int nano,
+        boolean positiveLS
+    ) throws InvalidObjectException {
 
         if (unixTime == 0) {
             if (positiveLS) {
@@ -0,0 +1,917 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (MomentArrays.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import net.time4j.base.GregorianMath;
+import net.time4j.scale.LeapSecondEvent;
+import net.time4j.scale.LeapSeconds;
+import net.time4j.scale.TimeScale;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+
+/**
+ * <p>Utility methods for time series of global timestamps stored in primitive arrays. </p>
+ *
+ * <p>A time series consists of a {@code long}-array of elapsed seconds on a given time scale
+ * and a parallel {@code int}-array of nanosecond fractions, so the i-th timestamp is equivalent
+ * to {@code Moment.of(elapsedTimes[i], nanos[i], scale)}. The methods of this class process
+ * whole arrays without creating any {@code Moment}. The leap second table is only consulted
+ * once per method call. Instances of {@code Moment} are only created on demand by
+ * {@link #toMoment(long[], int[], int, TimeScale)}. </p>
+ *
+ * <pre>
+ *  long[] gpsTimes = ...;
+ *  int[] nanos = ...;
+ *  long[] posixTimes = new long[gpsTimes.length];
+ *  MomentArrays.convert(gpsTimes, TimeScale.GPS, posixTimes, TimeScale.POSIX);
+ *  MomentArrays.sort(posixTimes, nanos);
+ *  int count = MomentArrays.distinct(posixTimes, nanos);
+ * </pre>
+ *
+ * <p>Conversions walk forward through the leap second table. Sorted input hence only needs
+ * some integer arithmetic per element, and large arrays can optionally be converted in
+ * parallel. </p>
+ *
+ * <p>Note: A positive leap second cannot be expressed on the time scale {@code POSIX}
+ * and will be mapped to the preceding second as {@link Moment#getPosixTime()} does. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {threadsafe}
+ */
+/*[deutsch]
+ * <p>Hilfsmethoden f&uuml;r Zeitreihen von globalen Zeitstempeln, die in primitiven
+ * Arrays gespeichert sind. </p>
+ *
+ * <p>Eine Zeitreihe besteht aus einem {@code long}-Array von verstrichenen Sekunden auf
+ * einer Zeitskala und einem parallelen {@code int}-Array von Nanosekundenbruchteilen, so
+ * da&szlig; der i-te Zeitstempel {@code Moment.of(elapsedTimes[i], nanos[i], scale)}
+ * entspricht. Die Methoden dieser Klasse verarbeiten ganze Arrays, ohne ein {@code Moment}
+ * zu erzeugen. Die Schaltsekundentabelle wird pro Methodenaufruf nur einmal gelesen.
+ * Instanzen von {@code Moment} werden nur bei Bedarf mittels
+ * {@link #toMoment(long[], int[], int, TimeScale)} erzeugt. </p>
+ *
+ * <pre>
+ *  long[] gpsTimes = ...;
+ *  int[] nanos = ...;
+ *  long[] posixTimes = new long[gpsTimes.length];
+ *  MomentArrays.convert(gpsTimes, TimeScale.GPS, posixTimes, TimeScale.POSIX);
+ *  MomentArrays.sort(posixTimes, nanos);
+ *  int count = MomentArrays.distinct(posixTimes, nanos);
+ * </pre>
+ *
+ * <p>Umrechnungen laufen vorw&auml;rts durch die Schaltsekundentabelle. Sortierte
+ * Eingaben ben&ouml;tigen deshalb pro Element nur etwas Ganzzahlarithmetik, und
+ * gro&szlig;e Arrays k&ouml;nnen optional parallel umgerechnet werden. </p>
+ *
+ * <p>Hinweis: Eine positive Schaltsekunde kann auf der Zeitskala {@code POSIX} nicht
+ * ausgedr&uuml;ckt werden und wird wie in {@link Moment#getPosixTime()} auf die
+ * vorangehende Sekunde abgebildet. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {threadsafe}
+ */
+public final class MomentArrays {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MRD = 1_000_000_000;
+    private static final long POSIX_UTC_DELTA = 2 * 365 * 86400;
+    private static final long UTC_GPS_DELTA = ((1980 - 1972) * 365 + 2 + 5) * 86400 + 9;
+    private static final long POSIX_GPS_DELTA = POSIX_UTC_DELTA + UTC_GPS_DELTA - 9;
+    private static final long MJD_UNIX_EPOCH = 40587;
+    private static final long MIN_LIMIT = Moment.axis().getMinimum().getPosixTime();
+    private static final long MAX_LIMIT = Moment.axis().getMaximum().getPosixTime();
+
+    private static final int INSERTION_THRESHOLD = 16;
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private MomentArrays() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Converts the elapsed seconds from one time scale to another one. </p>
+     *
+     * <p>The source and target array may be identical for an in-place conversion. The
+     * nanosecond fractions stay unchanged on all supported time scales. If any value is
+     * out of range then the target array might already be partially overwritten. </p>
+     *
+     * @param   source          elapsed seconds on source scale
+     * @param   sourceScale     time scale of source values
+     * @param   target          array which will be filled with elapsed seconds on target scale
+     * @param   targetScale     time scale of target values
+     * @throws  IllegalArgumentException if the arrays have different lengths or if any value
+     *          is out of range of the involved time scales (the message contains the index)
+     * @throws  IllegalStateException if any time scale is not POSIX but leap second support
+     *          is switched off by configuration
+     * @see     Moment#getElapsedTime(TimeScale)
+     */
+    /*[deutsch]
+     * <p>Rechnet die verstrichenen Sekunden von einer Zeitskala in eine andere um. </p>
+     *
+     * <p>Quell- und Ziel-Array d&uuml;rfen f&uuml;r eine Umrechnung an Ort und Stelle
+     * identisch sein. Die Nanosekundenbruchteile bleiben auf allen unterst&uuml;tzten
+     * Zeitskalen unver&auml;ndert. Ist irgendein Wert au&szlig;erhalb des Wertebereichs,
+     * dann kann das Ziel-Array schon teilweise &uuml;berschrieben sein. </p>
+     *
+     * @param   source          elapsed seconds on source scale
+     * @param   sourceScale     time scale of source values
+     * @param   target          array which will be filled with elapsed seconds on target scale
+     * @param   targetScale     time scale of target values
+     * @throws  IllegalArgumentException if the arrays have different lengths or if any value
+     *          is out of range of the involved time scales (the message contains the index)
+     * @throws  IllegalStateException if any time scale is not POSIX but leap second support
+     *          is switched off by configuration
+     * @see     Moment#getElapsedTime(TimeScale)
+     * @see     #convert(long[], TimeScale, long[], TimeScale, boolean)
+     */
+    public static void convert(
+        long[] source,
+        TimeScale sourceScale,
+        long[] target,
+        TimeScale targetScale
+    ) {
+
+        convert(source, sourceScale, target, targetScale, false);
+
+    }
+
+    /**
+     * <p>Converts the elapsed seconds from one time scale to another one, optionally
+     * in parallel. </p>
+     *
+     * <p>If {@code parallel} is {@code true} then large arrays will be split into chunks
+     * which are converted by the common fork-join-pool. Every chunk walks forward through
+     * the leap second table, so sorted input is the fastest case. Otherwise this method
+     * behaves like {@link #convert(long[], TimeScale, long[], TimeScale)}. </p>
+     *
+     * @param   source          elapsed seconds on source scale
+     * @param   sourceScale     time scale of source values
+     * @param   target          array which will be filled with elapsed seconds on target scale
+     * @param   targetScale     time scale of target values
+     * @param   parallel        shall large arrays be converted in parallel?
+     * @throws  IllegalArgumentException if the arrays have different lengths or if any value
+     *          is out of range of the involved time scales
+     * @throws  IllegalStateException if any time scale is not POSIX but leap second support
+     *          is switched off by configuration
+     * @see     Moment#getElapsedTime(TimeScale)
+     */
+    /*[deutsch]
+     * <p>Rechnet die verstrichenen Sekunden von einer Zeitskala in eine andere um,
+     * optional parallel. </p>
+     *
+     * <p>Ist {@code parallel} gleich {@code true}, werden gro&szlig;e Arrays in
+     * Abschnitte zerlegt, die vom allgemeinen Fork-Join-Pool umgerechnet werden. Jeder
+     * Abschnitt l&auml;uft vorw&auml;rts durch die Schaltsekundentabelle, so da&szlig;
+     * sortierte Eingaben am schnellsten sind. Sonst verh&auml;lt sich diese Methode wie
+     * {@link #convert(long[], TimeScale, long[], TimeScale)}. </p>
+     *
+     * @param   source          elapsed seconds on source scale
+     * @param   sourceScale     time scale of source values
+     * @param   target          array which will be filled with elapsed seconds on target scale
+     * @param   targetScale     time scale of target values
+     * @param   parallel        shall large arrays be converted in parallel?
+     * @throws  IllegalArgumentException if the arrays have different lengths or if any value
+     *          is out of range of the involved time scales
+     * @throws  IllegalStateException if any time scale is not POSIX but leap second support
+     *          is switched off by configuration
+     * @see     Moment#getElapsedTime(TimeScale)
+     */
+    public static void convert(
+        long[] source,
+        TimeScale sourceScale,
+        long[] target,
+        TimeScale targetScale,
+        boolean parallel
+    ) {
+
+        if (source.length != target.length) {
+            throw new IllegalArgumentException("Arrays have different lengths.");
+        }
+
+        LeapTable table = LeapTable.create(sourceScale, targetScale);
+
+        if (parallel && (source.length >= 2 * PARALLEL_THRESHOLD)) {
+            ForkJoinPool.commonPool().invoke(
+                new ConvertTask(table, source, sourceScale, target, targetScale, 0, source.length));
+        } else {
+            table.convert(source, sourceScale, target, targetScale, 0, source.length);
+        }
+
+    }
+
+    /**
+     * <p>Checks if all timestamps of given time series are valid. </p>
+     *
+     * @param   elapsedTimes    elapsed seconds on given time scale
+     * @param   nanos           nanosecond fractions
+     * @param   scale           time scale reference
+     * @throws  IllegalArgumentException if the arrays have different lengths or if any
+     *          timestamp is not valid (the message contains the index)
+     * @throws  IllegalStateException if the time scale is not POSIX but leap second support
+     *          is switched off by configuration
+     * @see     Moment#of(long, int, TimeScale)
+     */
+    /*[deutsch]
+     * <p>Pr&uuml;ft, ob alle Zeitstempel der angegebenen Zeitreihe g&uuml;ltig sind. </p>
+     *
+     * @param   elapsedTimes    elapsed seconds on given time scale
+     * @param   nanos           nanosecond fractions
+     * @param   scale           time scale reference
+     * @throws  IllegalArgumentException if the arrays have different lengths or if any
+     *          timestamp is not valid (the message contains the index)
+     * @throws  IllegalStateException if the time scale is not POSIX but leap second support
+     *          is switched off by configuration
+     * @see     Moment#of(long, int, TimeScale)
+     */
+    public static void validate(
+        long[] elapsedTimes,
+        int[] nanos,
+        TimeScale scale
+    ) {
+
+        checkLength(elapsedTimes, nanos);
+        LeapTable table = LeapTable.create(scale, TimeScale.POSIX);
+
+        for (int i = 0; i < elapsedTimes.length; i++) {
+            if ((nanos[i] < 0) || (nanos[i] >= MRD)) {
+                throw new IllegalArgumentException("Nanosecond out of range at index " + i + ": " + nanos[i]);
+            }
+            table.convert(elapsedTimes[i], scale, TimeScale.POSIX, i);
+        }
+
+    }
+
+    /**
+     * <p>Creates the moment at given index of a time series. </p>
+     *
+     * @param   elapsedTimes    elapsed seconds on given time scale
+     * @param   nanos           nanosecond fractions
+     * @param   index           position in time series
+     * @param   scale           time scale reference
+     * @return  new moment instance
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     * @throws  IllegalArgumentException if the timestamp is not valid
+     * @see     Moment#of(long, int, TimeScale)
+     */
+    /*[deutsch]
+     * <p>Erzeugt den Moment an der angegebenen Position einer Zeitreihe. </p>
+     *
+     * @param   elapsedTimes    elapsed seconds on given time scale
+     * @param   nanos           nanosecond fractions
+     * @param   index           position in time series
+     * @param   scale           time scale reference
+     * @return  new moment instance
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     * @throws  IllegalArgumentException if the timestamp is not valid
+     * @see     Moment#of(long, int, TimeScale)
+     */
+    public static Moment toMoment(
+        long[] elapsedTimes,
+        int[] nanos,
+        int index,
+        TimeScale scale
+    ) {
+
+        return Moment.of(elapsedTimes[index], nanos[index], scale);
+
+    }
+
+    /**
+     * <p>Sorts given time series in ascending order. </p>
+     *
+     * <p>Both arrays are sorted together. Large time series are sorted in parallel using
+     * the common fork-join-pool. The order does not depend on the time scale because all
+     * supported time scales are monotonic. The sort is stable. </p>
+     *
+     * @param   elapsedTimes    elapsed seconds on any time scale
+     * @param   nanos           nanosecond fractions
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     */
+    /*[deutsch]
+     * <p>Sortiert die angegebene Zeitreihe aufsteigend. </p>
+     *
+     * <p>Beide Arrays werden zusammen sortiert. Gro&szlig;e Zeitreihen werden mit Hilfe
+     * des allgemeinen Fork-Join-Pools parallel sortiert. Die Reihenfolge h&auml;ngt nicht
+     * von der Zeitskala ab, weil alle unterst&uuml;tzten Zeitskalen monoton sind. Die
+     * Sortierung ist stabil. </p>
+     *
+     * @param   elapsedTimes    elapsed seconds on any time scale
+     * @param   nanos           nanosecond fractions
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     */
+    public static void sort(
+        long[] elapsedTimes,
+        int[] nanos
+    ) {
+
+        checkLength(elapsedTimes, nanos);
+        int n = elapsedTimes.length;
+
+        if (n < 2) {
+            return;
+        }
+
+        long[] tmpTimes = elapsedTimes.clone();
+        int[] tmpNanos = nanos.clone();
+
+        if (n < PARALLEL_THRESHOLD) {
+            sortRange(tmpTimes, tmpNanos, elapsedTimes, nanos, 0, n);
+        } else {
+            ForkJoinPool.commonPool().invoke(new SortTask(tmpTimes, tmpNanos, elapsedTimes, nanos, 0, n));
+        }
+
+    }
+
+    /**
+     * <p>Merges two sorted time series into one sorted time series. </p>
+     *
+     * @param   elapsedTimes1   elapsed seconds of first time series
+     * @param   nanos1          nanosecond fractions of first time series
+     * @param   elapsedTimes2   elapsed seconds of second time series
+     * @param   nanos2          nanosecond fractions of second time series
+     * @param   resultTimes     array which will be filled with merged elapsed seconds
+     * @param   resultNanos     array which will be filled with merged nanosecond fractions
+     * @throws  IllegalArgumentException if the array lengths do not fit
+     */
+    /*[deutsch]
+     * <p>F&uuml;hrt zwei sortierte Zeitreihen zu einer sortierten Zeitreihe zusammen. </p>
+     *
+     * @param   elapsedTimes1   elapsed seconds of first time series
+     * @param   nanos1          nanosecond fractions of first time series
+     * @param   elapsedTimes2   elapsed seconds of second time series
+     * @param   nanos2          nanosecond fractions of second time series
+     * @param   resultTimes     array which will be filled with merged elapsed seconds
+     * @param   resultNanos     array which will be filled with merged nanosecond fractions
+     * @throws  IllegalArgumentException if the array lengths do not fit
+     */
+    public static void merge(
+        long[] elapsedTimes1,
+        int[] nanos1,
+        long[] elapsedTimes2,
+        int[] nanos2,
+        long[] resultTimes,
+        int[] resultNanos
+    ) {
+
+        checkLength(elapsedTimes1, nanos1);
+        checkLength(elapsedTimes2, nanos2);
+        checkLength(resultTimes, resultNanos);
+
+        int n1 = elapsedTimes1.length;
+        int n2 = elapsedTimes2.length;
+
+        if (resultTimes.length != n1 + n2) {
+            throw new IllegalArgumentException("Result arrays must have the combined length: " + (n1 + n2));
+        }
+
+        int i = 0;
+        int j = 0;
+        int k = 0;
+
+        while ((i < n1) && (j < n2)) {
+            if (compare(elapsedTimes2[j], nanos2[j], elapsedTimes1[i], nanos1[i]) < 0) {
+                resultTimes[k] = elapsedTimes2[j];
+                resultNanos[k++] = nanos2[j++];
+            } else {
+                resultTimes[k] = elapsedTimes1[i];
+                resultNanos[k++] = nanos1[i++];
+            }
+        }
+
+        System.arraycopy(elapsedTimes1, i, resultTimes, k, n1 - i);
+        System.arraycopy(nanos1, i, resultNanos, k, n1 - i);
+        k += (n1 - i);
+        System.arraycopy(elapsedTimes2, j, resultTimes, k, n2 - j);
+        System.arraycopy(nanos2, j, resultNanos, k, n2 - j);
+
+    }
+
+    /**
+     * <p>Removes duplicates from given sorted time series. </p>
+     *
+     * <p>The distinct timestamps are moved to the start of the arrays. The content
+     * of the arrays beyond the returned count is undefined. </p>
+     *
+     * @param   elapsedTimes    sorted elapsed seconds
+     * @param   nanos           nanosecond fractions
+     * @return  count of distinct timestamps
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     * @see     #sort(long[], int[])
+     */
+    /*[deutsch]
+     * <p>Entfernt Duplikate aus der angegebenen sortierten Zeitreihe. </p>
+     *
+     * <p>Die unterschiedlichen Zeitstempel werden an den Anfang der Arrays verschoben.
+     * Der Inhalt der Arrays jenseits der zur&uuml;ckgegebenen Anzahl ist nicht definiert. </p>
+     *
+     * @param   elapsedTimes    sorted elapsed seconds
+     * @param   nanos           nanosecond fractions
+     * @return  count of distinct timestamps
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     * @see     #sort(long[], int[])
+     */
+    public static int distinct(
+        long[] elapsedTimes,
+        int[] nanos
+    ) {
+
+        checkLength(elapsedTimes, nanos);
+
+        if (elapsedTimes.length == 0) {
+            return 0;
+        }
+
+        int count = 1;
+
+        for (int i = 1; i < elapsedTimes.length; i++) {
+            if ((elapsedTimes[i] != elapsedTimes[count - 1]) || (nanos[i] != nanos[count - 1])) {
+                elapsedTimes[count] = elapsedTimes[i];
+                nanos[count] = nanos[i];
+                count++;
+            }
+        }
+
+        return count;
+
+    }
+
+    private static void checkLength(
+        long[] elapsedTimes,
+        int[] nanos
+    ) {
+
+        if (elapsedTimes.length != nanos.length) {
+            throw new IllegalArgumentException("Arrays have different lengths.");
+        }
+
+    }
+
+    private static int compare(
+        long t1,
+        int n1,
+        long t2,
+        int n2
+    ) {
+
+        return ((t1 < t2) ? -1 : ((t1 > t2) ? 1 : (n1 - n2)));
+
+    }
+
+    // Vorbedingung: Quelle und Ziel haben im Bereich [lo, hi) denselben Inhalt, Ergebnis im Ziel
+    private static void sortRange(
+        long[] srcTimes,
+        int[] srcNanos,
+        long[] dstTimes,
+        int[] dstNanos,
+        int lo,
+        int hi
+    ) {
+
+        if (hi - lo <= INSERTION_THRESHOLD) {
+            insertionSort(dstTimes, dstNanos, lo, hi);
+            return;
+        }
+
+        int mid = (lo + hi) >>> 1;
+        sortRange(dstTimes, dstNanos, srcTimes, srcNanos, lo, mid);
+        sortRange(dstTimes, dstNanos, srcTimes, srcNanos, mid, hi);
+        mergeRange(srcTimes, srcNanos, dstTimes, dstNanos, lo, mid, hi);
+
+    }
+
+    private static void insertionSort(
+        long[] times,
+        int[] nanos,
+        int lo,
+        int hi
+    ) {
+
+        for (int i = lo + 1; i < hi; i++) {
+            long t = times[i];
+            int n = nanos[i];
+            int j = i - 1;
+
+            while ((j >= lo) && (compare(times[j], nanos[j], t, n) > 0)) {
+                times[j + 1] = times[j];
+                nanos[j + 1] = nanos[j];
+                j--;
+            }
+
+            times[j + 1] = t;
+            nanos[j + 1] = n;
+        }
+
+    }
+
+    private static void mergeRange(
+        long[] srcTimes,
+        int[] srcNanos,
+        long[] dstTimes,
+        int[] dstNanos,
+        int lo,
+        int mid,
+        int hi
+    ) {
+
+        if (compare(srcTimes[mid - 1], srcNanos[mid - 1], srcTimes[mid], srcNanos[mid]) <= 0) {
+            System.arraycopy(srcTimes, lo, dstTimes, lo, hi - lo);
+            System.arraycopy(srcNanos, lo, dstNanos, lo, hi - lo);
+            return;
+        }
+
+        int i = lo;
+        int j = mid;
+
+        for (int k = lo; k < hi; k++) {
+            if ((j >= hi) || ((i < mid) && (compare(srcTimes[i], srcNanos[i], srcTimes[j], srcNanos[j]) <= 0))) {
+                dstTimes[k] = srcTimes[i];
+                dstNanos[k] = srcNanos[i++];
+            } else {
+                dstTimes[k] = srcTimes[j];
+                dstNanos[k] = srcNanos[j++];
+            }
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * Momentaufnahme der Schaltsekundentabelle f&uuml;r die Dauer einer Massenverarbeitung.
+     */
+    private static class LeapTable {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final boolean enabled;
+        private final long[] posixStarts; // POSIX-Zeit des Tagesanfangs nach dem Ereignis
+        private final long[] utcStarts; // UTC-Zeit, ab der das Ereignis wirksam ist
+        private final long[] shifts; // kumulierte Verschiebung
+        private int posixIndex = -1; // zuletzt verwendete Position (nicht thread-sicher)
+        private int utcIndex = -1;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private LeapTable(
+            boolean enabled,
+            long[] posixStarts,
+            long[] utcStarts,
+            long[] shifts
+        ) {
+            super();
+
+            this.enabled = enabled;
+            this.posixStarts = posixStarts;
+            this.utcStarts = utcStarts;
+            this.shifts = shifts;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // neue Instanz mit eigenen Positionen für einen anderen Thread
+        LeapTable copy() {
+
+            return new LeapTable(this.enabled, this.posixStarts, this.utcStarts, this.shifts);
+
+        }
+
+        void convert(
+            long[] source,
+            TimeScale sourceScale,
+            long[] target,
+            TimeScale targetScale,
+            int from,
+            int to
+        ) {
+
+            for (int i = from; i < to; i++) {
+                target[i] = this.convert(source[i], sourceScale, targetScale, i);
+            }
+
+        }
+
+        static LeapTable create(
+            TimeScale sourceScale,
+            TimeScale targetScale
+        ) {
+
+            LeapSeconds ls = LeapSeconds.getInstance();
+            boolean enabled = ls.isEnabled();
+
+            if (!enabled && (sourceScale != TimeScale.POSIX)) {
+                throw new IllegalStateException("Leap seconds are not supported by configuration.");
+            } else if (!enabled || ((sourceScale == TimeScale.POSIX) && (targetScale == TimeScale.POSIX))) {
+                return new LeapTable(enabled, new long[0], new long[0], new long[0]);
+            }
+
+            List<LeapSecondEvent> events = new ArrayList<>(ls.getCount());
+
+            for (LeapSecondEvent event : ls) {
+                events.add(event);
+            }
+
+            int n = events.size();
+            long[] posixStarts = new long[n];
+            long[] utcStarts = new long[n];
+            long[] shifts = new long[n];
+
+            for (int i = 0; i < n; i++) {
+                LeapSecondEvent event = events.get(n - 1 - i); // aufsteigende Reihenfolge
+                long posix = (GregorianMath.toMJD(event.getDate()) - MJD_UNIX_EPOCH + 1) * 86400;
+                long utc = ls.enhance(posix);
+                posixStarts[i] = posix;
+                shifts[i] = utc - (posix - POSIX_UTC_DELTA);
+                utcStarts[i] = ((event.getShift() > 0) ? utc - 1 : utc);
+            }
+
+            return new LeapTable(true, posixStarts, utcStarts, shifts);
+
+        }
+
+        long convert(
+            long value,
+            TimeScale sourceScale,
+            TimeScale targetScale,
+            int index
+        ) {
+
+            try {
+                long posix = this.toPosix(value, sourceScale);
+
+                if ((posix < MIN_LIMIT) || (posix > MAX_LIMIT)) {
+                    throw new IllegalArgumentException("UNIX time (UT1) out of supported range: " + posix);
+                } else if (targetScale == TimeScale.POSIX) {
+                    return posix;
+                }
+
+                long utc = ((sourceScale == TimeScale.POSIX) ? this.enhance(posix) : this.toUTC(value, sourceScale));
+
+                switch (targetScale) {
+                    case UTC:
+                        return utc;
+                    case TAI:
+                        if (utc < 0) {
+                            throw new IllegalArgumentException("TAI not supported before 1972-01-01: " + value);
+                        }
+                        return utc + 10;
+                    case GPS:
+                        if (posix < POSIX_GPS_DELTA) {
+                            throw new IllegalArgumentException("GPS not supported before 1980-01-06: " + value);
+                        }
+                        return (this.enabled ? utc : utc + 9) - UTC_GPS_DELTA;
+                    default:
+                        throw new UnsupportedOperationException("Not yet implemented: " + targetScale);
+                }
+            } catch (ArithmeticException | IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Invalid value at index " + index + ": " + ex.getMessage(), ex);
+            }
+
+        }
+
+        private long toPosix(
+            long value,
+            TimeScale scale
+        ) {
+
+            return ((scale == TimeScale.POSIX) ? value : this.strip(this.toUTC(value, scale)));
+
+        }
+
+        private long toUTC(
+            long value,
+            TimeScale scale
+        ) {
+
+            switch (scale) {
+                case UTC:
+                    return value;
+                case TAI:
+                    long utc = Math.subtractExact(value, 10);
+                    if (utc < 0) {
+                        throw new IllegalArgumentException("TAI not supported before 1972-01-01: " + value);
+                    }
+                    return utc;
+                case GPS:
+                    if (value < 0) {
+                        throw new IllegalArgumentException("GPS not supported before 1980-01-06: " + value);
+                    }
+                    return Math.addExact(value, UTC_GPS_DELTA);
+                default:
+                    throw new UnsupportedOperationException("Not yet implemented: " + scale);
+            }
+
+        }
+
+        private long enhance(long posix) {
+
+            int i = walk(this.posixStarts, posix, this.posixIndex);
+            this.posixIndex = i;
+            return posix - POSIX_UTC_DELTA + ((i < 0) ? 0 : this.shifts[i]);
+
+        }
+
+        private long strip(long utc) {
+
+            int i = walk(this.utcStarts, utc, this.utcIndex);
+            this.utcIndex = i;
+            return utc + POSIX_UTC_DELTA - ((i < 0) ? 0 : this.shifts[i]);
+
+        }
+
+        // Index des letzten Elements kleiner oder gleich dem Schlüssel, bei sortierten Eingaben vorwärts
+        private static int walk(
+            long[] starts,
+            long key,
+            int hint
+        ) {
+
+            if ((hint >= 0) && (starts[hint] > key)) {
+                return search(starts, key);
+            }
+
+            int i = hint;
+
+            while ((i + 1 < starts.length) && (starts[i + 1] <= key)) {
+                i++;
+            }
+
+            return i;
+
+        }
+
+        // Index des letzten Elements kleiner oder gleich dem Schlüssel, sonst -1
+        private static int search(
+            long[] starts,
+            long key
+        ) {
+
+            int low = 0;
+            int high = starts.length - 1;
+
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+
+                if (starts[mid] <= key) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+
+            return low - 1;
+
+        }
+
+    }
+
+    private static class ConvertTask
+        extends RecursiveAction {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final long serialVersionUID = 6322813493547640717L;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final LeapTable table;
+        private final long[] source;
+        private final TimeScale sourceScale;
+        private final long[] target;
+        private final TimeScale targetScale;
+        private final int from;
+        private final int to;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        ConvertTask(
+            LeapTable table,
+            long[] source,
+            TimeScale sourceScale,
+            long[] target,
+            TimeScale targetScale,
+            int from,
+            int to
+        ) {
+            super();
+
+            this.table = table;
+            this.source = source;
+            this.sourceScale = sourceScale;
+            this.target = target;
+            this.targetScale = targetScale;
+            this.from = from;
+            this.to = to;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        protected void compute() {
+
+            if (this.to - this.from < 2 * PARALLEL_THRESHOLD) {
+                this.table.copy().convert(
+                    this.source, this.sourceScale, this.target, this.targetScale, this.from, this.to);
+                return;
+            }
+
+            int mid = (this.from + this.to) >>> 1;
+            invokeAll(
+                new ConvertTask(
+                    this.table, this.source, this.sourceScale, this.target, this.targetScale, this.from, mid),
+                new ConvertTask(
+                    this.table, this.source, this.sourceScale, this.target, this.targetScale, mid, this.to));
+
+        }
+
+    }
+
+    private static class SortTask
+        extends RecursiveAction {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final long serialVersionUID = -2187368591634275310L;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long[] srcTimes;
+        private final int[] srcNanos;
+        private final long[] dstTimes;
+        private final int[] dstNanos;
+        private final int lo;
+        private final int hi;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        SortTask(
+            long[] srcTimes,
+            int[] srcNanos,
+            long[] dstTimes,
+            int[] dstNanos,
+            int lo,
+            int hi
+        ) {
+            super();
+
+            this.srcTimes = srcTimes;
+            this.srcNanos = srcNanos;
+            this.dstTimes = dstTimes;
+            this.dstNanos = dstNanos;
+            this.lo = lo;
+            this.hi = hi;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        protected void compute() {
+
+            if (this.hi - this.lo < PARALLEL_THRESHOLD) {
+                sortRange(this.srcTimes, this.srcNanos, this.dstTimes, this.dstNanos, this.lo, this.hi);
+                return;
+            }
+
+            int mid = (this.lo + this.hi) >>> 1;
+            invokeAll(
+                new SortTask(this.dstTimes, this.dstNanos, this.srcTimes, this.srcNanos, this.lo, mid),
+                new SortTask(this.dstTimes, this.dstNanos, this.srcTimes, this.srcNanos, mid, this.hi));
+            mergeRange(this.srcTimes, this.srcNanos, this.dstTimes, this.dstNanos, this.lo, mid, this.hi);
+
+        }
+
+    }
+
+}
@@ -0,0 +1,260 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PatternTemplate.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * <p>Pre-parsed form of a unit or list pattern which consists of literal
+ * segments and numbered placeholders. </p>
+ *
+ * <p>A template with n placeholders has always n + 1 literal segments
+ * (possibly empty). List patterns which use more than simple placeholders
+ * of the form &quot;{n}&quot; are delegated to {@code MessageFormat}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {immutable}
+ */
+final class PatternTemplate {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int[] NO_ARGS = new int[0];
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final String pattern;
+    private final String[] literals;
+    private final int[] arguments;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private PatternTemplate(
+        String pattern,
+        String[] literals,
+        int[] arguments
+    ) {
+        super();
+
+        this.pattern = pattern;
+        this.literals = literals;
+        this.arguments = arguments;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Compiles a unit pattern which optionally contains the placeholder
+     * &quot;{0}&quot; for the count of units. </p>
+     *
+     * <p>Quote characters have no special meaning in unit patterns. </p>
+     *
+     * @param   pattern     unit pattern
+     * @return  compiled template
+     */
+    static PatternTemplate ofUnit(String pattern) {
+
+        int pos = pattern.indexOf("{0}");
+
+        if (pos == -1) {
+            return new PatternTemplate(pattern, new String[] {pattern}, NO_ARGS);
+        }
+
+        String[] literals = {pattern.substring(0, pos), pattern.substring(pos + 3)};
+        return new PatternTemplate(pattern, literals, new int[] {0});
+
+    }
+
+    /**
+     * <p>Compiles a list pattern in the syntax of {@code MessageFormat}. </p>
+     *
+     * @param   pattern     list pattern with placeholders {0}, {1}, ..., {x}, ...
+     * @return  compiled template
+     */
+    static PatternTemplate ofList(String pattern) {
+
+        List<String> literals = new ArrayList<>();
+        List<Integer> arguments = new ArrayList<>();
+        StringBuilder sb = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0, n = pattern.length(); i < n; i++) {
+            char c = pattern.charAt(i);
+
+            if (c == '\'') {
+                if ((i + 1 < n) && (pattern.charAt(i + 1) == '\'')) {
+                    sb.append(c);
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if ((c == '{') && !quoted) {
+                int end = pattern.indexOf('}', i);
+                int index = ((end == -1) ? -1 : parseIndex(pattern, i + 1, end));
+                if (index == -1) {
+                    // komplexe Syntax: MessageFormat übernimmt
+                    return new PatternTemplate(pattern, null, null);
+                }
+                literals.add(sb.toString());
+                arguments.add(Integer.valueOf(index));
+                sb.setLength(0);
+                i = end;
+            } else {
+                sb.append(c);
+            }
+        }
+
+        literals.add(sb.toString());
+        int[] args = new int[arguments.size()];
+
+        for (int i = 0; i < args.length; i++) {
+            args[i] = arguments.get(i).intValue();
+        }
+
+        return new PatternTemplate(pattern, literals.toArray(new String[literals.size()]), args);
+
+    }
+
+    /**
+     * <p>Yields the original pattern. </p>
+     *
+     * @return  pattern text
+     */
+    String getPattern() {
+
+        return this.pattern;
+
+    }
+
+    /**
+     * <p>Does this template contain any placeholder? </p>
+     *
+     * @return  boolean
+     */
+    boolean hasArguments() {
+
+        return ((this.arguments == null) || (this.arguments.length > 0));
+
+    }
+
+    /**
+     * <p>Writes the literal segments and the arguments printed on demand
+     * into given buffer. </p>
+     *
+     * @param   buffer      target buffer
+     * @param   printer     callback for printing the argument with given index
+     * @param   count       count of available arguments
+     * @throws  IOException if writing to the buffer fails
+     */
+    void print(
+        Appendable buffer,
+        ArgumentPrinter printer,
+        int count
+    ) throws IOException {
+
+        if (this.literals == null) {
+            Object[] parts = new Object[count];
+            for (int i = 0; i < count; i++) {
+                StringBuilder sb = new StringBuilder();
+                printer.print(i, sb);
+                parts[i] = sb.toString();
+            }
+            buffer.append(MessageFormat.format(this.pattern, parts));
+            return;
+        }
+
+        for (int i = 0; i < this.arguments.length; i++) {
+            buffer.append(this.literals[i]);
+            int index = this.arguments[i];
+            if (index < count) {
+                printer.print(index, buffer);
+            } else {
+                // wie MessageFormat bei fehlenden Argumenten
+                buffer.append('{').append(String.valueOf(index)).append('}');
+            }
+        }
+
+        buffer.append(this.literals[this.arguments.length]);
+
+    }
+
+    @Override
+    public String toString() {
+
+        return this.pattern;
+
+    }
+
+    private static int parseIndex(
+        String pattern,
+        int start,
+        int end
+    ) {
+
+        if ((start == end) || (end - start > 4)) {
+            return -1;
+        }
+
+        int index = 0;
+
+        for (int i = start; i < end; i++) {
+            char c = pattern.charAt(i);
+            if ((c < '0') || (c > '9')) {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+
+        return index;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Prints the argument with given index. </p>
+     */
+    interface ArgumentPrinter {
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Writes the argument with given index into given buffer. </p>
+         *
+         * @param   index       argument index
+         * @param   buffer      target buffer
+         * @throws  IOException if writing to the buffer fails
+         */
+        void print(
+            int index,
+            Appendable buffer
+        ) throws IOException;
+
+    }
+
+}
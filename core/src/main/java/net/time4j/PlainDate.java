@@ -196,6 +196,12 @@ public final class PlainDate
     private static final int[] DAY_OF_YEAR_PER_MONTH = new int[12];
     private static final int[] DAY_OF_LEAP_YEAR_PER_MONTH = new int[12];
 
+    // Puffer für die Datumswerte um das aktuelle Jahr herum (null, wenn abgeschaltet)
+    private static volatile DateWindow cache = (
+        PlainTime.CACHE_ENABLED
+        ? DateWindow.ofCurrentYear()
+        : null);
+
     static {
         DAY_OF_YEAR_PER_MONTH[0] = 31;
         DAY_OF_YEAR_PER_MONTH[1] = 59;
@@ -2141,6 +2147,30 @@ public final class PlainDate
 
     }
 
+    /**
+     * <p>Setzt den Datumspuffer auf ein Fenster um das angegebene Jahr
+     * zur&uuml;ck (nur f&uuml;r Tests). </p>
+     *
+     * @param   year    mittleres Jahr des neuen Fensters
+     */
+    static void resetCache(int year) {
+
+        if (PlainTime.CACHE_ENABLED) {
+            cache = DateWindow.around(year);
+        }
+
+    }
+
+    /**
+     * <p>Setzt den Datumspuffer auf ein Fenster um das aktuelle Jahr der
+     * Systemuhr zur&uuml;ck (nur f&uuml;r Tests). </p>
+     */
+    static void resetCache() {
+
+        resetCache(DateWindow.currentYear());
+
+    }
+
     private static String woyFailed(int weekOfYear) {
 
         return "WEEK_OF_YEAR (ISO) out of range: " + weekOfYear;
@@ -2158,7 +2188,26 @@ public final class PlainDate
             GregorianMath.checkDate(year, month, dayOfMonth);
         }
 
-        // TODO: konfigurierbaren Cache einbauen?
+        final DateWindow window = cache;
+
+        if (window != null) {
+            int delta = year - window.startYear;
+
+            if ((delta >= 0) && (delta < DateWindow.YEARS)) {
+                return window.get(delta, year, month, dayOfMonth);
+            } else if ((delta == -1) || (delta == DateWindow.YEARS)) { // Jahreswechsel der Systemuhr?
+                int start = DateWindow.currentYear() - 1;
+                if (start != window.startYear) { // Fenster folgt der Uhr in beide Richtungen
+                    DateWindow moved = window.moveTo(start);
+                    cache = moved;
+                    delta = year - start;
+                    if ((delta >= 0) && (delta < DateWindow.YEARS)) {
+                        return moved.get(delta, year, month, dayOfMonth);
+                    }
+                }
+            }
+        }
+
         return new PlainDate(year, month, dayOfMonth);
 
     }
@@ -2231,6 +2280,92 @@ public final class PlainDate
 
     //~ Innere Klassen ----------------------------------------------------
 
+    /**
+     * Puffert kanonische Datumsinstanzen f&uuml;r einige Jahre um die Gegenwart herum.
+     */
+    private static class DateWindow {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final int YEARS = 3;
+        private static final int SLOTS_PER_YEAR = 12 * 31;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int startYear;
+        private final PlainDate[] dates; // verzögert gefüllt, gutartiges Wettrennen
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private DateWindow(
+            int startYear,
+            PlainDate[] dates
+        ) {
+            super();
+
+            this.startYear = startYear;
+            this.dates = dates;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        static DateWindow ofCurrentYear() {
+
+            return around(currentYear());
+
+        }
+
+        static DateWindow around(int year) {
+
+            return new DateWindow(year - 1, new PlainDate[YEARS * SLOTS_PER_YEAR]);
+
+        }
+
+        static int currentYear() {
+
+            long mjd = Math.floorDiv(System.currentTimeMillis(), 86400 * 1000L) + 40587;
+            return GregorianMath.readYear(GregorianMath.toPackedDate(mjd));
+
+        }
+
+        DateWindow moveTo(int newStartYear) {
+
+            PlainDate[] moved = new PlainDate[YEARS * SLOTS_PER_YEAR];
+            int shift = newStartYear - this.startYear;
+
+            // überlappende Jahre übernehmen
+            if (shift > 0 && shift < YEARS) {
+                System.arraycopy(this.dates, shift * SLOTS_PER_YEAR, moved, 0, (YEARS - shift) * SLOTS_PER_YEAR);
+            } else if (shift < 0 && -shift < YEARS) {
+                System.arraycopy(this.dates, 0, moved, -shift * SLOTS_PER_YEAR, (YEARS + shift) * SLOTS_PER_YEAR);
+            }
+
+            return new DateWindow(newStartYear, moved);
+
+        }
+
+        PlainDate get(
+            int delta,
+            int year,
+            int month,
+            int dayOfMonth
+        ) {
+
+            int index = delta * SLOTS_PER_YEAR + (month - 1) * 31 + dayOfMonth - 1;
+            PlainDate date = this.dates[index];
+
+            if (date == null) {
+                date = new PlainDate(year, month, dayOfMonth);
+                this.dates[index] = date;
+            }
+
+            return date;
+
+        }
+
+    }
+
     private static class Merger
         implements ChronoMerger<PlainDate> {
 
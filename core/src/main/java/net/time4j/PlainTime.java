@@ -161,6 +161,11 @@ public final class PlainTime
         : ',' // Empfehlung des ISO-Standards
     );
 
+    /**
+     * System-Property zum Abschalten der Puffer f&uuml;r h&auml;ufig verwendete Datums- und Uhrzeitwerte.
+     */
+    static final boolean CACHE_ENABLED = !Boolean.getBoolean("net.time4j.cache.disabled");
+
     private static final int MRD = 1000000000;
     private static final int MIO = 1000000;
     private static final int KILO = 1000;
@@ -177,6 +182,7 @@ public final class PlainTime
         new BigDecimal("59.999999999999999");
 
     private static final PlainTime[] HOURS = new PlainTime[25];
+    private static final PlainTime[] MINUTES = new PlainTime[24 * 60]; // verzögert gefüllt
     private static final long serialVersionUID = 2780881537313863339L;
 
     static {
@@ -1181,7 +1187,13 @@ public final class PlainTime
             return PlainTime.of(hour);
         }
 
-        return new PlainTime(hour, minute, 0, 0, true);
+        checkMinute(minute);
+
+        if ((hour < 0) || (hour > 23)) {
+            return new PlainTime(hour, minute, 0, 0, true); // Fehlermeldung im Konstruktor
+        }
+
+        return ofMinute(hour, minute);
 
     }
 
@@ -1211,8 +1223,8 @@ public final class PlainTime
         int second
     ) {
 
-        if ((minute | second) == 0) {
-            return PlainTime.of(hour);
+        if (second == 0) {
+            return PlainTime.of(hour, minute);
         }
 
         return new PlainTime(hour, minute, second, 0, true);
@@ -1803,11 +1815,13 @@ public final class PlainTime
         boolean validating
     ) {
 
-        if ((minute | second | nanosecond) == 0) {
+        if ((second | nanosecond) == 0) {
             if (validating) {
-                return PlainTime.of(hour);
-            } else {
+                return PlainTime.of(hour, minute);
+            } else if (minute == 0) {
                 return HOURS[hour];
+            } else {
+                return ofMinute(hour, minute);
             }
         }
 
@@ -1815,6 +1829,29 @@ public final class PlainTime
 
     }
 
+    // Vorbedingung: 0 <= hour <= 23, 0 <= minute <= 59
+    private static PlainTime ofMinute(
+        int hour,
+        int minute
+    ) {
+
+        if (!CACHE_ENABLED) {
+            return new PlainTime(hour, minute, 0, 0, false);
+        }
+
+        // gutartiges Wettrennen, weil PlainTime unveränderlich ist (final-Felder)
+        int index = hour * 60 + minute;
+        PlainTime time = MINUTES[index];
+
+        if (time == null) {
+            time = new PlainTime(hour, minute, 0, 0, false);
+            MINUTES[index] = time;
+        }
+
+        return time;
+
+    }
+
     private static void fill(
         Map<String, Object> map,
         ChronoElement<?> element
@@ -36,15 +36,13 @@ import net.time4j.tz.TZID;
 import net.time4j.tz.Timezone;
 import net.time4j.tz.ZonalOffset;
 
-import java.text.MessageFormat;
+import java.io.IOException;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.TemporalAmount;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -564,6 +562,47 @@ public final class PrettyTime {
         TextWidth width
     ) {
 
+        StringBuilder sb = new StringBuilder();
+
+        try {
+            this.printToBuffer(amount, unit, width, sb);
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe); // cannot happen
+        }
+
+        return sb.toString();
+
+    }
+
+    /**
+     * <p>Formats given duration in calendar units and writes the text into given buffer. </p>
+     *
+     * @param   amount  count of units (quantity)
+     * @param   unit    calendar unit
+     * @param   width   text width (ABBREVIATED as synonym for SHORT)
+     * @param   buffer  format buffer
+     * @throws  IOException if writing to the buffer fails
+     * @since   4.18
+     * @see     #print(long, CalendarUnit, TextWidth)
+     */
+    /*[deutsch]
+     * <p>Formatiert die angegebene Dauer in kalendarischen Zeiteinheiten und schreibt den Text in den angegebenen Puffer. </p>
+     *
+     * @param   amount  Anzahl der Einheiten
+     * @param   unit    kalendarische Zeiteinheit
+     * @param   width   text width (ABBREVIATED as synonym for SHORT)
+     * @param   buffer  format buffer
+     * @throws  IOException if writing to the buffer fails
+     * @since   4.18
+     * @see     #print(long, CalendarUnit, TextWidth)
+     */
+    public void printToBuffer(
+        long amount,
+        CalendarUnit unit,
+        TextWidth width,
+        Appendable buffer
+    ) throws IOException {
+
         UnitPatterns p = UnitPatterns.of(this.locale);
         CalendarUnit u;
 
@@ -605,8 +644,8 @@ public final class PrettyTime {
                 throw new UnsupportedOperationException(unit.name());
         }
 
-        String pattern = p.getPattern(width, this.getCategory(amount), u);
-        return this.format(pattern, amount);
+        PatternTemplate pattern = p.getTemplate(width, this.getCategory(amount), u);
+        this.format(pattern, amount, buffer);
 
     }
 
@@ -636,8 +675,49 @@ public final class PrettyTime {
         TextWidth width
     ) {
 
-        String pattern = UnitPatterns.of(this.locale).getPattern(width, this.getCategory(amount), unit);
-        return this.format(pattern, amount);
+        StringBuilder sb = new StringBuilder();
+
+        try {
+            this.printToBuffer(amount, unit, width, sb);
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe); // cannot happen
+        }
+
+        return sb.toString();
+
+    }
+
+    /**
+     * <p>Formats given duration in clock units and writes the text into given buffer. </p>
+     *
+     * @param   amount  count of units (quantity)
+     * @param   unit    clock unit
+     * @param   width   text width (ABBREVIATED as synonym for SHORT)
+     * @param   buffer  format buffer
+     * @throws  IOException if writing to the buffer fails
+     * @since   4.18
+     * @see     #print(long, ClockUnit, TextWidth)
+     */
+    /*[deutsch]
+     * <p>Formatiert die angegebene Dauer in Uhrzeiteinheiten und schreibt den Text in den angegebenen Puffer. </p>
+     *
+     * @param   amount  Anzahl der Einheiten
+     * @param   unit    Uhrzeiteinheit
+     * @param   width   text width (ABBREVIATED as synonym for SHORT)
+     * @param   buffer  format buffer
+     * @throws  IOException if writing to the buffer fails
+     * @since   4.18
+     * @see     #print(long, ClockUnit, TextWidth)
+     */
+    public void printToBuffer(
+        long amount,
+        ClockUnit unit,
+        TextWidth width,
+        Appendable buffer
+    ) throws IOException {
+
+        PatternTemplate pattern = UnitPatterns.of(this.locale).getTemplate(width, this.getCategory(amount), unit);
+        this.format(pattern, amount, buffer);
 
     }
 
@@ -830,6 +910,63 @@ public final class PrettyTime {
         int maxLength
     ) {
 
+        StringBuilder sb = new StringBuilder();
+
+        try {
+            this.printToBuffer(duration, width, printZero, maxLength, sb);
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe); // cannot happen
+        }
+
+        return sb.toString();
+
+    }
+
+    /**
+     * <p>Formats given duration and writes the text into given buffer. </p>
+     *
+     * <p>Like {@link #print(Duration, TextWidth, boolean, int)}, but avoids
+     * any intermediate strings. The list pattern of the locale is compiled
+     * only once and the single duration items are directly written into
+     * given buffer. </p>
+     *
+     * @param   duration    object representing a duration which might contain
+     *                      several units and quantities
+     * @param   width       text width (ABBREVIATED as synonym for SHORT)
+     * @param   printZero   determines if zero amounts shall be printed, too
+     * @param   maxLength   maximum count of displayed items
+     * @param   buffer      format buffer
+     * @throws  IllegalArgumentException if maxLength is smaller than {@code 1}
+     * @throws  IOException if writing to the buffer fails
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Formatiert die angegebene Dauer und schreibt den Text in den
+     * angegebenen Puffer. </p>
+     *
+     * <p>Wie {@link #print(Duration, TextWidth, boolean, int)}, aber ohne
+     * Zwischenzeichenketten. Das Listenmuster der Sprache wird nur einmal
+     * kompiliert, und die einzelnen Dauerelemente werden direkt in den
+     * angegebenen Puffer geschrieben. </p>
+     *
+     * @param   duration    object representing a duration which might contain
+     *                      several units and quantities
+     * @param   width       text width (ABBREVIATED as synonym for SHORT)
+     * @param   printZero   determines if zero amounts shall be printed, too
+     * @param   maxLength   maximum count of displayed items
+     * @param   buffer      format buffer
+     * @throws  IllegalArgumentException if maxLength is smaller than {@code 1}
+     * @throws  IOException if writing to the buffer fails
+     * @since   4.18
+     */
+    public void printToBuffer(
+        Duration<?> duration,
+        TextWidth width,
+        boolean printZero,
+        int maxLength,
+        Appendable buffer
+    ) throws IOException {
+
         if (maxLength < 1) {
             throw new IllegalArgumentException(
                 "Max length is invalid: " + maxLength);
@@ -839,11 +976,12 @@ public final class PrettyTime {
         if (duration.isEmpty()) {
             if (this.emptyUnit.isCalendrical()) {
                 CalendarUnit unit = CalendarUnit.class.cast(this.emptyUnit);
-                return this.print(0, unit, width);
+                this.printToBuffer(0, unit, width, buffer);
             } else {
                 ClockUnit unit = ClockUnit.class.cast(this.emptyUnit);
-                return this.print(0, unit, width);
+                this.printToBuffer(0, unit, width, buffer);
             }
+            return;
         }
 
         // fill values-array from duration
@@ -851,8 +989,9 @@ public final class PrettyTime {
         long[] values = new long[8];
         pushDuration(values, duration, this.refClock, this.weekToDays);
 
-        // format duration items
-        List<Object> parts = new ArrayList<>();
+        // select duration items
+        long[] amounts = new long[values.length];
+        IsoUnit[] units = new IsoUnit[values.length];
         int count = 0;
 
         for (int i = 0; i < values.length; i++) {
@@ -861,8 +1000,8 @@ public final class PrettyTime {
                 && (!this.weekToDays || (i != 2))
                 && ((printZero && (count > 0)) || (values[i] > 0))
             ) {
-                IsoUnit unit = ((i == 7) ? NANOS : STD_UNITS[i]);
-                parts.add(this.format(values[i], unit, negative, width));
+                amounts[count] = values[i];
+                units[count] = ((i == 7) ? NANOS : STD_UNITS[i]);
                 count++;
             }
         }
@@ -872,13 +1011,15 @@ public final class PrettyTime {
 
         // special case of only one item
         if (count == 1) {
-            return parts.get(0).toString();
+            this.format(amounts[0], units[0], negative, width, buffer);
+            return;
         }
 
         // multiple items >= 2
-        return MessageFormat.format(
-            UnitPatterns.of(this.locale).getListPattern(width, count),
-            parts.toArray(new Object[count]));
+        UnitPatterns.of(this.locale).getListTemplate(width, count).print(
+            buffer,
+            (index, buf) -> this.format(amounts[index], units[index], negative, width, buf),
+            count);
 
     }
 
@@ -1153,6 +1294,40 @@ public final class PrettyTime {
 
     }
 
+    /**
+     * <p>Creates a renderer for relative times which memoizes the output and
+     * can determine when the output of a time point will change. </p>
+     *
+     * <p>The renderer yields the same output as {@link #printRelative(UnixTime, Timezone, TimeUnit)}
+     * and should be kept for repeated use because its memoized texts are bound to the instance. </p>
+     *
+     * @param   tz          time zone for translating to a local duration
+     * @param   precision   maximum precision of relative time (not more than seconds)
+     * @return  new renderer for relative times
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen Formatierer f&uuml;r relative Zeitangaben, der sich die Ausgaben
+     * merkt und bestimmen kann, wann sich die Ausgabe eines Zeitpunkts &auml;ndern wird. </p>
+     *
+     * <p>Der Formatierer liefert dieselbe Ausgabe wie {@link #printRelative(UnixTime, Timezone, TimeUnit)}
+     * und sollte f&uuml;r die wiederholte Verwendung aufbewahrt werden, weil die gemerkten Texte an die
+     * Instanz gebunden sind. </p>
+     *
+     * @param   tz          time zone for translating to a local duration
+     * @param   precision   maximum precision of relative time (not more than seconds)
+     * @return  new renderer for relative times
+     * @since   4.18
+     */
+    public RelativeTimeRenderer createRelativeRenderer(
+        Timezone tz,
+        TimeUnit precision
+    ) {
+
+        return new RelativeTimeRenderer(this, tz, precision);
+
+    }
+
     /**
      * <p>Formats given time point relative to the current time of {@link #getReferenceClock()}
      * as duration in given precision or as absolute date-time. </p>
@@ -1311,23 +1486,9 @@ public final class PrettyTime {
 
         if (Double.compare(unit.getLength(), maxRelativeUnit.getLength()) > 0) {
             return formatter.format(date);
-        } else if (
-            (amount == 1L)
-            && unit.equals(CalendarUnit.DAYS)
-        ) {
-            UnitPatterns patterns = UnitPatterns.of(this.locale);
-            String replacement = (duration.isNegative() ? patterns.getYesterdayWord() : patterns.getTomorrowWord());
-
-            if (!replacement.isEmpty()) {
-                return replacement;
-            }
         }
 
-        String pattern = (
-            duration.isNegative()
-            ? this.getPastPattern(amount, unit)
-            : this.getFuturePattern(amount, unit));
-        return this.format(pattern, amount);
+        return this.printRelative(amount, unit, !duration.isNegative());
 
     }
 
@@ -1343,12 +1504,7 @@ public final class PrettyTime {
         if (delta == 0) {
             return UnitPatterns.of(this.locale).getNowWord();
         }
-        long amount = Math.abs(delta);
-        String pattern = (
-            (delta < 0)
-            ? this.getPastPattern(amount, ClockUnit.SECONDS)
-            : this.getFuturePattern(amount, ClockUnit.SECONDS));
-        return this.format(pattern, amount);
+        return this.printRelative(Math.abs(delta), ClockUnit.SECONDS, (delta > 0));
 
     }
 
@@ -1370,8 +1526,7 @@ public final class PrettyTime {
                 moment,
                 tz.getOffset(moment));
 
-        IsoUnit[] units = (this.weekToDays ? TSP_UNITS : STD_UNITS);
-        Duration<IsoUnit> duration = Duration.in(tz, units).between(start, end);
+        Duration<IsoUnit> duration = Duration.in(tz, this.getRelativeUnits()).between(start, end);
 
         if (duration.isEmpty()) {
             return this.getEmptyRelativeString(precision);
@@ -1390,31 +1545,51 @@ public final class PrettyTime {
             && (Double.compare(unit.getLength(), maxRelativeUnit.getLength()) > 0)
         ) {
             return formatter.format(moment);
-        } else if (
+        }
+
+        return this.printRelative(amount, unit, !duration.isNegative());
+
+    }
+
+    /**
+     * <p>Formats given positive amount of given unit as relative time. </p>
+     *
+     * @param   amount  positive count of units
+     * @param   unit    calendar unit or clock unit not smaller than seconds
+     * @param   future  relative time in future or past?
+     * @return  formatted output, possibly a replacement word like &quot;yesterday&quot;
+     */
+    String printRelative(
+        long amount,
+        IsoUnit unit,
+        boolean future
+    ) {
+
+        if (
             (amount == 1L)
             && unit.equals(CalendarUnit.DAYS)
         ) {
             UnitPatterns patterns = UnitPatterns.of(this.locale);
-            String replacement = (duration.isNegative() ? patterns.getYesterdayWord() : patterns.getTomorrowWord());
+            String replacement = (future ? patterns.getTomorrowWord() : patterns.getYesterdayWord());
 
             if (!replacement.isEmpty()) {
                 return replacement;
             }
         }
 
-        String pattern;
+        PatternTemplate pattern;
 
-        if (duration.isNegative()) {
+        if (future) {
             if (unit.isCalendrical()) {
-                pattern = this.getPastPattern(amount, (CalendarUnit) unit);
+                pattern = this.getFuturePattern(amount, (CalendarUnit) unit);
             } else {
-                pattern = this.getPastPattern(amount, (ClockUnit) unit);
+                pattern = this.getFuturePattern(amount, (ClockUnit) unit);
             }
         } else {
             if (unit.isCalendrical()) {
-                pattern = this.getFuturePattern(amount, (CalendarUnit) unit);
+                pattern = this.getPastPattern(amount, (CalendarUnit) unit);
             } else {
-                pattern = this.getFuturePattern(amount, (ClockUnit) unit);
+                pattern = this.getPastPattern(amount, (ClockUnit) unit);
             }
         }
 
@@ -1422,7 +1597,24 @@ public final class PrettyTime {
 
     }
 
-    private String getEmptyRelativeString(TimeUnit precision) {
+    /**
+     * <p>Yields the units used for the local duration of relative times. </p>
+     *
+     * @return  units in descending order (not to be modified)
+     */
+    IsoUnit[] getRelativeUnits() {
+
+        return (this.weekToDays ? TSP_UNITS : STD_UNITS);
+
+    }
+
+    /**
+     * <p>Yields the text for an empty relative time like &quot;now&quot;. </p>
+     *
+     * @param   precision   maximum precision of relative time
+     * @return  replacement word
+     */
+    String getEmptyRelativeString(TimeUnit precision) {
 
         UnitPatterns patterns = UnitPatterns.of(this.locale);
 
@@ -1438,47 +1630,47 @@ public final class PrettyTime {
 
     }
 
-    private String getPastPattern(
+    private PatternTemplate getPastPattern(
         long amount,
         CalendarUnit unit
     ) {
 
         UnitPatterns patterns = UnitPatterns.of(this.locale);
         PluralCategory category = this.getCategory(amount);
-        return patterns.getPatternInPast(category, this.shortStyle, unit);
+        return patterns.getTemplateInPast(category, this.shortStyle, unit);
 
     }
 
-    private String getFuturePattern(
+    private PatternTemplate getFuturePattern(
         long amount,
         CalendarUnit unit
     ) {
 
         UnitPatterns patterns = UnitPatterns.of(this.locale);
         PluralCategory category = this.getCategory(amount);
-        return patterns.getPatternInFuture(category, this.shortStyle, unit);
+        return patterns.getTemplateInFuture(category, this.shortStyle, unit);
 
     }
 
-    private String getPastPattern(
+    private PatternTemplate getPastPattern(
         long amount,
         ClockUnit unit
     ) {
 
         UnitPatterns patterns = UnitPatterns.of(this.locale);
         PluralCategory category = this.getCategory(amount);
-        return patterns.getPatternInPast(category, this.shortStyle, unit);
+        return patterns.getTemplateInPast(category, this.shortStyle, unit);
 
     }
 
-    private String getFuturePattern(
+    private PatternTemplate getFuturePattern(
         long amount,
         ClockUnit unit
     ) {
 
         UnitPatterns patterns = UnitPatterns.of(this.locale);
         PluralCategory category = this.getCategory(amount);
-        return patterns.getPatternInFuture(category, this.shortStyle, unit);
+        return patterns.getTemplateInFuture(category, this.shortStyle, unit);
 
     }
 
@@ -1615,12 +1807,13 @@ public final class PrettyTime {
 
     }
 
-    private String format(
+    private void format(
         long amount,
         IsoUnit unit,
         boolean negative,
-        TextWidth width
-    ) {
+        TextWidth width,
+        Appendable buffer
+    ) throws IOException {
 
         long value = amount;
 
@@ -1631,7 +1824,7 @@ public final class PrettyTime {
         if (SUPPORTED_UNITS.contains(unit)) {
             if (unit.isCalendrical()) {
                 CalendarUnit u = CalendarUnit.class.cast(unit);
-                return this.print(value, u, width);
+                this.printToBuffer(value, u, width, buffer);
             } else {
                 ClockUnit u = ClockUnit.class.cast(unit);
                 if (u == NANOS) {
@@ -1643,8 +1836,9 @@ public final class PrettyTime {
                         value = value / 1000;
                     }
                 }
-                return this.print(value, u, width);
+                this.printToBuffer(value, u, width, buffer);
             }
+            return;
         }
 
         throw new UnsupportedOperationException("Unknown unit: " + unit);
@@ -1652,50 +1846,62 @@ public final class PrettyTime {
     }
 
     private String format(
-        String pattern,
+        PatternTemplate pattern,
         long amount
     ) {
 
-        for (int i = 0, n = pattern.length(); i < n; i++) {
-            if (
-                (i < n - 2)
-                && (pattern.charAt(i) == '{')
-                && (pattern.charAt(i + 1) == '0')
-                && (pattern.charAt(i + 2) == '}')
-            ) {
-                StringBuilder sb = new StringBuilder(pattern);
-                sb.replace(i, i + 3, this.format(amount));
-                return sb.toString();
-            }
-        }
+        StringBuilder sb = new StringBuilder();
 
-        if (amount < 0) {
-            return this.minusSign + pattern;
+        try {
+            this.format(pattern, amount, sb);
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe); // cannot happen
         }
 
-        return pattern;
+        return sb.toString();
 
     }
 
-    private String format(long amount) {
+    private void format(
+        PatternTemplate pattern,
+        long amount,
+        Appendable buffer
+    ) throws IOException {
 
-        String num = String.valueOf(Math.abs(amount));
-        char zero = this.zeroDigit;
-        StringBuilder sb = new StringBuilder();
+        if (pattern.hasArguments()) {
+            pattern.print(buffer, (index, buf) -> this.format(amount, buf), 1);
+        } else {
+            if (amount < 0) {
+                buffer.append(this.minusSign);
+            }
+            buffer.append(pattern.getPattern());
+        }
+
+    }
+
+    private void format(
+        long amount,
+        Appendable buffer
+    ) throws IOException {
 
         if (amount < 0) {
-            sb.append(this.minusSign);
+            buffer.append(this.minusSign);
         }
 
-        for (int i = 0, n = num.length(); i < n; i++) {
-            char c = num.charAt(i);
-            if (zero != '0') {
-                c = (char) (c + zero - '0');
-            }
-            sb.append(c);
-        }
+        // Ziffern rückwärts sammeln, negativ gerechnet wegen Long.MIN_VALUE
+        char[] digits = new char[19];
+        int pos = digits.length;
+        long v = ((amount > 0) ? -amount : amount);
+        char zero = this.zeroDigit;
 
-        return sb.toString();
+        do {
+            digits[--pos] = (char) (zero - (v % 10));
+            v /= 10;
+        } while (v != 0);
+
+        while (pos < digits.length) {
+            buffer.append(digits[pos++]);
+        }
 
     }
 
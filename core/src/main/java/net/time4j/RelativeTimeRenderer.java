@@ -0,0 +1,463 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (RelativeTimeRenderer.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import net.time4j.base.UnixTime;
+import net.time4j.engine.TimeSpan;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Renders relative times like {@link PrettyTime#printRelative(UnixTime, Timezone, TimeUnit)}
+ * but memoizes the texts and can tell when a text will change. </p>
+ *
+ * <p>The output of a relative time only depends on the leading unit, its amount and the
+ * direction (past or future). Instances of this class therefore store every rendered text
+ * under this key so plural rules and patterns are only evaluated once. Furthermore, the
+ * method {@link #getNextChange(UnixTime, UnixTime)} yields the time bucket boundary at
+ * which the text of a given time point will change so applications rendering many
+ * timestamps can schedule refreshes instead of periodically rendering again. Example: </p>
+ *
+ * <pre>
+ *  RelativeTimeRenderer renderer =
+ *      PrettyTime.of(Locale.ENGLISH).createRelativeRenderer(Timezone.ofSystem(), TimeUnit.SECONDS);
+ *  Moment now = SystemClock.currentMoment();
+ *  Moment posted = now.minus(65, TimeUnit.MINUTES);
+ *  System.out.println(renderer.print(posted, now)); // 1 hour ago
+ *  System.out.println(renderer.getNextChange(posted, now)); // posted + 2 hours
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @see     PrettyTime#createRelativeRenderer(Timezone, TimeUnit)
+ * @doctags.concurrency {threadsafe}
+ */
+/*[deutsch]
+ * <p>Formatiert relative Zeitangaben wie {@link PrettyTime#printRelative(UnixTime, Timezone, TimeUnit)},
+ * merkt sich aber die Texte und kann angeben, wann sich ein Text &auml;ndern wird. </p>
+ *
+ * <p>Die Ausgabe einer relativen Zeitangabe h&auml;ngt nur von der f&uuml;hrenden Zeiteinheit,
+ * ihrem Betrag und der Richtung (Vergangenheit oder Zukunft) ab. Instanzen dieser Klasse speichern
+ * deshalb jeden formatierten Text unter diesem Schl&uuml;ssel, so da&szlig; Pluralregeln und
+ * Muster nur einmal ausgewertet werden. Au&szlig;erdem liefert die Methode
+ * {@link #getNextChange(UnixTime, UnixTime)} die Grenze des Zeitintervalls, an der sich der Text
+ * eines Zeitpunkts &auml;ndern wird, so da&szlig; Anwendungen, die viele Zeitstempel formatieren,
+ * Aktualisierungen planen k&ouml;nnen, statt periodisch neu zu formatieren. Beispiel: </p>
+ *
+ * <pre>
+ *  RelativeTimeRenderer renderer =
+ *      PrettyTime.of(Locale.ENGLISH).createRelativeRenderer(Timezone.ofSystem(), TimeUnit.SECONDS);
+ *  Moment now = SystemClock.currentMoment();
+ *  Moment posted = now.minus(65, TimeUnit.MINUTES);
+ *  System.out.println(renderer.print(posted, now)); // 1 hour ago
+ *  System.out.println(renderer.getNextChange(posted, now)); // posted + 2 hours
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @see     PrettyTime#createRelativeRenderer(Timezone, TimeUnit)
+ * @doctags.concurrency {threadsafe}
+ */
+public final class RelativeTimeRenderer {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final long START_1972 = 2 * 365 * 86400L;
+
+    // Kodierung eines Zeitintervalls: Betrag, Index der Einheit und Richtung
+    private static final int UNIT_BITS = 3;
+    private static final long EMPTY = -1L;
+
+    // nur kleine Beträge werden zwischengespeichert
+    private static final int MAX_CACHED_AMOUNT = 64;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final PrettyTime pretty;
+    private final Timezone tz;
+    private final TimeUnit precision;
+    private final IsoUnit[] units;
+    private final String[] texts; // verzögert gefüllt
+    private volatile String emptyText;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    RelativeTimeRenderer(
+        PrettyTime pretty,
+        Timezone tz,
+        TimeUnit precision
+    ) {
+        super();
+
+        if (tz == null) {
+            throw new NullPointerException("Missing timezone.");
+        } else if (precision == null) {
+            throw new NullPointerException("Missing precision.");
+        }
+
+        this.pretty = pretty;
+        this.tz = tz;
+        this.precision = precision;
+        this.units = pretty.getRelativeUnits();
+        this.texts = new String[this.units.length * 2 * MAX_CACHED_AMOUNT];
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Formats given time point relative to the current time of the reference clock
+     * of the underlying {@code PrettyTime}-instance. </p>
+     *
+     * @param   moment      relative time point
+     * @return  formatted output of relative time, either in past or in future
+     * @see     PrettyTime#getReferenceClock()
+     */
+    /*[deutsch]
+     * <p>Formatiert den angegebenen Zeitpunkt relativ zur aktuellen Zeit der Referenzuhr
+     * der zugrundeliegenden {@code PrettyTime}-Instanz. </p>
+     *
+     * @param   moment      relative time point
+     * @return  formatted output of relative time, either in past or in future
+     * @see     PrettyTime#getReferenceClock()
+     */
+    public String print(UnixTime moment) {
+
+        return this.print(moment, this.pretty.getReferenceClock().currentTime());
+
+    }
+
+    /**
+     * <p>Formats given time point relative to given reference time. </p>
+     *
+     * <p>Applications rendering many time points at once should query the clock
+     * only once and use this method for every time point. </p>
+     *
+     * @param   moment      relative time point
+     * @param   reference   reference time (usually the current time)
+     * @return  formatted output of relative time, either in past or in future
+     */
+    /*[deutsch]
+     * <p>Formatiert den angegebenen Zeitpunkt relativ zur angegebenen Referenzzeit. </p>
+     *
+     * <p>Anwendungen, die viele Zeitpunkte auf einmal formatieren, sollten die Uhr nur
+     * einmal abfragen und diese Methode f&uuml;r jeden Zeitpunkt verwenden. </p>
+     *
+     * @param   moment      relative time point
+     * @param   reference   reference time (usually the current time)
+     * @return  formatted output of relative time, either in past or in future
+     */
+    public String print(
+        UnixTime moment,
+        UnixTime reference
+    ) {
+
+        long bucket = this.getBucket(Moment.from(reference), Moment.from(moment));
+
+        if (bucket == EMPTY) {
+            String text = this.emptyText;
+            if (text == null) {
+                text = this.pretty.getEmptyRelativeString(this.precision);
+                this.emptyText = text;
+            }
+            return text;
+        }
+
+        long amount = (bucket >>> (UNIT_BITS + 1));
+        int index = (int) ((bucket >>> 1) & ((1 << UNIT_BITS) - 1));
+        boolean future = ((bucket & 1) == 1);
+
+        if (amount >= MAX_CACHED_AMOUNT) {
+            return this.pretty.printRelative(amount, this.units[index], future);
+        }
+
+        // gutartiges Wettrennen, weil String unveränderlich ist
+        int slot = (index * 2 + (future ? 1 : 0)) * MAX_CACHED_AMOUNT + (int) amount;
+        String text = this.texts[slot];
+
+        if (text == null) {
+            text = this.pretty.printRelative(amount, this.units[index], future);
+            this.texts[slot] = text;
+        }
+
+        return text;
+
+    }
+
+    /**
+     * <p>Determines the next time at which the text of given time point relative
+     * to given reference time will change. </p>
+     *
+     * <p>The text of {@link #print(UnixTime, UnixTime) print(moment, t)} stays the same
+     * for all reference times {@code t} with {@code reference <= t < nextChange}. The
+     * result is always after the reference time and might be slightly earlier than the
+     * real change in rare cases of month arithmetic or offset transitions. </p>
+     *
+     * @param   moment      relative time point
+     * @param   reference   reference time (usually the current time)
+     * @return  next time when the relative time text will change
+     */
+    /*[deutsch]
+     * <p>Bestimmt den n&auml;chsten Zeitpunkt, an dem sich der Text des angegebenen
+     * Zeitpunkts relativ zur angegebenen Referenzzeit &auml;ndern wird. </p>
+     *
+     * <p>Der Text von {@link #print(UnixTime, UnixTime) print(moment, t)} bleibt f&uuml;r
+     * alle Referenzzeiten {@code t} mit {@code reference <= t < nextChange} gleich. Das
+     * Ergebnis liegt immer nach der Referenzzeit und kann in seltenen F&auml;llen der
+     * Monatsarithmetik oder von Offset-Wechseln etwas vor der echten &Auml;nderung liegen. </p>
+     *
+     * @param   moment      relative time point
+     * @param   reference   reference time (usually the current time)
+     * @return  next time when the relative time text will change
+     */
+    public Moment getNextChange(
+        UnixTime moment,
+        UnixTime reference
+    ) {
+
+        Moment ref = Moment.from(reference);
+        Moment t = Moment.from(moment);
+        long bucket = this.getBucket(ref, t);
+        Moment next = this.getBoundary(t, bucket, ref);
+        TransitionHistory history = this.tz.getHistory();
+
+        if (history != null) {
+            ZonalTransition transition = history.findNextTransition(ref);
+            if ((transition != null) && this.isFolded(transition)) {
+                // die zonale Dauer deutet mehrdeutige lokale Zeiten vor dem Übergang mit dem neuen
+                // Offset: in [start, end) verhält sich die Referenzzeit wie (ref + shift)
+                long shift = -transition.getSize();
+                Moment end = Moment.of(transition.getPosixTime(), TimeScale.POSIX);
+                Moment start = Moment.of(transition.getPosixTime() - shift, TimeScale.POSIX);
+                if (ref.isBefore(start)) {
+                    if (next.isAfter(start)) {
+                        next = (
+                            (this.getBucket(start, t) == bucket)
+                            ? this.getFoldedBoundary(t, start, end, shift)
+                            : start);
+                    }
+                } else {
+                    next = this.getFoldedBoundary(t, ref, end, shift);
+                }
+            }
+        }
+
+        if (next.isAfter(ref)) {
+            return next;
+        }
+
+        // sollte nicht vorkommen: nur zur Sicherheit gegen Endlosschleifen in Anwendungen
+        return ref.plus(1, TimeUnit.SECONDS);
+
+    }
+
+    // nächste Grenze für eine Referenzzeit ohne mehrdeutige lokale Zeit
+    private Moment getBoundary(
+        Moment t,
+        long bucket,
+        Moment ref
+    ) {
+
+        if (bucket == EMPTY) {
+            return this.getEmptyEnd(t);
+        }
+
+        long amount = (bucket >>> (UNIT_BITS + 1));
+        int index = (int) ((bucket >>> 1) & ((1 << UNIT_BITS) - 1));
+        boolean future = ((bucket & 1) == 1);
+        IsoUnit unit = this.units[index];
+
+        // die zonale Dauer rechnet beide Zeitpunkte mit dem Offset des früheren Zeitpunkts
+        if (unit == ClockUnit.SECONDS) {
+            return (future ? plusSeconds(t, -amount).plus(1, TimeUnit.NANOSECONDS) : plusSeconds(t, amount + 1));
+        } else if (future) {
+            // Betrag sinkt, sobald der Abstand kleiner als amount Einheiten wird
+            ZonalOffset offset = this.tz.getOffset(ref);
+            Moment next = plus(t, -amount, unit, offset).plus(1, TimeUnit.NANOSECONDS);
+            ZonalOffset later = this.tz.getOffset(next);
+            if (!later.equals(offset)) {
+                // Offset-Wechsel bis zur Änderung: die frühere Grenze gilt
+                Moment alternative = plus(t, -amount, unit, later).plus(1, TimeUnit.NANOSECONDS);
+                if (alternative.isBefore(next)) {
+                    next = alternative;
+                }
+            }
+            return next;
+        } else {
+            // Betrag steigt oder die nächstgrößere Einheit wird erreicht
+            ZonalOffset offset = this.tz.getOffset(t);
+            Moment next = plus(t, amount + 1, unit, offset);
+            if (index > 0) {
+                Moment larger = plus(t, 1, this.units[index - 1], offset);
+                if (larger.isBefore(next)) {
+                    next = larger;
+                }
+            }
+            return next;
+        }
+
+    }
+
+    // nächste Grenze für eine Referenzzeit im mehrdeutigen Intervall [end - shift, end)
+    private Moment getFoldedBoundary(
+        Moment t,
+        Moment ref,
+        Moment end,
+        long shift
+    ) {
+
+        Moment next = this.getBoundary(t, this.getBucket(end, t), end);
+        Moment folded = next.minus(shift, TimeUnit.SECONDS);
+
+        if (!folded.isAfter(ref)) {
+            return end; // Text springt am Übergang zurück
+        } else if (folded.isBefore(end)) {
+            return folded;
+        }
+
+        return next;
+
+    }
+
+    // deutet die Zeitzonenstrategie mehrdeutige lokale Zeiten mit dem neuen Offset?
+    private boolean isFolded(ZonalTransition transition) {
+
+        if (transition.getSize() >= 0) {
+            return false;
+        }
+
+        PlainTimestamp tsp =
+            PlainTimestamp.from(
+                Moment.of(transition.getPosixTime() - 1, TimeScale.POSIX),
+                ZonalOffset.ofTotalSeconds(transition.getPreviousOffset()));
+        ZonalOffset offset = this.tz.getStrategy().getOffset(tsp.getCalendarDate(), tsp.getWallTime(), this.tz);
+        return (offset.getIntegralAmount() == transition.getTotalOffset());
+
+    }
+
+    // vgl. PrettyTime.printRelative(UnixTime, Timezone, TimeUnit)
+    private long getBucket(
+        Moment ref,
+        Moment moment
+    ) {
+
+        if (this.precision.compareTo(TimeUnit.SECONDS) <= 0) {
+            long delta = ref.until(moment, TimeUnit.SECONDS);
+
+            if (Math.abs(delta) < 60L) {
+                if ((ref.getPosixTime() >= START_1972) && (moment.getPosixTime() >= START_1972)) {
+                    delta = SI.SECONDS.between(ref, moment); // leap second correction
+                }
+                if (delta == 0) {
+                    return EMPTY;
+                }
+                return encode(Math.abs(delta), this.units.length - 1, (delta > 0));
+            }
+        }
+
+        PlainTimestamp start = PlainTimestamp.from(ref, this.tz.getOffset(ref));
+        PlainTimestamp end = PlainTimestamp.from(moment, this.tz.getOffset(moment));
+        Duration<IsoUnit> duration = Duration.in(this.tz, this.units).between(start, end);
+
+        if (duration.isEmpty()) {
+            return EMPTY;
+        }
+
+        TimeSpan.Item<IsoUnit> item = duration.getTotalLength().get(0);
+        IsoUnit unit = item.getUnit();
+
+        if (
+            (unit instanceof ClockUnit)
+            && (5 - ((ClockUnit) unit).ordinal() < this.precision.ordinal())
+        ) {
+            return EMPTY;
+        }
+
+        int index = 0;
+
+        while (this.units[index] != unit) {
+            index++;
+        }
+
+        return encode(item.getAmount(), index, !duration.isNegative());
+
+    }
+
+    // Ende des Intervalls um den Zeitpunkt herum, in dem nur "jetzt" oder "heute" angezeigt wird
+    private Moment getEmptyEnd(Moment moment) {
+
+        ZonalOffset offset = this.tz.getOffset(moment);
+
+        switch (this.precision) {
+            case DAYS:
+                return plus(moment, 1, CalendarUnit.DAYS, offset);
+            case HOURS:
+                return plus(moment, 1, ClockUnit.HOURS, offset);
+            case MINUTES:
+                return plus(moment, 1, ClockUnit.MINUTES, offset);
+            default:
+                return plusSeconds(moment, 1);
+        }
+
+    }
+
+    private static Moment plus(
+        Moment moment,
+        long amount,
+        IsoUnit unit,
+        ZonalOffset offset
+    ) {
+
+        return PlainTimestamp.from(moment, offset).plus(amount, unit).at(offset);
+
+    }
+
+    private static Moment plusSeconds(
+        Moment moment,
+        long amount
+    ) {
+
+        if (Math.min(moment.getPosixTime(), moment.getPosixTime() + amount) >= START_1972) {
+            return moment.plus(amount, SI.SECONDS);
+        }
+
+        return moment.plus(amount, TimeUnit.SECONDS);
+
+    }
+
+    private static long encode(
+        long amount,
+        int index,
+        boolean future
+    ) {
+
+        return ((amount << (UNIT_BITS + 1)) | (index << 1) | (future ? 1 : 0));
+
+    }
+
+}
@@ -196,16 +196,16 @@ final class SPX
 
         switch ((header & 0xFF) >> 4) {
             case DATE_TYPE:
-                this.obj = this.readDate(in, header);
+                this.obj = readDate(in, header);
                 break;
             case TIME_TYPE:
-                this.obj = this.readTime(in);
+                this.obj = readTime(in);
                 break;
             case WEEKMODEL_TYPE:
                 this.obj = this.readWeekmodel(in, header);
                 break;
             case MOMENT_TYPE:
-                this.obj = this.readMoment(in, header);
+                this.obj = readMoment(in, header);
                 break;
             case DURATION_TYPE:
                 this.obj = this.readDuration(in, header);
@@ -214,7 +214,7 @@ final class SPX
                 this.obj = this.readDayPeriod(in, header);
                 break;
             case TIMESTAMP_TYPE:
-                this.obj = this.readTimestamp(in, header);
+                this.obj = readTimestamp(in, header);
                 break;
             default:
                 throw new StreamCorruptedException("Unknown serialized type.");
@@ -232,14 +232,24 @@ final class SPX
         throws IOException {
 
         PlainDate date = (PlainDate) this.obj;
-        writeDate(date, DATE_TYPE, out);
+        writeDate(date, DATE_TYPE, out, false);
 
     }
 
-    private static void writeDate(
+    /**
+     * <p>Writes given date in bit-compressed form. </p>
+     *
+     * @param   date    calendar date to be written
+     * @param   type    type to be written into the header byte
+     * @param   out     output to be written into
+     * @param   fixed   always use the full year range in order to achieve a fixed length of 6 bytes?
+     * @throws  IOException in any case of IO-failures
+     */
+    static void writeDate(
         PlainDate date,
         int type,
-        DataOutput out
+        DataOutput out,
+        boolean fixed
     ) throws IOException {
 
         int year = date.getYear();
@@ -253,7 +263,9 @@ final class SPX
 
         int range;
 
-        if (year >= 1850 && year <= 2100) {
+        if (fixed) {
+            range = 3;
+        } else if (year >= 1850 && year <= 2100) {
             range = 1;
         } else if (Math.abs(year) < 10000) {
             range = 2;
@@ -281,7 +293,7 @@ final class SPX
 
     }
 
-    private PlainDate readDate(
+    static PlainDate readDate(
         DataInput in,
         byte header
     ) throws IOException {
@@ -315,16 +327,25 @@ final class SPX
 
         PlainTime time = (PlainTime) this.obj;
         out.writeByte(TIME_TYPE << 4);
-        writeTime(time, out);
+        writeTime(time, out, false);
 
     }
 
-    private static void writeTime(
+    /**
+     * <p>Writes given wall time in bit-compressed form without any header byte. </p>
+     *
+     * @param   time    wall time to be written
+     * @param   out     output to be written into
+     * @param   fixed   always write all fields in order to achieve a fixed length of 7 bytes?
+     * @throws  IOException in any case of IO-failures
+     */
+    static void writeTime(
         PlainTime time,
-        DataOutput out
+        DataOutput out,
+        boolean fixed
     ) throws IOException {
 
-        if (time.getNanosecond() == 0) {
+        if ((time.getNanosecond() == 0) && !fixed) {
             if (time.getSecond() == 0) {
                 if (time.getMinute() == 0) {
                     out.writeByte(~time.getHour());
@@ -346,7 +367,7 @@ final class SPX
 
     }
 
-    private PlainTime readTime(DataInput in)
+    static PlainTime readTime(DataInput in)
         throws IOException {
 
         int hour = in.readByte();
@@ -440,7 +461,7 @@ final class SPX
 
     }
 
-    private Object readMoment(
+    static Moment readMoment(
         DataInput in,
         byte header
     ) throws IOException {
@@ -459,15 +480,15 @@ final class SPX
         throws IOException {
 
         PlainTimestamp ts = (PlainTimestamp) this.obj;
-        writeDate(ts.getCalendarDate(), TIMESTAMP_TYPE, out);
-        writeTime(ts.getWallTime(), out);
+        writeDate(ts.getCalendarDate(), TIMESTAMP_TYPE, out, false);
+        writeTime(ts.getWallTime(), out, false);
 
     }
 
-    private Object readTimestamp(
+    static PlainTimestamp readTimestamp(
         DataInput in,
         byte header
-    ) throws IOException, ClassNotFoundException {
+    ) throws IOException {
 
         PlainDate date = readDate(in, header);
         PlainTime time = readTime(in);
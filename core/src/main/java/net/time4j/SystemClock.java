@@ -248,6 +248,44 @@ public final class SystemClock
 
     }
 
+    /**
+     * <p>Yields the current time in nanoseconds elapsed since
+     * UTC epoch [1972-01-01T00:00:00,000000000Z]. </p>
+     *
+     * <p>This method does not create any object and is suitable for
+     * high-frequency timestamping. The precision is limited to
+     * milliseconds if this clock is only based on
+     * {@link System#currentTimeMillis()}. </p>
+     *
+     * @return  count of nanoseconds since UTC epoch including leap seconds
+     * @see     #realTimeInMicros()
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Liefert die aktuelle seit [1972-01-01T00:00:00,000000000Z] verstrichene
+     * UTC-Zeit in Nanosekunden. </p>
+     *
+     * <p>Diese Methode erzeugt keine Objekte und eignet sich f&uuml;r
+     * hochfrequente Zeitstempel. Die Genauigkeit ist auf Millisekunden
+     * begrenzt, wenn diese Uhr nur auf {@link System#currentTimeMillis()}
+     * basiert. </p>
+     *
+     * @return  count of nanoseconds since UTC epoch including leap seconds
+     * @see     #realTimeInMicros()
+     * @since   4.18
+     */
+    public long realTimeInNanos() {
+
+        if (this.monotonic || MONOTON_MODE) {
+            return this.utcNanos();
+        } else {
+            long millis = System.currentTimeMillis();
+            long utc = LeapSeconds.getInstance().enhance(Math.floorDiv(millis, 1000));
+            return Math.multiplyExact(utc, MRD) + Math.floorMod(millis, 1000) * MIO;
+        }
+
+    }
+
     /**
      * <p>Creates a local clock in platform timezone. </p>
      *
@@ -0,0 +1,782 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (TemporalCodec.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import net.time4j.engine.TimeSpan;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * <p>Compact binary codec which writes and reads Time4J-objects directly
+ * into or from a {@code ByteBuffer} without any reflection or stream
+ * overhead. </p>
+ *
+ * <p>The standard form of {@link #write(Object, ByteBuffer)} is identical
+ * to the bit-compressed data written by the serialization proxy of the
+ * corresponding type. Hence a big-endian buffer yields exactly the same
+ * bytes which {@code ObjectOutputStream} writes in its block data for the
+ * same object. The fixed form of {@link #writeFixed(Object, ByteBuffer)}
+ * always has the same length in order to support random access in buffers
+ * with many encoded values. Both forms can be read by {@link #read(ByteBuffer)}. </p>
+ *
+ * <p>Example: </p>
+ *
+ * <pre>
+ *  PlainDate[] dates = ...;
+ *  ByteBuffer buffer = ByteBuffer.allocate(dates.length * TemporalCodec.DATE.getFixedLength());
+ *  TemporalCodec.DATE.writeAllFixed(dates, buffer);
+ *  buffer.flip();
+ *  PlainDate third = TemporalCodec.DATE.read(
+ *      (ByteBuffer) buffer.position(2 * TemporalCodec.DATE.getFixedLength()));
+ * </pre>
+ *
+ * <p>All singleton instances are defined as static constants and are
+ * <i>immutable</i>. </p>
+ *
+ * @param   <T> type of encoded Time4J-objects
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Kompakter Bin&auml;rcodec, der Time4J-Objekte direkt in einen oder aus
+ * einem {@code ByteBuffer} schreibt oder liest, ohne Reflexion oder den
+ * Aufwand von Datenstr&ouml;men. </p>
+ *
+ * <p>Die Standardform von {@link #write(Object, ByteBuffer)} ist identisch
+ * zu den bitkomprimierten Daten, die der Serialisierungs-Proxy des
+ * entsprechenden Typs schreibt. Deshalb ergibt ein Puffer mit der Bytefolge
+ * <i>big-endian</i> genau die gleichen Bytes, die {@code ObjectOutputStream}
+ * f&uuml;r das gleiche Objekt in seine Blockdaten schreibt. Die feste Form
+ * von {@link #writeFixed(Object, ByteBuffer)} hat immer die gleiche L&auml;nge,
+ * damit in Puffern mit vielen codierten Werten wahlfrei zugegriffen werden
+ * kann. Beide Formen k&ouml;nnen mit {@link #read(ByteBuffer)} gelesen
+ * werden. </p>
+ *
+ * <p>Beispiel: </p>
+ *
+ * <pre>
+ *  PlainDate[] dates = ...;
+ *  ByteBuffer buffer = ByteBuffer.allocate(dates.length * TemporalCodec.DATE.getFixedLength());
+ *  TemporalCodec.DATE.writeAllFixed(dates, buffer);
+ *  buffer.flip();
+ *  PlainDate third = TemporalCodec.DATE.read(
+ *      (ByteBuffer) buffer.position(2 * TemporalCodec.DATE.getFixedLength()));
+ * </pre>
+ *
+ * <p>Alle Singleton-Instanzen sind als statische Konstanten definiert und
+ * unver&auml;nderlich (<i>immutable</i>). </p>
+ *
+ * @param   <T> type of encoded Time4J-objects
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {immutable}
+ */
+public abstract class TemporalCodec<T> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int NO_FIXED_LENGTH = -1;
+
+    private static final CalendarUnit[] CALENDAR_UNITS = CalendarUnit.values();
+    private static final ClockUnit[] CLOCK_UNITS = ClockUnit.values();
+
+    /**
+     * <p>Codec for calendar dates. </p>
+     *
+     * <p>The standard form needs 3 bytes for the years 1850-2100, 4 bytes for
+     * years with up to four digits and 6 bytes otherwise. The fixed form
+     * has always 6 bytes. </p>
+     */
+    /*[deutsch]
+     * <p>Codec f&uuml;r Kalenderdaten. </p>
+     *
+     * <p>Die Standardform braucht 3 Bytes f&uuml;r die Jahre 1850-2100, 4 Bytes
+     * f&uuml;r Jahre mit bis zu vier Ziffern und sonst 6 Bytes. Die feste Form
+     * hat immer 6 Bytes. </p>
+     */
+    public static final TemporalCodec<PlainDate> DATE = new DateCodec();
+
+    /**
+     * <p>Codec for wall times. </p>
+     *
+     * <p>The standard form needs between 2 and 8 bytes depending on which
+     * time fields are zero. The fixed form has always 8 bytes. </p>
+     */
+    /*[deutsch]
+     * <p>Codec f&uuml;r Uhrzeiten. </p>
+     *
+     * <p>Die Standardform braucht abh&auml;ngig davon, welche Zeitfelder null
+     * sind, zwischen 2 und 8 Bytes. Die feste Form hat immer 8 Bytes. </p>
+     */
+    public static final TemporalCodec<PlainTime> TIME = new TimeCodec();
+
+    /**
+     * <p>Codec for local timestamps. </p>
+     *
+     * <p>The standard form needs between 4 and 13 bytes. The fixed form has
+     * always 13 bytes. </p>
+     */
+    /*[deutsch]
+     * <p>Codec f&uuml;r lokale Zeitstempel. </p>
+     *
+     * <p>Die Standardform braucht zwischen 4 und 13 Bytes. Die feste Form
+     * hat immer 13 Bytes. </p>
+     */
+    public static final TemporalCodec<PlainTimestamp> TIMESTAMP = new TimestampCodec();
+
+    /**
+     * <p>Codec for global timestamps including leap seconds. </p>
+     *
+     * <p>The standard form needs 9 bytes for full seconds and 13 bytes
+     * otherwise. The fixed form has always 13 bytes. </p>
+     */
+    /*[deutsch]
+     * <p>Codec f&uuml;r globale Zeitstempel einschlie&szlig;lich
+     * Schaltsekunden. </p>
+     *
+     * <p>Die Standardform braucht 9 Bytes f&uuml;r volle Sekunden und sonst
+     * 13 Bytes. Die feste Form hat immer 13 Bytes. </p>
+     */
+    public static final TemporalCodec<Moment> MOMENT = new MomentCodec();
+
+    /**
+     * <p>Codec for durations whose units are instances of {@code CalendarUnit}
+     * or {@code ClockUnit}. </p>
+     *
+     * <p>Every unit is encoded as one byte (instead of an embedded serialized
+     * object). Other units like week-based years are not supported and
+     * cause an {@code IllegalArgumentException} on writing. There is no
+     * fixed form. </p>
+     */
+    /*[deutsch]
+     * <p>Codec f&uuml;r Dauern, deren Zeiteinheiten Instanzen von
+     * {@code CalendarUnit} oder {@code ClockUnit} sind. </p>
+     *
+     * <p>Jede Zeiteinheit wird als ein Byte codiert (statt als eingebettetes
+     * serialisiertes Objekt). Andere Zeiteinheiten wie wochenbasierte Jahre
+     * werden nicht unterst&uuml;tzt und verursachen beim Schreiben eine
+     * {@code IllegalArgumentException}. Es gibt keine feste Form. </p>
+     */
+    public static final TemporalCodec<Duration<IsoUnit>> DURATION = new DurationCodec();
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private TemporalCodec() {
+        super();
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Writes given value in its compact standard form at the current
+     * position of given buffer. </p>
+     *
+     * @param   value       Time4J-object to be encoded
+     * @param   buffer      target buffer
+     * @throws  java.nio.BufferOverflowException if there are not enough remaining bytes
+     * @throws  IllegalArgumentException if the value cannot be encoded
+     */
+    /*[deutsch]
+     * <p>Schreibt den angegebenen Wert in seiner kompakten Standardform an
+     * die aktuelle Position des angegebenen Puffers. </p>
+     *
+     * @param   value       Time4J-object to be encoded
+     * @param   buffer      target buffer
+     * @throws  java.nio.BufferOverflowException if there are not enough remaining bytes
+     * @throws  IllegalArgumentException if the value cannot be encoded
+     */
+    public void write(
+        T value,
+        ByteBuffer buffer
+    ) {
+
+        try {
+            this.encode(value, new ByteBufferIO(buffer), false);
+        } catch (IOException ioe) {
+            throw new IllegalArgumentException(ioe.getMessage(), ioe); // not expected
+        }
+
+    }
+
+    /**
+     * <p>Writes given value in its fixed-length form at the current position
+     * of given buffer. </p>
+     *
+     * @param   value       Time4J-object to be encoded
+     * @param   buffer      target buffer
+     * @throws  java.nio.BufferOverflowException if there are not enough remaining bytes
+     * @throws  UnsupportedOperationException if there is no fixed form
+     * @see     #getFixedLength()
+     */
+    /*[deutsch]
+     * <p>Schreibt den angegebenen Wert in seiner Form mit fester L&auml;nge
+     * an die aktuelle Position des angegebenen Puffers. </p>
+     *
+     * @param   value       Time4J-object to be encoded
+     * @param   buffer      target buffer
+     * @throws  java.nio.BufferOverflowException if there are not enough remaining bytes
+     * @throws  UnsupportedOperationException if there is no fixed form
+     * @see     #getFixedLength()
+     */
+    public void writeFixed(
+        T value,
+        ByteBuffer buffer
+    ) {
+
+        if (this.getFixedLength() == NO_FIXED_LENGTH) {
+            throw new UnsupportedOperationException("No fixed form: " + this);
+        }
+
+        try {
+            this.encode(value, new ByteBufferIO(buffer), true);
+        } catch (IOException ioe) {
+            throw new IllegalArgumentException(ioe.getMessage(), ioe); // not expected
+        }
+
+    }
+
+    /**
+     * <p>Reads a value in standard or fixed form from the current position
+     * of given buffer. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  decoded Time4J-object
+     * @throws  java.nio.BufferUnderflowException if there are not enough remaining bytes
+     * @throws  IllegalArgumentException if the data are not valid for this codec
+     */
+    /*[deutsch]
+     * <p>Liest einen Wert in Standardform oder fester Form von der aktuellen
+     * Position des angegebenen Puffers. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  decoded Time4J-object
+     * @throws  java.nio.BufferUnderflowException if there are not enough remaining bytes
+     * @throws  IllegalArgumentException if the data are not valid for this codec
+     */
+    public T read(ByteBuffer buffer) {
+
+        byte header = buffer.get();
+        int type = (header & 0xFF) >> 4;
+
+        if (type != this.getType()) {
+            throw new IllegalArgumentException("Unexpected type in header byte: " + type);
+        }
+
+        try {
+            return this.decode(new ByteBufferIO(buffer), header);
+        } catch (IOException ioe) {
+            throw new IllegalArgumentException(ioe.getMessage(), ioe);
+        }
+
+    }
+
+    /**
+     * <p>Writes all given values in standard form one after another. </p>
+     *
+     * @param   values      array of Time4J-objects to be encoded
+     * @param   buffer      target buffer
+     * @throws  java.nio.BufferOverflowException if there are not enough remaining bytes
+     * @throws  IllegalArgumentException if any value cannot be encoded
+     * @see     #write(Object, ByteBuffer)
+     */
+    /*[deutsch]
+     * <p>Schreibt alle angegebenen Werte in Standardform nacheinander. </p>
+     *
+     * @param   values      array of Time4J-objects to be encoded
+     * @param   buffer      target buffer
+     * @throws  java.nio.BufferOverflowException if there are not enough remaining bytes
+     * @throws  IllegalArgumentException if any value cannot be encoded
+     * @see     #write(Object, ByteBuffer)
+     */
+    public void writeAll(
+        T[] values,
+        ByteBuffer buffer
+    ) {
+
+        ByteBufferIO io = new ByteBufferIO(buffer);
+
+        try {
+            for (T value : values) {
+                this.encode(value, io, false);
+            }
+        } catch (IOException ioe) {
+            throw new IllegalArgumentException(ioe.getMessage(), ioe); // not expected
+        }
+
+    }
+
+    /**
+     * <p>Writes all given values in fixed form one after another. </p>
+     *
+     * <p>The value at index {@code i} will start at the relative byte
+     * position {@code i * getFixedLength()}. </p>
+     *
+     * @param   values      array of Time4J-objects to be encoded
+     * @param   buffer      target buffer
+     * @throws  java.nio.BufferOverflowException if there are not enough remaining bytes
+     * @throws  UnsupportedOperationException if there is no fixed form
+     * @see     #writeFixed(Object, ByteBuffer)
+     */
+    /*[deutsch]
+     * <p>Schreibt alle angegebenen Werte in fester Form nacheinander. </p>
+     *
+     * <p>Der Wert am Index {@code i} beginnt an der relativen Byte-Position
+     * {@code i * getFixedLength()}. </p>
+     *
+     * @param   values      array of Time4J-objects to be encoded
+     * @param   buffer      target buffer
+     * @throws  java.nio.BufferOverflowException if there are not enough remaining bytes
+     * @throws  UnsupportedOperationException if there is no fixed form
+     * @see     #writeFixed(Object, ByteBuffer)
+     */
+    public void writeAllFixed(
+        T[] values,
+        ByteBuffer buffer
+    ) {
+
+        int len = this.getFixedLength();
+
+        if (len == NO_FIXED_LENGTH) {
+            throw new UnsupportedOperationException("No fixed form: " + this);
+        } else if (buffer.remaining() < len * values.length) {
+            throw new BufferOverflowException();
+        }
+
+        ByteBufferIO io = new ByteBufferIO(buffer);
+
+        try {
+            for (T value : values) {
+                this.encode(value, io, true);
+            }
+        } catch (IOException ioe) {
+            throw new IllegalArgumentException(ioe.getMessage(), ioe); // not expected
+        }
+
+    }
+
+    /**
+     * <p>Reads as many values as the target array can take. </p>
+     *
+     * @param   buffer      source buffer
+     * @param   target      preallocated array to be filled with decoded values
+     * @throws  java.nio.BufferUnderflowException if there are not enough remaining bytes
+     * @throws  IllegalArgumentException if the data are not valid for this codec
+     * @see     #read(ByteBuffer)
+     */
+    /*[deutsch]
+     * <p>Liest so viele Werte, wie das Zielarray aufnehmen kann. </p>
+     *
+     * @param   buffer      source buffer
+     * @param   target      preallocated array to be filled with decoded values
+     * @throws  java.nio.BufferUnderflowException if there are not enough remaining bytes
+     * @throws  IllegalArgumentException if the data are not valid for this codec
+     * @see     #read(ByteBuffer)
+     */
+    public void readAll(
+        ByteBuffer buffer,
+        T[] target
+    ) {
+
+        for (int i = 0; i < target.length; i++) {
+            target[i] = this.read(buffer);
+        }
+
+    }
+
+    /**
+     * <p>Yields the count of bytes of the fixed form. </p>
+     *
+     * @return  positive count of bytes or {@code -1} if there is no fixed form
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Bytes der festen Form. </p>
+     *
+     * @return  positive count of bytes or {@code -1} if there is no fixed form
+     */
+    public abstract int getFixedLength();
+
+    /**
+     * <p>Encodes given value including the header byte. </p>
+     *
+     * @param   value       Time4J-object to be encoded
+     * @param   io          buffer adapter
+     * @param   fixed       fixed form requested?
+     * @throws  IOException if encoding fails
+     */
+    abstract void encode(
+        T value,
+        ByteBufferIO io,
+        boolean fixed
+    ) throws IOException;
+
+    /**
+     * <p>Decodes a value after the header byte has been read. </p>
+     *
+     * @param   io          buffer adapter
+     * @param   header      header byte
+     * @return  decoded Time4J-object
+     * @throws  IOException if the data are not valid
+     */
+    abstract T decode(
+        ByteBufferIO io,
+        byte header
+    ) throws IOException;
+
+    /**
+     * <p>Yields the type code in the high nibble of the header byte. </p>
+     *
+     * @return  type code as defined in {@code SPX}
+     */
+    abstract int getType();
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class DateCodec
+        extends TemporalCodec<PlainDate> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int getFixedLength() {
+
+            return 6;
+
+        }
+
+        @Override
+        void encode(
+            PlainDate value,
+            ByteBufferIO io,
+            boolean fixed
+        ) throws IOException {
+
+            SPX.writeDate(value, SPX.DATE_TYPE, io, fixed);
+
+        }
+
+        @Override
+        PlainDate decode(
+            ByteBufferIO io,
+            byte header
+        ) throws IOException {
+
+            return SPX.readDate(io, header);
+
+        }
+
+        @Override
+        int getType() {
+
+            return SPX.DATE_TYPE;
+
+        }
+
+        @Override
+        public String toString() {
+
+            return "TemporalCodec.DATE";
+
+        }
+
+    }
+
+    private static class TimeCodec
+        extends TemporalCodec<PlainTime> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int getFixedLength() {
+
+            return 8;
+
+        }
+
+        @Override
+        void encode(
+            PlainTime value,
+            ByteBufferIO io,
+            boolean fixed
+        ) throws IOException {
+
+            io.writeByte(SPX.TIME_TYPE << 4);
+            SPX.writeTime(value, io, fixed);
+
+        }
+
+        @Override
+        PlainTime decode(
+            ByteBufferIO io,
+            byte header
+        ) throws IOException {
+
+            return SPX.readTime(io);
+
+        }
+
+        @Override
+        int getType() {
+
+            return SPX.TIME_TYPE;
+
+        }
+
+        @Override
+        public String toString() {
+
+            return "TemporalCodec.TIME";
+
+        }
+
+    }
+
+    private static class TimestampCodec
+        extends TemporalCodec<PlainTimestamp> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int getFixedLength() {
+
+            return 13;
+
+        }
+
+        @Override
+        void encode(
+            PlainTimestamp value,
+            ByteBufferIO io,
+            boolean fixed
+        ) throws IOException {
+
+            SPX.writeDate(value.getCalendarDate(), SPX.TIMESTAMP_TYPE, io, fixed);
+            SPX.writeTime(value.getWallTime(), io, fixed);
+
+        }
+
+        @Override
+        PlainTimestamp decode(
+            ByteBufferIO io,
+            byte header
+        ) throws IOException {
+
+            return SPX.readTimestamp(io, header);
+
+        }
+
+        @Override
+        int getType() {
+
+            return SPX.TIMESTAMP_TYPE;
+
+        }
+
+        @Override
+        public String toString() {
+
+            return "TemporalCodec.TIMESTAMP";
+
+        }
+
+    }
+
+    private static class MomentCodec
+        extends TemporalCodec<Moment> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int getFixedLength() {
+
+            return 13;
+
+        }
+
+        @Override
+        void encode(
+            Moment value,
+            ByteBufferIO io,
+            boolean fixed
+        ) throws IOException {
+
+            value.writeTimestamp(io, fixed);
+
+        }
+
+        @Override
+        Moment decode(
+            ByteBufferIO io,
+            byte header
+        ) throws IOException {
+
+            return SPX.readMoment(io, header);
+
+        }
+
+        @Override
+        int getType() {
+
+            return SPX.MOMENT_TYPE;
+
+        }
+
+        @Override
+        public String toString() {
+
+            return "TemporalCodec.MOMENT";
+
+        }
+
+    }
+
+    private static class DurationCodec
+        extends TemporalCodec<Duration<IsoUnit>> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int getFixedLength() {
+
+            return NO_FIXED_LENGTH;
+
+        }
+
+        @Override
+        void encode(
+            Duration<IsoUnit> value,
+            ByteBufferIO io,
+            boolean fixed
+        ) throws IOException {
+
+            List<TimeSpan.Item<IsoUnit>> items = value.getTotalLength();
+            int size = items.size();
+            boolean useLong = false;
+
+            byte[] codes = new byte[size];
+
+            for (int i = 0; i < size; i++) {
+                TimeSpan.Item<IsoUnit> item = items.get(i);
+                IsoUnit unit = item.getUnit();
+                if (unit instanceof CalendarUnit) {
+                    codes[i] = (byte) CalendarUnit.class.cast(unit).ordinal();
+                } else if (unit instanceof ClockUnit) {
+                    codes[i] = (byte) (0x80 | ClockUnit.class.cast(unit).ordinal());
+                } else {
+                    throw new IllegalArgumentException("Unit not supported by codec: " + unit);
+                }
+                if (item.getAmount() > Integer.MAX_VALUE) { // alle Elemente prüfen, sonst Abschneiden per writeInt
+                    useLong = true;
+                }
+            }
+
+            int header = SPX.DURATION_TYPE;
+            header <<= 4;
+            if (useLong) {
+                header |= 1;
+            }
+
+            io.writeByte(header);
+            io.writeInt(size);
+
+            for (int i = 0; i < size; i++) {
+                TimeSpan.Item<IsoUnit> item = items.get(i);
+                if (useLong) {
+                    io.writeLong(item.getAmount());
+                } else {
+                    io.writeInt((int) item.getAmount());
+                }
+                io.writeByte(codes[i]);
+            }
+
+            if (size > 0) {
+                io.writeBoolean(value.isNegative());
+            }
+
+        }
+
+        @Override
+        Duration<IsoUnit> decode(
+            ByteBufferIO io,
+            byte header
+        ) throws IOException {
+
+            boolean useLong = ((header & 0xF) == 1);
+            int size = io.readInt();
+
+            if (size == 0) {
+                return Duration.ofZero();
+            } else if (size < 0) {
+                throw new IOException("Negative count of duration items: " + size);
+            }
+
+            List<TimeSpan.Item<IsoUnit>> items = new ArrayList<>(Math.min(size, CALENDAR_UNITS.length + CLOCK_UNITS.length));
+
+            try {
+                for (int i = 0; i < size; i++) {
+                    long amount = (useLong ? io.readLong() : io.readInt());
+                    int code = io.readUnsignedByte();
+                    IsoUnit unit;
+                    if ((code & 0x80) == 0) {
+                        unit = CALENDAR_UNITS[code];
+                    } else {
+                        unit = CLOCK_UNITS[code & 0x7F];
+                    }
+                    items.add(TimeSpan.Item.of(amount, unit));
+                }
+            } catch (ArrayIndexOutOfBoundsException ex) {
+                throw new IOException("Unknown unit code.", ex);
+            } catch (BufferUnderflowException ex) {
+                throw ex;
+            } catch (RuntimeException ex) {
+                throw new IOException(ex.getMessage(), ex);
+            }
+
+            boolean negative = io.readBoolean();
+            return new Duration<>(items, negative);
+
+        }
+
+        @Override
+        int getType() {
+
+            return SPX.DURATION_TYPE;
+
+        }
+
+        @Override
+        public String toString() {
+
+            return "TemporalCodec.DURATION";
+
+        }
+
+    }
+
+}
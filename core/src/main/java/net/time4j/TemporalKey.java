@@ -0,0 +1,571 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (TemporalKey.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import java.io.InvalidObjectException;
+import java.nio.ByteBuffer;
+
+
+/**
+ * <p>Order-preserving binary keys of fixed length for Time4J-objects. </p>
+ *
+ * <p>All keys are written in big-endian order such that the unsigned
+ * lexicographical order of the key bytes is equal to the chronological order
+ * of the encoded objects. Sorted key-value stores can therefore execute
+ * range scans directly on encoded keys without decoding them. The byte order
+ * of any {@code ByteBuffer} given as argument is ignored. </p>
+ *
+ * <ul>
+ *     <li>{@link #DATE}: 6 bytes (year with flipped sign bit, month, day of month)</li>
+ *     <li>{@link #TIME}: 7 bytes (hour, minute, second, nanosecond)</li>
+ *     <li>{@link #TIMESTAMP}: 13 bytes (date key followed by time key)</li>
+ *     <li>{@link #MOMENT}: 12 bytes (POSIX seconds with flipped sign bit,
+ *     nanosecond with leap second bit)</li>
+ * </ul>
+ *
+ * <p>A positive leap second shares the POSIX seconds of the preceding second
+ * but sets the bit 30 in the fractional part. Hence it is sorted
+ * after {@code 23:59:59.999999999} and before the next day on the
+ * UTC-scale. </p>
+ *
+ * @param   <T> type of encoded Time4J-objects
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @see     TemporalCodec
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Ordnungserhaltende bin&auml;re Schl&uuml;ssel fester L&auml;nge
+ * f&uuml;r Time4J-Objekte. </p>
+ *
+ * <p>Alle Schl&uuml;ssel werden in der Bytefolge <i>big-endian</i>
+ * geschrieben, so da&szlig; die vorzeichenlose lexikographische Ordnung
+ * der Schl&uuml;ssel-Bytes mit der chronologischen Ordnung der codierten
+ * Objekte &uuml;bereinstimmt. Sortierte Key-Value-Speicher k&ouml;nnen
+ * deshalb Bereichssuchen direkt auf den codierten Schl&uuml;sseln
+ * ausf&uuml;hren, ohne sie zu decodieren. Die Bytefolge eines als Argument
+ * &uuml;bergebenen {@code ByteBuffer} wird ignoriert. </p>
+ *
+ * <ul>
+ *     <li>{@link #DATE}: 6 Bytes (Jahr mit invertiertem Vorzeichenbit, Monat, Tag des Monats)</li>
+ *     <li>{@link #TIME}: 7 Bytes (Stunde, Minute, Sekunde, Nanosekunde)</li>
+ *     <li>{@link #TIMESTAMP}: 13 Bytes (Datumsschl&uuml;ssel gefolgt vom Uhrzeitschl&uuml;ssel)</li>
+ *     <li>{@link #MOMENT}: 12 Bytes (POSIX-Sekunden mit invertiertem Vorzeichenbit,
+ *     Nanosekunde mit Schaltsekundenbit)</li>
+ * </ul>
+ *
+ * <p>Eine positive Schaltsekunde teilt sich die POSIX-Sekunden mit der
+ * vorangehenden Sekunde, setzt aber das Bit 30 im Nanosekundenteil.
+ * Deshalb wird sie auf der UTC-Skala nach {@code 23:59:59.999999999} und
+ * vor dem n&auml;chsten Tag einsortiert. </p>
+ *
+ * @param   <T> type of encoded Time4J-objects
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @see     TemporalCodec
+ * @doctags.concurrency {immutable}
+ */
+public abstract class TemporalKey<T> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int LEAP_BIT = 0x40000000;
+
+    /**
+     * <p>Key of calendar dates covering the full year range. </p>
+     */
+    /*[deutsch]
+     * <p>Schl&uuml;ssel von Kalenderdaten f&uuml;r den gesamten
+     * Jahresbereich. </p>
+     */
+    public static final TemporalKey<PlainDate> DATE = new DateKey();
+
+    /**
+     * <p>Key of wall times including the end of day {@code 24:00}. </p>
+     */
+    /*[deutsch]
+     * <p>Schl&uuml;ssel von Uhrzeiten einschlie&szlig;lich des Tagesendes
+     * {@code 24:00}. </p>
+     */
+    public static final TemporalKey<PlainTime> TIME = new TimeKey();
+
+    /**
+     * <p>Key of local timestamps. </p>
+     */
+    /*[deutsch]
+     * <p>Schl&uuml;ssel von lokalen Zeitstempeln. </p>
+     */
+    public static final TemporalKey<PlainTimestamp> TIMESTAMP = new TimestampKey();
+
+    /**
+     * <p>Key of global timestamps in the order of the UTC-scale including
+     * leap seconds. </p>
+     */
+    /*[deutsch]
+     * <p>Schl&uuml;ssel von globalen Zeitstempeln in der Ordnung der
+     * UTC-Skala einschlie&szlig;lich Schaltsekunden. </p>
+     */
+    public static final TemporalKey<Moment> MOMENT = new MomentKey();
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private TemporalKey() {
+        super();
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Compares two keys in unsigned lexicographical order. </p>
+     *
+     * <p>Two keys of the same type compare like the encoded objects. </p>
+     *
+     * @param   key1    first key
+     * @param   key2    second key
+     * @return  negative, zero or positive if first key is smaller, equal or greater
+     */
+    /*[deutsch]
+     * <p>Vergleicht zwei Schl&uuml;ssel in vorzeichenloser lexikographischer
+     * Ordnung. </p>
+     *
+     * <p>Zwei Schl&uuml;ssel des gleichen Typs werden wie die codierten
+     * Objekte verglichen. </p>
+     *
+     * @param   key1    first key
+     * @param   key2    second key
+     * @return  negative, zero or positive if first key is smaller, equal or greater
+     */
+    public static int compareKeys(
+        byte[] key1,
+        byte[] key2
+    ) {
+
+        int n = Math.min(key1.length, key2.length);
+
+        for (int i = 0; i < n; i++) {
+            int delta = (key1[i] & 0xFF) - (key2[i] & 0xFF);
+            if (delta != 0) {
+                return delta;
+            }
+        }
+
+        return key1.length - key2.length;
+
+    }
+
+    /**
+     * <p>Yields the fixed count of bytes of every key. </p>
+     *
+     * @return  positive key length
+     */
+    /*[deutsch]
+     * <p>Liefert die feste Anzahl der Bytes jedes Schl&uuml;ssels. </p>
+     *
+     * @return  positive key length
+     */
+    public abstract int getLength();
+
+    /**
+     * <p>Encodes given value as new key. </p>
+     *
+     * @param   value       Time4J-object to be encoded
+     * @return  new byte array of length {@link #getLength()}
+     */
+    /*[deutsch]
+     * <p>Codiert den angegebenen Wert als neuen Schl&uuml;ssel. </p>
+     *
+     * @param   value       Time4J-object to be encoded
+     * @return  new byte array of length {@link #getLength()}
+     */
+    public byte[] encode(T value) {
+
+        byte[] key = new byte[this.getLength()];
+        this.encode(value, key, 0);
+        return key;
+
+    }
+
+    /**
+     * <p>Encodes given value into given byte array. </p>
+     *
+     * @param   value       Time4J-object to be encoded
+     * @param   target      target array
+     * @param   offset      start index of key in target array
+     * @throws  IndexOutOfBoundsException if the target array is too small
+     */
+    /*[deutsch]
+     * <p>Codiert den angegebenen Wert in das angegebene Byte-Array. </p>
+     *
+     * @param   value       Time4J-object to be encoded
+     * @param   target      target array
+     * @param   offset      start index of key in target array
+     * @throws  IndexOutOfBoundsException if the target array is too small
+     */
+    public abstract void encode(
+        T value,
+        byte[] target,
+        int offset
+    );
+
+    /**
+     * <p>Encodes given value at the current position of given buffer. </p>
+     *
+     * @param   value       Time4J-object to be encoded
+     * @param   buffer      target buffer
+     * @throws  java.nio.BufferOverflowException if there are not enough remaining bytes
+     */
+    /*[deutsch]
+     * <p>Codiert den angegebenen Wert an die aktuelle Position des
+     * angegebenen Puffers. </p>
+     *
+     * @param   value       Time4J-object to be encoded
+     * @param   buffer      target buffer
+     * @throws  java.nio.BufferOverflowException if there are not enough remaining bytes
+     */
+    public void encode(
+        T value,
+        ByteBuffer buffer
+    ) {
+
+        int len = this.getLength();
+
+        if (buffer.hasArray() && (buffer.remaining() >= len)) {
+            int pos = buffer.position();
+            this.encode(value, buffer.array(), buffer.arrayOffset() + pos);
+            buffer.position(pos + len);
+        } else {
+            buffer.put(this.encode(value));
+        }
+
+    }
+
+    /**
+     * <p>Decodes given key. </p>
+     *
+     * @param   key     key with length {@link #getLength()}
+     * @return  decoded Time4J-object
+     * @throws  IllegalArgumentException if the key is not valid
+     */
+    /*[deutsch]
+     * <p>Decodiert den angegebenen Schl&uuml;ssel. </p>
+     *
+     * @param   key     key with length {@link #getLength()}
+     * @return  decoded Time4J-object
+     * @throws  IllegalArgumentException if the key is not valid
+     */
+    public T decode(byte[] key) {
+
+        if (key.length != this.getLength()) {
+            throw new IllegalArgumentException("Invalid key length: " + key.length);
+        }
+
+        return this.decode(key, 0);
+
+    }
+
+    /**
+     * <p>Decodes the key starting at given index of given byte array. </p>
+     *
+     * @param   source      source array
+     * @param   offset      start index of key in source array
+     * @return  decoded Time4J-object
+     * @throws  IndexOutOfBoundsException if the source array is too small
+     * @throws  IllegalArgumentException if the key is not valid
+     */
+    /*[deutsch]
+     * <p>Decodiert den Schl&uuml;ssel, der am angegebenen Index des
+     * angegebenen Byte-Arrays beginnt. </p>
+     *
+     * @param   source      source array
+     * @param   offset      start index of key in source array
+     * @return  decoded Time4J-object
+     * @throws  IndexOutOfBoundsException if the source array is too small
+     * @throws  IllegalArgumentException if the key is not valid
+     */
+    public abstract T decode(
+        byte[] source,
+        int offset
+    );
+
+    /**
+     * <p>Decodes the key at the current position of given buffer. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  decoded Time4J-object
+     * @throws  java.nio.BufferUnderflowException if there are not enough remaining bytes
+     * @throws  IllegalArgumentException if the key is not valid
+     */
+    /*[deutsch]
+     * <p>Decodiert den Schl&uuml;ssel an der aktuellen Position des
+     * angegebenen Puffers. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  decoded Time4J-object
+     * @throws  java.nio.BufferUnderflowException if there are not enough remaining bytes
+     * @throws  IllegalArgumentException if the key is not valid
+     */
+    public T decode(ByteBuffer buffer) {
+
+        int len = this.getLength();
+
+        if (buffer.hasArray() && (buffer.remaining() >= len)) {
+            int pos = buffer.position();
+            T value = this.decode(buffer.array(), buffer.arrayOffset() + pos);
+            buffer.position(pos + len);
+            return value;
+        } else {
+            byte[] key = new byte[len];
+            buffer.get(key);
+            return this.decode(key, 0);
+        }
+
+    }
+
+    private static void putInt(
+        int value,
+        byte[] target,
+        int offset
+    ) {
+
+        target[offset] = (byte) (value >>> 24);
+        target[offset + 1] = (byte) (value >>> 16);
+        target[offset + 2] = (byte) (value >>> 8);
+        target[offset + 3] = (byte) value;
+
+    }
+
+    private static int getInt(
+        byte[] source,
+        int offset
+    ) {
+
+        return (
+            ((source[offset] & 0xFF) << 24)
+            | ((source[offset + 1] & 0xFF) << 16)
+            | ((source[offset + 2] & 0xFF) << 8)
+            | (source[offset + 3] & 0xFF)
+        );
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class DateKey
+        extends TemporalKey<PlainDate> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int getLength() {
+
+            return 6;
+
+        }
+
+        @Override
+        public void encode(
+            PlainDate value,
+            byte[] target,
+            int offset
+        ) {
+
+            putInt(value.getYear() ^ Integer.MIN_VALUE, target, offset);
+            target[offset + 4] = (byte) value.getMonth();
+            target[offset + 5] = (byte) value.getDayOfMonth();
+
+        }
+
+        @Override
+        public PlainDate decode(
+            byte[] source,
+            int offset
+        ) {
+
+            int year = getInt(source, offset) ^ Integer.MIN_VALUE;
+            return PlainDate.of(year, source[offset + 4], source[offset + 5]);
+
+        }
+
+        @Override
+        public String toString() {
+
+            return "TemporalKey.DATE";
+
+        }
+
+    }
+
+    private static class TimeKey
+        extends TemporalKey<PlainTime> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int getLength() {
+
+            return 7;
+
+        }
+
+        @Override
+        public void encode(
+            PlainTime value,
+            byte[] target,
+            int offset
+        ) {
+
+            target[offset] = (byte) value.getHour();
+            target[offset + 1] = (byte) value.getMinute();
+            target[offset + 2] = (byte) value.getSecond();
+            putInt(value.getNanosecond(), target, offset + 3);
+
+        }
+
+        @Override
+        public PlainTime decode(
+            byte[] source,
+            int offset
+        ) {
+
+            return PlainTime.of(
+                source[offset],
+                source[offset + 1],
+                source[offset + 2],
+                getInt(source, offset + 3));
+
+        }
+
+        @Override
+        public String toString() {
+
+            return "TemporalKey.TIME";
+
+        }
+
+    }
+
+    private static class TimestampKey
+        extends TemporalKey<PlainTimestamp> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int getLength() {
+
+            return 13;
+
+        }
+
+        @Override
+        public void encode(
+            PlainTimestamp value,
+            byte[] target,
+            int offset
+        ) {
+
+            DATE.encode(value.getCalendarDate(), target, offset);
+            TIME.encode(value.getWallTime(), target, offset + 6);
+
+        }
+
+        @Override
+        public PlainTimestamp decode(
+            byte[] source,
+            int offset
+        ) {
+
+            return PlainTimestamp.of(DATE.decode(source, offset), TIME.decode(source, offset + 6));
+
+        }
+
+        @Override
+        public String toString() {
+
+            return "TemporalKey.TIMESTAMP";
+
+        }
+
+    }
+
+    private static class MomentKey
+        extends TemporalKey<Moment> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int getLength() {
+
+            return 12;
+
+        }
+
+        @Override
+        public void encode(
+            Moment value,
+            byte[] target,
+            int offset
+        ) {
+
+            long posix = value.getPosixTime() ^ Long.MIN_VALUE;
+            putInt((int) (posix >>> 32), target, offset);
+            putInt((int) posix, target, offset + 4);
+
+            int fraction = value.getNanosecond();
+
+            if (value.isPositiveLS()) {
+                fraction |= LEAP_BIT;
+            }
+
+            putInt(fraction, target, offset + 8);
+
+        }
+
+        @Override
+        public Moment decode(
+            byte[] source,
+            int offset
+        ) {
+
+            long high = getInt(source, offset);
+            long low = (getInt(source, offset + 4) & 0xFFFFFFFFL);
+            long posix = ((high << 32) | low) ^ Long.MIN_VALUE;
+            int fraction = getInt(source, offset + 8);
+
+            try {
+                return Moment.create(posix, fraction & ~LEAP_BIT, (fraction & LEAP_BIT) != 0);
+            } catch (InvalidObjectException ioe) {
+                throw new IllegalArgumentException(ioe.getMessage(), ioe);
+            }
+
+        }
+
+        @Override
+        public String toString() {
+
+            return "TemporalKey.MOMENT";
+
+        }
+
+    }
+
+}
@@ -88,12 +88,12 @@ final class UnitPatterns {
     //~ Instanzvariablen --------------------------------------------------
 
     private final Locale locale;
-    private final Map<IsoUnit, Map<TextWidth, Map<PluralCategory, String>>> patterns;
-    private final Map<IsoUnit, Map<PluralCategory, String>> past;
-    private final Map<IsoUnit, Map<PluralCategory, String>> future;
-    private final Map<IsoUnit, Map<PluralCategory, String>> shortPast;
-    private final Map<IsoUnit, Map<PluralCategory, String>> shortFuture;
-    private final Map<Integer, Map<TextWidth, String>> list;
+    private final Map<IsoUnit, Map<TextWidth, Map<PluralCategory, PatternTemplate>>> patterns;
+    private final Map<IsoUnit, Map<PluralCategory, PatternTemplate>> past;
+    private final Map<IsoUnit, Map<PluralCategory, PatternTemplate>> future;
+    private final Map<IsoUnit, Map<PluralCategory, PatternTemplate>> shortPast;
+    private final Map<IsoUnit, Map<PluralCategory, PatternTemplate>> shortFuture;
+    private final Map<Integer, Map<TextWidth, PatternTemplate>> list;
     private final String now;
     private final String yesterday;
     private final String today;
@@ -106,20 +106,20 @@ final class UnitPatterns {
 
         this.locale = language;
 
-        Map<IsoUnit, Map<TextWidth, Map<PluralCategory, String>>> map = new HashMap<>(10);
-        Map<IsoUnit, Map<PluralCategory, String>> mapPast = new HashMap<>(10);
-        Map<IsoUnit, Map<PluralCategory, String>> mapFuture = new HashMap<>(10);
-        Map<Integer, Map<TextWidth, String>> mapList = new HashMap<>(10);
-        Map<IsoUnit, Map<PluralCategory, String>> mapShortPast = new HashMap<>(10);
-        Map<IsoUnit, Map<PluralCategory, String>> mapShortFuture = new HashMap<>(10);
+        Map<IsoUnit, Map<TextWidth, Map<PluralCategory, PatternTemplate>>> map = new HashMap<>(10);
+        Map<IsoUnit, Map<PluralCategory, PatternTemplate>> mapPast = new HashMap<>(10);
+        Map<IsoUnit, Map<PluralCategory, PatternTemplate>> mapFuture = new HashMap<>(10);
+        Map<Integer, Map<TextWidth, PatternTemplate>> mapList = new HashMap<>(10);
+        Map<IsoUnit, Map<PluralCategory, PatternTemplate>> mapShortPast = new HashMap<>(10);
+        Map<IsoUnit, Map<PluralCategory, PatternTemplate>> mapShortFuture = new HashMap<>(10);
 
         for (IsoUnit unit : UNIT_IDS) {
             // Standard-Muster
-            Map<TextWidth, Map<PluralCategory, String>> tmp1 = new EnumMap<>(TextWidth.class);
+            Map<TextWidth, Map<PluralCategory, PatternTemplate>> tmp1 = new EnumMap<>(TextWidth.class);
             for (TextWidth width : TextWidth.values()) {
-                Map<PluralCategory, String> tmp2 = new EnumMap<>(PluralCategory.class);
+                Map<PluralCategory, PatternTemplate> tmp2 = new EnumMap<>(PluralCategory.class);
                 for (PluralCategory cat : PluralCategory.values()) {
-                    tmp2.put(cat, lookup(language, unit, width, cat));
+                    tmp2.put(cat, PatternTemplate.ofUnit(lookup(language, unit, width, cat)));
                 }
                 tmp1.put(width, Collections.unmodifiableMap(tmp2));
             }
@@ -129,32 +129,32 @@ final class UnitPatterns {
 
             if (!Character.isDigit(unit.getSymbol())) { // no subseconds
                 // Vergangenheit
-                Map<PluralCategory, String> tmp3 = new EnumMap<>(PluralCategory.class);
+                Map<PluralCategory, PatternTemplate> tmp3 = new EnumMap<>(PluralCategory.class);
                 for (PluralCategory cat : PluralCategory.values()) {
-                    tmp3.put(cat, lookup(language, unit, false, false, cat));
+                    tmp3.put(cat, PatternTemplate.ofUnit(lookup(language, unit, false, false, cat)));
                 }
                 mapPast.put(
                     unit,
                     Collections.unmodifiableMap(tmp3));
-                Map<PluralCategory, String> tmp3a = new EnumMap<>(PluralCategory.class);
+                Map<PluralCategory, PatternTemplate> tmp3a = new EnumMap<>(PluralCategory.class);
                 for (PluralCategory cat : PluralCategory.values()) {
-                    tmp3a.put(cat, lookup(language, unit, false, true, cat));
+                    tmp3a.put(cat, PatternTemplate.ofUnit(lookup(language, unit, false, true, cat)));
                 }
                 mapShortPast.put(
                     unit,
                     Collections.unmodifiableMap(tmp3a));
 
                 // Zukunft
-                Map<PluralCategory, String> tmp4 = new EnumMap<>(PluralCategory.class);
+                Map<PluralCategory, PatternTemplate> tmp4 = new EnumMap<>(PluralCategory.class);
                 for (PluralCategory cat : PluralCategory.values()) {
-                    tmp4.put(cat, lookup(language, unit, true, false, cat));
+                    tmp4.put(cat, PatternTemplate.ofUnit(lookup(language, unit, true, false, cat)));
                 }
                 mapFuture.put(
                     unit,
                     Collections.unmodifiableMap(tmp4));
-                Map<PluralCategory, String> tmp4a = new EnumMap<>(PluralCategory.class);
+                Map<PluralCategory, PatternTemplate> tmp4a = new EnumMap<>(PluralCategory.class);
                 for (PluralCategory cat : PluralCategory.values()) {
-                    tmp4a.put(cat, lookup(language, unit, true, true, cat));
+                    tmp4a.put(cat, PatternTemplate.ofUnit(lookup(language, unit, true, true, cat)));
                 }
                 mapShortFuture.put(
                     unit,
@@ -165,9 +165,9 @@ final class UnitPatterns {
         // Liste
         for (int i = MIN_LIST_INDEX; i <= MAX_LIST_INDEX; i++) {
             Integer index = Integer.valueOf(i);
-            Map<TextWidth, String> tmp5 = new EnumMap<>(TextWidth.class);
+            Map<TextWidth, PatternTemplate> tmp5 = new EnumMap<>(TextWidth.class);
             for (TextWidth width : TextWidth.values()) {
-                tmp5.put(width, lookup(language, width, index));
+                tmp5.put(width, PatternTemplate.ofList(lookup(language, width, index)));
             }
             mapList.put(
                 index,
@@ -236,7 +236,7 @@ final class UnitPatterns {
     }
 
     /**
-     * <p>Yields a unit pattern which optionally contains a placeholder
+     * <p>Yields a compiled unit pattern which optionally contains a placeholder
      * of the form &quot;{0}&quot; standing for the count of units. </p>
      *
      * @param   width       text width (ABBREVIATED as synonym for SHORT)
@@ -244,7 +244,7 @@ final class UnitPatterns {
      * @param   unit        associated iso unit
      * @return  unit pattern
      */
-    String getPattern(
+    PatternTemplate getTemplate(
         TextWidth width,
         PluralCategory category,
         IsoUnit unit
@@ -256,7 +256,7 @@ final class UnitPatterns {
     }
 
     /**
-     * <p>Yields a unit pattern which optionally contains a placeholder
+     * <p>Yields a compiled unit pattern which optionally contains a placeholder
      * of the form &quot;{0}&quot; standing for the count of units in the
      * past. </p>
      *
@@ -266,7 +266,7 @@ final class UnitPatterns {
      * @return  unit pattern in the past
      * @since   3.6/4.4
      */
-    String getPatternInPast(
+    PatternTemplate getTemplateInPast(
         PluralCategory category,
         boolean abbreviated,
         IsoUnit unit
@@ -283,7 +283,7 @@ final class UnitPatterns {
     }
 
     /**
-     * <p>Yields a unit pattern which optionally contains a placeholder
+     * <p>Yields a compiled unit pattern which optionally contains a placeholder
      * of the form &quot;{0}&quot; standing for the count of units in the
      * future. </p>
      *
@@ -293,7 +293,7 @@ final class UnitPatterns {
      * @return  unit pattern in the future
      * @since   3.6/4.4
      */
-    String getPatternInFuture(
+    PatternTemplate getTemplateInFuture(
         PluralCategory category,
         boolean abbreviated,
         IsoUnit unit
@@ -357,15 +357,15 @@ final class UnitPatterns {
     }
 
     /**
-     * <p>Constructs a localized list pattern suitable for the use in
+     * <p>Yields a compiled localized list pattern in the syntax of
      * {@link java.text.MessageFormat#format(String, Object[])}. </p>
      *
      * @param   width       text width (ABBREVIATED as synonym for SHORT)
      * @param   size        count of list items
-     * @return  message format pattern with placeholders {0}, {1}, ..., {x}, ...
+     * @return  list pattern with placeholders {0}, {1}, ..., {x}, ...
      * @throws  IllegalArgumentException if size is smaller than 2
      */
-    String getListPattern(
+    PatternTemplate getListTemplate(
         TextWidth width,
         int size
     ) {
@@ -381,7 +381,7 @@ final class UnitPatterns {
             return this.list.get(Integer.valueOf(size)).get(width);
         }
 
-        return lookup(this.locale, width, size);
+        return PatternTemplate.ofList(lookup(this.locale, width, size));
 
     }
 
@@ -0,0 +1,425 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (WeekTable.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import net.time4j.base.GregorianMath;
+import net.time4j.engine.EpochDays;
+
+
+/**
+ * <p>Precomputed table of the start days of week-based years in a given week model. </p>
+ *
+ * <p>The week-based year of a week model starts with the first calendar week as defined
+ * by {@link Weekmodel#weekOfYear()}. A table stores the first day of every week-based year
+ * within a fixed range of years so that the week-based year and the week of year of any
+ * date can be determined by a table lookup and some integer arithmetic. Dates outside the
+ * range of the table are still supported but need a full calendar calculation. </p>
+ *
+ * <pre>
+ *  WeekTable table = Weekmodel.ISO.createWeekTable(2000, 2030);
+ *  long[] days = ...; // days since 1970-01-01
+ *  int[] years = new int[days.length];
+ *  int[] weeks = new int[days.length];
+ *  table.toWeekdates(days, EpochDays.UNIX, years, weeks);
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @see     Weekmodel#createWeekTable(int, int)
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Vorberechnete Tabelle der Anfangstage von wochenbasierten Jahren in einem Wochenmodell. </p>
+ *
+ * <p>Das wochenbasierte Jahr eines Wochenmodells beginnt mit der ersten Kalenderwoche, wie
+ * sie in {@link Weekmodel#weekOfYear()} definiert ist. Eine Tabelle speichert den ersten Tag
+ * jedes wochenbasierten Jahres innerhalb eines festen Jahresbereichs, so da&szlig; das
+ * wochenbasierte Jahr und die Kalenderwoche eines beliebigen Datums mit einem Tabellenzugriff
+ * und etwas Ganzzahlarithmetik bestimmt werden k&ouml;nnen. Datumsangaben au&szlig;erhalb
+ * des Tabellenbereichs werden weiterhin unterst&uuml;tzt, erfordern aber eine volle
+ * Kalenderberechnung. </p>
+ *
+ * <pre>
+ *  WeekTable table = Weekmodel.ISO.createWeekTable(2000, 2030);
+ *  long[] days = ...; // Tage seit 1970-01-01
+ *  int[] years = new int[days.length];
+ *  int[] weeks = new int[days.length];
+ *  table.toWeekdates(days, EpochDays.UNIX, years, weeks);
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @see     Weekmodel#createWeekTable(int, int)
+ * @doctags.concurrency {immutable}
+ */
+public final class WeekTable {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MAX_RANGE = 100000;
+    private static final long MIN_MJD = GregorianMath.toMJD(GregorianMath.MIN_YEAR, 1, 1);
+    private static final long MAX_MJD = GregorianMath.toMJD(GregorianMath.MAX_YEAR, 12, 31);
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final Weekmodel model;
+    private final int minYear;
+    private final long[] starts; // MJD des Beginns der wochenbasierten Jahre minYear bis maxYear + 1
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    WeekTable(
+        Weekmodel model,
+        int minYear,
+        int maxYear
+    ) {
+        super();
+
+        if (minYear > maxYear) {
+            throw new IllegalArgumentException("Minimum year after maximum year: " + minYear + " > " + maxYear);
+        } else if ((minYear <= GregorianMath.MIN_YEAR) || (maxYear >= GregorianMath.MAX_YEAR)) {
+            throw new IllegalArgumentException("Year range out of bounds: " + minYear + "-" + maxYear);
+        } else if (maxYear - minYear >= MAX_RANGE) {
+            throw new IllegalArgumentException("Year range too large: " + minYear + "-" + maxYear);
+        }
+
+        this.model = model;
+        this.minYear = minYear;
+        this.starts = new long[maxYear - minYear + 2];
+
+        for (int i = 0; i < this.starts.length; i++) {
+            this.starts[i] = startOfWeekBasedYear(model, minYear + i);
+        }
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the underlying week model. </p>
+     *
+     * @return  Weekmodel
+     */
+    /*[deutsch]
+     * <p>Liefert das zugrundeliegende Wochenmodell. </p>
+     *
+     * @return  Weekmodel
+     */
+    public Weekmodel getModel() {
+
+        return this.model;
+
+    }
+
+    /**
+     * <p>Yields the first week-based year stored in this table. </p>
+     *
+     * @return  minimum year of table range
+     */
+    /*[deutsch]
+     * <p>Liefert das erste in dieser Tabelle gespeicherte wochenbasierte Jahr. </p>
+     *
+     * @return  minimum year of table range
+     */
+    public int getMinYear() {
+
+        return this.minYear;
+
+    }
+
+    /**
+     * <p>Yields the last week-based year stored in this table. </p>
+     *
+     * @return  maximum year of table range
+     */
+    /*[deutsch]
+     * <p>Liefert das letzte in dieser Tabelle gespeicherte wochenbasierte Jahr. </p>
+     *
+     * @return  maximum year of table range
+     */
+    public int getMaxYear() {
+
+        return this.minYear + this.starts.length - 2;
+
+    }
+
+    /**
+     * <p>Determines the first day of given week-based year. </p>
+     *
+     * @param   weekBasedYear   week-based year
+     * @return  first day of first calendar week
+     * @throws  IllegalArgumentException if the year is out of range
+     */
+    /*[deutsch]
+     * <p>Bestimmt den ersten Tag des angegebenen wochenbasierten Jahres. </p>
+     *
+     * @param   weekBasedYear   week-based year
+     * @return  first day of first calendar week
+     * @throws  IllegalArgumentException if the year is out of range
+     */
+    public PlainDate getFirstDayOfWeekBasedYear(int weekBasedYear) {
+
+        if ((weekBasedYear < GregorianMath.MIN_YEAR) || (weekBasedYear > GregorianMath.MAX_YEAR)) {
+            throw new IllegalArgumentException("Week-based year out of range: " + weekBasedYear);
+        }
+
+        int index = weekBasedYear - this.minYear;
+        long mjd = (
+            ((index >= 0) && (index < this.starts.length))
+            ? this.starts[index]
+            : startOfWeekBasedYear(this.model, weekBasedYear));
+        return PlainDate.of(mjd, EpochDays.MODIFIED_JULIAN_DATE);
+
+    }
+
+    /**
+     * <p>Determines the week-based year of given date. </p>
+     *
+     * <p>Consistent with {@link Weekmodel#weekOfYear()}, the first or last days of the
+     * supported timeline can belong to a week-based year one beyond the range of
+     * {@code PlainDate}. </p>
+     *
+     * @param   date    calendar date
+     * @return  week-based year
+     */
+    /*[deutsch]
+     * <p>Bestimmt das wochenbasierte Jahr des angegebenen Datums. </p>
+     *
+     * <p>In &Uuml;bereinstimmung mit {@link Weekmodel#weekOfYear()} k&ouml;nnen die ersten
+     * oder letzten Tage der unterst&uuml;tzten Zeitachse zu einem wochenbasierten Jahr
+     * direkt au&szlig;erhalb des Wertebereichs von {@code PlainDate} geh&ouml;ren. </p>
+     *
+     * @param   date    calendar date
+     * @return  week-based year
+     */
+    public int getWeekBasedYear(PlainDate date) {
+
+        long mjd = toMJD(date);
+        int index = this.search(mjd);
+        return ((index == -1) ? this.computeYear(mjd) : this.minYear + index);
+
+    }
+
+    /**
+     * <p>Determines the calendar week of given date. </p>
+     *
+     * <p>The result is equal to {@code date.get(getModel().weekOfYear())}. </p>
+     *
+     * @param   date    calendar date
+     * @return  week of week-based year in range {@code 1-52/53}
+     */
+    /*[deutsch]
+     * <p>Bestimmt die Kalenderwoche des angegebenen Datums. </p>
+     *
+     * <p>Das Ergebnis ist gleich {@code date.get(getModel().weekOfYear())}. </p>
+     *
+     * @param   date    calendar date
+     * @return  week of week-based year in range {@code 1-52/53}
+     */
+    public int getWeekOfYear(PlainDate date) {
+
+        long mjd = toMJD(date);
+        int index = this.search(mjd);
+        long start = (
+            (index == -1)
+            ? startOfWeekBasedYear(this.model, this.computeYear(mjd))
+            : this.starts[index]);
+        return (int) ((mjd - start) / 7) + 1;
+
+    }
+
+    /**
+     * <p>Determines the week-based years and calendar weeks of many dates. </p>
+     *
+     * <p>The i-th result is the week-based year {@code weekBasedYears[i]} and the
+     * calendar week {@code weeksOfYear[i]} of the date given by {@code epochDays[i]}. </p>
+     *
+     * @param   epochDays       count of days since given epoch
+     * @param   epoch           epoch reference
+     * @param   weekBasedYears  array which will be filled with the week-based years
+     * @param   weeksOfYear     array which will be filled with the calendar weeks
+     * @throws  IllegalArgumentException if the arrays have different lengths or
+     *          if any day is out of range
+     */
+    /*[deutsch]
+     * <p>Bestimmt die wochenbasierten Jahre und Kalenderwochen vieler Datumsangaben. </p>
+     *
+     * <p>Das i-te Ergebnis ist das wochenbasierte Jahr {@code weekBasedYears[i]} und
+     * die Kalenderwoche {@code weeksOfYear[i]} des Datums {@code epochDays[i]}. </p>
+     *
+     * @param   epochDays       count of days since given epoch
+     * @param   epoch           epoch reference
+     * @param   weekBasedYears  array which will be filled with the week-based years
+     * @param   weeksOfYear     array which will be filled with the calendar weeks
+     * @throws  IllegalArgumentException if the arrays have different lengths or
+     *          if any day is out of range
+     */
+    public void toWeekdates(
+        long[] epochDays,
+        EpochDays epoch,
+        int[] weekBasedYears,
+        int[] weeksOfYear
+    ) {
+
+        int n = epochDays.length;
+
+        if ((weekBasedYears.length != n) || (weeksOfYear.length != n)) {
+            throw new IllegalArgumentException("Arrays have different lengths.");
+        }
+
+        long shift = EpochDays.MODIFIED_JULIAN_DATE.transform(0, epoch);
+        long minDay = MIN_MJD - shift; // Grenzen in der Epoche des Aufrufers, kein Überlauf bei der Addition
+        long maxDay = MAX_MJD - shift;
+
+        for (int i = 0; i < n; i++) {
+            long day = epochDays[i];
+            if ((day < minDay) || (day > maxDay)) {
+                throw new IllegalArgumentException("Epoch day out of range: " + day);
+            }
+            long mjd = day + shift;
+            int index = this.search(mjd);
+            int year;
+            long start;
+
+            if (index == -1) {
+                year = this.computeYear(mjd);
+                start = startOfWeekBasedYear(this.model, year);
+            } else {
+                year = this.minYear + index;
+                start = this.starts[index];
+            }
+
+            weekBasedYears[i] = year;
+            weeksOfYear[i] = (int) ((mjd - start) / 7) + 1;
+        }
+
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof WeekTable) {
+            WeekTable that = (WeekTable) obj;
+            return (
+                this.model.equals(that.model)
+                && (this.minYear == that.minYear)
+                && (this.starts.length == that.starts.length)
+            );
+        } else {
+            return false;
+        }
+
+    }
+
+    @Override
+    public int hashCode() {
+
+        return this.model.hashCode() + 37 * this.minYear + 31 * this.starts.length;
+
+    }
+
+    @Override
+    public String toString() {
+
+        return "WeekTable[model=" + this.model + ",years=" + this.minYear + "-" + this.getMaxYear() + "]";
+
+    }
+
+    // Index des wochenbasierten Jahres in der Tabelle oder -1, wenn außerhalb
+    private int search(long mjd) {
+
+        long[] s = this.starts;
+        long delta = mjd - s[0];
+
+        if ((delta < 0) || (mjd >= s[s.length - 1])) {
+            return -1;
+        }
+
+        int index = (int) ((delta * 400) / 146097); // mittlere gregorianische Jahreslänge
+
+        if (index >= s.length - 1) {
+            index = s.length - 2;
+        }
+
+        while (s[index] > mjd) {
+            index--;
+        }
+
+        while (s[index + 1] <= mjd) {
+            index++;
+        }
+
+        return index;
+
+    }
+
+    // wochenbasiertes Jahr außerhalb des Tabellenbereichs (an den Rändern der Zeitachse
+    // wie in Weekmodel.weekOfYear() eventuell ein Jahr außerhalb des gregorianischen Bereichs)
+    private int computeYear(long mjd) {
+
+        int year = GregorianMath.readYear(GregorianMath.toPackedDate(mjd));
+
+        if (mjd < startOfWeekBasedYear(this.model, year)) {
+            return year - 1;
+        } else if (mjd >= startOfWeekBasedYear(this.model, year + 1)) {
+            return year + 1;
+        } else {
+            return year;
+        }
+
+    }
+
+    private static long toMJD(PlainDate date) {
+
+        return EpochDays.MODIFIED_JULIAN_DATE.transform(date.getDaysSinceUTC(), EpochDays.UTC);
+
+    }
+
+    // MJD des ersten Tags der ersten Kalenderwoche (analog zu getFirstCalendarWeekAsDay im Wochenmodell)
+    private static long startOfWeekBasedYear(
+        Weekmodel model,
+        int year
+    ) {
+
+        int dow = Weekday.valueOf(GregorianMath.getDayOfWeek(year, 1, 1)).getValue(model);
+        long newYear;
+
+        // Nachbarjahre jenseits der Zeitachse arithmetisch wie in Weekmodel.weekOfYear() behandeln
+        if (year > GregorianMath.MAX_YEAR) {
+            newYear = GregorianMath.toMJD(year - 1, 1, 1) + (GregorianMath.isLeapYear(year - 1) ? 366 : 365);
+        } else if (year < GregorianMath.MIN_YEAR) {
+            newYear = GregorianMath.toMJD(year + 1, 1, 1) - (GregorianMath.isLeapYear(year) ? 366 : 365);
+        } else {
+            newYear = GregorianMath.toMJD(year, 1, 1);
+        }
+
+        return (
+            (dow <= 8 - model.getMinimalDaysInFirstWeek())
+            ? newYear + 1 - dow
+            : newYear + 8 - dow
+        );
+
+    }
+
+}
@@ -798,6 +798,41 @@ public final class Weekmodel
 
     }
 
+    /**
+     * <p>Creates a table of the start days of week-based years in given range of years
+     * for fast bulk determination of calendar weeks. </p>
+     *
+     * <p>The table needs about eight bytes per year. </p>
+     *
+     * @param   minYear     first week-based year of table
+     * @param   maxYear     last week-based year of table
+     * @return  new table of week-based years in this week model
+     * @throws  IllegalArgumentException if the range is invalid or contains more than 100,000 years
+     * @since   4.18
+     * @see     #weekOfYear()
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine Tabelle der Anfangstage von wochenbasierten Jahren im angegebenen
+     * Jahresbereich, um Kalenderwochen schnell massenhaft zu bestimmen. </p>
+     *
+     * <p>Die Tabelle ben&ouml;tigt etwa acht Bytes pro Jahr. </p>
+     *
+     * @param   minYear     first week-based year of table
+     * @param   maxYear     last week-based year of table
+     * @return  new table of week-based years in this week model
+     * @throws  IllegalArgumentException if the range is invalid or contains more than 100,000 years
+     * @since   4.18
+     * @see     #weekOfYear()
+     */
+    public WeekTable createWeekTable(
+        int minYear,
+        int maxYear
+    ) {
+
+        return new WeekTable(this, minYear, maxYear);
+
+    }
+
     /**
      * <p>Compares on the base of internal week rules. </p>
      */
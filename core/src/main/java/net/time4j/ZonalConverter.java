@@ -0,0 +1,509 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ZonalConverter.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import net.time4j.base.MathUtils;
+import net.time4j.base.UnixTime;
+import net.time4j.engine.EpochDays;
+import net.time4j.tz.TZID;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalTransition;
+
+
+/**
+ * <p>Converts global timestamps to local timestamps in one resolved timezone. </p>
+ *
+ * <p>A converter is designed for repeated conversions in the same timezone, for example in
+ * the processing of many records. In contrast to {@link Moment#toZonalTimestamp(TZID)}, there
+ * is no timezone lookup per call. The last used interval between two offset transitions is
+ * cached, so consecutive timestamps within the same interval only need some integer arithmetic. </p>
+ *
+ * <pre>
+ *  ZonalConverter converter = ZonalConverter.of(EUROPE.BERLIN);
+ *  long[] posixTimes = ...;
+ *  long[] localSeconds = new long[posixTimes.length];
+ *  converter.toLocalSeconds(posixTimes, localSeconds);
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @see     Moment#toZonalTimestamp(TZID)
+ * @doctags.concurrency {threadsafe}
+ */
+/*[deutsch]
+ * <p>Wandelt globale Zeitstempel in lokale Zeitstempel einer festgelegten Zeitzone um. </p>
+ *
+ * <p>Ein {@code ZonalConverter} ist f&uuml;r wiederholte Konversionen in derselben Zeitzone
+ * gedacht, zum Beispiel bei der Verarbeitung vieler Datens&auml;tze. Im Unterschied zu
+ * {@link Moment#toZonalTimestamp(TZID)} findet keine Zeitzonensuche pro Aufruf statt. Das
+ * zuletzt verwendete Intervall zwischen zwei Offset-&Uuml;berg&auml;ngen wird gepuffert, so
+ * da&szlig; aufeinanderfolgende Zeitstempel im selben Intervall nur etwas Ganzzahlarithmetik
+ * brauchen. </p>
+ *
+ * <pre>
+ *  ZonalConverter converter = ZonalConverter.of(EUROPE.BERLIN);
+ *  long[] posixTimes = ...;
+ *  long[] localSeconds = new long[posixTimes.length];
+ *  converter.toLocalSeconds(posixTimes, localSeconds);
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @see     Moment#toZonalTimestamp(TZID)
+ * @doctags.concurrency {threadsafe}
+ */
+public final class ZonalConverter {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MRD = 1_000_000_000;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final Timezone timezone;
+    private final TransitionHistory history;
+
+    private volatile OffsetInterval cache;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private ZonalConverter(Timezone timezone) {
+        super();
+
+        this.timezone = timezone;
+        this.history = timezone.getHistory();
+
+        if (timezone.isFixed()) {
+            int offset = timezone.getOffset(Moment.UNIX_EPOCH).getIntegralAmount();
+            this.cache = new OffsetInterval(Long.MIN_VALUE, Long.MAX_VALUE, offset);
+        } else {
+            this.cache = null;
+        }
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a converter for given timezone. </p>
+     *
+     * @param   tz      timezone
+     * @return  new converter
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen {@code ZonalConverter} f&uuml;r die angegebene Zeitzone. </p>
+     *
+     * @param   tz      timezone
+     * @return  new converter
+     */
+    public static ZonalConverter of(Timezone tz) {
+
+        if (tz == null) {
+            throw new NullPointerException("Missing timezone.");
+        }
+
+        return new ZonalConverter(tz);
+
+    }
+
+    /**
+     * <p>Creates a converter for given timezone identifier. </p>
+     *
+     * <p>The timezone is only resolved once in this method. </p>
+     *
+     * @param   tzid    timezone id
+     * @return  new converter
+     * @throws  IllegalArgumentException if given timezone cannot be loaded
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen {@code ZonalConverter} f&uuml;r die angegebene Zeitzonenkennung. </p>
+     *
+     * <p>Die Zeitzone wird nur einmal in dieser Methode aufgel&ouml;st. </p>
+     *
+     * @param   tzid    timezone id
+     * @return  new converter
+     * @throws  IllegalArgumentException if given timezone cannot be loaded
+     */
+    public static ZonalConverter of(TZID tzid) {
+
+        return new ZonalConverter(Timezone.of(tzid));
+
+    }
+
+    /**
+     * <p>Yields the underlying timezone. </p>
+     *
+     * @return  Timezone
+     */
+    /*[deutsch]
+     * <p>Liefert die zugrundeliegende Zeitzone. </p>
+     *
+     * @return  Timezone
+     */
+    public Timezone getTimezone() {
+
+        return this.timezone;
+
+    }
+
+    /**
+     * <p>Determines the total offset in seconds for given global timestamp. </p>
+     *
+     * @param   posixTime   elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @return  total offset in seconds
+     */
+    /*[deutsch]
+     * <p>Bestimmt die gesamte Verschiebung in Sekunden zum angegebenen globalen Zeitstempel. </p>
+     *
+     * @param   posixTime   elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @return  total offset in seconds
+     */
+    public int getOffsetInSeconds(long posixTime) {
+
+        OffsetInterval interval = this.cache;
+
+        if ((interval == null) || (posixTime < interval.start) || (posixTime >= interval.end)) {
+            interval = this.lookup(posixTime);
+            this.cache = interval;
+        }
+
+        return interval.offset;
+
+    }
+
+    /**
+     * <p>Converts given global timestamp to local seconds. </p>
+     *
+     * <p>The result counts the seconds since the local epoch [1970-01-01T00:00:00]
+     * and can be split into the local epoch day and the second of day by help of
+     * floor division by {@code 86400}. </p>
+     *
+     * @param   posixTime   elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @return  local seconds since [1970-01-01T00:00:00]
+     */
+    /*[deutsch]
+     * <p>Wandelt den angegebenen globalen Zeitstempel in lokale Sekunden um. </p>
+     *
+     * <p>Das Ergebnis z&auml;hlt die Sekunden seit der lokalen Epoche [1970-01-01T00:00:00]
+     * und kann mit Hilfe der abrundenden Division durch {@code 86400} in den lokalen
+     * Epochentag und die Sekunde des Tages zerlegt werden. </p>
+     *
+     * @param   posixTime   elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @return  local seconds since [1970-01-01T00:00:00]
+     */
+    public long toLocalSeconds(long posixTime) {
+
+        return posixTime + this.getOffsetInSeconds(posixTime);
+
+    }
+
+    /**
+     * <p>Converts given global timestamps to local seconds. </p>
+     *
+     * <p>Both arrays can also be the same array. </p>
+     *
+     * @param   posixTimes      elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @param   localSeconds    array to be filled with local seconds since [1970-01-01T00:00:00]
+     * @throws  IllegalArgumentException if the array lengths are different
+     * @see     #toLocalSeconds(long)
+     */
+    /*[deutsch]
+     * <p>Wandelt die angegebenen globalen Zeitstempel in lokale Sekunden um. </p>
+     *
+     * <p>Beide Arrays d&uuml;rfen auch dasselbe Array sein. </p>
+     *
+     * @param   posixTimes      elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @param   localSeconds    array to be filled with local seconds since [1970-01-01T00:00:00]
+     * @throws  IllegalArgumentException if the array lengths are different
+     * @see     #toLocalSeconds(long)
+     */
+    public void toLocalSeconds(
+        long[] posixTimes,
+        long[] localSeconds
+    ) {
+
+        checkLength(posixTimes.length, localSeconds.length);
+        OffsetInterval interval = this.cache;
+
+        for (int i = 0; i < posixTimes.length; i++) {
+            long posixTime = posixTimes[i];
+            if ((interval == null) || (posixTime < interval.start) || (posixTime >= interval.end)) {
+                interval = this.lookup(posixTime);
+            }
+            localSeconds[i] = posixTime + interval.offset;
+        }
+
+        if (interval != null) {
+            this.cache = interval;
+        }
+
+    }
+
+    /**
+     * <p>Converts given global timestamp to a local timestamp. </p>
+     *
+     * <p>Equivalent to {@code Moment.of(posixTime, nanosecond, TimeScale.POSIX).toZonalTimestamp(tzid)}. </p>
+     *
+     * @param   posixTime   elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @param   nanosecond  nanosecond fraction of second
+     * @return  local timestamp
+     * @throws  IllegalArgumentException if the nanosecond is out of range or the result is out of range
+     */
+    /*[deutsch]
+     * <p>Wandelt den angegebenen globalen Zeitstempel in einen lokalen Zeitstempel um. </p>
+     *
+     * <p>&Auml;quivalent zu {@code Moment.of(posixTime, nanosecond, TimeScale.POSIX).toZonalTimestamp(tzid)}. </p>
+     *
+     * @param   posixTime   elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @param   nanosecond  nanosecond fraction of second
+     * @return  local timestamp
+     * @throws  IllegalArgumentException if the nanosecond is out of range or the result is out of range
+     */
+    public PlainTimestamp toTimestamp(
+        long posixTime,
+        int nanosecond
+    ) {
+
+        if ((nanosecond < 0) || (nanosecond >= MRD)) {
+            throw new IllegalArgumentException("Nanosecond out of range: " + nanosecond);
+        }
+
+        return toTimestamp(this.toLocalSeconds(posixTime), nanosecond, null);
+
+    }
+
+    /**
+     * <p>Converts given global timestamp to a local timestamp. </p>
+     *
+     * @param   ut          global timestamp (leap seconds will always be lost)
+     * @return  local timestamp
+     * @throws  IllegalArgumentException if the result is out of range
+     */
+    /*[deutsch]
+     * <p>Wandelt den angegebenen globalen Zeitstempel in einen lokalen Zeitstempel um. </p>
+     *
+     * @param   ut          global timestamp (leap seconds will always be lost)
+     * @return  local timestamp
+     * @throws  IllegalArgumentException if the result is out of range
+     */
+    public PlainTimestamp toTimestamp(UnixTime ut) {
+
+        return this.toTimestamp(ut.getPosixTime(), ut.getNanosecond());
+
+    }
+
+    /**
+     * <p>Converts given global timestamps to local timestamps. </p>
+     *
+     * <p>Consecutive timestamps on the same local calendar date share the same
+     * date object. </p>
+     *
+     * @param   posixTimes  elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @param   nanos       nanosecond fractions of seconds or {@code null} if always zero
+     * @param   timestamps  array to be filled with local timestamps
+     * @throws  IllegalArgumentException if the array lengths are different or any nanosecond
+     *          or any result is out of range
+     */
+    /*[deutsch]
+     * <p>Wandelt die angegebenen globalen Zeitstempel in lokale Zeitstempel um. </p>
+     *
+     * <p>Aufeinanderfolgende Zeitstempel am selben lokalen Kalenderdatum teilen sich
+     * dasselbe Datumsobjekt. </p>
+     *
+     * @param   posixTimes  elapsed seconds since UNIX epoch [1970-01-01T00:00:00Z]
+     * @param   nanos       nanosecond fractions of seconds or {@code null} if always zero
+     * @param   timestamps  array to be filled with local timestamps
+     * @throws  IllegalArgumentException if the array lengths are different or any nanosecond
+     *          or any result is out of range
+     */
+    public void toTimestamps(
+        long[] posixTimes,
+        int[] nanos,
+        PlainTimestamp[] timestamps
+    ) {
+
+        checkLength(posixTimes.length, timestamps.length);
+
+        if (nanos != null) {
+            checkLength(posixTimes.length, nanos.length);
+        }
+
+        OffsetInterval interval = this.cache;
+        PlainDate lastDate = null;
+
+        for (int i = 0; i < posixTimes.length; i++) {
+            long posixTime = posixTimes[i];
+            int nano = ((nanos == null) ? 0 : nanos[i]);
+            if ((nano < 0) || (nano >= MRD)) {
+                throw new IllegalArgumentException("Nanosecond out of range: " + nano);
+            }
+            if ((interval == null) || (posixTime < interval.start) || (posixTime >= interval.end)) {
+                interval = this.lookup(posixTime);
+            }
+            PlainTimestamp tsp = toTimestamp(posixTime + interval.offset, nano, lastDate);
+            lastDate = tsp.getCalendarDate();
+            timestamps[i] = tsp;
+        }
+
+        if (interval != null) {
+            this.cache = interval;
+        }
+
+    }
+
+    /**
+     * <p>For debugging purposes. </p>
+     *
+     * @return  String
+     */
+    /*[deutsch]
+     * <p>F&uuml;r Debugging-Zwecke. </p>
+     *
+     * @return  String
+     */
+    @Override
+    public String toString() {
+
+        return "ZonalConverter[" + this.timezone.getID().canonical() + "]";
+
+    }
+
+    private OffsetInterval lookup(long posixTime) {
+
+        UnixTime ut = new PosixTime(posixTime);
+
+        if (this.history == null) {
+            // keine Übergangshistorie bekannt (zum Beispiel Plattform-Zeitzone)
+            int offset = this.timezone.getOffset(ut).getIntegralAmount();
+            return new OffsetInterval(posixTime, posixTime + 1, offset);
+        }
+
+        ZonalTransition start = this.history.findStartTransition(ut);
+        ZonalTransition next = this.history.findNextTransition(ut);
+
+        return new OffsetInterval(
+            ((start == null) ? Long.MIN_VALUE : start.getPosixTime()),
+            ((next == null) ? Long.MAX_VALUE : next.getPosixTime()),
+            ((start == null) ? this.history.getInitialOffset().getIntegralAmount() : start.getTotalOffset())
+        );
+
+    }
+
+    private static PlainTimestamp toTimestamp(
+        long localSeconds,
+        int nanosecond,
+        PlainDate lastDate
+    ) {
+
+        long epochDays = MathUtils.floorDivide(localSeconds, 86400);
+        PlainDate date;
+
+        if ((lastDate != null) && (EpochDays.UNIX.transform(lastDate.getDaysSinceUTC(), EpochDays.UTC) == epochDays)) {
+            date = lastDate;
+        } else {
+            date = PlainDate.of(epochDays, EpochDays.UNIX);
+        }
+
+        int secondsOfDay = MathUtils.floorModulo(localSeconds, 86400);
+        int second = secondsOfDay % 60;
+        int minutesOfDay = secondsOfDay / 60;
+        int minute = minutesOfDay % 60;
+        int hour = minutesOfDay / 60;
+
+        return PlainTimestamp.of(date, PlainTime.of(hour, minute, second, nanosecond));
+
+    }
+
+    private static void checkLength(
+        int expected,
+        int actual
+    ) {
+
+        if (expected != actual) {
+            throw new IllegalArgumentException("Array lengths are different: " + expected + " != " + actual);
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class OffsetInterval {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long start; // inklusive
+        private final long end; // exklusive
+        private final int offset;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        OffsetInterval(
+            long start,
+            long end,
+            int offset
+        ) {
+            super();
+
+            this.start = start;
+            this.end = end;
+            this.offset = offset;
+
+        }
+
+    }
+
+    private static class PosixTime
+        implements UnixTime {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long posixTime;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        PosixTime(long posixTime) {
+            super();
+
+            this.posixTime = posixTime;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public long getPosixTime() {
+
+            return this.posixTime;
+
+        }
+
+        @Override
+        public int getNanosecond() {
+
+            return 0;
+
+        }
+
+    }
+
+}
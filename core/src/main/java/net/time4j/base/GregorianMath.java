@@ -56,6 +56,16 @@ public final class GregorianMath {
     // Tage zwischen [0000-03-01] und [1970-01-01] minus MJD-Epoche
     private static final int OFFSET = 719468 - 40587;
 
+    // schneller Pfad im Bereich [1901-01-01]/[2099-12-31] mit einfacher Schaltjahresregel
+    private static final int MJD_1900_03_01 = 15079;
+    private static final int MJD_1901_01_01 = 15385;
+    private static final int MJD_2100_01_01 = 88069;
+
+    // Verschiebung um 400-Jahres-Zyklen, damit alle Zwischenergebnisse nicht-negativ sind
+    private static final long SHIFT_YEARS = 400L * 2600000;
+    private static final long SHIFT_DAYS = 146097L * 2600000;
+    private static final long MAX_DAYS = Long.MAX_VALUE / 8;
+
     //~ Konstruktoren -----------------------------------------------------
 
     private GregorianMath() {
@@ -375,61 +385,106 @@ public final class GregorianMath {
      */
     public static long toPackedDate(long mjd) {
 
-        long y;
+        int y;
         int m;
         int d;
 
-        long days = Math.addExact(mjd, OFFSET);
+        if ((mjd >= MJD_1901_01_01) && (mjd < MJD_2100_01_01)) {
+            // jedes vierte Jahr ist ein Schaltjahr, Jahresbeginn am 1. März
+            int n = 4 * (int) (mjd - MJD_1900_03_01) + 3;
+            int r = (n % 1461) >> 2;
+            int p = 2141 * r + 197913; // Monat und Tag nach Neri/Schneider ohne Division durch 153
+            y = 1900 + (n / 1461);
+            m = p >>> 16;
+            d = ((p & 0xFFFF) / 2141) + 1;
+
+            if (m > 12) {
+                y++;
+                m -= 12;
+            }
+        } else {
+            long days = Math.addExact(mjd, OFFSET);
 
-        // TODO: Optimierung der Performance im Jahresbereich 1901-2099
-        //       mit vereinfachtem Schaltjahresalgorithmus
-        // if (days >= year1901 && days < year2100) { ... }
+            if ((days < -SHIFT_DAYS) || (days > MAX_DAYS)) {
+                throw new IllegalArgumentException(
+                    "Modified julian date out of range: " + mjd);
+            }
 
-        long q400 = Math.floorDiv(days, 146097);
-        int r400 = (int) Math.floorMod(days, 146097);
+            long n1 = 4 * (days + SHIFT_DAYS) + 3;
+            long centuries = n1 / 146097;
+            int n2 = 4 * (int) ((n1 % 146097) >> 2) + 3; // Tag im Jahrhundert
+            int r = (n2 % 1461) >> 2;
+            int p = 2141 * r + 197913;
+            long year = 100 * centuries + (n2 / 1461) - SHIFT_YEARS;
+            m = p >>> 16;
+            d = ((p & 0xFFFF) / 2141) + 1;
+
+            if (m > 12) {
+                year++;
+                m -= 12;
+            }
 
-        if (r400 == 146096) {
-            y = (q400 + 1) * 400;
-            m = 2;
-            d = 29;
-        } else {
-            int q100 = (r400 / 36524);
-            int r100 = (r400 % 36524);
-
-            int q4 = (r100 / 1461);
-            int r4 = (r100 % 1461);
-
-            if (r4 == 1460) {
-                y = (q400 * 400 + q100 * 100 + (q4 + 1) * 4);
-                m = 2;
-                d = 29;
-            } else {
-                int q1 = (r4 / 365);
-                int r1 = (r4 % 365);
-
-                y = (q400 * 400 + q100 * 100 + q4 * 4 + q1);
-                m = (((r1 + 31) * 5) / 153) + 2;
-                d = r1 - (((m + 1) * 153) / 5) + 123;
-
-                if (m > 12) {
-                    y++;
-                    m -= 12;
-                }
+            if (year < GregorianMath.MIN_YEAR || year > GregorianMath.MAX_YEAR) {
+                throw new IllegalArgumentException(
+                    "Year out of range: " + year);
             }
-        }
 
-        if (y < GregorianMath.MIN_YEAR || y > GregorianMath.MAX_YEAR) {
-            throw new IllegalArgumentException(
-                "Year out of range: " + y);
+            y = (int) year;
         }
 
-        long result = (y << 32);
+        long result = ((long) y << 32);
         result |= (m << 16);
         result |= d;
         return result;
 
     }
 
+    /**
+     * <p>Calculates the gregorian dates for given modified julian dates
+     * in binary compressed format. </p>
+     *
+     * <p>This bulk variant is equivalent to calling {@link #toPackedDate(long)}
+     * for every element but avoids any intermediate objects. Both arrays can
+     * also be the same array. </p>
+     *
+     * @param   mjds        array of days since [1858-11-17] (modified julian date)
+     * @param   packedDates array to be filled with packed dates in binary format
+     * @throws  IllegalArgumentException if any calculated year is not in
+     *          range [(-999999999)-999999999)] or if the array lengths are different
+     * @see     #toPackedDate(long)
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Berechnet die gregorianischen Datumsangaben auf Basis der angegebenen
+     * modifizierten julianischen Datumsangaben. </p>
+     *
+     * <p>Diese Massenvariante ist &auml;quivalent zum Aufruf von {@link #toPackedDate(long)}
+     * f&uuml;r jedes Element, vermeidet aber jegliche Zwischenobjekte. Beide Arrays
+     * d&uuml;rfen auch dasselbe Array sein. </p>
+     *
+     * @param   mjds        array of days since [1858-11-17] (modified julian date)
+     * @param   packedDates array to be filled with packed dates in binary format
+     * @throws  IllegalArgumentException if any calculated year is not in
+     *          range [(-999999999)-999999999)] or if the array lengths are different
+     * @see     #toPackedDate(long)
+     * @since   4.18
+     */
+    public static void toPackedDates(
+        long[] mjds,
+        long[] packedDates
+    ) {
+
+        if (mjds.length != packedDates.length) {
+            throw new IllegalArgumentException(
+                "Array lengths are different: " + mjds.length + " != " + packedDates.length);
+        }
+
+        for (int i = 0; i < mjds.length; i++) {
+            packedDates[i] = toPackedDate(mjds[i]);
+        }
+
+    }
+
     /**
      * <p>Calculates the modified julian date. </p>
      *
@@ -470,7 +525,6 @@ public final class GregorianMath {
      * @return  days since [1858-11-17] (modified julian date)
      * @throws  IllegalArgumentException if any argument is out of range
      */
-    // TODO: Optimierung der Performance mit Jahres-Array im Bereich 1901-2099
     public static long toMJD(
         int year,
         int month,
@@ -479,24 +533,31 @@ public final class GregorianMath {
 
         checkDate(year, month, dayOfMonth);
 
-        long y = year;
         int m = month;
+        int y = ((m < 3) ? year - 1 : year);
 
         if (m < 3) {
-            y--;
             m += 12;
         }
 
+        int dayOfYear = ((979 * m - 2919) >> 5) + dayOfMonth; // Tage seit dem 1. März plus eins
+
+        if ((year >= 1901) && (year <= 2099)) {
+            // im Bereich 1900-2099 (nach Märzverschiebung) gilt: y/4 - y/100 + y/400 = y/4 - 15
+            return (1461 * y >> 2) - 15 + dayOfYear - 1 - OFFSET;
+        }
+
+        long shifted = y + SHIFT_YEARS;
+        long centuries = shifted / 100;
+
         long days = (
-            (y * 365)
-            + Math.floorDiv(y, 4)
-            - Math.floorDiv(y, 100)
-            + Math.floorDiv(y, 400)
-            + (((m + 1) * 153) / 5) - 123
-            + dayOfMonth
+            (1461 * shifted >> 2)
+            - centuries
+            + (centuries >> 2)
+            + dayOfYear - 1
         );
 
-        return days - OFFSET;
+        return days - SHIFT_DAYS - OFFSET;
 
     }
 
@@ -32,7 +32,14 @@ import net.time4j.engine.ChronoException;
 import net.time4j.engine.EpochDays;
 import net.time4j.scale.TimeScale;
 import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionHistory;
 import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
 
 
 /**
@@ -270,6 +277,231 @@ public abstract class JDBCAdapter<S, T>
 
     }
 
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Reads the SQL-TIMESTAMP-values of given column from the next rows of given result set
+     * into given buffer. </p>
+     *
+     * <p>The conversion is equivalent to {@link #SQL_TIMESTAMP} but resolves the system timezone
+     * only once per call and calculates the fields of the plain timestamp directly. SQL-NULL
+     * is stored as {@code null}. Reading stops if either the buffer is full or there are no
+     * more rows. Example: </p>
+     *
+     * <pre>
+     *  PlainTimestamp[] buffer = new PlainTimestamp[1000];
+     *  int count;
+     *  while ((count = JDBCAdapter.readTimestamps(rs, 1, buffer)) &gt; 0) {
+     *      // process the first count elements of buffer
+     *  }
+     * </pre>
+     *
+     * <p>Note: If an application needs other columns of the same rows, too, then it should
+     * not use this method because the cursor of the result set will be moved. </p>
+     *
+     * @param   rs          result set whose cursor is positioned before the next row to be read
+     * @param   columnIndex index of the column starting with {@code 1}
+     * @param   buffer      target array to be filled starting at index {@code 0}
+     * @return  count of rows read, {@code 0} if there are no more rows
+     * @throws  SQLException if the result set cannot be read
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Liest die SQL-TIMESTAMP-Werte der angegebenen Spalte aus den n&auml;chsten Zeilen der
+     * angegebenen Ergebnismenge in den angegebenen Puffer. </p>
+     *
+     * <p>Die Konversion entspricht {@link #SQL_TIMESTAMP}, ermittelt aber die Systemzeitzone
+     * nur einmal pro Aufruf und berechnet die Felder des Zeitstempels direkt. SQL-NULL wird als
+     * {@code null} gespeichert. Das Lesen endet, wenn entweder der Puffer voll ist oder keine
+     * weiteren Zeilen vorhanden sind. Beispiel: </p>
+     *
+     * <pre>
+     *  PlainTimestamp[] buffer = new PlainTimestamp[1000];
+     *  int count;
+     *  while ((count = JDBCAdapter.readTimestamps(rs, 1, buffer)) &gt; 0) {
+     *      // verarbeite die ersten count Elemente von buffer
+     *  }
+     * </pre>
+     *
+     * <p>Hinweis: Braucht eine Anwendung auch andere Spalten derselben Zeilen, sollte sie diese
+     * Methode nicht verwenden, weil der Cursor der Ergebnismenge bewegt wird. </p>
+     *
+     * @param   rs          result set whose cursor is positioned before the next row to be read
+     * @param   columnIndex index of the column starting with {@code 1}
+     * @param   buffer      target array to be filled starting at index {@code 0}
+     * @return  count of rows read, {@code 0} if there are no more rows
+     * @throws  SQLException if the result set cannot be read
+     * @since   4.18
+     */
+    public static int readTimestamps(
+        ResultSet rs,
+        int columnIndex,
+        PlainTimestamp[] buffer
+    ) throws SQLException {
+
+        SystemOffsets offsets = SystemOffsets.create();
+        int count = 0;
+
+        while ((count < buffer.length) && rs.next()) {
+            java.sql.Timestamp source = rs.getTimestamp(columnIndex);
+            buffer[count] = ((source == null) ? null : SqlTimestampRule.translate(source, offsets));
+            count++;
+        }
+
+        return count;
+
+    }
+
+    /**
+     * <p>Reads the SQL-TIMESTAMP-values of given column from the next rows of given result set
+     * into given buffer as moments. </p>
+     *
+     * <p>The conversion is equivalent to {@link #SQL_TIMESTAMP_WITH_ZONE}. SQL-NULL is stored
+     * as {@code null}. Reading stops if either the buffer is full or there are no more rows. </p>
+     *
+     * @param   rs          result set whose cursor is positioned before the next row to be read
+     * @param   columnIndex index of the column starting with {@code 1}
+     * @param   buffer      target array to be filled starting at index {@code 0}
+     * @return  count of rows read, {@code 0} if there are no more rows
+     * @throws  SQLException if the result set cannot be read
+     * @throws  ChronoException if any value is out of range
+     * @since   4.18
+     * @see     #readTimestamps(ResultSet, int, PlainTimestamp[])
+     */
+    /*[deutsch]
+     * <p>Liest die SQL-TIMESTAMP-Werte der angegebenen Spalte aus den n&auml;chsten Zeilen der
+     * angegebenen Ergebnismenge als Momente in den angegebenen Puffer. </p>
+     *
+     * <p>Die Konversion entspricht {@link #SQL_TIMESTAMP_WITH_ZONE}. SQL-NULL wird als
+     * {@code null} gespeichert. Das Lesen endet, wenn entweder der Puffer voll ist oder keine
+     * weiteren Zeilen vorhanden sind. </p>
+     *
+     * @param   rs          result set whose cursor is positioned before the next row to be read
+     * @param   columnIndex index of the column starting with {@code 1}
+     * @param   buffer      target array to be filled starting at index {@code 0}
+     * @return  count of rows read, {@code 0} if there are no more rows
+     * @throws  SQLException if the result set cannot be read
+     * @throws  ChronoException if any value is out of range
+     * @since   4.18
+     * @see     #readTimestamps(ResultSet, int, PlainTimestamp[])
+     */
+    public static int readMoments(
+        ResultSet rs,
+        int columnIndex,
+        Moment[] buffer
+    ) throws SQLException {
+
+        int count = 0;
+
+        while ((count < buffer.length) && rs.next()) {
+            java.sql.Timestamp source = rs.getTimestamp(columnIndex);
+            buffer[count] = ((source == null) ? null : SQL_TIMESTAMP_WITH_ZONE.translate(source));
+            count++;
+        }
+
+        return count;
+
+    }
+
+    /**
+     * <p>Adds one batch entry per array element to given prepared statement where the
+     * element is bound to given parameter index. </p>
+     *
+     * <p>The conversion is equivalent to {@link #SQL_TIMESTAMP} but resolves the system timezone
+     * only once per call. Other parameters keep their values set before so they are shared by
+     * all batch entries. {@code null}-elements are bound as SQL-NULL. The batch itself must be
+     * executed by the caller. </p>
+     *
+     * @param   ps              prepared statement
+     * @param   parameterIndex  index of the parameter starting with {@code 1}
+     * @param   values          timestamps to be bound
+     * @throws  SQLException if the statement cannot be prepared
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>F&uuml;gt der angegebenen vorbereiteten Anweisung je Array-Element einen Stapeleintrag
+     * hinzu, in dem das Element an den angegebenen Parameterindex gebunden ist. </p>
+     *
+     * <p>Die Konversion entspricht {@link #SQL_TIMESTAMP}, ermittelt aber die Systemzeitzone
+     * nur einmal pro Aufruf. Andere Parameter behalten ihre vorher gesetzten Werte, die somit
+     * von allen Stapeleintr&auml;gen geteilt werden. {@code null}-Elemente werden als SQL-NULL
+     * gebunden. Der Stapel selbst mu&szlig; vom Aufrufer ausgef&uuml;hrt werden. </p>
+     *
+     * @param   ps              prepared statement
+     * @param   parameterIndex  index of the parameter starting with {@code 1}
+     * @param   values          timestamps to be bound
+     * @throws  SQLException if the statement cannot be prepared
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   4.18
+     */
+    public static void addTimestampBatch(
+        PreparedStatement ps,
+        int parameterIndex,
+        PlainTimestamp[] values
+    ) throws SQLException {
+
+        SystemOffsets offsets = SystemOffsets.create();
+
+        for (PlainTimestamp tsp : values) {
+            if (tsp == null) {
+                ps.setNull(parameterIndex, Types.TIMESTAMP);
+            } else {
+                ps.setTimestamp(parameterIndex, SqlTimestampRule.from(tsp, offsets));
+            }
+            ps.addBatch();
+        }
+
+    }
+
+    /**
+     * <p>Adds one batch entry per array element to given prepared statement where the
+     * element is bound to given parameter index. </p>
+     *
+     * <p>The conversion is equivalent to {@link #SQL_TIMESTAMP_WITH_ZONE}. Other parameters
+     * keep their values set before so they are shared by all batch entries. {@code null}-elements
+     * are bound as SQL-NULL. The batch itself must be executed by the caller. </p>
+     *
+     * @param   ps              prepared statement
+     * @param   parameterIndex  index of the parameter starting with {@code 1}
+     * @param   values          moments to be bound
+     * @throws  SQLException if the statement cannot be prepared
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>F&uuml;gt der angegebenen vorbereiteten Anweisung je Array-Element einen Stapeleintrag
+     * hinzu, in dem das Element an den angegebenen Parameterindex gebunden ist. </p>
+     *
+     * <p>Die Konversion entspricht {@link #SQL_TIMESTAMP_WITH_ZONE}. Andere Parameter behalten
+     * ihre vorher gesetzten Werte, die somit von allen Stapeleintr&auml;gen geteilt werden.
+     * {@code null}-Elemente werden als SQL-NULL gebunden. Der Stapel selbst mu&szlig; vom
+     * Aufrufer ausgef&uuml;hrt werden. </p>
+     *
+     * @param   ps              prepared statement
+     * @param   parameterIndex  index of the parameter starting with {@code 1}
+     * @param   values          moments to be bound
+     * @throws  SQLException if the statement cannot be prepared
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   4.18
+     */
+    public static void addMomentBatch(
+        PreparedStatement ps,
+        int parameterIndex,
+        Moment[] values
+    ) throws SQLException {
+
+        for (Moment moment : values) {
+            if (moment == null) {
+                ps.setNull(parameterIndex, Types.TIMESTAMP);
+            } else {
+                ps.setTimestamp(parameterIndex, SQL_TIMESTAMP_WITH_ZONE.from(moment));
+            }
+            ps.addBatch();
+        }
+
+    }
+
     //~ Innere Klassen ----------------------------------------------------
 
     private static class SqlDateRule
@@ -375,50 +607,55 @@ public abstract class JDBCAdapter<S, T>
         @Override
         public PlainTimestamp translate(java.sql.Timestamp source) {
 
-            long millis = source.getTime(); // UTC zone
+            return translate(source, SystemOffsets.create());
 
-            if (!WITH_SQL_UTC_CONVERSION) {
-                Moment unixTime =
-                    Moment.of(
-                        MathUtils.floorDivide(millis, 1000),
-                        TimeScale.POSIX);
-                ZonalOffset offset = Timezone.ofSystem().getOffset(unixTime);
-                millis += offset.getIntegralAmount() * 1000;
-            }
+        }
+
+        @Override
+        public java.sql.Timestamp from(PlainTimestamp tsp) {
+
+            return from(tsp, SystemOffsets.create());
+
+        }
+
+        static PlainTimestamp translate(
+            java.sql.Timestamp source,
+            SystemOffsets offsets
+        ) {
+
+            long millis = source.getTime(); // UTC zone
+            millis += offsets.getOffset(MathUtils.floorDivide(millis, 1000)) * 1000L;
 
             PlainDate date =
                 PlainDate.of(
                     MathUtils.floorDivide(millis, 86400 * 1000),
                     EpochDays.UNIX);
+            int secondOfDay = MathUtils.floorModulo(millis, 86400 * 1000) / 1000;
             PlainTime time =
-                PlainTime.of(0).plus(
-                    MathUtils.floorModulo(millis, 86400 * 1000), 
-                    ClockUnit.MILLIS);
-            PlainTimestamp ts = PlainTimestamp.of(date, time);
-            return ts.with(PlainTime.NANO_OF_SECOND, source.getNanos());
+                PlainTime.of(
+                    secondOfDay / 3600,
+                    (secondOfDay / 60) % 60,
+                    secondOfDay % 60,
+                    source.getNanos());
+            return PlainTimestamp.of(date, time);
 
         }
 
-        @Override
-        public java.sql.Timestamp from(PlainTimestamp tsp) {
-
-            long dateMillis = // local millis
-                MathUtils.safeMultiply(
-                    tsp.getCalendarDate().get(EpochDays.UNIX),
-                    86400 * 1000
-                );
-            long timeMillis = tsp.get(PlainTime.MILLI_OF_DAY);
-
-            if (!WITH_SQL_UTC_CONVERSION) {
-                ZonalOffset offset =
-                    Timezone.ofSystem().getOffset(tsp, tsp);
-                timeMillis -= offset.getIntegralAmount() * 1000;
-            }
-
-            java.sql.Timestamp ret =
-                new java.sql.Timestamp(
-                    MathUtils.safeAdd(dateMillis, timeMillis));
-            ret.setNanos(tsp.get(PlainTime.NANO_OF_SECOND));
+        static java.sql.Timestamp from(
+            PlainTimestamp tsp,
+            SystemOffsets offsets
+        ) {
+
+            long localSeconds =
+                MathUtils.safeAdd(
+                    MathUtils.safeMultiply(
+                        PlainDate.axis().getCalendarSystem().transform(tsp.getCalendarDate()) + 2 * 365,
+                        86400),
+                    tsp.getHour() * 3600 + tsp.getMinute() * 60 + tsp.getSecond());
+            long seconds = localSeconds - offsets.getOffset(tsp, localSeconds);
+
+            java.sql.Timestamp ret = new java.sql.Timestamp(MathUtils.safeMultiply(seconds, 1000));
+            ret.setNanos(tsp.getNanosecond());
             return ret;
 
         }
@@ -452,4 +689,111 @@ public abstract class JDBCAdapter<S, T>
 
     }
 
+    /**
+     * <p>Caches the offset of the system timezone for the period between two
+     * transitions so that time-ordered bulk data need only few lookups. </p>
+     *
+     * <p>Instances are not thread-safe and only live during one conversion call. </p>
+     */
+    static final class SystemOffsets {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        // Sicherheitsabstand zu Übergängen bei lokalen Zeitstempeln (Lücken und Überlappungen)
+        private static final long LOCAL_MARGIN = 86400L;
+
+        private static final SystemOffsets UTC = new SystemOffsets(null);
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Timezone tz;
+        private final TransitionHistory history;
+        private long start = Long.MAX_VALUE;
+        private long end = Long.MIN_VALUE;
+        private int offset = 0;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        SystemOffsets(Timezone tz) {
+            super();
+
+            this.tz = tz;
+            this.history = ((tz == null) ? null : tz.getHistory());
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        static SystemOffsets create() {
+
+            return (WITH_SQL_UTC_CONVERSION ? UTC : new SystemOffsets(Timezone.ofSystem()));
+
+        }
+
+        /**
+         * <p>Determines the offset in seconds valid at given POSIX time. </p>
+         *
+         * @param   posix   elapsed seconds since UNIX epoch
+         * @return  total offset in seconds
+         */
+        int getOffset(long posix) {
+
+            if (this.tz == null) {
+                return 0;
+            } else if ((posix < this.start) || (posix >= this.end)) {
+                this.update(Moment.of(posix, TimeScale.POSIX));
+            }
+
+            return this.offset;
+
+        }
+
+        /**
+         * <p>Determines the offset in seconds valid at given local timestamp. </p>
+         *
+         * @param   tsp             local timestamp
+         * @param   localSeconds    local elapsed seconds since UNIX epoch
+         * @return  total offset in seconds
+         */
+        int getOffset(
+            PlainTimestamp tsp,
+            long localSeconds
+        ) {
+
+            if (this.tz == null) {
+                return 0;
+            }
+
+            long posix = localSeconds - this.offset;
+
+            if ((posix - LOCAL_MARGIN >= this.start) && (posix + LOCAL_MARGIN < this.end)) {
+                return this.offset;
+            }
+
+            // mehrdeutig oder ungültig nahe einem Übergang: Zeitzonenstrategie entscheidet
+            int total = this.tz.getOffset(tsp, tsp).getIntegralAmount();
+            this.update(Moment.of(localSeconds - total, TimeScale.POSIX));
+            return total;
+
+        }
+
+        private void update(Moment moment) {
+
+            this.offset = this.tz.getOffset(moment).getIntegralAmount();
+
+            if (this.history == null) {
+                // nur einzelne Abfrage möglich
+                this.start = Long.MAX_VALUE;
+                this.end = Long.MIN_VALUE;
+            } else {
+                ZonalTransition previous = this.history.findStartTransition(moment);
+                ZonalTransition next = this.history.findNextTransition(moment);
+                this.start = ((previous == null) ? Long.MIN_VALUE : previous.getPosixTime());
+                this.end = ((next == null) ? Long.MAX_VALUE : next.getPosixTime());
+            }
+
+        }
+
+    }
+
 }
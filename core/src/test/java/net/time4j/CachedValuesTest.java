@@ -0,0 +1,112 @@
+package net.time4j;
+
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.ZonalOffset;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class CachedValuesTest {
+
+    @After
+    public void resetCache() {
+        PlainDate.resetCache();
+    }
+
+    @Test
+    public void fullMinutesAreCanonical() {
+        PlainTime time = PlainTime.of(17, 45);
+        assertThat(PlainTime.of(17, 45, 0), sameInstance(time));
+        assertThat(PlainTime.of(17, 45, 0, 0), sameInstance(time));
+        assertThat(PlainTime.midnightAtStartOfDay().plus(17 * 60 + 45, ClockUnit.MINUTES), sameInstance(time));
+        assertThat(time.getHour(), is(17));
+        assertThat(time.getMinute(), is(45));
+        assertThat(time.getSecond(), is(0));
+    }
+
+    @Test
+    public void otherTimesAreNotCached() {
+        assertThat(PlainTime.of(17, 45, 1), not(sameInstance(PlainTime.of(17, 45, 1))));
+        assertThat(PlainTime.of(17, 45, 0, 1), is(PlainTime.of(17, 45, 0, 1)));
+    }
+
+    @Test
+    public void momentConversionUsesCache() {
+        Moment m = Moment.of(3600 * 5 + 60 * 7, TimeScale.POSIX);
+        assertThat(m.toZonalTimestamp(ZonalOffset.UTC).getWallTime(), sameInstance(PlainTime.of(5, 7)));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidMinute() {
+        PlainTime.of(10, 60);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidHour() {
+        PlainTime.of(25, 1);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void endOfDayWithMinute() {
+        PlainTime.of(24, 1);
+    }
+
+    @Test
+    public void datesAroundTodayAreCanonical() {
+        PlainDate today = SystemClock.inLocalView().today();
+        PlainDate date = PlainDate.of(today.getYear(), today.getMonth(), today.getDayOfMonth());
+        assertThat(today, sameInstance(date));
+        assertThat(
+            PlainDate.of(today.getYear(), 12, 31).plus(1, CalendarUnit.DAYS),
+            sameInstance(PlainDate.of(today.getYear() + 1, 1, 1)));
+        assertThat(PlainDate.of(today.getYear(), 2, 1).getMonth(), is(2));
+    }
+
+    @Test
+    public void windowFollowsClockIntoFuture() {
+        int year = SystemClock.inLocalView().today().getYear();
+        PlainDate.resetCache(year - 1); // veraltetes Fenster wie nach einem Jahreswechsel
+        PlainDate date = PlainDate.of(year + 1, 7, 1);
+        assertThat(PlainDate.of(year + 1, 7, 1), sameInstance(date));
+        assertThat(date.getYear(), is(year + 1));
+    }
+
+    @Test
+    public void windowFollowsClockIntoPast() {
+        int year = SystemClock.inLocalView().today().getYear();
+        PlainDate.resetCache(year + 1); // Systemuhr wurde zurückgestellt
+        PlainDate date = PlainDate.of(year - 1, 7, 1);
+        assertThat(PlainDate.of(year - 1, 7, 1), sameInstance(date));
+        assertThat(date.getYear(), is(year - 1));
+    }
+
+    @Test
+    public void windowDoesNotRollBeyondClock() {
+        int year = SystemClock.inLocalView().today().getYear();
+        assertThat(PlainDate.of(year + 2, 7, 1), not(sameInstance(PlainDate.of(year + 2, 7, 1))));
+        assertThat(PlainDate.of(year - 2, 7, 1), not(sameInstance(PlainDate.of(year - 2, 7, 1))));
+        assertThat(PlainDate.of(year, 7, 1), sameInstance(PlainDate.of(year, 7, 1)));
+    }
+
+    @Test
+    public void distantDatesAreNotCached() {
+        assertThat(PlainDate.of(1900, 1, 1), not(sameInstance(PlainDate.of(1900, 1, 1))));
+        assertThat(PlainDate.of(1900, 1, 1), is(PlainDate.of(1900, 1, 1)));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidDateInWindow() {
+        int year = SystemClock.inLocalView().today().getYear();
+        PlainDate.of(year, 2, 30);
+    }
+
+}
@@ -15,20 +15,26 @@ import org.junit.runners.Suite.SuiteClasses;
     {
         TestInitialization.class,
         AxisElementTest.class,
+        CachedValuesTest.class,
         CompareZonalDateTimeTest.class,
         ComponentElementTest.class,
         DateSuite.class,
         DurationSuite.class,
         JDBCAdapterTest.class,
         MinMaxTest.class,
+        MomentArraysTest.class,
         NumberSuite.class,
         OperatorSuite.class,
+        PatternTemplateTest.class,
         ScaleSuite.class,
         SerializationTest.class,
         SystemClockTest.class,
+        TemporalCodecTest.class,
+        TemporalKeyTest.class,
         TemporalTypeTest.class,
         TimeLineTest.class,
         TimeSuite.class,
+        ZonalConverterTest.class,
         ZoneSuite.class
     }
 )
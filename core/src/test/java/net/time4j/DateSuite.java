@@ -14,6 +14,7 @@ import org.junit.runners.Suite.SuiteClasses;
         DatePropertiesTest.class,
         DayArithmeticTest.class,
         EpochDaysTest.class,
+        GregorianMathTest.class,
         GregorianTransformationTest.class,
         LeapYearOrdinalDateTest.class,
         LeapYearRangeArithmeticTest.class,
@@ -28,6 +29,7 @@ import org.junit.runners.Suite.SuiteClasses;
         StdYearRangeArithmeticTest.class,
         WeekdayValueTest.class,
         WeekmodelTest.class,
+        WeekTableTest.class,
         YearMonthArithmeticTest.class
     }
 )
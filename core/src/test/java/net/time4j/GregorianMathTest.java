@@ -0,0 +1,106 @@
+package net.time4j;
+
+import net.time4j.base.GregorianMath;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class GregorianMathTest {
+
+    @Test
+    public void roundTripAroundFastPath() {
+        long start = GregorianMath.toMJD(1800, 1, 1);
+        long end = GregorianMath.toMJD(2200, 12, 31);
+        int year = 1800;
+        int month = 1;
+        int dom = 1;
+
+        for (long mjd = start; mjd <= end; mjd++) {
+            long packed = GregorianMath.toPackedDate(mjd);
+            assertThat(GregorianMath.readYear(packed), is(year));
+            assertThat(GregorianMath.readMonth(packed), is(month));
+            assertThat(GregorianMath.readDayOfMonth(packed), is(dom));
+            assertThat(GregorianMath.toMJD(year, month, dom), is(mjd));
+
+            if (dom < GregorianMath.getLengthOfMonth(year, month)) {
+                dom++;
+            } else if (month < 12) {
+                month++;
+                dom = 1;
+            } else {
+                year++;
+                month = 1;
+                dom = 1;
+            }
+        }
+    }
+
+    @Test
+    public void fastPathBoundaries() {
+        assertThat(GregorianMath.toMJD(1900, 12, 31), is(15384L));
+        assertThat(GregorianMath.toMJD(1901, 1, 1), is(15385L));
+        assertThat(GregorianMath.toMJD(2000, 2, 29), is(51603L));
+        assertThat(GregorianMath.toMJD(2099, 12, 31), is(88068L));
+        assertThat(GregorianMath.toMJD(2100, 1, 1), is(88069L));
+        assertThat(GregorianMath.toMJD(2100, 3, 1), is(88128L));
+        assertThat(GregorianMath.toPackedDate(88127L), is(packed(2100, 2, 28)));
+        assertThat(GregorianMath.toPackedDate(88128L), is(packed(2100, 3, 1)));
+        assertThat(GregorianMath.toPackedDate(15384L), is(packed(1900, 12, 31)));
+        assertThat(GregorianMath.toPackedDate(15385L), is(packed(1901, 1, 1)));
+    }
+
+    @Test
+    public void extremeYears() {
+        long min = GregorianMath.toMJD(GregorianMath.MIN_YEAR, 1, 1);
+        long max = GregorianMath.toMJD(GregorianMath.MAX_YEAR, 12, 31);
+        assertThat(GregorianMath.toPackedDate(min), is(packed(GregorianMath.MIN_YEAR, 1, 1)));
+        assertThat(GregorianMath.toPackedDate(max), is(packed(GregorianMath.MAX_YEAR, 12, 31)));
+        assertThat(GregorianMath.toMJD(-4, 2, 29) + 1, is(GregorianMath.toMJD(-4, 3, 1)));
+        assertThat(GregorianMath.toMJD(-100, 2, 28) + 1, is(GregorianMath.toMJD(-100, 3, 1)));
+        assertThat(GregorianMath.toMJD(-400, 2, 29) + 1, is(GregorianMath.toMJD(-400, 3, 1)));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void beforeMinYear() {
+        GregorianMath.toPackedDate(GregorianMath.toMJD(GregorianMath.MIN_YEAR, 1, 1) - 1);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void afterMaxYear() {
+        GregorianMath.toPackedDate(GregorianMath.toMJD(GregorianMath.MAX_YEAR, 12, 31) + 1);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void extremeMJD() {
+        GregorianMath.toPackedDate(Long.MAX_VALUE / 2);
+    }
+
+    @Test
+    public void toPackedDates() {
+        long[] mjds = {-678941L, 0L, 51603L, 88068L, 88069L};
+        long[] packedDates = new long[mjds.length];
+        GregorianMath.toPackedDates(mjds, packedDates);
+        for (int i = 0; i < mjds.length; i++) {
+            assertThat(packedDates[i], is(GregorianMath.toPackedDate(mjds[i])));
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void toPackedDatesWithDifferentLengths() {
+        GregorianMath.toPackedDates(new long[2], new long[3]);
+    }
+
+    private static long packed(
+        int year,
+        int month,
+        int dom
+    ) {
+        return (((long) year) << 32) | (month << 16) | dom;
+    }
+
+}
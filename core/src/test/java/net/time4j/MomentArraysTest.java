@@ -0,0 +1,187 @@
+package net.time4j;
+
+import net.time4j.scale.LeapSecondEvent;
+import net.time4j.scale.LeapSeconds;
+import net.time4j.scale.TimeScale;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class MomentArraysTest {
+
+    @Test
+    public void convertAllScalesAroundLeapSeconds() {
+        List<Moment> moments = new ArrayList<>();
+
+        for (LeapSecondEvent event : LeapSeconds.getInstance()) {
+            Moment ls = PlainDate.from(event.getDate()).atTime(23, 59, 59).atUTC().plus(1, SI.SECONDS);
+            for (int i = -3; i <= 3; i++) {
+                Moment m = ls.plus(i, SI.SECONDS);
+                if (!m.isBefore(Moment.of(0, TimeScale.GPS))) {
+                    moments.add(m);
+                }
+            }
+        }
+
+        Collections.shuffle(moments, new Random(42));
+        assertThat(moments.stream().anyMatch(Moment::isLeapSecond), is(true));
+
+        for (TimeScale source : TimeScale.values()) {
+            for (TimeScale target : TimeScale.values()) {
+                long[] input = new long[moments.size()];
+                for (int i = 0; i < input.length; i++) {
+                    input[i] = moments.get(i).getElapsedTime(source);
+                }
+                long[] output = new long[input.length];
+                MomentArrays.convert(input, source, output, target);
+                for (int i = 0; i < input.length; i++) {
+                    long expected = Moment.of(input[i], source).getElapsedTime(target);
+                    assertThat(source + "->" + target + " at " + moments.get(i), output[i], is(expected));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void convertParallelSortedAndUnsorted() {
+        Random random = new Random(7);
+        long start = Moment.of(0, TimeScale.GPS).getElapsedTime(TimeScale.UTC);
+        long end = PlainTimestamp.of(2017, 6, 30, 0, 0).atUTC().getElapsedTime(TimeScale.UTC);
+        long[] sorted = new long[100000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = start + (end - start) * i / sorted.length;
+        }
+        long[] unsorted = new long[sorted.length];
+        for (int i = 0; i < unsorted.length; i++) {
+            unsorted[i] = start + (long) (random.nextDouble() * (end - start));
+        }
+        for (long[] input : new long[][] {sorted, unsorted}) {
+            for (TimeScale target : TimeScale.values()) {
+                long[] sequential = new long[input.length];
+                long[] parallel = new long[input.length];
+                MomentArrays.convert(input, TimeScale.UTC, sequential, target);
+                MomentArrays.convert(input, TimeScale.UTC, parallel, target, true);
+                assertThat(parallel, is(sequential));
+                for (int i = 0; i < input.length; i += 997) {
+                    long expected = Moment.of(input[i], TimeScale.UTC).getElapsedTime(target);
+                    assertThat(parallel[i], is(expected));
+                }
+            }
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void convertParallelOutOfRange() {
+        long[] input = new long[100000];
+        input[77777] = -1;
+        MomentArrays.convert(input, TimeScale.GPS, new long[input.length], TimeScale.POSIX, true);
+    }
+
+    @Test
+    public void convertInPlaceBefore1972() {
+        long[] times = {-86400L * 365 * 100, -1, 0, 1, 63072000};
+        long[] expected = new long[times.length];
+        for (int i = 0; i < times.length; i++) {
+            expected[i] = Moment.of(times[i], TimeScale.POSIX).getElapsedTime(TimeScale.UTC);
+        }
+        MomentArrays.convert(times, TimeScale.POSIX, times, TimeScale.UTC);
+        for (int i = 0; i < times.length; i++) {
+            assertThat(times[i], is(expected[i]));
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void convertGpsOutOfRange() {
+        MomentArrays.convert(new long[] {0, 1}, TimeScale.POSIX, new long[2], TimeScale.GPS);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void convertTaiOutOfRange() {
+        MomentArrays.convert(new long[] {20, 5}, TimeScale.TAI, new long[2], TimeScale.POSIX);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void convertDifferentLengths() {
+        MomentArrays.convert(new long[2], TimeScale.POSIX, new long[3], TimeScale.UTC);
+    }
+
+    @Test
+    public void validate() {
+        MomentArrays.validate(new long[] {0, 1000, -1000}, new int[] {0, 999999999, 5}, TimeScale.POSIX);
+        MomentArrays.validate(new long[] {0, 1000}, new int[] {0, 999999999}, TimeScale.UTC);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void validateNanosOutOfRange() {
+        MomentArrays.validate(new long[] {0, 1000}, new int[] {0, 1000000000}, TimeScale.POSIX);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void validatePosixOutOfRange() {
+        MomentArrays.validate(new long[] {Long.MAX_VALUE}, new int[] {0}, TimeScale.POSIX);
+    }
+
+    @Test
+    public void toMoment() {
+        long[] times = {1000, 2000};
+        int[] nanos = {1, 2};
+        assertThat(
+            MomentArrays.toMoment(times, nanos, 1, TimeScale.UTC),
+            is(Moment.of(2000, 2, TimeScale.UTC)));
+    }
+
+    @Test
+    public void sortSmallAndLarge() {
+        for (int size : new int[] {0, 1, 2, 17, 1000, 100000}) {
+            Random random = new Random(size);
+            long[] times = new long[size];
+            int[] nanos = new int[size];
+            List<Moment> expected = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                times[i] = random.nextInt(1000) - 500;
+                nanos[i] = random.nextInt(1000000000);
+                expected.add(Moment.of(times[i], nanos[i], TimeScale.POSIX));
+            }
+            Collections.sort(expected);
+            MomentArrays.sort(times, nanos);
+            for (int i = 0; i < size; i++) {
+                assertThat(MomentArrays.toMoment(times, nanos, i, TimeScale.POSIX), is(expected.get(i)));
+            }
+        }
+    }
+
+    @Test
+    public void mergeAndDistinct() {
+        long[] t1 = {1, 3, 3, 5};
+        int[] n1 = {0, 0, 7, 0};
+        long[] t2 = {2, 3, 6};
+        int[] n2 = {0, 7, 0};
+        long[] t = new long[7];
+        int[] n = new int[7];
+        MomentArrays.merge(t1, n1, t2, n2, t, n);
+        assertThat(t, is(new long[] {1, 2, 3, 3, 3, 5, 6}));
+        assertThat(n, is(new int[] {0, 0, 0, 7, 7, 0, 0}));
+        int count = MomentArrays.distinct(t, n);
+        assertThat(count, is(6));
+        assertThat(n[3], is(7));
+        assertThat(t[4], is(5L));
+        assertThat(t[5], is(6L));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void mergeWrongResultLength() {
+        MomentArrays.merge(new long[1], new int[1], new long[1], new int[1], new long[3], new int[3]);
+    }
+
+}
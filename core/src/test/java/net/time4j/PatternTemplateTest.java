@@ -0,0 +1,60 @@
+package net.time4j;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class PatternTemplateTest {
+
+    private static final String[] ITEMS = {"a", "b", "c"};
+
+    @Test
+    public void unitPattern() throws IOException {
+        PatternTemplate template = PatternTemplate.ofUnit("{0} Tag'e");
+        assertThat(template.hasArguments(), is(true));
+        assertThat(print(template, 1), is("a Tag'e"));
+    }
+
+    @Test
+    public void unitPatternWithoutPlaceholder() throws IOException {
+        PatternTemplate template = PatternTemplate.ofUnit("Tag");
+        assertThat(template.hasArguments(), is(false));
+        assertThat(print(template, 1), is("Tag"));
+    }
+
+    @Test
+    public void listPatternLikeMessageFormat() throws IOException {
+        String[] patterns = {
+            "{0}, {1} und {2}",
+            "{2} {1} {0}",
+            "'{0}' ist {0}, aber ''{1}'' und {1}",
+            "{0}, {1}, {2}, {3}",
+            "",
+            "x"
+        };
+        for (String pattern : patterns) {
+            assertThat(
+                pattern,
+                print(PatternTemplate.ofList(pattern), ITEMS.length),
+                is(MessageFormat.format(pattern, (Object[]) ITEMS)));
+        }
+    }
+
+    private static String print(
+        PatternTemplate template,
+        int count
+    ) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        template.print(sb, (index, buffer) -> buffer.append(ITEMS[index]), count);
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,241 @@
+package net.time4j;
+
+import net.time4j.scale.TimeScale;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.text.ParseException;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class TemporalCodecTest {
+
+    @Test
+    public void dateLengths() {
+        assertThat(standardLength(TemporalCodec.DATE, PlainDate.of(2016, 2, 29)), is(3));
+        assertThat(standardLength(TemporalCodec.DATE, PlainDate.of(1600, 1, 1)), is(4));
+        assertThat(standardLength(TemporalCodec.DATE, PlainDate.of(-10000, 1, 1)), is(6));
+        assertThat(TemporalCodec.DATE.getFixedLength(), is(6));
+    }
+
+    @Test
+    public void timeLengths() {
+        assertThat(standardLength(TemporalCodec.TIME, PlainTime.of(17)), is(2));
+        assertThat(standardLength(TemporalCodec.TIME, PlainTime.of(17, 45)), is(3));
+        assertThat(standardLength(TemporalCodec.TIME, PlainTime.of(17, 45, 30)), is(4));
+        assertThat(standardLength(TemporalCodec.TIME, PlainTime.of(17, 45, 30, 1)), is(8));
+        assertThat(TemporalCodec.TIME.getFixedLength(), is(8));
+    }
+
+    @Test
+    public void roundTrip() {
+        PlainDate date = PlainDate.of(2016, 2, 29);
+        PlainTime time = PlainTime.of(23, 59, 0, 123456789);
+        Moment moment = PlainTimestamp.of(2012, 6, 30, 23, 59, 59).atUTC().plus(1, SI.SECONDS);
+        roundTrip(TemporalCodec.DATE, date);
+        roundTrip(TemporalCodec.DATE, PlainDate.of(-999999999, 1, 1));
+        roundTrip(TemporalCodec.TIME, time);
+        roundTrip(TemporalCodec.TIME, PlainTime.midnightAtEndOfDay());
+        roundTrip(TemporalCodec.TIMESTAMP, date.at(time));
+        roundTrip(TemporalCodec.MOMENT, moment);
+        roundTrip(TemporalCodec.MOMENT, Moment.of(-1, 1, TimeScale.POSIX));
+    }
+
+    @Test
+    public void sameBytesAsSerialization() throws Exception {
+        assertSerialized(TemporalCodec.DATE, PlainDate.of(2016, 2, 29));
+        assertSerialized(TemporalCodec.DATE, PlainDate.of(123456, 12, 31));
+        assertSerialized(TemporalCodec.TIME, PlainTime.of(8, 15, 0));
+        assertSerialized(TemporalCodec.TIMESTAMP, PlainTimestamp.of(1970, 1, 1, 0, 0));
+        assertSerialized(TemporalCodec.MOMENT, Moment.of(1278028824, 12345, TimeScale.POSIX));
+    }
+
+    @Test
+    public void durationRoundTrip() throws ParseException {
+        Duration<IsoUnit> duration =
+            Duration.ofZero().plus(Duration.parsePeriod("-P3Y2M1DT4H5M6,123456789S"));
+        ByteBuffer buffer = ByteBuffer.allocate(100);
+        TemporalCodec.DURATION.write(duration, buffer);
+        TemporalCodec.DURATION.write(Duration.<IsoUnit>ofZero(), buffer);
+        buffer.flip();
+        assertThat(TemporalCodec.DURATION.read(buffer), is(duration));
+        assertThat(TemporalCodec.DURATION.read(buffer).isEmpty(), is(true));
+        assertThat(buffer.hasRemaining(), is(false));
+    }
+
+    @Test
+    public void durationRoundTripWithLargeLaterAmount() {
+        Duration<IsoUnit> duration =
+            Duration.ofZero()
+                .plus(Duration.ofCalendarUnits(3, 2, 1))
+                .plus(Duration.ofClockUnits(4, 5, 6))
+                .plus(5000000000L, ClockUnit.NANOS);
+        assertThat(duration.getTotalLength().size() >= 7, is(true));
+        ByteBuffer buffer = ByteBuffer.allocate(100);
+        TemporalCodec.DURATION.write(duration, buffer);
+        buffer.flip();
+        assertThat(TemporalCodec.DURATION.read(buffer), is(duration));
+        assertThat(buffer.hasRemaining(), is(false));
+    }
+
+    @Test
+    public void byteBufferIOMatchesDataStreams() throws IOException {
+        String text = "a\u0000\u00E4\u20AC\uD83D\uDE00z";
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream dos = new DataOutputStream(baos);
+        dos.writeUTF(text);
+        dos.writeBytes("line1\r\n");
+        dos.writeChars(text);
+        dos.writeBytes("line2\rline3");
+        ByteBuffer buffer = ByteBuffer.allocate(100);
+        ByteBufferIO io = new ByteBufferIO(buffer);
+        io.writeUTF(text);
+        io.writeBytes("line1\r\n");
+        io.writeChars(text);
+        io.writeBytes("line2\rline3");
+        buffer.flip();
+        byte[] written = new byte[buffer.remaining()];
+        buffer.duplicate().get(written);
+        assertThat(Arrays.equals(written, baos.toByteArray()), is(true));
+        assertThat(io.readUTF(), is(text));
+        assertThat(io.readLine(), is("line1"));
+        for (int i = 0; i < text.length(); i++) {
+            assertThat(io.readChar(), is(text.charAt(i)));
+        }
+        assertThat(io.readLine(), is("line2"));
+        assertThat(io.readLine(), is("line3"));
+        assertThat(io.readLine() == null, is(true));
+    }
+
+    @Test(expected=UTFDataFormatException.class)
+    public void byteBufferIOWithMalformedUTF() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] {0, 2, (byte) 0xC3, 0x41});
+        new ByteBufferIO(buffer).readUTF();
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void durationWithWeekBasedYears() {
+        Duration<IsoUnit> duration = Duration.ofZero().plus(1, CalendarUnit.weekBasedYears());
+        TemporalCodec.DURATION.write(duration, ByteBuffer.allocate(100));
+    }
+
+    @Test(expected=UnsupportedOperationException.class)
+    public void durationWithoutFixedForm() {
+        TemporalCodec.DURATION.writeFixed(Duration.<IsoUnit>ofZero(), ByteBuffer.allocate(100));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void readWrongType() {
+        ByteBuffer buffer = ByteBuffer.allocate(20);
+        TemporalCodec.TIME.write(PlainTime.of(12), buffer);
+        buffer.flip();
+        TemporalCodec.DATE.read(buffer);
+    }
+
+    @Test
+    public void batchFixedWithRandomAccess() {
+        PlainDate[] dates = new PlainDate[50];
+
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = PlainDate.of(1800 + i * 7, 1 + (i % 12), 1 + (i % 28));
+        }
+
+        int len = TemporalCodec.DATE.getFixedLength();
+        ByteBuffer buffer = ByteBuffer.allocate(dates.length * len);
+        TemporalCodec.DATE.writeAllFixed(dates, buffer);
+        assertThat(buffer.hasRemaining(), is(false));
+        buffer.position(17 * len);
+        assertThat(TemporalCodec.DATE.read(buffer), is(dates[17]));
+
+        PlainDate[] result = new PlainDate[dates.length];
+        buffer.rewind();
+        TemporalCodec.DATE.readAll(buffer, result);
+        assertThat(result, is(dates));
+    }
+
+    @Test
+    public void batchStandard() {
+        Moment[] moments = new Moment[20];
+
+        for (int i = 0; i < moments.length; i++) {
+            moments[i] = Moment.of(i * 86399L, (i % 2) * 500, TimeScale.POSIX);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(moments.length * TemporalCodec.MOMENT.getFixedLength());
+        TemporalCodec.MOMENT.writeAll(moments, buffer);
+        assertThat(buffer.position(), is(10 * 9 + 10 * 13));
+        buffer.flip();
+        Moment[] result = new Moment[moments.length];
+        TemporalCodec.MOMENT.readAll(buffer, result);
+        assertThat(result, is(moments));
+    }
+
+    private static <T> int standardLength(
+        TemporalCodec<T> codec,
+        T value
+    ) {
+        ByteBuffer buffer = ByteBuffer.allocate(20);
+        codec.write(value, buffer);
+        return buffer.position();
+    }
+
+    private static <T> void roundTrip(
+        TemporalCodec<T> codec,
+        T value
+    ) {
+        ByteBuffer buffer = ByteBuffer.allocate(40);
+        codec.write(value, buffer);
+        codec.writeFixed(value, buffer);
+        assertThat(buffer.position() > codec.getFixedLength(), is(true));
+        buffer.flip();
+        assertThat(codec.read(buffer), is(value));
+        assertThat(buffer.remaining(), is(codec.getFixedLength()));
+        assertThat(codec.read(buffer), is(value));
+    }
+
+    private static <T> void assertSerialized(
+        TemporalCodec<T> codec,
+        T value
+    ) throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(bos);
+        oos.writeObject(value);
+        oos.close();
+        byte[] serialized = bos.toByteArray();
+
+        ByteBuffer buffer = ByteBuffer.allocate(20);
+        codec.write(value, buffer);
+        byte[] encoded = new byte[buffer.position()];
+        buffer.flip();
+        buffer.get(encoded);
+        assertThat(indexOf(serialized, encoded) >= 0, is(true));
+    }
+
+    private static int indexOf(
+        byte[] data,
+        byte[] pattern
+    ) {
+        outer:
+        for (int i = 0; i <= data.length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+}
@@ -0,0 +1,128 @@
+package net.time4j;
+
+import net.time4j.scale.TimeScale;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class TemporalKeyTest {
+
+    @Test
+    public void dateOrder() {
+        Random random = new Random(12345);
+
+        for (int i = 0; i < 10000; i++) {
+            PlainDate d1 = randomDate(random);
+            PlainDate d2 = randomDate(random);
+            byte[] k1 = TemporalKey.DATE.encode(d1);
+            byte[] k2 = TemporalKey.DATE.encode(d2);
+            assertThat(Integer.signum(TemporalKey.compareKeys(k1, k2)), is(Integer.signum(d1.compareTo(d2))));
+            assertThat(TemporalKey.DATE.decode(k1), is(d1));
+        }
+    }
+
+    @Test
+    public void dateExtremes() {
+        PlainDate min = PlainDate.axis().getMinimum();
+        PlainDate max = PlainDate.axis().getMaximum();
+        assertThat(TemporalKey.DATE.decode(TemporalKey.DATE.encode(min)), is(min));
+        assertThat(TemporalKey.DATE.decode(TemporalKey.DATE.encode(max)), is(max));
+        assertThat(
+            TemporalKey.compareKeys(TemporalKey.DATE.encode(min), TemporalKey.DATE.encode(PlainDate.of(-1, 12, 31))) < 0,
+            is(true));
+        assertThat(
+            TemporalKey.compareKeys(TemporalKey.DATE.encode(PlainDate.of(-1, 12, 31)), TemporalKey.DATE.encode(PlainDate.of(0, 1, 1))) < 0,
+            is(true));
+    }
+
+    @Test
+    public void timestampOrder() {
+        Random random = new Random(54321);
+
+        for (int i = 0; i < 10000; i++) {
+            PlainTimestamp t1 = randomDate(random).at(randomTime(random));
+            PlainTimestamp t2 = randomDate(random).at(randomTime(random));
+            byte[] k1 = TemporalKey.TIMESTAMP.encode(t1);
+            byte[] k2 = TemporalKey.TIMESTAMP.encode(t2);
+            assertThat(Integer.signum(TemporalKey.compareKeys(k1, k2)), is(Integer.signum(t1.compareTo(t2))));
+            assertThat(TemporalKey.TIMESTAMP.decode(k1), is(t1));
+        }
+
+        assertThat(
+            TemporalKey.compareKeys(
+                TemporalKey.TIME.encode(PlainTime.of(23, 59, 59, 999999999)),
+                TemporalKey.TIME.encode(PlainTime.midnightAtEndOfDay())) < 0,
+            is(true));
+    }
+
+    @Test
+    public void momentOrder() {
+        Random random = new Random(99);
+
+        for (int i = 0; i < 10000; i++) {
+            Moment m1 = Moment.of(random.nextLong() % 100000000000L, random.nextInt(1000000000), TimeScale.POSIX);
+            Moment m2 = Moment.of(random.nextLong() % 100000000000L, random.nextInt(1000000000), TimeScale.POSIX);
+            byte[] k1 = TemporalKey.MOMENT.encode(m1);
+            byte[] k2 = TemporalKey.MOMENT.encode(m2);
+            assertThat(Integer.signum(TemporalKey.compareKeys(k1, k2)), is(Integer.signum(m1.compareTo(m2))));
+            assertThat(TemporalKey.MOMENT.decode(k1), is(m1));
+        }
+    }
+
+    @Test
+    public void leapSecondOrder() {
+        Moment before = PlainTimestamp.of(2012, 6, 30, 23, 59, 59).atUTC().plus(999999999, SI.NANOSECONDS);
+        Moment leap = PlainTimestamp.of(2012, 6, 30, 23, 59, 59).atUTC().plus(1, SI.SECONDS);
+        Moment after = PlainTimestamp.of(2012, 7, 1, 0, 0).atUTC();
+        assertThat(leap.isLeapSecond(), is(true));
+
+        byte[] k1 = TemporalKey.MOMENT.encode(before);
+        byte[] k2 = TemporalKey.MOMENT.encode(leap);
+        byte[] k3 = TemporalKey.MOMENT.encode(after);
+        assertThat(TemporalKey.compareKeys(k1, k2) < 0, is(true));
+        assertThat(TemporalKey.compareKeys(k2, k3) < 0, is(true));
+        assertThat(TemporalKey.MOMENT.decode(k2), is(leap));
+        assertThat(TemporalKey.MOMENT.decode(k2).isLeapSecond(), is(true));
+    }
+
+    @Test
+    public void byteBuffer() {
+        Moment moment = Moment.of(1278028824, 12345, TimeScale.POSIX);
+        ByteBuffer heap = ByteBuffer.allocate(30);
+        ByteBuffer direct = ByteBuffer.allocateDirect(30);
+        heap.position(5);
+        TemporalKey.MOMENT.encode(moment, heap);
+        TemporalKey.MOMENT.encode(moment, direct);
+        assertThat(heap.position(), is(17));
+        assertThat(direct.position(), is(12));
+        heap.position(5);
+        direct.flip();
+        assertThat(TemporalKey.MOMENT.decode(heap), is(moment));
+        assertThat(TemporalKey.MOMENT.decode(direct), is(moment));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidKeyLength() {
+        TemporalKey.DATE.decode(new byte[5]);
+    }
+
+    private static PlainDate randomDate(Random random) {
+        long min = PlainDate.axis().getMinimum().getDaysSinceEpochUTC();
+        long max = PlainDate.axis().getMaximum().getDaysSinceEpochUTC();
+        long days = (random.nextInt(4) == 0) ? min + (long) (random.nextDouble() * (max - min)) : random.nextInt(200000);
+        return PlainDate.of(days, net.time4j.engine.EpochDays.UTC);
+    }
+
+    private static PlainTime randomTime(Random random) {
+        return PlainTime.of(random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000000000));
+    }
+
+}
@@ -0,0 +1,142 @@
+package net.time4j;
+
+import net.time4j.engine.EpochDays;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class WeekTableTest {
+
+    private static final Weekmodel[] MODELS = {
+        Weekmodel.ISO,
+        Weekmodel.of(Weekday.SUNDAY, 1),
+        Weekmodel.of(Weekday.SATURDAY, 1),
+        Weekmodel.of(Weekday.WEDNESDAY, 7)
+    };
+
+    @Test
+    public void isoWeekdate() {
+        WeekTable table = Weekmodel.ISO.createWeekTable(2000, 2030);
+        PlainDate date = PlainDate.of(2012, 12, 31);
+        assertThat(table.getWeekBasedYear(date), is(2013));
+        assertThat(table.getWeekOfYear(date), is(1));
+        date = PlainDate.of(2000, 1, 2);
+        assertThat(table.getWeekBasedYear(date), is(1999));
+        assertThat(table.getWeekOfYear(date), is(52));
+        assertThat(table.getFirstDayOfWeekBasedYear(2016), is(PlainDate.of(2016, 1, 4)));
+        assertThat(table.getFirstDayOfWeekBasedYear(1900), is(PlainDate.of(1900, 1, 1)));
+    }
+
+    @Test
+    public void consistentWithElements() {
+        for (Weekmodel model : MODELS) {
+            WeekTable table = model.createWeekTable(1995, 2035);
+            PlainDate date = PlainDate.of(1990, 1, 1);
+            PlainDate end = PlainDate.of(2040, 12, 31);
+            while (!date.isAfter(end)) {
+                int week = date.get(model.weekOfYear()).intValue();
+                int year = date.getYear();
+                if ((date.getMonth() == 1) && (week >= 52)) {
+                    year--;
+                } else if ((date.getMonth() == 12) && (week == 1)) {
+                    year++;
+                }
+                assertThat(model + ": " + date, table.getWeekOfYear(date), is(week));
+                assertThat(model + ": " + date, table.getWeekBasedYear(date), is(year));
+                if (model == Weekmodel.ISO) {
+                    assertThat(table.getWeekBasedYear(date), is(date.get(PlainDate.YEAR_OF_WEEKDATE)));
+                }
+                date = date.plus(1, CalendarUnit.DAYS);
+            }
+        }
+    }
+
+    @Test
+    public void bulk() {
+        for (Weekmodel model : MODELS) {
+            WeekTable table = model.createWeekTable(2010, 2020);
+            long start = PlainDate.of(2005, 1, 1).get(EpochDays.UNIX).longValue();
+            long[] days = new long[365 * 20];
+            for (int i = 0; i < days.length; i++) {
+                days[i] = start + ((i * 7919L) % days.length);
+            }
+            int[] years = new int[days.length];
+            int[] weeks = new int[days.length];
+            table.toWeekdates(days, EpochDays.UNIX, years, weeks);
+            for (int i = 0; i < days.length; i++) {
+                PlainDate date = PlainDate.of(days[i], EpochDays.UNIX);
+                assertThat(years[i], is(table.getWeekBasedYear(date)));
+                assertThat(weeks[i], is(date.get(model.weekOfYear())));
+            }
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void bulkDifferentLengths() {
+        Weekmodel.ISO.createWeekTable(2000, 2001).toWeekdates(new long[2], EpochDays.UTC, new int[2], new int[1]);
+    }
+
+    @Test
+    public void edgesOfTimeline() {
+        PlainDate min = PlainDate.axis().getMinimum();
+        PlainDate max = PlainDate.axis().getMaximum();
+        for (Weekmodel model : MODELS) {
+            WeekTable table = model.createWeekTable(2000, 2030);
+            for (int i = 0; i < 14; i++) {
+                PlainDate[] dates = {min.plus(i, CalendarUnit.DAYS), max.minus(i, CalendarUnit.DAYS)};
+                for (PlainDate date : dates) {
+                    int week = date.get(model.weekOfYear()).intValue();
+                    int year = date.getYear();
+                    if ((date.getMonth() == 1) && (week >= 52)) {
+                        year--;
+                    } else if ((date.getMonth() == 12) && (week == 1)) {
+                        year++;
+                    }
+                    assertThat(model + ": " + date, table.getWeekOfYear(date), is(week));
+                    assertThat(model + ": " + date, table.getWeekBasedYear(date), is(year));
+                    long[] days = {date.get(EpochDays.UNIX)};
+                    int[] years = new int[1];
+                    int[] weeks = new int[1];
+                    table.toWeekdates(days, EpochDays.UNIX, years, weeks);
+                    assertThat(model + ": " + date, years[0], is(year));
+                    assertThat(model + ": " + date, weeks[0], is(week));
+                }
+            }
+        }
+        assertThat(Weekmodel.ISO.createWeekTable(2000, 2030).getWeekOfYear(PlainDate.of(999999999, 6, 1)), is(22));
+        assertThat(Weekmodel.ISO.createWeekTable(2000, 2030).getWeekOfYear(max), is(52));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void bulkDayNearLongMax() {
+        Weekmodel.ISO.createWeekTable(2000, 2001).toWeekdates(
+            new long[] {0, Long.MAX_VALUE}, EpochDays.UNIX, new int[2], new int[2]);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void bulkDayNearLongMin() {
+        Weekmodel.ISO.createWeekTable(2000, 2001).toWeekdates(
+            new long[] {Long.MIN_VALUE}, EpochDays.MODIFIED_JULIAN_DATE, new int[1], new int[1]);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidRange() {
+        Weekmodel.ISO.createWeekTable(2001, 2000);
+    }
+
+    @Test
+    public void rangeProperties() {
+        WeekTable table = Weekmodel.ISO.createWeekTable(2000, 2000);
+        assertThat(table.getMinYear(), is(2000));
+        assertThat(table.getMaxYear(), is(2000));
+        assertThat(table.getModel(), is(Weekmodel.ISO));
+        assertThat(table, is(Weekmodel.ISO.createWeekTable(2000, 2000)));
+    }
+
+}
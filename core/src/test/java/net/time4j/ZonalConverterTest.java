@@ -0,0 +1,78 @@
+package net.time4j;
+
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ZonalConverterTest {
+
+    @Test
+    public void fixedOffset() {
+        ZonalConverter converter =
+            ZonalConverter.of(Timezone.of(ZonalOffset.ofHours(OffsetSign.BEHIND_UTC, 5)));
+        assertThat(converter.getOffsetInSeconds(0L), is(-5 * 3600));
+        assertThat(converter.toLocalSeconds(0L), is(-5 * 3600L));
+        assertThat(
+            converter.toTimestamp(0L, 5),
+            is(PlainTimestamp.of(1969, 12, 31, 19, 0).plus(5, ClockUnit.NANOS)));
+    }
+
+    @Test
+    public void sameAsMoment() {
+        Timezone tz = Timezone.of("Europe/Berlin");
+        ZonalConverter converter = ZonalConverter.of(tz);
+        long start = PlainTimestamp.of(2015, 1, 1, 0, 0).atUTC().getPosixTime();
+
+        for (long posix = start; posix < start + 2 * 365 * 86400L; posix += 3599) {
+            Moment moment = Moment.of(posix, 123456789, TimeScale.POSIX);
+            assertThat(converter.toTimestamp(posix, 123456789), is(moment.toZonalTimestamp(tz.getID())));
+            assertThat(converter.toTimestamp(moment), is(moment.toZonalTimestamp(tz.getID())));
+            assertThat(converter.getOffsetInSeconds(posix), is(tz.getOffset(moment).getIntegralAmount()));
+        }
+    }
+
+    @Test
+    public void bulkConversion() {
+        Timezone tz = Timezone.of("America/New_York");
+        ZonalConverter converter = ZonalConverter.of(tz);
+        long start = PlainTimestamp.of(2016, 3, 12, 0, 0).atUTC().getPosixTime();
+        long[] posixTimes = new long[100];
+        int[] nanos = new int[posixTimes.length];
+
+        for (int i = 0; i < posixTimes.length; i++) {
+            posixTimes[i] = start + i * 1800;
+            nanos[i] = i;
+        }
+
+        PlainTimestamp[] timestamps = new PlainTimestamp[posixTimes.length];
+        long[] localSeconds = new long[posixTimes.length];
+        converter.toTimestamps(posixTimes, nanos, timestamps);
+        converter.toLocalSeconds(posixTimes, localSeconds);
+
+        for (int i = 0; i < posixTimes.length; i++) {
+            Moment moment = Moment.of(posixTimes[i], nanos[i], TimeScale.POSIX);
+            assertThat(timestamps[i], is(moment.toZonalTimestamp(tz.getID())));
+            assertThat(localSeconds[i], is(posixTimes[i] + tz.getOffset(moment).getIntegralAmount()));
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void bulkConversionWithDifferentLengths() {
+        ZonalConverter.of(Timezone.of(ZonalOffset.UTC)).toLocalSeconds(new long[2], new long[3]);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void nanosecondOutOfRange() {
+        ZonalConverter.of(Timezone.of(ZonalOffset.UTC)).toTimestamp(0L, 1_000_000_000);
+    }
+
+}
@@ -6,10 +6,20 @@ import net.time4j.PlainDate;
 import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
 import net.time4j.scale.TimeScale;
+import net.time4j.tz.Timezone;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -95,4 +105,109 @@ public class JDBCAdapterTest {
             is(ts));
     }
 
+    @Test
+    public void readTimestampsInChunks() throws SQLException {
+        java.sql.Timestamp[] column = new java.sql.Timestamp[5];
+        for (int i = 0; i < column.length; i++) {
+            column[i] = new java.sql.Timestamp(1341100800L * 1000 + i * 86400123L);
+            column[i].setNanos(column[i].getNanos() + i);
+        }
+        column[2] = null;
+        ResultSet rs = resultSet(column);
+        PlainTimestamp[] buffer = new PlainTimestamp[3];
+
+        assertThat(JDBCAdapter.readTimestamps(rs, 1, buffer), is(3));
+        assertThat(buffer[0], is(JDBCAdapter.SQL_TIMESTAMP.translate(column[0])));
+        assertThat(buffer[1], is(PlainTimestamp.of(2012, 7, 2, 0, 0, 0).plus(123000001, ClockUnit.NANOS)));
+        assertThat(buffer[2] == null, is(true));
+        assertThat(JDBCAdapter.readTimestamps(rs, 1, buffer), is(2));
+        assertThat(buffer[1], is(JDBCAdapter.SQL_TIMESTAMP.translate(column[4])));
+        assertThat(JDBCAdapter.readTimestamps(rs, 1, buffer), is(0));
+    }
+
+    @Test
+    public void readMoments() throws SQLException {
+        java.sql.Timestamp ts = new java.sql.Timestamp(1341100800L * 1000);
+        ts.setNanos(210);
+        Moment[] buffer = new Moment[4];
+        assertThat(JDBCAdapter.readMoments(resultSet(ts, null), 1, buffer), is(2));
+        assertThat(buffer[0], is(Moment.of(1341100800L, 210, TimeScale.POSIX)));
+        assertThat(buffer[1] == null, is(true));
+    }
+
+    @Test
+    public void addTimestampBatch() throws SQLException {
+        PlainTimestamp tsp = PlainTimestamp.of(2012, 7, 1, 0, 0, 0).plus(210, ClockUnit.NANOS);
+        List<Object> bound = new ArrayList<>();
+        JDBCAdapter.addTimestampBatch(statement(bound), 2, new PlainTimestamp[] {tsp, null});
+        assertThat(bound, is(Arrays.<Object>asList(JDBCAdapter.SQL_TIMESTAMP.from(tsp), Types.TIMESTAMP)));
+    }
+
+    @Test
+    public void addMomentBatch() throws SQLException {
+        Moment moment = Moment.of(1341100800L, 210, TimeScale.POSIX);
+        List<Object> bound = new ArrayList<>();
+        JDBCAdapter.addMomentBatch(statement(bound), 2, new Moment[] {null, moment});
+        assertThat(
+            bound,
+            is(Arrays.<Object>asList(Types.TIMESTAMP, JDBCAdapter.SQL_TIMESTAMP_WITH_ZONE.from(moment))));
+    }
+
+    @Test
+    public void systemOffsetsAroundDaylightSaving() {
+        Timezone tz = Timezone.of("Europe/Berlin");
+        JDBCAdapter.SystemOffsets offsets = new JDBCAdapter.SystemOffsets(tz);
+        PlainTimestamp start = PlainTimestamp.of(2016, 3, 25, 0, 0);
+
+        for (int i = 0; i < 48 * 230; i++) {
+            PlainTimestamp tsp = start.plus(i * 1800 + 17, ClockUnit.SECONDS);
+            Moment moment = tsp.atUTC();
+            assertThat(offsets.getOffset(moment.getPosixTime()), is(tz.getOffset(moment).getIntegralAmount()));
+            long localSeconds = moment.getPosixTime();
+            assertThat(tsp.toString(), offsets.getOffset(tsp, localSeconds), is(tz.getOffset(tsp, tsp).getIntegralAmount()));
+        }
+    }
+
+    // Ergebnismenge im Speicher mit einer Spalte
+    private static ResultSet resultSet(java.sql.Timestamp... column) {
+        int[] row = {-1};
+        return (ResultSet) Proxy.newProxyInstance(
+            ResultSet.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "next":
+                        row[0]++;
+                        return Boolean.valueOf(row[0] < column.length);
+                    case "getTimestamp":
+                        assertThat(args[0], is((Object) Integer.valueOf(1)));
+                        return column[row[0]];
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+
+    // zeichnet die gebundenen Werte des Parameters 2 pro Stapeleintrag auf
+    private static PreparedStatement statement(List<Object> bound) {
+        Object[] current = {null};
+        return (PreparedStatement) Proxy.newProxyInstance(
+            PreparedStatement.class.getClassLoader(),
+            new Class<?>[] {PreparedStatement.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "setTimestamp":
+                    case "setNull":
+                        assertThat(args[0], is((Object) Integer.valueOf(2)));
+                        current[0] = args[1];
+                        return null;
+                    case "addBatch":
+                        bound.add(current[0]);
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+
 }
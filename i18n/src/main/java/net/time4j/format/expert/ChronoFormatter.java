@@ -232,6 +232,8 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         this.trailing = this.globalAttributes.get(Attributes.TRAILING_CHARACTERS, Boolean.FALSE).booleanValue();
         this.steps = this.freeze(steps);
 
+        WarmupProfile.record(chronology, override, this.globalAttributes);
+
     }
 
     // Aufruf durch withAttribute-Methoden
@@ -336,6 +338,11 @@ public final class ChronoFormatter<T extends ChronoEntity<T>>
         this.trailing = this.globalAttributes.get(Attributes.TRAILING_CHARACTERS, Boolean.FALSE).booleanValue();
         this.steps = this.freeze(copy);
 
+        WarmupProfile.record(
+            this.chronology,
+            (this.overrideHandler == null) ? null : this.overrideHandler.getCalendarOverride(),
+            this.globalAttributes);
+
     }
 
     // Aufruf durch withDefault
@@ -0,0 +1,536 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (WarmupProfile.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.Weekmodel;
+import net.time4j.engine.ChronoEntity;
+import net.time4j.engine.Chronology;
+import net.time4j.format.Attributes;
+import net.time4j.format.CalendarText;
+import net.time4j.format.NumberType;
+import net.time4j.format.PluralRules;
+import net.time4j.tz.TZID;
+import net.time4j.tz.Timezone;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * <p>Describes which chronologies, locales and timezones have been used by format objects
+ * in order to restore the associated internal state (class initialization, text resources,
+ * plural rules, week data and timezone data) eagerly at application start. </p>
+ *
+ * <p>A typical workflow records the usage during a representative run, stores the profile
+ * and applies it during the next startup: </p>
+ *
+ * <pre>
+ *  WarmupProfile.startRecording();
+ *  // ... run application ...
+ *  WarmupProfile profile = WarmupProfile.stopRecording();
+ *  try (OutputStream out = new FileOutputStream(file)) {
+ *      profile.writeTo(out);
+ *  }
+ *
+ *  // at next startup
+ *  try (InputStream in = new FileInputStream(file)) {
+ *      WarmupProfile.readFrom(in).apply();
+ *  }
+ * </pre>
+ *
+ * <p>The list of chronological types obtainable by {@link #getChronoTypes()} can also serve
+ * as input for class data sharing tools which need a list of classes to be loaded eagerly. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Beschreibt, welche Chronologien, Sprachen und Zeitzonen von Formatobjekten verwendet
+ * wurden, um den zugeh&ouml;rigen internen Zustand (Klasseninitialisierung, Textressourcen,
+ * Pluralregeln, Wochendaten und Zeitzonendaten) beim Anwendungsstart vorzeitig
+ * wiederherzustellen. </p>
+ *
+ * <p>Ein typischer Ablauf zeichnet die Verwendung w&auml;hrend eines repr&auml;sentativen
+ * Laufs auf, speichert das Profil und wendet es beim n&auml;chsten Start an: </p>
+ *
+ * <pre>
+ *  WarmupProfile.startRecording();
+ *  // ... run application ...
+ *  WarmupProfile profile = WarmupProfile.stopRecording();
+ *  try (OutputStream out = new FileOutputStream(file)) {
+ *      profile.writeTo(out);
+ *  }
+ *
+ *  // at next startup
+ *  try (InputStream in = new FileInputStream(file)) {
+ *      WarmupProfile.readFrom(in).apply();
+ *  }
+ * </pre>
+ *
+ * <p>Die Liste der chronologischen Typen, die mit {@link #getChronoTypes()} erhalten werden
+ * kann, kann auch als Eingabe f&uuml;r Werkzeuge zum Teilen von Klassendaten dienen, die
+ * eine Liste von vorab zu ladenden Klassen ben&ouml;tigen. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {immutable}
+ */
+public final class WarmupProfile {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MAGIC = 0x54344A57; // T4JW
+    private static final int VERSION = 1;
+
+    private static volatile Recorder recorder = null;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final SortedSet<String> chronoTypes;
+    private final SortedSet<String> languageTags;
+    private final SortedSet<String> zoneIDs;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private WarmupProfile(
+        Set<String> chronoTypes,
+        Set<String> languageTags,
+        Set<String> zoneIDs
+    ) {
+        super();
+
+        this.chronoTypes = Collections.unmodifiableSortedSet(new TreeSet<>(chronoTypes));
+        this.languageTags = Collections.unmodifiableSortedSet(new TreeSet<>(languageTags));
+        this.zoneIDs = Collections.unmodifiableSortedSet(new TreeSet<>(zoneIDs));
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Starts the recording of all chronologies, locales and timezones which are used
+     * by newly created instances of {@code ChronoFormatter}. </p>
+     *
+     * <p>An already running recording will be discarded. </p>
+     */
+    /*[deutsch]
+     * <p>Startet die Aufzeichnung aller Chronologien, Sprachen und Zeitzonen, die von neu
+     * erzeugten Instanzen von {@code ChronoFormatter} verwendet werden. </p>
+     *
+     * <p>Eine schon laufende Aufzeichnung wird verworfen. </p>
+     */
+    public static void startRecording() {
+
+        recorder = new Recorder();
+
+    }
+
+    /**
+     * <p>Stops the recording and yields the profile collected so far. </p>
+     *
+     * @return  recorded profile (empty if there was no recording)
+     */
+    /*[deutsch]
+     * <p>Beendet die Aufzeichnung und liefert das bis dahin gesammelte Profil. </p>
+     *
+     * @return  recorded profile (empty if there was no recording)
+     */
+    public static WarmupProfile stopRecording() {
+
+        Recorder r = recorder;
+        recorder = null;
+
+        if (r == null) {
+            Set<String> empty = Collections.emptySet();
+            return new WarmupProfile(empty, empty, empty);
+        }
+
+        return new WarmupProfile(r.chronoTypes, r.languageTags, r.zoneIDs);
+
+    }
+
+    /**
+     * <p>Creates a profile for given chronologies, locales and timezones. </p>
+     *
+     * @param   chronologies    chronologies to be initialized
+     * @param   locales         languages whose resources shall be loaded
+     * @param   zones           timezone identifiers to be loaded
+     * @return  new profile
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein Profil f&uuml;r die angegebenen Chronologien, Sprachen und Zeitzonen. </p>
+     *
+     * @param   chronologies    chronologies to be initialized
+     * @param   locales         languages whose resources shall be loaded
+     * @param   zones           timezone identifiers to be loaded
+     * @return  new profile
+     */
+    public static WarmupProfile of(
+        Set<Chronology<?>> chronologies,
+        Set<Locale> locales,
+        Set<TZID> zones
+    ) {
+
+        Set<String> types = new TreeSet<>();
+        Set<String> tags = new TreeSet<>();
+        Set<String> ids = new TreeSet<>();
+
+        for (Chronology<?> chronology : chronologies) {
+            types.add(chronology.getChronoType().getName());
+        }
+
+        for (Locale locale : locales) {
+            tags.add(locale.toLanguageTag());
+        }
+
+        for (TZID tzid : zones) {
+            ids.add(tzid.canonical());
+        }
+
+        return new WarmupProfile(types, tags, ids);
+
+    }
+
+    /**
+     * <p>Reads a profile in the compact binary form written by {@link #writeTo(OutputStream)}. </p>
+     *
+     * @param   input   stream to be read (will not be closed)
+     * @return  deserialized profile
+     * @throws  IOException in case of any I/O-error or if the data are not a warmup profile
+     */
+    /*[deutsch]
+     * <p>Liest ein Profil in der kompakten bin&auml;ren Form, die von
+     * {@link #writeTo(OutputStream)} geschrieben wird. </p>
+     *
+     * @param   input   stream to be read (will not be closed)
+     * @return  deserialized profile
+     * @throws  IOException in case of any I/O-error or if the data are not a warmup profile
+     */
+    public static WarmupProfile readFrom(InputStream input) throws IOException {
+
+        DataInputStream dis = new DataInputStream(input);
+
+        if (dis.readInt() != MAGIC) {
+            throw new StreamCorruptedException("Not a warmup profile.");
+        }
+
+        int version = dis.readByte();
+
+        if (version != VERSION) {
+            throw new StreamCorruptedException("Unsupported version: " + version);
+        }
+
+        Set<String> types = readStrings(dis);
+        Set<String> tags = readStrings(dis);
+        Set<String> ids = readStrings(dis);
+        return new WarmupProfile(types, tags, ids);
+
+    }
+
+    /**
+     * <p>Writes this profile in a compact binary form. </p>
+     *
+     * @param   output  target stream (will be flushed but not closed)
+     * @throws  IOException in case of any I/O-error
+     * @see     #readFrom(InputStream)
+     */
+    /*[deutsch]
+     * <p>Schreibt dieses Profil in einer kompakten bin&auml;ren Form. </p>
+     *
+     * @param   output  target stream (will be flushed but not closed)
+     * @throws  IOException in case of any I/O-error
+     * @see     #readFrom(InputStream)
+     */
+    public void writeTo(OutputStream output) throws IOException {
+
+        DataOutputStream dos = new DataOutputStream(output);
+        dos.writeInt(MAGIC);
+        dos.writeByte(VERSION);
+        writeStrings(dos, this.chronoTypes);
+        writeStrings(dos, this.languageTags);
+        writeStrings(dos, this.zoneIDs);
+        dos.flush();
+
+    }
+
+    /**
+     * <p>Initializes all chronologies, text resources, plural rules, week data and timezones
+     * described by this profile. </p>
+     *
+     * <p>Entries which cannot be resolved in the current environment (for example unknown
+     * classes or timezone identifiers) will be silently ignored because a profile might have
+     * been recorded in a different environment. </p>
+     *
+     * @return  count of successfully initialized entries
+     */
+    /*[deutsch]
+     * <p>Initialisiert alle Chronologien, Textressourcen, Pluralregeln, Wochendaten und
+     * Zeitzonen, die von diesem Profil beschrieben werden. </p>
+     *
+     * <p>Eintr&auml;ge, die in der aktuellen Umgebung nicht aufgel&ouml;st werden k&ouml;nnen
+     * (zum Beispiel unbekannte Klassen oder Zeitzonenkennungen), werden stillschweigend
+     * ignoriert, weil ein Profil in einer anderen Umgebung aufgezeichnet worden sein kann. </p>
+     *
+     * @return  count of successfully initialized entries
+     */
+    public int apply() {
+
+        int count = 0;
+        List<Chronology<?>> chronologies = new ArrayList<>();
+        ClassLoader loader = WarmupProfile.class.getClassLoader();
+
+        for (String name : this.chronoTypes) {
+            Chronology<?> chronology = lookup(name, loader);
+            if (chronology != null) {
+                chronologies.add(chronology);
+                count++;
+            }
+        }
+
+        for (String tag : this.languageTags) {
+            Locale locale = Locale.forLanguageTag(tag);
+            for (Chronology<?> chronology : chronologies) {
+                CalendarText.getInstance(chronology, locale);
+            }
+            PluralRules.of(locale, NumberType.CARDINALS);
+            PluralRules.of(locale, NumberType.ORDINALS);
+            Weekmodel.of(locale);
+            count++;
+        }
+
+        for (String id : this.zoneIDs) {
+            try {
+                Timezone.of(id);
+                count++;
+            } catch (IllegalArgumentException iae) {
+                // zone not available in current environment
+            }
+        }
+
+        return count;
+
+    }
+
+    /**
+     * <p>Yields the names of all recorded chronological types. </p>
+     *
+     * @return  unmodifiable sorted set of fully qualified class names
+     */
+    /*[deutsch]
+     * <p>Liefert die Namen aller aufgezeichneten chronologischen Typen. </p>
+     *
+     * @return  unmodifiable sorted set of fully qualified class names
+     */
+    public SortedSet<String> getChronoTypes() {
+
+        return this.chronoTypes;
+
+    }
+
+    /**
+     * <p>Yields all recorded languages. </p>
+     *
+     * @return  unmodifiable sorted set of language tags
+     */
+    /*[deutsch]
+     * <p>Liefert alle aufgezeichneten Sprachen. </p>
+     *
+     * @return  unmodifiable sorted set of language tags
+     */
+    public SortedSet<String> getLanguageTags() {
+
+        return this.languageTags;
+
+    }
+
+    /**
+     * <p>Yields all recorded timezone identifiers. </p>
+     *
+     * @return  unmodifiable sorted set of canonical timezone identifiers
+     */
+    /*[deutsch]
+     * <p>Liefert alle aufgezeichneten Zeitzonenkennungen. </p>
+     *
+     * @return  unmodifiable sorted set of canonical timezone identifiers
+     */
+    public SortedSet<String> getZoneIDs() {
+
+        return this.zoneIDs;
+
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof WarmupProfile) {
+            WarmupProfile that = (WarmupProfile) obj;
+            return (
+                this.chronoTypes.equals(that.chronoTypes)
+                && this.languageTags.equals(that.languageTags)
+                && this.zoneIDs.equals(that.zoneIDs)
+            );
+        } else {
+            return false;
+        }
+
+    }
+
+    @Override
+    public int hashCode() {
+
+        return this.chronoTypes.hashCode() + 31 * this.languageTags.hashCode() + 37 * this.zoneIDs.hashCode();
+
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(128);
+        sb.append("WarmupProfile[chronologies=");
+        sb.append(this.chronoTypes);
+        sb.append(",locales=");
+        sb.append(this.languageTags);
+        sb.append(",zones=");
+        sb.append(this.zoneIDs);
+        sb.append(']');
+        return sb.toString();
+
+    }
+
+    /**
+     * <p>Called by any new {@code ChronoFormatter}. </p>
+     *
+     * @param   chronology  chronology of formatter
+     * @param   override    optional calendar override (maybe {@code null})
+     * @param   attributes  global format attributes
+     */
+    static void record(
+        Chronology<?> chronology,
+        Chronology<?> override,
+        AttributeSet attributes
+    ) {
+
+        Recorder r = recorder;
+
+        if (r == null) {
+            return; // fast path
+        }
+
+        r.chronoTypes.add(chronology.getChronoType().getName());
+
+        if (override != null) {
+            r.chronoTypes.add(override.getChronoType().getName());
+        }
+
+        r.languageTags.add(attributes.getLocale().toLanguageTag());
+
+        if (attributes.contains(Attributes.TIMEZONE_ID)) {
+            r.zoneIDs.add(attributes.get(Attributes.TIMEZONE_ID).canonical());
+        }
+
+    }
+
+    private static Chronology<?> lookup(
+        String name,
+        ClassLoader loader
+    ) {
+
+        try {
+            Class<?> type = Class.forName(name, true, loader);
+            if (ChronoEntity.class.isAssignableFrom(type)) {
+                return lookupEntity(type);
+            }
+        } catch (ClassNotFoundException | RuntimeException ex) {
+            // profile from different environment
+        }
+
+        return null;
+
+    }
+
+    // Typ ist bereits als ChronoEntity geprüft
+    @SuppressWarnings("unchecked")
+    private static <T extends ChronoEntity<T>> Chronology<T> lookupEntity(Class<?> type) {
+
+        return Chronology.lookup((Class<T>) type);
+
+    }
+
+    private static Set<String> readStrings(DataInputStream dis) throws IOException {
+
+        int n = dis.readInt();
+
+        if (n < 0) {
+            throw new StreamCorruptedException("Negative count: " + n);
+        }
+
+        Set<String> set = new TreeSet<>();
+
+        for (int i = 0; i < n; i++) {
+            set.add(dis.readUTF());
+        }
+
+        return set;
+
+    }
+
+    private static void writeStrings(
+        DataOutputStream dos,
+        Set<String> set
+    ) throws IOException {
+
+        dos.writeInt(set.size());
+
+        for (String s : set) {
+            dos.writeUTF(s);
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Recorder {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Set<String> chronoTypes = ConcurrentHashMap.newKeySet();
+        private final Set<String> languageTags = ConcurrentHashMap.newKeySet();
+        private final Set<String> zoneIDs = ConcurrentHashMap.newKeySet();
+
+    }
+
+}
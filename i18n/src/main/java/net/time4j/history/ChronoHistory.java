@@ -272,6 +272,8 @@ public final class ChronoHistory
         LOOKUP = Collections.unmodifiableMap(tmp);
     }
 
+    private static final int NEW_YEAR_CACHE_SIZE = 32; // power of two
+
     // Dient der Serialisierungsunterstützung.
     private static final long serialVersionUID = 4100690610730913643L;
 
@@ -293,6 +295,11 @@ public final class ChronoHistory
     private transient final TextElement<Integer> dayOfYearElement;
     private transient final Set<ChronoElement<?>> elements;
 
+    // schneller Pfad für Datumsangaben nach der letzten gregorianischen Kalenderreform
+    private transient final long gregorianStart;
+    private transient final HistoricDate gregorianDate;
+    private transient final NewYearEntry[] newYearCache;
+
     //~ Konstruktoren -----------------------------------------------------
 
     private ChronoHistory(
@@ -384,6 +391,18 @@ public final class ChronoHistory
         set.add(this.dayOfYearElement);
         this.elements = Collections.unmodifiableSet(set);
 
+        CutOverEvent last = events.get(events.size() - 1);
+
+        if (last.algorithm == CalendarAlgorithm.GREGORIAN) {
+            this.gregorianStart = last.start;
+            this.gregorianDate = last.dateAtCutOver;
+        } else {
+            this.gregorianStart = Long.MAX_VALUE;
+            this.gregorianDate = null;
+        }
+
+        this.newYearCache = new NewYearEntry[NEW_YEAR_CACHE_SIZE];
+
     }
 
     //~ Methoden ----------------------------------------------------------
@@ -764,6 +783,15 @@ public final class ChronoHistory
      */
     public PlainDate convert(HistoricDate date) {
 
+        if (this.isGregorianFastPath(date)) {
+            int year = date.getYearOfEra();
+            int month = date.getMonth();
+            int dom = date.getDayOfMonth();
+            if (GregorianMath.isValid(year, month, dom)) {
+                return PlainDate.of(year, month, dom);
+            }
+        }
+
         Calculus algorithm = this.getAlgorithm(date);
 
         if (algorithm == null) {
@@ -795,12 +823,18 @@ public final class ChronoHistory
         long mjd = date.get(EpochDays.MODIFIED_JULIAN_DATE);
         HistoricDate hd = null;
 
-        for (int i = this.events.size() - 1; i >= 0; i--) {
+        if ((mjd >= this.gregorianStart) && (date.getYear() >= 1)) {
+            hd = new HistoricDate(HistoricEra.AD, date.getYear(), date.getMonth(), date.getDayOfMonth());
+            if (this.eraPreference == EraPreference.DEFAULT) {
+                return hd; // no need to evaluate any era preference
+            }
+        }
+
+        for (int i = this.events.size() - 1; (hd == null) && (i >= 0); i--) {
             CutOverEvent event = this.events.get(i);
 
             if (mjd >= event.start) {
                 hd = event.algorithm.fromMJD(mjd);
-                break;
             }
         }
 
@@ -960,6 +994,13 @@ public final class ChronoHistory
         int yearOfEra
     ) {
 
+        int index = (era.ordinal() * 31 + yearOfEra) & (NEW_YEAR_CACHE_SIZE - 1);
+        NewYearEntry entry = this.newYearCache[index];
+
+        if ((entry != null) && (entry.era == era) && (entry.yearOfEra == yearOfEra)) {
+            return entry.newYear;
+        }
+
         HistoricDate newYear = this.getNewYearStrategy().newYear(era, yearOfEra);
 
         if (this.isValid(newYear)) {
@@ -969,6 +1010,7 @@ public final class ChronoHistory
                 int yoe = preferredEra.yearOfEra(newYear.getEra(), newYear.getYearOfEra());
                 newYear = HistoricDate.of(preferredEra, yoe, newYear.getMonth(), newYear.getDayOfMonth());
             }
+            this.newYearCache[index] = new NewYearEntry(era, yearOfEra, newYear); // immutable => safe publication
             return newYear;
         } else {
             throw new IllegalArgumentException("Cannot determine valid New Year: " + era + "-" + yearOfEra);
@@ -1639,6 +1681,16 @@ public final class ChronoHistory
 
     }
 
+    private boolean isGregorianFastPath(HistoricDate date) {
+
+        return (
+            (this.gregorianDate != null)
+            && (date.getEra() == HistoricEra.AD)
+            && (date.compareTo(this.gregorianDate) >= 0)
+        );
+
+    }
+
     private Calculus getJulianAlgorithm() {
 
         if (this.ajly != null) {
@@ -1712,4 +1764,31 @@ public final class ChronoHistory
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class NewYearEntry {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final HistoricEra era;
+        private final int yearOfEra;
+        private final HistoricDate newYear;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        NewYearEntry(
+            HistoricEra era,
+            int yearOfEra,
+            HistoricDate newYear
+        ) {
+            super();
+
+            this.era = era;
+            this.yearOfEra = yearOfEra;
+            this.newYear = newYear;
+
+        }
+
+    }
+
 }
@@ -23,6 +23,7 @@ import org.junit.runners.Suite.SuiteClasses;
         ParsingTextOverflowTest.class,
         SkipUnknownTest.class,
         ThreetenFormatTest.class,
+        WarmupProfileTest.class,
         WhitespaceTest.class
     }
 )
@@ -0,0 +1,81 @@
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.engine.Chronology;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.TZID;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class WarmupProfileTest {
+
+    @Test
+    public void recording() {
+        WarmupProfile.startRecording();
+        ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.GERMANY, ZonalOffset.UTC);
+        ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.FRENCH);
+        WarmupProfile profile = WarmupProfile.stopRecording();
+        assertThat(profile.getChronoTypes().contains(Moment.class.getName()), is(true));
+        assertThat(profile.getChronoTypes().contains(PlainDate.class.getName()), is(true));
+        assertThat(profile.getLanguageTags().contains("de-DE"), is(true));
+        assertThat(profile.getLanguageTags().contains("fr"), is(true));
+        assertThat(profile.getZoneIDs().contains("Z"), is(true));
+    }
+
+    @Test
+    public void stopWithoutRecording() {
+        WarmupProfile.stopRecording();
+        WarmupProfile profile = WarmupProfile.stopRecording();
+        assertThat(profile.getChronoTypes().isEmpty(), is(true));
+        assertThat(profile.getLanguageTags().isEmpty(), is(true));
+        assertThat(profile.getZoneIDs().isEmpty(), is(true));
+    }
+
+    @Test
+    public void roundTrip() throws IOException {
+        WarmupProfile profile = createProfile();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        profile.writeTo(bos);
+        WarmupProfile copy = WarmupProfile.readFrom(new ByteArrayInputStream(bos.toByteArray()));
+        assertThat(copy, is(profile));
+    }
+
+    @Test(expected=StreamCorruptedException.class)
+    public void readInvalid() throws IOException {
+        WarmupProfile.readFrom(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5}));
+    }
+
+    @Test
+    public void apply() {
+        assertThat(createProfile().apply(), is(5));
+    }
+
+    private static WarmupProfile createProfile() {
+        Set<Chronology<?>> chronologies = new HashSet<>();
+        chronologies.add(PlainDate.axis());
+        chronologies.add(Moment.axis());
+        Set<Locale> locales = new HashSet<>();
+        locales.add(Locale.ENGLISH);
+        locales.add(Locale.GERMANY);
+        Set<TZID> zones = Collections.singleton(ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 2));
+        return WarmupProfile.of(chronologies, locales, zones);
+    }
+
+}
@@ -391,4 +391,53 @@ public class HistoryTest {
             is(history.convert(HistoricDate.of(HistoricEra.AD, 1565, 4, 10))));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void convertNearGregorianCutOver() {
+        ChronoHistory history = ChronoHistory.ofFirstGregorianReform();
+        assertThat(
+            history.convert(PlainDate.of(1582, 10, 15)),
+            is(HistoricDate.of(HistoricEra.AD, 1582, 10, 15)));
+        assertThat(
+            history.convert(PlainDate.of(1582, 10, 14)),
+            is(HistoricDate.of(HistoricEra.AD, 1582, 10, 4)));
+        assertThat(
+            history.convert(HistoricDate.of(HistoricEra.AD, 1582, 10, 15)),
+            is(PlainDate.of(1582, 10, 15)));
+        assertThat(
+            history.convert(HistoricDate.of(HistoricEra.AD, 1582, 10, 4)),
+            is(PlainDate.of(1582, 10, 14)));
+        assertThat(
+            history.convert(HistoricDate.of(HistoricEra.AD, 2016, 2, 29)),
+            is(PlainDate.of(2016, 2, 29)));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void convertInvalidDateAfterGregorianCutOver() {
+        ChronoHistory.ofFirstGregorianReform().convert(HistoricDate.of(HistoricEra.AD, 1700, 2, 29));
+    }
+
+    @Test
+    public void convertWithEraPreferenceAfterGregorianCutOver() {
+        ChronoHistory history = ChronoHistory.PROLEPTIC_BYZANTINE;
+        HistoricDate hd = history.convert(PlainDate.of(2017, 9, 1));
+        assertThat(hd.getEra(), is(HistoricEra.BYZANTINE));
+        assertThat(history.convert(hd), is(PlainDate.of(2017, 9, 1)));
+    }
+
+    @Test
+    public void beginOfYearRepeated() {
+        ChronoHistory history = ChronoHistory.of(Locale.UK);
+        for (int i = 0; i < 3; i++) {
+            assertThat(
+                history.getBeginOfYear(HistoricEra.AD, 1603),
+                is(HistoricDate.of(HistoricEra.AD, 1603, 3, 25)));
+            assertThat(
+                history.getBeginOfYear(HistoricEra.AD, 1635),
+                is(HistoricDate.of(HistoricEra.AD, 1635, 3, 25)));
+            assertThat(
+                history.getBeginOfYear(HistoricEra.AD, 1900),
+                is(HistoricDate.of(HistoricEra.AD, 1900, 1, 1)));
+        }
+    }
+
+}
@@ -23,6 +23,7 @@ import org.junit.runners.Suite.SuiteClasses;
         NumberSymbolTest.class,
         PluralRulesTest.class,
         PrettyTimeTest.class,
+        RelativeTimeRendererTest.class,
         RootLocaleTest.class,
         WeekendTest.class
     }
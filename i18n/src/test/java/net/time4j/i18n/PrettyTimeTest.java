@@ -744,6 +744,36 @@ public class PrettyTimeTest {
         assertThat(s, is(expected));
     }
 
+    @Test
+    public void printToBufferAppends() throws IOException {
+        Duration<?> dur =
+            Duration.ofZero().plus(1, DAYS).plus(4, ClockUnit.MINUTES);
+        StringBuilder sb = new StringBuilder("Dauer: ");
+        PrettyTime.of(Locale.FRANCE).printToBuffer(dur, TextWidth.WIDE, true, 3, sb);
+        assertThat(sb.toString(), is("Dauer: 1 jour, 0 heure et 4 minutes"));
+        sb.setLength(0);
+        PrettyTime.of(Locale.GERMANY).printToBuffer(-2, HOURS, TextWidth.WIDE, sb);
+        PrettyTime.of(Locale.GERMANY).printToBuffer(3, QUARTERS, TextWidth.SHORT, sb.append(' '));
+        assertThat(sb.toString(), is("-2 Stunden 9 Mon."));
+    }
+
+    @Test
+    public void printToBufferLikePrint() throws IOException {
+        Duration<?> duration =
+            Duration.ofZero().plus(15, YEARS).plus(3, MONTHS).plus(1, WEEKS).plus(2, DAYS)
+                .plus(5, HOURS).plus(7, MILLIS).inverse();
+        for (String lang : new String[] {"en", "de", "fr", "ar", "fa", "ja", "ru"}) {
+            PrettyTime pt = PrettyTime.of(new Locale(lang));
+            for (TextWidth width : TextWidth.values()) {
+                for (int max = 1; max <= 8; max++) {
+                    StringBuilder sb = new StringBuilder();
+                    pt.printToBuffer(duration, width, true, max, sb);
+                    assertThat(sb.toString(), is(pt.print(duration, width, true, max)));
+                }
+            }
+        }
+    }
+
     @Test
     public void printMillisWideMax1English() {
         Duration<ClockUnit> dur =
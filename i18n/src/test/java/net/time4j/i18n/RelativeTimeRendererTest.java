@@ -0,0 +1,125 @@
+package net.time4j.i18n;
+
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.PrettyTime;
+import net.time4j.RelativeTimeRenderer;
+import net.time4j.SI;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class RelativeTimeRendererTest {
+
+    private static final long[] DISTANCES = {
+        0, 1, 59, 60, 61, 3599, 3600, 3601, 86399, 86400, 86401,
+        6 * 86400, 7 * 86400, 29 * 86400, 31 * 86400, 45 * 86400, 365 * 86400, 800 * 86400
+    };
+
+    @Test
+    public void printEnglish() {
+        Moment now = PlainTimestamp.of(2016, 8, 1, 12, 0).atUTC();
+        RelativeTimeRenderer renderer =
+            PrettyTime.of(Locale.ENGLISH).createRelativeRenderer(Timezone.of(ZonalOffset.UTC), TimeUnit.SECONDS);
+        Moment posted = now.minus(65, TimeUnit.MINUTES);
+        assertThat(renderer.print(posted, now), is("1 hour ago"));
+        assertThat(renderer.print(posted, now), is("1 hour ago"));
+        assertThat(renderer.getNextChange(posted, now), is(posted.plus(2, TimeUnit.HOURS)));
+        assertThat(renderer.print(now, now), is("now"));
+        assertThat(renderer.getNextChange(now, now), is(now.plus(1, SI.SECONDS)));
+        assertThat(renderer.print(now.plus(1, TimeUnit.DAYS), now), is("tomorrow"));
+        assertThat(renderer.print(now.minus(3, TimeUnit.DAYS), now), is("3 days ago"));
+    }
+
+    @Test
+    public void printWithReferenceClock() {
+        Moment now = PlainTimestamp.of(2016, 8, 1, 12, 0).atUTC();
+        RelativeTimeRenderer renderer =
+            PrettyTime.of(Locale.GERMAN).withReferenceClock(() -> now)
+                .createRelativeRenderer(Timezone.of(ZonalOffset.UTC), TimeUnit.DAYS);
+        assertThat(renderer.print(now.minus(5, TimeUnit.HOURS)), is("heute"));
+        assertThat(renderer.print(now.minus(1, TimeUnit.DAYS)), is("gestern"));
+    }
+
+    @Test
+    public void printLikePrettyTime() {
+        Moment now = PlainTimestamp.of(2016, 3, 27, 1, 30).atUTC();
+        for (String tzid : new String[] {"Europe/Berlin", "America/New_York", "Z"}) {
+            Timezone tz = (tzid.equals("Z") ? Timezone.of(ZonalOffset.UTC) : Timezone.of(tzid));
+            for (TimeUnit precision : TimeUnit.values()) {
+                for (Locale locale : new Locale[] {Locale.ENGLISH, Locale.GERMAN, new Locale("ru"), new Locale("ar")}) {
+                    PrettyTime pt = PrettyTime.of(locale).withReferenceClock(() -> now);
+                    for (PrettyTime p : new PrettyTime[] {pt, pt.withShortStyle(), pt.withWeeksToDays()}) {
+                        RelativeTimeRenderer renderer = p.createRelativeRenderer(tz, precision);
+                        for (long distance : DISTANCES) {
+                            for (int sign = -1; sign <= 1; sign += 2) {
+                                Moment moment = now.plus(sign * distance, TimeUnit.SECONDS);
+                                String expected = p.printRelative(moment, tz, precision);
+                                assertThat(renderer.print(moment, now), is(expected));
+                                assertThat(renderer.print(moment), is(expected));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void nextChangeAroundDaylightSavingAndLeapSecond() {
+        checkNextChange(Timezone.of("Europe/Berlin"), PlainTimestamp.of(2016, 3, 26, 22, 0).atUTC(), 7);
+        checkNextChange(Timezone.of("Europe/Berlin"), PlainTimestamp.of(2016, 10, 29, 23, 0).atUTC(), 11);
+        checkNextChange(Timezone.of(ZonalOffset.UTC), PlainTimestamp.of(2016, 12, 31, 23, 59, 0).atUTC(), 13);
+    }
+
+    private static void checkNextChange(
+        Timezone tz,
+        Moment center,
+        long seed
+    ) {
+        Random random = new Random(seed);
+        int changed = 0;
+        int total = 0;
+
+        for (TimeUnit precision : new TimeUnit[] {TimeUnit.SECONDS, TimeUnit.MINUTES, TimeUnit.HOURS, TimeUnit.DAYS}) {
+            for (PrettyTime pt : new PrettyTime[] {PrettyTime.of(Locale.ENGLISH), PrettyTime.of(Locale.ENGLISH).withWeeksToDays()}) {
+                RelativeTimeRenderer renderer = pt.createRelativeRenderer(tz, precision);
+                for (int i = 0; i < 300; i++) {
+                    long range = DISTANCES[random.nextInt(DISTANCES.length)] + 1;
+                    Moment moment = center.plus((long) ((random.nextDouble() - 0.5) * 2 * range), TimeUnit.SECONDS);
+                    Moment ref = center.plus(random.nextInt(7200) - 3600, TimeUnit.SECONDS);
+                    String text = renderer.print(moment, ref);
+                    Moment next = renderer.getNextChange(moment, ref);
+                    assertThat(next.isAfter(ref), is(true));
+                    // Text bleibt bis kurz vor der nächsten Änderung gleich
+                    Moment last = next.minus(1, TimeUnit.NANOSECONDS);
+                    assertThat(moment + " / " + ref, renderer.print(moment, last), is(text));
+                    for (int k = 1; k < 8; k++) {
+                        long span = ref.until(last, TimeUnit.NANOSECONDS);
+                        Moment between = ref.plus((span / 8) * k, TimeUnit.NANOSECONDS);
+                        assertThat(moment + " / " + between, renderer.print(moment, between), is(text));
+                    }
+                    if (!renderer.print(moment, next).equals(text)) {
+                        changed++;
+                    }
+                    total++;
+                }
+            }
+        }
+
+        // fast immer exakt: Änderung genau an der Grenze
+        assertThat(changed * 100 / total >= 95, is(true));
+    }
+
+}
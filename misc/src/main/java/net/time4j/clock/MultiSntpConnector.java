@@ -0,0 +1,740 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (MultiSntpConnector.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.clock;
+
+import net.time4j.Moment;
+import net.time4j.SystemClock;
+import net.time4j.scale.TimeScale;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * <p>Queries several NTP-servers concurrently using one non-blocking
+ * {@code DatagramChannel} and combines their answers. </p>
+ *
+ * <p>Every call of {@code connect()} sends one request to every server at
+ * the same time and waits at most the configured connection timeout for
+ * all replies. There is no sleeping between requests. Instead the samples
+ * of repeated connections are collected in a register per server (at most
+ * {@link SntpConfiguration#getRequestCount()} samples, but not more than
+ * eight). The evaluation follows the NTP-algorithms in a simplified way: </p>
+ *
+ * <ol>
+ *     <li>Clock filter: The sample with the smallest round-trip delay in the
+ *     register of every replying server is chosen. </li>
+ *     <li>Clock select: The correctness interval of every server is the
+ *     offset plus/minus the root distance (half delay plus half root delay
+ *     plus root dispersion). Servers whose intervals do not
+ *     intersect the region shared by the majority of servers are
+ *     discarded as falsetickers. </li>
+ *     <li>Combine: The resulting offset is the median of the offsets
+ *     of all surviving servers. </li>
+ * </ol>
+ *
+ * <p>The statistics of last connection can be queried by
+ * {@link #getLastJitterInMicros()}, {@link #getLastDelayInMicros()} and
+ * {@link #getLastSurvivorCount()}. Background polling on a shared scheduler
+ * is possible by {@link #startPolling(java.util.concurrent.ScheduledExecutorService,
+ * long, long, java.util.concurrent.TimeUnit) startPolling(...)}. </p>
+ *
+ * <p>Example: </p>
+ *
+ * <pre>
+ *  MultiSntpConnector clock =
+ *      new MultiSntpConnector(&quot;ptbtime1.ptb.de&quot;, &quot;ptbtime2.ptb.de&quot;, &quot;ptbtime3.ptb.de&quot;);
+ *  ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+ *  clock.startPolling(scheduler, 0, 5, TimeUnit.MINUTES);
+ *  ...
+ *  Moment now = clock.currentTime();
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {threadsafe}
+ */
+/*[deutsch]
+ * <p>Fragt mehrere NTP-Server gleichzeitig mit Hilfe eines nicht-blockierenden
+ * {@code DatagramChannel} ab und kombiniert deren Antworten. </p>
+ *
+ * <p>Jeder Aufruf von {@code connect()} sendet gleichzeitig eine Anfrage an
+ * jeden Server und wartet h&ouml;chstens so lange wie die konfigurierte
+ * Zeit&uuml;berschreitung auf alle Antworten. Zwischen den Anfragen wird
+ * nicht geschlafen. Stattdessen werden die Stichproben wiederholter
+ * Verbindungen in einem Register pro Server gesammelt (h&ouml;chstens
+ * {@link SntpConfiguration#getRequestCount()} Stichproben, aber nicht mehr
+ * als acht). Die Auswertung folgt in vereinfachter Form den NTP-Algorithmen: </p>
+ *
+ * <ol>
+ *     <li>Uhrfilter: Aus dem Register jedes antwortenden Servers wird die
+ *     Stichprobe mit der kleinsten Umlaufverz&ouml;gerung gew&auml;hlt. </li>
+ *     <li>Uhrauswahl: Das Korrektheitsintervall jedes Servers ist der
+ *     Offset plus/minus die Wurzeldistanz (halbe Verz&ouml;gerung plus
+ *     halbe Wurzelverz&ouml;gerung plus Wurzelstreuung). Server, deren Intervalle
+ *     nicht den Bereich schneiden, den die Mehrheit der Server gemeinsam hat,
+ *     werden als falsch gehende Uhren verworfen. </li>
+ *     <li>Kombination: Der resultierende Offset ist der Median der Offsets
+ *     aller &uuml;brig gebliebenen Server. </li>
+ * </ol>
+ *
+ * <p>Die Statistik der letzten Verbindung kann mit
+ * {@link #getLastJitterInMicros()}, {@link #getLastDelayInMicros()} und
+ * {@link #getLastSurvivorCount()} abgefragt werden. Hintergrundabfragen mit
+ * einem gemeinsam genutzten {@code ScheduledExecutorService} sind mittels
+ * {@link #startPolling(java.util.concurrent.ScheduledExecutorService,
+ * long, long, java.util.concurrent.TimeUnit) startPolling(...)} m&ouml;glich. </p>
+ *
+ * <p>Beispiel: </p>
+ *
+ * <pre>
+ *  MultiSntpConnector clock =
+ *      new MultiSntpConnector(&quot;ptbtime1.ptb.de&quot;, &quot;ptbtime2.ptb.de&quot;, &quot;ptbtime3.ptb.de&quot;);
+ *  ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+ *  clock.startPolling(scheduler, 0, 5, TimeUnit.MINUTES);
+ *  ...
+ *  Moment now = clock.currentTime();
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {threadsafe}
+ */
+public class MultiSntpConnector
+    extends NetTimeConnector<SntpConfiguration> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MIO = 1000000;
+    private static final int MAX_REGISTER_SIZE = 8;
+    private static final int MIN_PACKET_SIZE = 48;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final List<InetSocketAddress> additionalServers;
+    private final Map<InetSocketAddress, Deque<Sample>> registers;
+    private volatile Statistics statistics = null;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates a new instance for given NTP4-servers using the
+     * standard port 123. </p>
+     *
+     * @param   servers     addresses of NTP4-servers (at least one)
+     * @throws  IllegalArgumentException if no server is given
+     */
+    /*[deutsch]
+     * <p>Konstruiert eine neue Instanz f&uuml;r die angegebenen NTP4-Server,
+     * die den Standard-Port 123 verwenden. </p>
+     *
+     * @param   servers     addresses of NTP4-servers (at least one)
+     * @throws  IllegalArgumentException if no server is given
+     */
+    public MultiSntpConnector(String... servers) {
+        this(primary(servers), additional(servers));
+
+    }
+
+    /**
+     * <p>Creates a new instance for the server of given configuration
+     * and any additional servers. </p>
+     *
+     * <p>All other configuration parameters like the timeout, the protocol
+     * version or the clock shift window apply to all servers. </p>
+     *
+     * @param   ntc                 SNTP-configuration of first server
+     * @param   additionalServers   further servers to be queried concurrently
+     */
+    /*[deutsch]
+     * <p>Konstruiert eine neue Instanz f&uuml;r den Server der angegebenen
+     * Konfiguration und weitere Server. </p>
+     *
+     * <p>Alle anderen Konfigurationsparameter wie die
+     * Zeit&uuml;berschreitung, die Protokollversion oder das Fenster
+     * f&uuml;r Uhrverschiebungen gelten f&uuml;r alle Server. </p>
+     *
+     * @param   ntc                 SNTP-configuration of first server
+     * @param   additionalServers   further servers to be queried concurrently
+     */
+    public MultiSntpConnector(
+        SntpConfiguration ntc,
+        InetSocketAddress... additionalServers
+    ) {
+        super(ntc);
+
+        List<InetSocketAddress> list = new ArrayList<>(additionalServers.length);
+
+        for (InetSocketAddress server : additionalServers) {
+            if (server == null) {
+                throw new NullPointerException("Missing time server address.");
+            }
+            list.add(server);
+        }
+
+        this.additionalServers = Collections.unmodifiableList(list);
+        this.registers = new HashMap<>();
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the jitter of the surviving servers in last connection. </p>
+     *
+     * <p>The jitter is the root mean square of the differences between
+     * the offsets of the surviving servers and the combined offset. </p>
+     *
+     * @return  jitter in microseconds ({@code 0} if there was not yet any connection)
+     */
+    /*[deutsch]
+     * <p>Liefert den Jitter der &uuml;brig gebliebenen Server in der letzten
+     * Verbindung. </p>
+     *
+     * <p>Der Jitter ist die Wurzel aus dem Mittelwert der quadrierten
+     * Differenzen zwischen den Offsets der &uuml;brig gebliebenen Server
+     * und dem kombinierten Offset. </p>
+     *
+     * @return  jitter in microseconds ({@code 0} if there was not yet any connection)
+     */
+    public long getLastJitterInMicros() {
+
+        Statistics s = this.statistics;
+        return ((s == null) ? 0 : s.jitter);
+
+    }
+
+    /**
+     * <p>Yields the smallest round-trip delay of the surviving servers in
+     * last connection. </p>
+     *
+     * @return  delay in microseconds ({@code 0} if there was not yet any connection)
+     */
+    /*[deutsch]
+     * <p>Liefert die kleinste Umlaufverz&ouml;gerung der &uuml;brig
+     * gebliebenen Server in der letzten Verbindung. </p>
+     *
+     * @return  delay in microseconds ({@code 0} if there was not yet any connection)
+     */
+    public long getLastDelayInMicros() {
+
+        Statistics s = this.statistics;
+        return ((s == null) ? 0 : s.delay);
+
+    }
+
+    /**
+     * <p>Yields the count of servers which have contributed to the offset
+     * determined in last connection. </p>
+     *
+     * @return  count of surviving servers ({@code 0} if there was not yet any connection)
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Server, die zum in der letzten Verbindung
+     * ermittelten Offset beigetragen haben. </p>
+     *
+     * @return  count of surviving servers ({@code 0} if there was not yet any connection)
+     */
+    public int getLastSurvivorCount() {
+
+        Statistics s = this.statistics;
+        return ((s == null) ? 0 : s.survivors);
+
+    }
+
+    @Override
+    protected Moment doConnect() throws IOException {
+
+        final SntpConfiguration config = this.getNetTimeConfiguration();
+        List<InetSocketAddress> servers = new ArrayList<>();
+        servers.add(resolve(new InetSocketAddress(config.getTimeServerAddress(), config.getTimeServerPort())));
+
+        for (InetSocketAddress server : this.additionalServers) {
+            InetSocketAddress resolved = resolve(server);
+            if (!servers.contains(resolved)) {
+                servers.add(resolved);
+            }
+        }
+
+        int n = servers.size();
+        SntpMessage[] requests = new SntpMessage[n];
+        Sample[] samples = new Sample[n];
+        int pending = n;
+        int timeout = config.getConnectionTimeout();
+        long deadline = System.nanoTime() + timeout * 1000L * MIO;
+
+        try (
+            DatagramChannel channel = DatagramChannel.open();
+            Selector selector = Selector.open()
+        ) {
+            channel.configureBlocking(false);
+            channel.register(selector, SelectionKey.OP_READ);
+            this.log(null, "Connecting " + n + " NTP-Servers, waiting for replies...");
+
+            for (int i = 0; i < n; i++) {
+                requests[i] = new SntpMessage(config.isNTP4());
+                channel.send(ByteBuffer.wrap(requests[i].getBytes()), servers.get(i));
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(512);
+
+            while (pending > 0) {
+                long remaining = 0; // zero timeout means waiting without limit
+
+                if (timeout > 0) {
+                    remaining = (deadline - System.nanoTime()) / MIO;
+                    if (remaining <= 0) {
+                        break;
+                    }
+                }
+
+                selector.select(remaining);
+                selector.selectedKeys().clear();
+
+                while (pending > 0) {
+                    buffer.clear();
+                    SocketAddress from = channel.receive(buffer);
+
+                    if (from == null) {
+                        break;
+                    }
+
+                    double destinationTimestamp = SntpMessage.getLocalTimestamp();
+                    int index = servers.indexOf(from);
+
+                    if ((index == -1) || (samples[index] != null) || (buffer.position() < MIN_PACKET_SIZE)) {
+                        continue;
+                    }
+
+                    Sample sample;
+
+                    try {
+                        SntpMessage reply =
+                            new SntpMessage(
+                                buffer.array(),
+                                requests[index].getTransmitTimestamp(),
+                                requests[index].getVersion());
+                        sample = evaluate(reply, destinationTimestamp);
+                        if (this.isLogEnabled()) {
+                            this.log("NTP-Server " + from + " replied: ", reply.toString());
+                        }
+                    } catch (IOException ioe) {
+                        this.log("NTP-Server " + from + " ignored: ", ioe.getMessage());
+                        sample = Sample.INVALID;
+                    }
+
+                    samples[index] = sample;
+                    pending--;
+                }
+            }
+        }
+
+        long offset = this.combine(servers, samples);
+        long micros = SystemClock.MONOTONIC.currentTimeInMicros() + offset;
+        long seconds = Math.floorDiv(micros, MIO);
+        int nanosecond = (int) (Math.floorMod(micros, MIO) * 1000);
+        return Moment.of(seconds, nanosecond, TimeScale.POSIX);
+
+    }
+
+    @Override
+    protected SntpConfiguration loadNetTimeConfiguration() {
+
+        final SntpConfiguration sc = super.loadNetTimeConfiguration();
+        short rcount = sc.getRequestCount();
+
+        if ((rcount < 0) || (rcount >= 1000)) {
+            throw new IllegalStateException("Wrong request count: " + rcount);
+        }
+
+        return sc;
+
+    }
+
+    @Override
+    protected Class<SntpConfiguration> getConfigurationType() {
+
+        return SntpConfiguration.class;
+
+    }
+
+    // Uhrfilter, Uhrauswahl und Kombination
+    private long combine(
+        List<InetSocketAddress> servers,
+        Sample[] samples
+    ) throws IOException {
+
+        int size = Math.max(1, Math.min(MAX_REGISTER_SIZE, this.getNetTimeConfiguration().getRequestCount()));
+        List<Sample> candidates = new ArrayList<>(samples.length);
+
+        synchronized (this.registers) {
+            // Register von Adressen verwerfen, die nicht mehr aufgelöst werden (rotierende DNS-Antworten)
+            this.registers.keySet().retainAll(servers);
+
+            for (int i = 0; i < samples.length; i++) {
+                Sample sample = samples[i];
+
+                if ((sample == null) || (sample == Sample.INVALID)) {
+                    continue;
+                }
+
+                Deque<Sample> register = this.registers.get(servers.get(i));
+
+                if (register == null) {
+                    register = new ArrayDeque<>(MAX_REGISTER_SIZE);
+                    this.registers.put(servers.get(i), register);
+                }
+
+                register.addFirst(sample);
+
+                while (register.size() > size) {
+                    register.removeLast();
+                }
+
+                Sample best = sample;
+
+                for (Sample s : register) {
+                    if (s.delay < best.delay) {
+                        best = s;
+                    }
+                }
+
+                candidates.add(best);
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            throw new IOException("No valid reply from any NTP-server.");
+        }
+
+        List<Sample> survivors = select(candidates);
+        long[] offsets = new long[survivors.size()];
+        long delay = Long.MAX_VALUE;
+
+        for (int i = 0; i < offsets.length; i++) {
+            Sample s = survivors.get(i);
+            offsets[i] = s.offset;
+            delay = Math.min(delay, s.delay);
+        }
+
+        Arrays.sort(offsets);
+        int mid = offsets.length / 2;
+        long offset = (
+            ((offsets.length % 2) == 1)
+            ? offsets[mid]
+            : (offsets[mid - 1] + offsets[mid]) / 2);
+
+        double sum = 0.0;
+
+        for (long o : offsets) {
+            double diff = o - offset;
+            sum += diff * diff;
+        }
+
+        long jitter = Math.round(Math.sqrt(sum / offsets.length));
+        this.statistics = new Statistics(jitter, delay, offsets.length);
+
+        if (this.isLogEnabled()) {
+            this.log(
+                null,
+                "Combined offset=" + offset + "us, jitter=" + jitter + "us, delay=" + delay
+                + "us, survivors=" + offsets.length + "/" + candidates.size());
+        }
+
+        return offset;
+
+    }
+
+    // vereinfachter Marzullo-Algorithmus
+    private static List<Sample> select(List<Sample> candidates) {
+
+        int n = candidates.size();
+
+        if (n < 3) {
+            return candidates;
+        }
+
+        long[][] edges = new long[2 * n][];
+
+        for (int i = 0; i < n; i++) {
+            Sample s = candidates.get(i);
+            edges[2 * i] = new long[] {s.offset - s.distance, -1}; // Anfang zuerst bei gleichem Wert
+            edges[2 * i + 1] = new long[] {s.offset + s.distance, 1};
+        }
+
+        Arrays.sort(
+            edges,
+            (e1, e2) -> ((e1[0] == e2[0]) ? Long.compare(e1[1], e2[1]) : Long.compare(e1[0], e2[0])));
+
+        int count = 0;
+        int best = 0;
+        long low = 0;
+        long high = 0;
+
+        for (int i = 0; i < edges.length; i++) {
+            count -= (int) edges[i][1];
+            if (count > best) {
+                best = count;
+                low = edges[i][0];
+                high = edges[i + 1][0];
+            }
+        }
+
+        if (best <= n / 2) {
+            return candidates; // keine Mehrheit, nur Median
+        }
+
+        List<Sample> survivors = new ArrayList<>(n);
+
+        for (Sample s : candidates) {
+            if ((s.offset - s.distance <= high) && (s.offset + s.distance >= low)) {
+                survivors.add(s);
+            }
+        }
+
+        return survivors;
+
+    }
+
+    private static Sample evaluate(
+        SntpMessage reply,
+        double destinationTimestamp
+    ) throws IOException {
+
+        if (reply.getStratum() == 0) {
+            throw new IOException("<kiss-o'-death>");
+        } else if (reply.getLeapIndicator() == 3) {
+            throw new IOException("Alarm condition: NTP-Server is not synchronized with any clock source.");
+        }
+
+        // localClockOffset = ((R - O) + (T - D)) / 2, delay = (D - O) - (T - R)
+        double offset = (
+            reply.getReceiveTimestamp()
+            - reply.getOriginateTimestamp()
+            + reply.getTransmitTimestamp()
+            - destinationTimestamp
+        ) / 2.0;
+        double delay = (
+            destinationTimestamp
+            - reply.getOriginateTimestamp()
+            - reply.getTransmitTimestamp()
+            + reply.getReceiveTimestamp()
+        );
+
+        long d = Math.max(0, Math.round(delay * MIO));
+        long distance = d / 2 + Math.round((reply.getRootDelay() / 2 + reply.getRootDispersion()) * MIO);
+        return new Sample(Math.round(offset * MIO), d, distance);
+
+    }
+
+    private static InetSocketAddress resolve(InetSocketAddress server) throws IOException {
+
+        if (server.isUnresolved()) {
+            InetSocketAddress resolved = new InetSocketAddress(server.getHostString(), server.getPort());
+            if (resolved.isUnresolved()) {
+                throw new IOException("Cannot resolve time server address: " + server.getHostString());
+            }
+            return resolved;
+        }
+
+        return server;
+
+    }
+
+    private static SntpConfiguration primary(String[] servers) {
+
+        if (servers.length == 0) {
+            throw new IllegalArgumentException("Missing time server address.");
+        }
+
+        return new SimpleNtpConfiguration(servers[0]);
+
+    }
+
+    private static InetSocketAddress[] additional(String[] servers) {
+
+        InetSocketAddress[] result = new InetSocketAddress[Math.max(0, servers.length - 1)];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = InetSocketAddress.createUnresolved(servers[i + 1], 123);
+        }
+
+        return result;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Sample {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final Sample INVALID = new Sample(0, Long.MAX_VALUE, Long.MAX_VALUE);
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long offset;
+        private final long delay;
+        private final long distance;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Sample(
+            long offset,
+            long delay,
+            long distance
+        ) {
+            super();
+
+            this.offset = offset;
+            this.delay = delay;
+            this.distance = distance;
+
+        }
+
+    }
+
+    private static class Statistics {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long jitter;
+        private final long delay;
+        private final int survivors;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Statistics(
+            long jitter,
+            long delay,
+            int survivors
+        ) {
+            super();
+
+            this.jitter = jitter;
+            this.delay = delay;
+            this.survivors = survivors;
+
+        }
+
+    }
+
+    private static class SimpleNtpConfiguration
+        implements SntpConfiguration {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String server;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        SimpleNtpConfiguration(String server) {
+            super();
+
+            if (server == null) {
+                throw new NullPointerException("Missing time server address.");
+            }
+
+            this.server = server;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public String getTimeServerAddress() {
+
+            return this.server;
+
+        }
+
+        @Override
+        public int getTimeServerPort() {
+
+            return 123;
+
+        }
+
+        @Override
+        public int getConnectionTimeout() {
+
+            return DEFAULT_CONNECTION_TIMEOUT;
+
+        }
+
+        @Override
+        public boolean isNTP4() {
+
+            return true;
+
+        }
+
+        @Override
+        public int getRequestInterval() {
+
+            return 60 * 4;
+
+        }
+
+        @Override
+        public short getRequestCount() {
+
+            return MAX_REGISTER_SIZE;
+
+        }
+
+        @Override
+        public int getClockShiftWindow() {
+
+            return 0;
+
+        }
+
+        @Override
+        public String toString() {
+
+            StringBuilder sb = new StringBuilder();
+            sb.append("SimpleNtpConfiguration:[server=");
+            sb.append(this.server);
+            sb.append(",port=");
+            sb.append(this.getTimeServerPort());
+            sb.append(']');
+            return sb.toString();
+
+        }
+
+    }
+
+}
@@ -152,7 +152,7 @@ public interface NetTimeConfiguration {
     /**
      * <p>Determines the time window within which an existing shift between
      * the local clock and the internet clock will be synchronized (after
-     * a successful connection) if the local clock is too quick. </p>
+     * a successful connection). </p>
      *
      * <p>The value {@code 0} causes the immediate synchronization and is the
      * default. Else the local clock will only be synchronized with the
@@ -163,9 +163,9 @@ public interface NetTimeConfiguration {
      * down a local clock such that applications will not notice any
      * backwards running time within the scope of expected precision. </p>
      *
-     * <p>If the local clock is too slow however then the synchronization
-     * will happen immediately, and this configuration parameter is not
-     * applied. </p>
+     * <p>Since version 4.18, the adjustment happens in both directions,
+     * that is also if the local clock is too slow. The first connection
+     * is always synchronized immediately. </p>
      *
      * @return  time window in seconds ({@code >= 0})
      * @since   2.1
@@ -173,8 +173,7 @@ public interface NetTimeConfiguration {
     /*[deutsch]
      * <p>Legt das Zeitfenster fest, innerhalb dessen nach einer erfolgreichen
      * Verbindung ein bestehender Offset zwischen lokaler Uhr und Internet-Uhr
-     * synchronisiert wird, wenn die lokale Uhr der Internet-Uhr vorauszueilen
-     * droht. </p>
+     * synchronisiert wird. </p>
      *
      * <p>Der Wert {@code 0} f&uuml;hrt zur sofortigen Anpassung des Offset
      * und ist Standardvorgabe. Sonst wird die lokale Uhr erst nach Ablauf
@@ -183,9 +182,11 @@ public interface NetTimeConfiguration {
      * sollte immer kleiner als die Zeit zwischen zwei Verbindungen sein
      * und dient dazu, eine lokale Uhr so langsam abzubremsen, da&szlig;
      * Anwendungen innerhalb der von ihnen erwarteten Genauigkeit keine
-     * r&uuml;ckl&auml;ufige Zeit bemerken. War die lokale Uhr hingegen zu
-     * langsam, findet immer eine sofortige Anpassung statt, und diese
-     * Konfigurationseigenschaft spielt dann keine Rolle. </p>
+     * r&uuml;ckl&auml;ufige Zeit bemerken. </p>
+     *
+     * <p>Seit Version 4.18 findet die Anpassung in beiden Richtungen statt,
+     * also auch dann, wenn die lokale Uhr zu langsam war. Die erste
+     * Verbindung wird immer sofort synchronisiert. </p>
      *
      * @return  Zeitfenster in Sekunden ({@code >= 0})
      * @since   2.1
@@ -22,14 +22,17 @@
 package net.time4j.clock;
 
 import net.time4j.Moment;
-import net.time4j.SI;
 import net.time4j.SystemClock;
+import net.time4j.scale.LeapSeconds;
 import net.time4j.scale.TimeScale;
 
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.text.ParseException;
 import java.util.ServiceLoader;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -62,6 +65,7 @@ public abstract class NetTimeConnector<C extends NetTimeConfiguration>
     //~ Statische Felder/Initialisierungen --------------------------------
 
     private static final int MIO = 1000000;
+    private static final int MRD = 1000000000;
 
     //~ Instanzvariablen --------------------------------------------------
 
@@ -149,12 +153,102 @@ public abstract class NetTimeConnector<C extends NetTimeConfiguration>
             return this.startMoment;
         }
 
-        long localMicros = SystemClock.MONOTONIC.realTimeInMicros();
-        long amount =
-            localMicros
-            + cr.getActualOffset(localMicros)
-            - extractMicros(cr.lastMoment);
-        return cr.lastMoment.plus(amount * 1000, SI.NANOSECONDS);
+        long utc = cr.getNetTime(SystemClock.MONOTONIC.realTimeInNanos());
+        return Moment.of(Math.floorDiv(utc, MRD), (int) Math.floorMod(utc, MRD), TimeScale.UTC);
+
+    }
+
+    /**
+     * <p>Returns the current time in milliseconds since the Unix epoch
+     * [1970-01-01T00:00:00,000Z]. </p>
+     *
+     * <p>UTC leap seconds are never counted. </p>
+     *
+     * @return  count of milliseconds since UNIX-epoch without leap seconds
+     * @since   4.18
+     * @see     #currentTimeInNanos()
+     */
+    /*[deutsch]
+     * <p>Liefert die aktuelle Zeit in Millisekunden seit dem Beginn der
+     * UNIX-Epoche, n&auml;mlich [1970-01-01T00:00:00,000Z]. </p>
+     *
+     * <p>Es handelt sich immer um eine Zeitangabe ohne UTC-Schaltsekunden. </p>
+     *
+     * @return  count of milliseconds since UNIX-epoch without leap seconds
+     * @since   4.18
+     * @see     #currentTimeInNanos()
+     */
+    public long currentTimeInMillis() {
+
+        return Math.floorDiv(this.currentTimeInNanos(), MIO);
+
+    }
+
+    /**
+     * <p>Returns the current time in microseconds since the Unix epoch
+     * [1970-01-01T00:00:00,000000Z]. </p>
+     *
+     * <p>UTC leap seconds are never counted. </p>
+     *
+     * @return  count of microseconds since UNIX-epoch without leap seconds
+     * @since   4.18
+     * @see     #currentTimeInNanos()
+     */
+    /*[deutsch]
+     * <p>Liefert die aktuelle Zeit in Mikrosekunden seit dem Beginn der
+     * UNIX-Epoche, n&auml;mlich [1970-01-01T00:00:00,000000Z]. </p>
+     *
+     * <p>Es handelt sich immer um eine Zeitangabe ohne UTC-Schaltsekunden. </p>
+     *
+     * @return  count of microseconds since UNIX-epoch without leap seconds
+     * @since   4.18
+     * @see     #currentTimeInNanos()
+     */
+    public long currentTimeInMicros() {
+
+        return Math.floorDiv(this.currentTimeInNanos(), 1000);
+
+    }
+
+    /**
+     * <p>Returns the current time in nanoseconds since the Unix epoch
+     * [1970-01-01T00:00:00,000000000Z]. </p>
+     *
+     * <p>UTC leap seconds are never counted. In contrast to
+     * {@code currentTime()}, this method does not create any object.
+     * It only reads the result of last connection once and is therefore
+     * suitable for high-frequency timestamping in many threads. </p>
+     *
+     * @return  count of nanoseconds since UNIX-epoch without leap seconds
+     * @since   4.18
+     * @see     #currentTime()
+     */
+    /*[deutsch]
+     * <p>Liefert die aktuelle Zeit in Nanosekunden seit dem Beginn der
+     * UNIX-Epoche, n&auml;mlich [1970-01-01T00:00:00,000000000Z]. </p>
+     *
+     * <p>Es handelt sich immer um eine Zeitangabe ohne UTC-Schaltsekunden.
+     * Im Unterschied zu {@code currentTime()} erzeugt diese Methode keine
+     * Objekte. Sie liest das Ergebnis der letzten Verbindung nur einmal
+     * und eignet sich deshalb f&uuml;r hochfrequente Zeitstempel in
+     * vielen Threads. </p>
+     *
+     * @return  count of nanoseconds since UNIX-epoch without leap seconds
+     * @since   4.18
+     * @see     #currentTime()
+     */
+    public long currentTimeInNanos() {
+
+        final ConnectionResult cr = this.result;
+
+        if (cr == null) {
+            Moment m = this.startMoment;
+            return Math.multiplyExact(m.getPosixTime(), MRD) + m.getNanosecond();
+        }
+
+        long utc = cr.getNetTime(SystemClock.MONOTONIC.realTimeInNanos());
+        long secs = LeapSeconds.getInstance().strip(Math.floorDiv(utc, MRD));
+        return Math.multiplyExact(secs, MRD) + Math.floorMod(utc, MRD);
 
     }
 
@@ -211,16 +305,16 @@ public abstract class NetTimeConnector<C extends NetTimeConfiguration>
 
         try {
             Moment moment = this.doConnect();
-            long localMicros = SystemClock.MONOTONIC.realTimeInMicros();
+            long localNanos = SystemClock.MONOTONIC.realTimeInNanos();
             final ConnectionResult cr = this.result;
             long currentOffset = (
                 (cr == null)
-                ? Long.MIN_VALUE : cr.getActualOffset(localMicros));
+                ? Long.MIN_VALUE : cr.getActualOffset(localNanos));
 
             this.result =
                 new ConnectionResult(
                     moment,
-                    localMicros,
+                    localNanos,
                     currentOffset,
                     this.getNetTimeConfiguration().getClockShiftWindow()
                 );
@@ -230,6 +324,74 @@ public abstract class NetTimeConnector<C extends NetTimeConfiguration>
 
     }
 
+    /**
+     * <p>Lets given scheduler call {@code connect()} periodically in the
+     * background so that no caller thread will be blocked by network
+     * traffic. </p>
+     *
+     * <p>Any {@code IOException} or {@code RuntimeException} during
+     * connection will only be logged and does not stop the background
+     * polling. The polling can be
+     * stopped by cancelling the returned future. Several connectors
+     * can share the same scheduler. </p>
+     *
+     * @param   scheduler       shared scheduler
+     * @param   initialDelay    delay before first connection
+     * @param   period          delay between the end of a connection and the start of the next one
+     * @param   unit            time unit of delays
+     * @return  future which can be used for cancelling the polling
+     * @throws  IllegalArgumentException if period is not positive
+     * @since   4.18
+     * @see     #connect()
+     */
+    /*[deutsch]
+     * <p>L&auml;&szlig;t den angegebenen {@code ScheduledExecutorService}
+     * periodisch im Hintergrund {@code connect()} aufrufen, so da&szlig;
+     * kein aufrufender Thread durch Netzwerkverkehr blockiert wird. </p>
+     *
+     * <p>Jede {@code IOException} oder {@code RuntimeException} w&auml;hrend
+     * einer Verbindung wird nur geloggt und beendet nicht die
+     * Hintergrundabfragen. Diese k&ouml;nnen
+     * beendet werden, indem das zur&uuml;ckgegebene {@code Future}-Objekt
+     * abgebrochen wird. Mehrere Instanzen k&ouml;nnen den gleichen
+     * {@code ScheduledExecutorService} gemeinsam nutzen. </p>
+     *
+     * @param   scheduler       shared scheduler
+     * @param   initialDelay    delay before first connection
+     * @param   period          delay between the end of a connection and the start of the next one
+     * @param   unit            time unit of delays
+     * @return  future which can be used for cancelling the polling
+     * @throws  IllegalArgumentException if period is not positive
+     * @since   4.18
+     * @see     #connect()
+     */
+    public ScheduledFuture<?> startPolling(
+        ScheduledExecutorService scheduler,
+        long initialDelay,
+        long period,
+        TimeUnit unit
+    ) {
+
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive: " + period);
+        }
+
+        Runnable task =
+            () -> {
+                try {
+                    this.connect();
+                } catch (IOException ioe) {
+                    this.log("Background connection failed: ", ioe.getMessage());
+                } catch (RuntimeException re) {
+                    // sonst würde der Scheduler alle weiteren Abfragen stillschweigend einstellen
+                    this.log("Background connection failed: ", String.valueOf(re));
+                }
+            };
+
+        return scheduler.scheduleWithFixedDelay(task, initialDelay, period, unit);
+
+    }
+
     /**
      * <p>Queries the configuration parameters to be used for the next
      * connection. </p>
@@ -363,7 +525,13 @@ public abstract class NetTimeConnector<C extends NetTimeConfiguration>
      */
     public long getLastOffsetInMicros() {
 
-        return this.getLastOffset(SystemClock.MONOTONIC.realTimeInMicros());
+        final ConnectionResult cr = this.result;
+
+        if (cr == null) {
+            return 0;
+        }
+
+        return cr.getActualOffset(SystemClock.MONOTONIC.realTimeInNanos()) / 1000;
 
     }
 
@@ -486,22 +654,9 @@ public abstract class NetTimeConnector<C extends NetTimeConfiguration>
      */
     protected abstract Class<C> getConfigurationType();
 
-    /**
-     * <p>Liefert die aktuelle Differenz zwischen Netz-Zeit und lokaler Zeit in Mikrosekunden. </p>
-     *
-     * @param   micros  aktuelle lokale Zeit in Mikrosekunden
-     * @return  Mikrosekunden-Offset ({@code 0}, wenn noch keine Verbindung hergestellt wurde)
-     */
-    long getLastOffset(long micros) {
-
-        final ConnectionResult cr = this.result;
-        return ((cr == null) ? 0 : cr.getActualOffset(micros));
-
-    }
-
-    private static long extractMicros(Moment time) {
+    private static long extractNanos(Moment time) {
 
-        return time.getElapsedTime(TimeScale.UTC) * MIO + time.getNanosecond(TimeScale.UTC) / 1000;
+        return time.getElapsedTime(TimeScale.UTC) * MRD + time.getNanosecond(TimeScale.UTC);
 
     }
 
@@ -513,46 +668,57 @@ public abstract class NetTimeConnector<C extends NetTimeConfiguration>
 
         private final Moment lastMoment;
         private final long startTime;
-        private final long startOffset;
         private final long endOffset;
-        private final int window;
+        private final long shift;
+        private final long window;
+        private final double factor;
 
         //~ Konstruktoren -------------------------------------------------
 
         ConnectionResult(
             Moment time,
-            long localMicros,
+            long localNanos,
             long startOffset,
             int window
         ) {
             super();
 
             this.lastMoment = time;
-            this.startTime = localMicros;
-            this.startOffset = startOffset;
-            this.endOffset = (extractMicros(time) - localMicros);
-            this.window = window * MIO;
+            this.startTime = localNanos;
+            this.endOffset = (extractNanos(time) - localNanos);
+
+            if ((startOffset == Long.MIN_VALUE) || (window == 0)) {
+                this.shift = 0; // sofortige Anpassung bei erster Verbindung
+                this.window = 0;
+            } else {
+                this.shift = startOffset - this.endOffset;
+                this.window = window * (long) MRD;
+            }
+
+            this.factor = ((this.window == 0) ? 0.0 : Math.PI / this.window);
 
         }
 
-        // Ermittelt den aktuellen Offset in maximal Mikrosekundengenauigkeit
-        long getActualOffset(long micros) {
+        // Ermittelt aus der lokalen UTC-Zeit in Nanosekunden die Netz-Zeit
+        long getNetTime(long nanos) {
 
-            if (
-                (this.window == 0)
-                || (this.startOffset <= this.endOffset)
-                || (micros - this.startTime >= this.window)
-            ) {
-                return this.endOffset; // sofortige Anpassung
-            }
+            return nanos + this.getActualOffset(nanos);
 
-            double t = Math.max(0.0, micros - this.startTime);
-            double modulation = (1 + Math.cos(Math.PI * t / this.window)) / 2;
+        }
+
+        // Ermittelt den aktuellen Offset in Nanosekunden (allmähliche Anpassung in beiden Richtungen)
+        long getActualOffset(long nanos) {
+
+            long elapsed = nanos - this.startTime;
+
+            if ((this.shift == 0) || (elapsed >= this.window)) {
+                return this.endOffset;
+            } else if (elapsed <= 0) {
+                return this.endOffset + this.shift;
+            }
 
-            return Math.round(
-                this.endOffset
-                + modulation * (this.startOffset - this.endOffset)
-            );
+            double modulation = (1 + Math.cos(this.factor * elapsed)) / 2;
+            return this.endOffset + Math.round(modulation * this.shift);
 
         }
 
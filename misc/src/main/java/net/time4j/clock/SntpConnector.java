@@ -148,74 +148,6 @@ public class SntpConnector
 
     //~ Methoden ----------------------------------------------------------
 
-    /**
-     * <p>Returns the current time in milliseconds since the Unix epoch
-     * [1970-01-01T00:00:00,000Z]. </p>
-     *
-     * <p>UTC leap seconds are never counted. </p>
-     *
-     * @return  count of milliseconds since UNIX-epoch without leap seconds
-     * @since   2.1
-     */
-    /*[deutsch]
-     * <p>Liefert die aktuelle Zeit in Millisekunden seit dem Beginn der
-     * UNIX-Epoche, n&auml;mlich [1970-01-01T00:00:00,000Z]. </p>
-     *
-     * <p>Es handelt sich immer um eine Zeitangabe ohne UTC-Schaltsekunden. </p>
-     *
-     * @return  count of milliseconds since UNIX-epoch without leap seconds
-     * @since   2.1
-     */
-    public long currentTimeInMillis() {
-
-        if (!this.isRunning()) {
-            Moment m = this.currentTime();
-
-            return (
-                m.getPosixTime() * 1000
-                + m.getNanosecond() / MIO
-            );
-        }
-
-        long millis = SystemClock.MONOTONIC.currentTimeInMillis();
-        return (millis + (this.getLastOffset(millis * 1000) / 1000));
-
-    }
-
-    /**
-     * <p>Returns the current time in microseconds since the Unix epoch
-     * [1970-01-01T00:00:00,000000Z]. </p>
-     *
-     * <p>UTC leap seconds are never counted. </p>
-     *
-     * @return  count of microseconds since UNIX-epoch without leap seconds
-     * @since   2.1
-     */
-    /*[deutsch]
-     * <p>Liefert die aktuelle Zeit in Mikrosekunden seit dem Beginn der
-     * UNIX-Epoche, n&auml;mlich [1970-01-01T00:00:00,000000Z]. </p>
-     *
-     * <p>Es handelt sich immer um eine Zeitangabe ohne UTC-Schaltsekunden. </p>
-     *
-     * @return  count of microseconds since UNIX-epoch without leap seconds
-     * @since   2.1
-     */
-    public long currentTimeInMicros() {
-
-        if (!this.isRunning()) {
-            Moment m = this.currentTime();
-
-            return (
-                m.getPosixTime() * MIO
-                + m.getNanosecond() / 1000
-            );
-        }
-
-        long micros = SystemClock.MONOTONIC.currentTimeInMicros();
-        return (micros + this.getLastOffset(micros));
-
-    }
-
     /**
      * <p>Returns the last received message of the NTP-server. </p>
      *
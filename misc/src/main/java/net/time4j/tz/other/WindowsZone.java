@@ -22,13 +22,16 @@
 package net.time4j.tz.other;
 
 import net.time4j.tz.TZID;
+import net.time4j.tz.Timezone;
 import net.time4j.tz.spi.WinZoneProviderSPI;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 
 
@@ -216,7 +219,7 @@ public final class WindowsZone
         if (ids == null) {
             return Collections.emptySet();
         } else {
-            return Collections.unmodifiableSet(ids);
+            return ids; // schon unveränderlich
         }
 
     }
@@ -256,22 +259,151 @@ public final class WindowsZone
      */
     public TZID resolveSmart(Locale country) {
 
-        Set<TZID> ids = this.resolve(country);
+        TZID tzid = WinZoneProviderSPI.SMART_MAP.get(this.name).get(country.getCountry());
 
-        if (ids.size() > 1) {
-            ids = WinZoneProviderSPI.NAME_BASED_MAP.get(this.name).get("001");
+        if ((tzid == null) && (this.resolve(country).size() > 1)) {
+            throw new AssertionError("Ambivalent windows zone: " + this.name);
         }
 
-        switch (ids.size()) {
-            case 0:
-                return null;
-            case 1:
-                return ids.iterator().next();
-            default:
-                throw new AssertionError(
-                    "Ambivalent windows zone: " + this.name);
+        return tzid;
+
+    }
+
+    /**
+     * <p>Resolves given windows zone names to at most one zone id per name
+     * for given country. </p>
+     *
+     * <p>Equivalent to calling {@code WindowsZone.of(names[i]).resolveSmart(country)}
+     * for every array element but uses the index precomputed at startup and yields
+     * {@code null} instead of throwing an exception for unknown names. </p>
+     *
+     * @param   names       array of windows zone names (elements may be {@code null})
+     * @param   country     country reference
+     * @return  array of preferred zone ids with the same length and order as the names,
+     *          {@code null} if an element cannot be resolved
+     * @since   4.18
+     * @see     #resolveSmart(Locale)
+     */
+    /*[deutsch]
+     * <p>L&ouml;st die angegebenen Windows-Zeitzonennamen zum angegebenen Land zu
+     * maximal einer Zonen-ID pro Name auf. </p>
+     *
+     * <p>Entspricht dem Aufruf von {@code WindowsZone.of(names[i]).resolveSmart(country)}
+     * f&uuml;r jedes Array-Element, verwendet aber den beim Start vorberechneten Index
+     * und liefert {@code null}, statt bei unbekannten Namen eine Ausnahme zu werfen. </p>
+     *
+     * @param   names       array of windows zone names (elements may be {@code null})
+     * @param   country     country reference
+     * @return  array of preferred zone ids with the same length and order as the names,
+     *          {@code null} if an element cannot be resolved
+     * @since   4.18
+     * @see     #resolveSmart(Locale)
+     */
+    public static TZID[] resolveSmart(
+        String[] names,
+        Locale country
+    ) {
+
+        String key = country.getCountry();
+        TZID[] result = new TZID[names.length];
+
+        for (int i = 0; i < names.length; i++) {
+            Map<String, TZID> countryToId = ((names[i] == null) ? null : WinZoneProviderSPI.SMART_MAP.get(names[i]));
+            if (countryToId != null) {
+                result[i] = countryToId.get(key);
+            }
+        }
+
+        return result;
+
+    }
+
+    /**
+     * <p>Resolves given windows zone names to at most one timezone per name
+     * for given country. </p>
+     *
+     * <p>Like {@link #resolveSmart(String[], Locale)} but loads every distinct
+     * timezone only once so that many calendar items with the same windows zone
+     * will share the same timezone instance. </p>
+     *
+     * @param   names       array of windows zone names (elements may be {@code null})
+     * @param   country     country reference
+     * @return  array of timezones with the same length and order as the names,
+     *          {@code null} if an element cannot be resolved
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>L&ouml;st die angegebenen Windows-Zeitzonennamen zum angegebenen Land zu
+     * maximal einer Zeitzone pro Name auf. </p>
+     *
+     * <p>Wie {@link #resolveSmart(String[], Locale)}, l&auml;dt aber jede Zeitzone
+     * nur einmal, so da&szlig; sich viele Kalendereintr&auml;ge mit der gleichen
+     * Windows-Zeitzone dieselbe Zeitzoneninstanz teilen. </p>
+     *
+     * @param   names       array of windows zone names (elements may be {@code null})
+     * @param   country     country reference
+     * @return  array of timezones with the same length and order as the names,
+     *          {@code null} if an element cannot be resolved
+     * @since   4.18
+     */
+    public static Timezone[] loadSmart(
+        String[] names,
+        Locale country
+    ) {
+
+        TZID[] ids = resolveSmart(names, country);
+        Map<TZID, Timezone> loaded = new HashMap<>();
+        Timezone[] result = new Timezone[ids.length];
+
+        for (int i = 0; i < ids.length; i++) {
+            TZID tzid = ids[i];
+            if (tzid != null) {
+                Timezone tz = loaded.get(tzid);
+                if (tz == null) {
+                    tz = Timezone.of(tzid);
+                    loaded.put(tzid, tz);
+                }
+                result[i] = tz;
+            }
+        }
+
+        return result;
+
+    }
+
+    /**
+     * <p>Yields the count of precomputed entries used by smart resolving. </p>
+     *
+     * <p>Every entry maps a pair of windows name and country to a timezone
+     * identifier. Each lookup via {@link #resolveSmart(Locale)} costs two
+     * hash map accesses so this count is the main indicator for the memory
+     * footprint of the precomputed index. </p>
+     *
+     * @return  count of entries (name and country pairs)
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der vorberechneten Eintr&auml;ge, die f&uuml;r
+     * die intelligente Aufl&ouml;sung verwendet werden. </p>
+     *
+     * <p>Jeder Eintrag ordnet einem Paar aus Windows-Namen und Land eine
+     * Zeitzonen-ID zu. Jede Suche per {@link #resolveSmart(Locale)} kostet
+     * zwei Hash-Map-Zugriffe, so da&szlig; diese Anzahl der wesentliche
+     * Indikator f&uuml;r den Speicherbedarf des vorberechneten Index ist. </p>
+     *
+     * @return  count of entries (name and country pairs)
+     * @since   4.18
+     */
+    public static int getSmartIndexSize() {
+
+        int count = 0;
+
+        for (Map<String, TZID> byCountry : WinZoneProviderSPI.SMART_MAP.values()) {
+            count += byCountry.size();
         }
 
+        return count;
+
     }
 
     /**
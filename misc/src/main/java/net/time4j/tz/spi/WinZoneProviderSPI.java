@@ -62,6 +62,9 @@ public class WinZoneProviderSPI
     // Map<name, Map<country, Set<tzid>>>
     public static final Map<String, Map<String, Set<TZID>>> NAME_BASED_MAP;
 
+    // Map<name, Map<country, tzid>> (vorberechnete Auflösung im smarten Modus)
+    public static final Map<String, Map<String, TZID>> SMART_MAP;
+
     // Version of windowsZones.xml
     public static final String WIN_NAME_VERSION;
 
@@ -71,9 +74,13 @@ public class WinZoneProviderSPI
         Map<String, Map<String, String>> map = loadData();
         WIN_NAME_VERSION = map.get(VKEY).keySet().iterator().next();
         map.remove(VKEY);
+        for (Map.Entry<String, Map<String, String>> e : map.entrySet()) {
+            e.setValue(Collections.unmodifiableMap(e.getValue()));
+        }
         REPOSITORY = Collections.unmodifiableMap(map);
         PREFERRED_KEYS = prepareSmartMode();
         NAME_BASED_MAP = prepareResolvers();
+        SMART_MAP = prepareSmartResolvers();
     }
 
     //~ Methoden ----------------------------------------------------------
@@ -167,7 +174,7 @@ public class WinZoneProviderSPI
         if (map == null) {
             return Collections.emptyMap();
         } else {
-            return Collections.unmodifiableMap(map);
+            return map; // schon unveränderlich
         }
 
     }
@@ -191,7 +198,7 @@ public class WinZoneProviderSPI
         if (preferences == null) {
             return Collections.emptySet();
         } else {
-            return Collections.unmodifiableSet(preferences);
+            return preferences; // schon unveränderlich
         }
 
     }
@@ -255,7 +262,7 @@ public class WinZoneProviderSPI
                 }
             }
 
-            preferredKeys.put(country, keys);
+            preferredKeys.put(country, Collections.unmodifiableSet(keys));
         }
 
         return Collections.unmodifiableMap(preferredKeys);
@@ -295,8 +302,42 @@ public class WinZoneProviderSPI
             }
         }
 
+        for (Map.Entry<String, Map<String, Set<TZID>>> e : nameBasedMap.entrySet()) {
+            Map<String, Set<TZID>> countryToIds = e.getValue();
+            for (Map.Entry<String, Set<TZID>> entry : countryToIds.entrySet()) {
+                entry.setValue(Collections.unmodifiableSet(entry.getValue()));
+            }
+            e.setValue(Collections.unmodifiableMap(countryToIds));
+        }
+
         return Collections.unmodifiableMap(nameBasedMap);
 
     }
 
+    private static Map<String, Map<String, TZID>> prepareSmartResolvers() {
+
+        Map<String, Map<String, TZID>> smartMap = new HashMap<>();
+
+        for (Map.Entry<String, Map<String, Set<TZID>>> e : NAME_BASED_MAP.entrySet()) {
+            Map<String, Set<TZID>> countryToIds = e.getValue();
+            Set<TZID> fallback = countryToIds.get("001");
+            Map<String, TZID> countryToId = new HashMap<>();
+
+            for (Map.Entry<String, Set<TZID>> entry : countryToIds.entrySet()) {
+                Set<TZID> ids = entry.getValue();
+                if ((ids.size() > 1) && (fallback != null)) {
+                    ids = fallback;
+                }
+                if (ids.size() == 1) {
+                    countryToId.put(entry.getKey(), ids.iterator().next());
+                }
+            }
+
+            smartMap.put(e.getKey(), Collections.unmodifiableMap(countryToId));
+        }
+
+        return Collections.unmodifiableMap(smartMap);
+
+    }
+
 }
@@ -77,6 +77,9 @@ public abstract class XMLAdapter<S, T>
     private static final BigInteger MRD_I = BigInteger.valueOf(MRD);
     private static final XmlDateTimeRule XML_TIMESTAMP = new XmlDateTimeRule();
 
+    // die Suche nach einer Implementierung ist teuer, Thread-Sicherheit aber nicht dokumentiert
+    private static final ThreadLocal<DatatypeFactory> XML_FACTORY = new ThreadLocal<>();
+
     /**
      * <p>Bridge between a XML-date according to {@code xsd:date}
      * and the type {@code PlainDate}. </p>
@@ -257,14 +260,267 @@ public abstract class XMLAdapter<S, T>
 
     //~ Methoden ----------------------------------------------------------
 
+    /**
+     * <p>Parses the lexical form of {@code xs:date} directly without any
+     * {@code XMLGregorianCalendar}. </p>
+     *
+     * <p>The result is the same as {@code XML_DATE.translate(factory.newXMLGregorianCalendar(lexical))}.
+     * An optional timezone offset is checked but ignored. The year {@code 0000} is rejected
+     * as in XML-Schema 1.0. </p>
+     *
+     * @param   lexical     text in the format {@code [-]yyyy-MM-dd[offset]}
+     * @return  calendar date
+     * @throws  ChronoException if the text cannot be parsed
+     * @throws  ArithmeticException if the year is out of supported range
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Interpretiert die lexikalische Form von {@code xs:date} direkt ohne
+     * {@code XMLGregorianCalendar}. </p>
+     *
+     * <p>Das Ergebnis ist dasselbe wie {@code XML_DATE.translate(factory.newXMLGregorianCalendar(lexical))}.
+     * Ein optionaler Zeitzonen-Offset wird gepr&uuml;ft, aber ignoriert. Das Jahr {@code 0000}
+     * wird wie in XML-Schema 1.0 verworfen. </p>
+     *
+     * @param   lexical     text in the format {@code [-]yyyy-MM-dd[offset]}
+     * @return  calendar date
+     * @throws  ChronoException if the text cannot be parsed
+     * @throws  ArithmeticException if the year is out of supported range
+     * @since   4.18
+     */
+    public static PlainDate parseDate(CharSequence lexical) {
+
+        return XmlLexicalForm.parseDate(lexical);
+
+    }
+
+    /**
+     * <p>Parses the lexical form of {@code xs:time} directly without any
+     * {@code XMLGregorianCalendar}. </p>
+     *
+     * <p>The result is the same as {@code XML_TIME.translate(factory.newXMLGregorianCalendar(lexical))}
+     * so &quot;24:00:00&quot; yields midnight at start of day. An optional timezone offset is
+     * checked but ignored. </p>
+     *
+     * @param   lexical     text in the format {@code HH:mm:ss[.fraction][offset]}
+     * @return  wall time
+     * @throws  ChronoException if the text cannot be parsed
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Interpretiert die lexikalische Form von {@code xs:time} direkt ohne
+     * {@code XMLGregorianCalendar}. </p>
+     *
+     * <p>Das Ergebnis ist dasselbe wie {@code XML_TIME.translate(factory.newXMLGregorianCalendar(lexical))},
+     * so da&szlig; &quot;24:00:00&quot; Mitternacht zu Beginn des Tages ergibt. Ein optionaler
+     * Zeitzonen-Offset wird gepr&uuml;ft, aber ignoriert. </p>
+     *
+     * @param   lexical     text in the format {@code HH:mm:ss[.fraction][offset]}
+     * @return  wall time
+     * @throws  ChronoException if the text cannot be parsed
+     * @since   4.18
+     */
+    public static PlainTime parseTime(CharSequence lexical) {
+
+        return XmlLexicalForm.parseTime(lexical);
+
+    }
+
+    /**
+     * <p>Parses the lexical form of {@code xs:dateTime} directly without any
+     * {@code XMLGregorianCalendar}. </p>
+     *
+     * <p>The result is the same as {@code XML_DATE_TIME.translate(factory.newXMLGregorianCalendar(lexical))}.
+     * An optional timezone offset is checked but ignored. </p>
+     *
+     * @param   lexical     text in the format {@code [-]yyyy-MM-ddTHH:mm:ss[.fraction][offset]}
+     * @return  local timestamp
+     * @throws  ChronoException if the text cannot be parsed
+     * @throws  ArithmeticException if the year is out of supported range
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Interpretiert die lexikalische Form von {@code xs:dateTime} direkt ohne
+     * {@code XMLGregorianCalendar}. </p>
+     *
+     * <p>Das Ergebnis ist dasselbe wie {@code XML_DATE_TIME.translate(factory.newXMLGregorianCalendar(lexical))}.
+     * Ein optionaler Zeitzonen-Offset wird gepr&uuml;ft, aber ignoriert. </p>
+     *
+     * @param   lexical     text in the format {@code [-]yyyy-MM-ddTHH:mm:ss[.fraction][offset]}
+     * @return  local timestamp
+     * @throws  ChronoException if the text cannot be parsed
+     * @throws  ArithmeticException if the year is out of supported range
+     * @since   4.18
+     */
+    public static PlainTimestamp parseDateTime(CharSequence lexical) {
+
+        return XmlLexicalForm.parseDateTime(lexical);
+
+    }
+
+    /**
+     * <p>Parses the lexical form of {@code xs:dateTime} with timezone offset directly
+     * without any {@code XMLGregorianCalendar}. </p>
+     *
+     * <p>The result is the same as the moment of
+     * {@code XML_DATE_TIME_OFFSET.translate(factory.newXMLGregorianCalendar(lexical))}
+     * including the treatment of leap seconds. </p>
+     *
+     * @param   lexical     text in the format {@code [-]yyyy-MM-ddTHH:mm:ss[.fraction]offset}
+     * @return  global timestamp
+     * @throws  ChronoException if the text cannot be parsed or has no offset
+     * @throws  ArithmeticException if the year is out of supported range
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Interpretiert die lexikalische Form von {@code xs:dateTime} mit Zeitzonen-Offset
+     * direkt ohne {@code XMLGregorianCalendar}. </p>
+     *
+     * <p>Das Ergebnis ist derselbe Moment wie in
+     * {@code XML_DATE_TIME_OFFSET.translate(factory.newXMLGregorianCalendar(lexical))}
+     * einschlie&szlig;lich der Behandlung von Schaltsekunden. </p>
+     *
+     * @param   lexical     text in the format {@code [-]yyyy-MM-ddTHH:mm:ss[.fraction]offset}
+     * @return  global timestamp
+     * @throws  ChronoException if the text cannot be parsed or has no offset
+     * @throws  ArithmeticException if the year is out of supported range
+     * @since   4.18
+     */
+    public static Moment parseMoment(CharSequence lexical) {
+
+        return XmlLexicalForm.parseMoment(lexical);
+
+    }
+
+    /**
+     * <p>Prints given calendar date in the lexical form of {@code xs:date}. </p>
+     *
+     * <p>The result is the same as {@code XML_DATE.from(date).toXMLFormat()}. </p>
+     *
+     * @param   date    calendar date to be printed
+     * @return  lexical form
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Formatiert das angegebene Kalenderdatum in der lexikalischen Form von
+     * {@code xs:date}. </p>
+     *
+     * <p>Das Ergebnis ist dasselbe wie {@code XML_DATE.from(date).toXMLFormat()}. </p>
+     *
+     * @param   date    calendar date to be printed
+     * @return  lexical form
+     * @since   4.18
+     */
+    public static String print(PlainDate date) {
+
+        StringBuilder sb = new StringBuilder(10);
+        XmlLexicalForm.printDate(date, sb);
+        return sb.toString();
+
+    }
+
+    /**
+     * <p>Prints given wall time in the lexical form of {@code xs:time}. </p>
+     *
+     * <p>The result is the same as {@code XML_TIME.from(time).toXMLFormat()}. </p>
+     *
+     * @param   time    wall time to be printed
+     * @return  lexical form
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Formatiert die angegebene Uhrzeit in der lexikalischen Form von
+     * {@code xs:time}. </p>
+     *
+     * <p>Das Ergebnis ist dasselbe wie {@code XML_TIME.from(time).toXMLFormat()}. </p>
+     *
+     * @param   time    wall time to be printed
+     * @return  lexical form
+     * @since   4.18
+     */
+    public static String print(PlainTime time) {
+
+        StringBuilder sb = new StringBuilder(18);
+        XmlLexicalForm.printTime(time, sb);
+        return sb.toString();
+
+    }
+
+    /**
+     * <p>Prints given local timestamp in the lexical form of {@code xs:dateTime}. </p>
+     *
+     * <p>The result is the same as {@code XML_DATE_TIME.from(tsp).toXMLFormat()}. </p>
+     *
+     * @param   tsp     local timestamp to be printed
+     * @return  lexical form
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Formatiert den angegebenen lokalen Zeitstempel in der lexikalischen Form von
+     * {@code xs:dateTime}. </p>
+     *
+     * <p>Das Ergebnis ist dasselbe wie {@code XML_DATE_TIME.from(tsp).toXMLFormat()}. </p>
+     *
+     * @param   tsp     local timestamp to be printed
+     * @return  lexical form
+     * @since   4.18
+     */
+    public static String print(PlainTimestamp tsp) {
+
+        StringBuilder sb = new StringBuilder(29);
+        XmlLexicalForm.printDateTime(tsp, sb);
+        return sb.toString();
+
+    }
+
+    /**
+     * <p>Prints given moment in the lexical form of {@code xs:dateTime} in UTC. </p>
+     *
+     * <p>The result is the same as
+     * {@code XML_DATE_TIME_OFFSET.from(moment.inZonalView(ZonalOffset.UTC)).toXMLFormat()}
+     * with the symbol &quot;Z&quot; as offset. Leap seconds are printed with the
+     * second 60. </p>
+     *
+     * @param   moment  global timestamp to be printed
+     * @return  lexical form
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Formatiert den angegebenen Moment in der lexikalischen Form von
+     * {@code xs:dateTime} in UTC. </p>
+     *
+     * <p>Das Ergebnis ist dasselbe wie
+     * {@code XML_DATE_TIME_OFFSET.from(moment.inZonalView(ZonalOffset.UTC)).toXMLFormat()}
+     * mit dem Symbol &quot;Z&quot; als Offset. Schaltsekunden werden mit der Sekunde 60
+     * formatiert. </p>
+     *
+     * @param   moment  global timestamp to be printed
+     * @return  lexical form
+     * @since   4.18
+     */
+    public static String print(Moment moment) {
+
+        StringBuilder sb = new StringBuilder(30);
+        XmlLexicalForm.printMoment(moment, sb);
+        return sb.toString();
+
+    }
+
     private static DatatypeFactory getXMLFactory() {
 
-        try {
-            return DatatypeFactory.newInstance();
-        } catch (DatatypeConfigurationException ex) {
-            throw new ChronoException("XML-conversion not available.", ex);
+        DatatypeFactory factory = XML_FACTORY.get();
+
+        if (factory == null) {
+            try {
+                factory = DatatypeFactory.newInstance();
+            } catch (DatatypeConfigurationException ex) {
+                throw new ChronoException("XML-conversion not available.", ex);
+            }
+            XML_FACTORY.set(factory);
         }
 
+        return factory;
+
     }
 
     private static XMLGregorianCalendar toXML(
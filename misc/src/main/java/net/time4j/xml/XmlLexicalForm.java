@@ -0,0 +1,425 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (XmlLexicalForm.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.xml;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import net.time4j.engine.ChronoException;
+import net.time4j.scale.LeapSeconds;
+import net.time4j.tz.ZonalOffset;
+
+
+/**
+ * <p>Direct conversion between the lexical forms of {@code xs:date}, {@code xs:time}
+ * and {@code xs:dateTime} and Time4J-types without any {@code XMLGregorianCalendar}. </p>
+ *
+ * <p>The results are the same as the translation of a parsed {@code XMLGregorianCalendar}
+ * by the corresponding {@code XMLAdapter}-constants, and the printed texts are the same as
+ * {@code XMLGregorianCalendar.toXMLFormat()}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {threadsafe}
+ */
+final class XmlLexicalForm {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MIO = 1000000;
+    private static final int MAX_YEAR_DIGITS = 9;
+    private static final int NO_OFFSET = Integer.MIN_VALUE;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final CharSequence text;
+    private final String type;
+    private int pos;
+    private boolean leapsecond;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private XmlLexicalForm(
+        CharSequence text,
+        String type
+    ) {
+        super();
+
+        this.text = text;
+        this.type = type;
+        this.pos = 0;
+        this.leapsecond = false;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    static PlainDate parseDate(CharSequence text) {
+
+        XmlLexicalForm parser = new XmlLexicalForm(text, "xs:date");
+        PlainDate date = parser.date();
+        parser.offset();
+        parser.end();
+        return date;
+
+    }
+
+    static PlainTime parseTime(CharSequence text) {
+
+        XmlLexicalForm parser = new XmlLexicalForm(text, "xs:time");
+        PlainTime time = parser.time(false);
+        parser.offset();
+        parser.end();
+
+        // wie XMLGregorianCalendar: 24:00 wird zu 00:00
+        return ((time.getHour() == 24) ? PlainTime.midnightAtStartOfDay() : time);
+
+    }
+
+    static PlainTimestamp parseDateTime(CharSequence text) {
+
+        XmlLexicalForm parser = new XmlLexicalForm(text, "xs:dateTime");
+        PlainTimestamp tsp = parser.dateTime(false);
+        parser.offset();
+        parser.end();
+        return tsp;
+
+    }
+
+    static Moment parseMoment(CharSequence text) {
+
+        XmlLexicalForm parser = new XmlLexicalForm(text, "xs:dateTime");
+        PlainTimestamp tsp = parser.dateTime(true);
+        int total = parser.offset();
+        parser.end();
+
+        if (total == NO_OFFSET) {
+            throw new ChronoException("Missing timezone offset: " + text);
+        }
+
+        Moment moment = tsp.at(ZonalOffset.ofTotalSeconds(total));
+
+        if (parser.leapsecond && LeapSeconds.getInstance().isEnabled()) {
+            Moment ls = moment.plus(1, SI.SECONDS);
+            if (ls.isLeapSecond()) {
+                return ls;
+            } else {
+                throw new ChronoException("Leap second not registered: " + text);
+            }
+        }
+
+        return moment;
+
+    }
+
+    static void printDate(
+        PlainDate date,
+        StringBuilder buffer
+    ) {
+
+        int year = date.getYear();
+
+        if (year < 0) {
+            buffer.append('-');
+            year = -year;
+        }
+
+        String digits = Integer.toString(year);
+
+        for (int i = digits.length(); i < 4; i++) {
+            buffer.append('0');
+        }
+
+        buffer.append(digits).append('-');
+        append2(buffer, date.getMonth());
+        buffer.append('-');
+        append2(buffer, date.getDayOfMonth());
+
+    }
+
+    static void printTime(
+        int hour,
+        int minute,
+        int second,
+        int nano,
+        StringBuilder buffer
+    ) {
+
+        append2(buffer, hour);
+        buffer.append(':');
+        append2(buffer, minute);
+        buffer.append(':');
+        append2(buffer, second);
+        buffer.append('.');
+
+        // wie XMLGregorianCalendar: Millisekunden oder volle Nanosekunden
+        if ((nano % MIO) == 0) {
+            appendDigits(buffer, nano / MIO, 3);
+        } else {
+            appendDigits(buffer, nano, 9);
+        }
+
+    }
+
+    static void printTime(
+        PlainTime time,
+        StringBuilder buffer
+    ) {
+
+        // kanonische Form: 24:00 ist in XML-Schema gleich 00:00
+        int hour = time.getHour() % 24;
+        printTime(hour, time.getMinute(), time.getSecond(), time.getNanosecond(), buffer);
+
+    }
+
+    static void printDateTime(
+        PlainTimestamp tsp,
+        StringBuilder buffer
+    ) {
+
+        printDate(tsp.getCalendarDate(), buffer);
+        buffer.append('T');
+        printTime(tsp.getWallTime(), buffer);
+
+    }
+
+    static void printMoment(
+        Moment moment,
+        StringBuilder buffer
+    ) {
+
+        PlainTimestamp tsp = moment.toZonalTimestamp(ZonalOffset.UTC);
+        printDate(tsp.getCalendarDate(), buffer);
+        buffer.append('T');
+        int second = (moment.isLeapSecond() ? 60 : tsp.getSecond());
+        printTime(tsp.getHour(), tsp.getMinute(), second, tsp.getNanosecond(), buffer);
+        buffer.append('Z');
+
+    }
+
+    private PlainDate date() {
+
+        boolean negative = this.optional('-');
+        int start = this.pos;
+        long year = 0;
+
+        while ((this.pos < this.text.length()) && isDigit(this.text.charAt(this.pos))) {
+            year = year * 10 + (this.text.charAt(this.pos) - '0');
+            this.pos++;
+            if (this.pos - start > MAX_YEAR_DIGITS) {
+                throw new ArithmeticException("Year out of supported range: " + this.text);
+            }
+        }
+
+        int count = this.pos - start;
+
+        if ((count < 4) || ((count > 4) && (this.text.charAt(start) == '0'))) {
+            throw this.invalid();
+        } else if (year == 0) { // XSD 1.0 und XMLGregorianCalendar kennen kein Jahr 0000
+            throw this.invalid();
+        }
+
+        this.expect('-');
+        int month = this.digits2();
+        this.expect('-');
+        int dom = this.digits2();
+
+        try {
+            return PlainDate.of((int) (negative ? -year : year), month, dom);
+        } catch (IllegalArgumentException iae) {
+            throw new ChronoException(iae.getMessage(), iae);
+        }
+
+    }
+
+    private PlainTime time(boolean global) {
+
+        int hour = this.digits2();
+        this.expect(':');
+        int minute = this.digits2();
+        this.expect(':');
+        int second = this.digits2();
+        int nano = 0;
+
+        if (this.optional('.')) {
+            int start = this.pos;
+            int factor = 100000000;
+            while ((this.pos < this.text.length()) && isDigit(this.text.charAt(this.pos))) {
+                nano += (this.text.charAt(this.pos) - '0') * factor; // mehr als 9 Stellen: abschneiden
+                factor /= 10;
+                this.pos++;
+            }
+            if (this.pos == start) {
+                throw this.invalid();
+            }
+        }
+
+        if (hour == 24) {
+            if ((minute != 0) || (second != 0) || (nano != 0)) {
+                throw this.invalid();
+            }
+            return PlainTime.midnightAtEndOfDay();
+        } else if ((second == 60) && global) {
+            // wie XML_DATE_TIME_OFFSET: vorläufig 59, der Moment wird später korrigiert
+            this.leapsecond = true;
+            second = 59;
+        }
+
+        try {
+            return PlainTime.of(hour, minute, second, nano);
+        } catch (IllegalArgumentException iae) {
+            throw new ChronoException(iae.getMessage(), iae);
+        }
+
+    }
+
+    private PlainTimestamp dateTime(boolean global) {
+
+        PlainDate date = this.date();
+        this.expect('T');
+        return PlainTimestamp.of(date, this.time(global));
+
+    }
+
+    private int offset() {
+
+        if (this.pos == this.text.length()) {
+            return NO_OFFSET;
+        } else if (this.optional('Z')) {
+            return 0;
+        }
+
+        int sign;
+
+        if (this.optional('+')) {
+            sign = 1;
+        } else if (this.optional('-')) {
+            sign = -1;
+        } else {
+            throw this.invalid();
+        }
+
+        int hours = this.digits2();
+        this.expect(':');
+        int minutes = this.digits2();
+
+        if ((minutes > 59) || (hours * 60 + minutes > 14 * 60)) {
+            throw this.invalid();
+        }
+
+        return sign * (hours * 3600 + minutes * 60);
+
+    }
+
+    private void end() {
+
+        if (this.pos != this.text.length()) {
+            throw this.invalid();
+        }
+
+    }
+
+    private int digits2() {
+
+        if (this.pos + 2 > this.text.length()) {
+            throw this.invalid();
+        }
+
+        char c1 = this.text.charAt(this.pos);
+        char c2 = this.text.charAt(this.pos + 1);
+
+        if (!isDigit(c1) || !isDigit(c2)) {
+            throw this.invalid();
+        }
+
+        this.pos += 2;
+        return (c1 - '0') * 10 + (c2 - '0');
+
+    }
+
+    private void expect(char c) {
+
+        if (!this.optional(c)) {
+            throw this.invalid();
+        }
+
+    }
+
+    private boolean optional(char c) {
+
+        if ((this.pos < this.text.length()) && (this.text.charAt(this.pos) == c)) {
+            this.pos++;
+            return true;
+        }
+
+        return false;
+
+    }
+
+    private ChronoException invalid() {
+
+        return new ChronoException("Invalid " + this.type + " at position " + this.pos + ": " + this.text);
+
+    }
+
+    private static boolean isDigit(char c) {
+
+        return ((c >= '0') && (c <= '9'));
+
+    }
+
+    private static void append2(
+        StringBuilder buffer,
+        int value
+    ) {
+
+        buffer.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+
+    }
+
+    private static void appendDigits(
+        StringBuilder buffer,
+        int value,
+        int count
+    ) {
+
+        for (int factor = pow10(count - 1); factor > 0; factor /= 10) {
+            buffer.append((char) ('0' + (value / factor) % 10));
+        }
+
+    }
+
+    private static int pow10(int exponent) {
+
+        int result = 1;
+
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+
+        return result;
+
+    }
+
+}
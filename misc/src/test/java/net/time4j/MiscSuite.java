@@ -1,6 +1,8 @@
 package net.time4j;
 
 import net.time4j.clock.ClockTest;
+import net.time4j.clock.MultiSntpConnectorTest;
+import net.time4j.clock.SmoothedNetTimeTest;
 import net.time4j.tz.other.MilitaryZoneTest;
 import net.time4j.tz.other.WindowsZoneTest;
 import net.time4j.xml.AnnualDateTest;
@@ -17,6 +19,8 @@ import org.junit.runners.Suite.SuiteClasses;
         AnnualDateTest.class,
         ClockTest.class,
         MilitaryZoneTest.class,
+        MultiSntpConnectorTest.class,
+        SmoothedNetTimeTest.class,
         WindowsZoneTest.class,
         XMLAdapterTest.class
     }
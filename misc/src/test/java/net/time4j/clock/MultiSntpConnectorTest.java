@@ -0,0 +1,281 @@
+package net.time4j.clock;
+
+import net.time4j.Moment;
+import net.time4j.SystemClock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class MultiSntpConnectorTest {
+
+    private final List<FakeServer> servers = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        this.servers.clear();
+    }
+
+    @After
+    public void tearDown() {
+        for (FakeServer server : this.servers) {
+            server.close();
+        }
+    }
+
+    @Test
+    public void majorityWithFalseticker() throws IOException {
+        FakeServer s1 = this.start(2000, 1);
+        FakeServer s2 = this.start(2010, 1);
+        FakeServer s3 = this.start(-50000, 1);
+        MultiSntpConnector clock =
+            new MultiSntpConnector(new LocalConfiguration(s1.getPort()), s2.getAddress(), s3.getAddress());
+        clock.connect();
+
+        assertThat(clock.isRunning(), is(true));
+        assertThat(clock.getLastSurvivorCount(), is(2));
+        assertThat(Math.abs(clock.getLastOffsetInMicros() - 2005000) < 200000, is(true));
+        assertThat(clock.getLastJitterInMicros() < 200000, is(true));
+    }
+
+    @Test
+    public void kissOfDeathIgnored() throws IOException {
+        FakeServer s1 = this.start(3000, 1);
+        FakeServer s2 = this.start(-3000, 0);
+        MultiSntpConnector clock = new MultiSntpConnector(new LocalConfiguration(s1.getPort()), s2.getAddress());
+        clock.connect();
+
+        assertThat(clock.getLastSurvivorCount(), is(1));
+        assertThat(Math.abs(clock.getLastOffsetInMicros() - 3000000) < 200000, is(true));
+    }
+
+    @Test(expected=IOException.class)
+    public void noValidReply() throws IOException {
+        FakeServer s1 = this.start(0, 0);
+        new MultiSntpConnector(new LocalConfiguration(s1.getPort())).connect();
+    }
+
+    @Test
+    public void backgroundPolling() throws Exception {
+        FakeServer s1 = this.start(1000, 1);
+        MultiSntpConnector clock = new MultiSntpConnector(new LocalConfiguration(s1.getPort()));
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+        try {
+            ScheduledFuture<?> future = clock.startPolling(scheduler, 0, 10, TimeUnit.MILLISECONDS);
+            long start = System.currentTimeMillis();
+            while ((s1.getRequestCount() < 3) && (System.currentTimeMillis() - start < 5000)) {
+                Thread.sleep(10);
+            }
+            future.cancel(false);
+        } finally {
+            scheduler.shutdownNow();
+        }
+
+        assertThat(s1.getRequestCount() >= 3, is(true));
+        assertThat(clock.isRunning(), is(true));
+    }
+
+    @Test
+    public void backgroundPollingSurvivesRuntimeException() throws Exception {
+        FailingConnector clock = new FailingConnector(new LocalConfiguration(123));
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+        try {
+            ScheduledFuture<?> future = clock.startPolling(scheduler, 0, 10, TimeUnit.MILLISECONDS);
+            long start = System.currentTimeMillis();
+            while ((clock.calls.get() < 3) && (System.currentTimeMillis() - start < 5000)) {
+                Thread.sleep(10);
+            }
+            assertThat(future.isDone(), is(false));
+            future.cancel(false);
+        } finally {
+            scheduler.shutdownNow();
+        }
+
+        assertThat(clock.calls.get() >= 3, is(true));
+        assertThat(clock.isRunning(), is(true));
+    }
+
+    private FakeServer start(
+        long offsetMillis,
+        int stratum
+    ) {
+        try {
+            FakeServer server = new FakeServer(offsetMillis, stratum);
+            this.servers.add(server);
+            server.start();
+            return server;
+        } catch (SocketException se) {
+            throw new IllegalStateException(se);
+        }
+    }
+
+    private static class FakeServer
+        extends Thread {
+
+        private static final long OFFSET_1900 = 2208988800L;
+
+        private final DatagramSocket socket;
+        private final long offsetMillis;
+        private final int stratum;
+        private volatile int requestCount = 0;
+
+        FakeServer(
+            long offsetMillis,
+            int stratum
+        ) throws SocketException {
+            super();
+            this.socket = new DatagramSocket(0, InetAddress.getLoopbackAddress());
+            this.offsetMillis = offsetMillis;
+            this.stratum = stratum;
+            this.setDaemon(true);
+        }
+
+        int getPort() {
+            return this.socket.getLocalPort();
+        }
+
+        InetSocketAddress getAddress() {
+            return new InetSocketAddress(InetAddress.getLoopbackAddress(), this.getPort());
+        }
+
+        int getRequestCount() {
+            return this.requestCount;
+        }
+
+        void close() {
+            this.socket.close();
+        }
+
+        @Override
+        public void run() {
+            byte[] data = new byte[48];
+
+            while (!this.socket.isClosed()) {
+                try {
+                    DatagramPacket request = new DatagramPacket(data, data.length);
+                    this.socket.receive(request);
+                    this.requestCount++;
+                    byte[] reply = new byte[48];
+                    reply[0] = (byte) ((data[0] & 0x38) | 4); // same version, server mode
+                    reply[1] = (byte) this.stratum;
+                    reply[10] = 0x10; // root dispersion of 1/16 seconds
+                    System.arraycopy(data, 40, reply, 24, 8); // originate = client transmit
+                    long now = System.currentTimeMillis() + this.offsetMillis;
+                    encode(reply, 32, now);
+                    encode(reply, 40, now);
+                    this.socket.send(new DatagramPacket(reply, reply.length, request.getSocketAddress()));
+                } catch (IOException ioe) {
+                    // closed
+                }
+            }
+        }
+
+        private static void encode(
+            byte[] data,
+            int index,
+            long millis
+        ) {
+            long seconds = Math.floorDiv(millis, 1000) + OFFSET_1900;
+            long fraction = (((long) Math.floorMod(millis, 1000)) << 32) / 1000;
+            for (int i = 0; i < 4; i++) {
+                data[index + i] = (byte) (seconds >>> (24 - 8 * i));
+                data[index + 4 + i] = (byte) (fraction >>> (24 - 8 * i));
+            }
+        }
+
+    }
+
+    private static class FailingConnector
+        extends NetTimeConnector<SntpConfiguration> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        FailingConnector(SntpConfiguration config) {
+            super(config);
+        }
+
+        @Override
+        protected Moment doConnect() {
+            if (this.calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("Bad reply.");
+            }
+            return SystemClock.INSTANCE.currentTime();
+        }
+
+        @Override
+        protected Class<SntpConfiguration> getConfigurationType() {
+            return SntpConfiguration.class;
+        }
+
+    }
+
+    private static class LocalConfiguration
+        implements SntpConfiguration {
+
+        private final int port;
+
+        LocalConfiguration(int port) {
+            super();
+            this.port = port;
+        }
+
+        @Override
+        public String getTimeServerAddress() {
+            return InetAddress.getLoopbackAddress().getHostAddress();
+        }
+
+        @Override
+        public int getTimeServerPort() {
+            return this.port;
+        }
+
+        @Override
+        public int getConnectionTimeout() {
+            return 2;
+        }
+
+        @Override
+        public boolean isNTP4() {
+            return true;
+        }
+
+        @Override
+        public int getRequestInterval() {
+            return 1;
+        }
+
+        @Override
+        public short getRequestCount() {
+            return 4;
+        }
+
+        @Override
+        public int getClockShiftWindow() {
+            return 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,135 @@
+package net.time4j.clock;
+
+import net.time4j.Moment;
+import net.time4j.SystemClock;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class SmoothedNetTimeTest {
+
+    private static final long TOLERANCE = 50000000L; // 50 ms
+
+    @Test
+    public void firstConnectionImmediate() throws Exception {
+        FakeConnector clock = new FakeConnector(60);
+        clock.offsetMillis = 5000;
+        clock.connect();
+        assertThat(near(clock.currentTimeInNanos() - localNanos(), 5000000000L), is(true));
+        assertThat(near(clock.getLastOffsetInMicros() * 1000, 5000000000L), is(true));
+    }
+
+    @Test
+    public void forwardShiftSmoothed() throws Exception {
+        FakeConnector clock = new FakeConnector(60);
+        clock.offsetMillis = 0;
+        clock.connect();
+        clock.offsetMillis = 4000;
+        clock.connect();
+        long shift = clock.currentTimeInNanos() - localNanos();
+        assertThat(near(shift, 0), is(true));
+    }
+
+    @Test
+    public void backwardShiftSmoothed() throws Exception {
+        FakeConnector clock = new FakeConnector(60);
+        clock.offsetMillis = 4000;
+        clock.connect();
+        clock.offsetMillis = 0;
+        clock.connect();
+        long shift = clock.currentTimeInNanos() - localNanos();
+        assertThat(near(shift, 4000000000L), is(true));
+    }
+
+    @Test
+    public void zeroWindowImmediate() throws Exception {
+        FakeConnector clock = new FakeConnector(0);
+        clock.offsetMillis = 0;
+        clock.connect();
+        clock.offsetMillis = -3000;
+        clock.connect();
+        long shift = clock.currentTimeInNanos() - localNanos();
+        assertThat(near(shift, -3000000000L), is(true));
+    }
+
+    @Test
+    public void primitiveAndObjectReadsConsistent() throws Exception {
+        FakeConnector clock = new FakeConnector(60);
+        clock.offsetMillis = 1500;
+        clock.connect();
+        Moment m = clock.currentTime();
+        long nanos = clock.currentTimeInNanos();
+        long expected = m.getPosixTime() * 1000000000L + m.getNanosecond();
+        assertThat(near(nanos, expected), is(true));
+        assertThat(near(clock.currentTimeInMicros() * 1000, expected), is(true));
+        assertThat(near(clock.currentTimeInMillis() * 1000000, expected), is(true));
+    }
+
+    @Test
+    public void notRunning() {
+        FakeConnector clock = new FakeConnector(60);
+        Moment m = clock.currentTime();
+        assertThat(clock.isRunning(), is(false));
+        assertThat(clock.currentTimeInNanos(), is(m.getPosixTime() * 1000000000L + m.getNanosecond()));
+    }
+
+    private static long localNanos() {
+        Moment m = SystemClock.MONOTONIC.currentTime();
+        return m.getPosixTime() * 1000000000L + m.getNanosecond();
+    }
+
+    private static boolean near(
+        long actual,
+        long expected
+    ) {
+        return Math.abs(actual - expected) < TOLERANCE;
+    }
+
+    private static class FakeConnector
+        extends NetTimeConnector<NetTimeConfiguration> {
+
+        private volatile long offsetMillis = 0;
+
+        FakeConnector(final int window) {
+            super(
+                new NetTimeConfiguration() {
+                    @Override
+                    public String getTimeServerAddress() {
+                        return "localhost";
+                    }
+                    @Override
+                    public int getTimeServerPort() {
+                        return 0;
+                    }
+                    @Override
+                    public int getConnectionTimeout() {
+                        return 0;
+                    }
+                    @Override
+                    public int getClockShiftWindow() {
+                        return window;
+                    }
+                }
+            );
+        }
+
+        @Override
+        protected Moment doConnect() {
+            return SystemClock.MONOTONIC.currentTime().plus(this.offsetMillis, MILLISECONDS);
+        }
+
+        @Override
+        protected Class<NetTimeConfiguration> getConfigurationType() {
+            return NetTimeConfiguration.class;
+        }
+
+    }
+
+}
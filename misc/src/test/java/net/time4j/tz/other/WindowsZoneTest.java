@@ -118,6 +118,57 @@ public class WindowsZoneTest {
             is(7));
     }
 
+    @Test
+    public void resolveSmartLikeResolve() {
+        for (String name : WindowsZone.getAvailableNames()) {
+            WindowsZone wzn = WindowsZone.of(name);
+            for (String country : Locale.getISOCountries()) {
+                Locale locale = new Locale("", country);
+                Set<TZID> ids = wzn.resolve(locale);
+                if (ids.size() > 1) {
+                    ids = wzn.resolve(new Locale("", "001"));
+                }
+                TZID expected = ((ids.size() == 1) ? ids.iterator().next() : null);
+                assertThat(name + "/" + country, wzn.resolveSmart(locale), is(expected));
+            }
+        }
+    }
+
+    @Test
+    public void resolveSmartBulk() {
+        String[] names = {"Eastern Standard Time", "xyz", null, "Romance Standard Time", "Eastern Standard Time"};
+        TZID[] ids = WindowsZone.resolveSmart(names, Locale.US);
+        assertThat(ids.length, is(5));
+        assertThat(ids[0].canonical(), is("WINDOWS~America/New_York"));
+        assertThat(ids[1], nullValue());
+        assertThat(ids[2], nullValue());
+        assertThat(ids[3], nullValue());
+        assertThat(ids[4], is(ids[0]));
+    }
+
+    @Test
+    public void loadSmartBulk() {
+        String[] names = {"Romance Standard Time", "Eastern Standard Time", "Romance Standard Time"};
+        Timezone[] zones = WindowsZone.loadSmart(names, Locale.FRANCE);
+        assertThat(zones[0].getID().canonical(), is("WINDOWS~Europe/Paris"));
+        assertThat(zones[1], nullValue());
+        assertThat(zones[2] == zones[0], is(true));
+    }
+
+    @Test
+    public void getSmartIndexSize() {
+        int count = 0;
+        for (String name : WindowsZone.getAvailableNames()) {
+            for (String country : Locale.getISOCountries()) {
+                if (WindowsZone.of(name).resolve(new Locale("", country)).size() == 1) {
+                    count++;
+                }
+            }
+        }
+        assertThat(WindowsZone.getSmartIndexSize() >= count, is(true));
+        assertThat(WindowsZone.getSmartIndexSize() > WindowsZone.getAvailableNames().size(), is(true));
+    }
+
     @Test
     public void getDisplayNameUS() {
         String name = "Eastern Standard Time";
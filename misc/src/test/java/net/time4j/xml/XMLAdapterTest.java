@@ -7,8 +7,13 @@ import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 import net.time4j.Duration;
 import net.time4j.IsoUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
 import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
 import net.time4j.ZonalDateTime;
+import net.time4j.engine.ChronoException;
+import net.time4j.tz.ZonalOffset;
 import net.time4j.format.expert.Iso8601Format;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -133,4 +138,96 @@ public class XMLAdapterTest {
                     new BigDecimal("5.123456789"))));
     }
 
+    @Test
+    public void parseLexicalLikeXMLGregorianCalendar() throws Exception {
+        DatatypeFactory factory = DatatypeFactory.newInstance();
+        String[] dates = {"2016-02-29", "0001-01-01", "-0044-03-15", "12345-12-31", "2016-02-29Z", "2016-02-29-05:00"};
+        for (String xml : dates) {
+            assertThat(xml, XMLAdapter.parseDate(xml), is(XMLAdapter.XML_DATE.translate(factory.newXMLGregorianCalendar(xml))));
+        }
+        String[] times = {"23:59:36", "00:00:00.1", "12:30:15.123456789", "24:00:00", "12:30:15.1234567891", "01:02:03+14:00"};
+        for (String xml : times) {
+            assertThat(xml, XMLAdapter.parseTime(xml), is(XMLAdapter.XML_TIME.translate(factory.newXMLGregorianCalendar(xml))));
+        }
+        String[] timestamps = {"2016-02-29T23:59:36.5", "2016-12-31T24:00:00", "-0001-06-30T12:00:00+01:30"};
+        for (String xml : timestamps) {
+            assertThat(
+                xml,
+                XMLAdapter.parseDateTime(xml),
+                is(XMLAdapter.XML_DATE_TIME.translate(factory.newXMLGregorianCalendar(xml))));
+        }
+        String[] moments = {"2012-06-30T23:59:60.123456789Z", "2016-02-29T23:59:36.5-09:30", "2016-12-31T24:00:00+01:00"};
+        for (String xml : moments) {
+            assertThat(
+                xml,
+                XMLAdapter.parseMoment(xml),
+                is(XMLAdapter.XML_DATE_TIME_OFFSET.translate(factory.newXMLGregorianCalendar(xml)).toMoment()));
+        }
+    }
+
+    @Test
+    public void printLexicalLikeXMLGregorianCalendar() throws Exception {
+        for (PlainDate date : new PlainDate[] {PlainDate.of(2016, 2, 29), PlainDate.of(-44, 3, 15), PlainDate.of(12345, 1, 1)}) {
+            assertThat(XMLAdapter.print(date), is(XMLAdapter.XML_DATE.from(date).toXMLFormat()));
+        }
+        PlainTime[] times = {
+            PlainTime.of(0), PlainTime.of(23, 59, 36, 123000000), PlainTime.of(1, 2, 3, 1200), PlainTime.of(24)};
+        for (PlainTime time : times) {
+            assertThat(XMLAdapter.print(time), is(XMLAdapter.XML_TIME.from(time).toXMLFormat()));
+        }
+        PlainTimestamp tsp = PlainTimestamp.of(2016, 2, 29, 17, 45, 1).plus(987654321, net.time4j.ClockUnit.NANOS);
+        assertThat(XMLAdapter.print(tsp), is(XMLAdapter.XML_DATE_TIME.from(tsp).toXMLFormat()));
+        Moment ls = XMLAdapter.parseMoment("2012-06-30T23:59:60.123Z");
+        assertThat(XMLAdapter.print(ls), is(XMLAdapter.XML_DATE_TIME_OFFSET.from(ls.inZonalView(ZonalOffset.UTC)).toXMLFormat()));
+        assertThat(XMLAdapter.print(ls), is("2012-06-30T23:59:60.123Z"));
+    }
+
+    @Test
+    public void parseLexicalInvalid() {
+        String[] invalid = {
+            "2016-2-29", "016-02-29", "02016-02-29", "2016-02-30", "2016-02-29+15:00", "2016-02-29 ", "2016-02-29T"};
+        for (String xml : invalid) {
+            try {
+                XMLAdapter.parseDate(xml);
+                throw new AssertionError("Not rejected: " + xml);
+            } catch (ChronoException ex) {
+                // ok
+            }
+        }
+        String[] invalidTimes = {"24:00:01", "12:30", "12:30:15.", "12:30:60", "12:60:00"};
+        for (String xml : invalidTimes) {
+            try {
+                XMLAdapter.parseTime(xml);
+                throw new AssertionError("Not rejected: " + xml);
+            } catch (ChronoException ex) {
+                // ok
+            }
+        }
+    }
+
+    @Test
+    public void parseLexicalYearZero() {
+        String[] invalid = {"0000-01-01", "-0000-01-01", "0000-01-01Z"};
+        for (String xml : invalid) {
+            try {
+                XMLAdapter.parseDate(xml);
+                throw new AssertionError("Not rejected: " + xml);
+            } catch (ChronoException ex) {
+                // ok
+            }
+        }
+        assertThat(XMLAdapter.parseDate("0001-01-01"), is(PlainDate.of(1, 1, 1)));
+        assertThat(XMLAdapter.parseDate("-0001-01-01"), is(PlainDate.of(-1, 1, 1)));
+    }
+
+    @Test(expected=ChronoException.class)
+    public void parseMomentWithYearZero() {
+        XMLAdapter.parseMoment("0000-01-01T00:00:00Z");
+    }
+
+    @Test(expected=ChronoException.class)
+    public void parseMomentWithoutOffset() {
+        XMLAdapter.parseMoment("2016-02-29T12:00:00");
+    }
+
 }
@@ -39,8 +39,6 @@ import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 
 /**
@@ -56,13 +54,15 @@ final class RuleBasedTransitionModel
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
+    // Fenster vorberechneter Übergänge relativ zur aktuellen Zeit (in Jahren)
+    private static final int FIRST_CACHED_YEAR;
     private static final int LAST_CACHED_YEAR;
 
     static {
-        long ly = TransitionModel.getFutureMoment(100);
-        long mjd = EpochDays.MODIFIED_JULIAN_DATE.transform(ly, EpochDays.UNIX);
-        LAST_CACHED_YEAR =
-            GregorianMath.readYear(GregorianMath.toPackedDate(mjd));
+        int past = Integer.getInteger("net.time4j.tz.window.past", 50).intValue();
+        int future = Integer.getInteger("net.time4j.tz.window.future", 100).intValue();
+        FIRST_CACHED_YEAR = toYear(TransitionModel.getFutureMoment(-Math.max(0, past)));
+        LAST_CACHED_YEAR = toYear(TransitionModel.getFutureMoment(Math.max(0, future)));
     }
 
     private static final long serialVersionUID = 2456700806862862287L;
@@ -72,7 +72,7 @@ final class RuleBasedTransitionModel
     private transient final ZonalTransition initial;
     private transient final List<DaylightSavingRule> rules;
 
-    private transient final ConcurrentMap<Integer, List<ZonalTransition>> tCache = new ConcurrentHashMap<>();
+    private transient volatile long[] table = null; // Übergangszeiten im Fenster, je Jahr eine pro Regel
     private transient final List<ZonalTransition> stdTransitions;
     private transient final boolean gregorian;
 
@@ -201,37 +201,35 @@ final class RuleBasedTransitionModel
             return null;
         }
 
-        ZonalTransition current = null;
         int stdOffset = this.initial.getStandardOffset();
         int n = this.rules.size();
         DaylightSavingRule rule = this.rules.get(0);
         DaylightSavingRule previous = this.rules.get(n - 1);
         int shift = getShift(rule, stdOffset, previous.getSavings());
         int year = getYear(rule, ut.getPosixTime() + shift);
-        List<ZonalTransition> transitions = this.getTransitions(year);
+        long currentTime = 0;
+        int currentIndex = -1;
 
         for (int i = 0; i < n; i++) {
-            ZonalTransition zt = transitions.get(i);
-            long tt = zt.getPosixTime();
+            long tt = this.getTransitionTime(year, i);
 
             if (ut.getPosixTime() < tt) {
-                if (current == null) {
-                    if (i == 0) {
-                        zt = this.getTransitions(year - 1).get(n - 1);
-                    } else {
-                        zt = transitions.get(i - 1);
-                    }
-                    if (zt.getPosixTime() > preModel) {
-                        current = zt;
+                if (currentIndex == -1) {
+                    int index = ((i == 0) ? n - 1 : i - 1);
+                    long pt = this.getTransitionTime(((i == 0) ? year - 1 : year), index);
+                    if (pt > preModel) {
+                        currentTime = pt;
+                        currentIndex = index;
                     }
                 }
                 break;
             } else if (tt > preModel) {
-                current = zt;
+                currentTime = tt;
+                currentIndex = i;
             }
         }
 
-        return current;
+        return ((currentIndex == -1) ? null : this.createTransition(currentTime, currentIndex));
 
     }
 
@@ -371,20 +369,25 @@ final class RuleBasedTransitionModel
             return null;
         }
 
-        for (ZonalTransition t : this.getTransitions(localDate)) {
-            long tt = t.getPosixTime();
+        int year = this.rules.get(0).toCalendarYear(localDate);
+        int stdOffset = this.initial.getStandardOffset();
+
+        for (int i = 0, n = this.rules.size(); i < n; i++) {
+            long tt = this.getTransitionTime(year, i);
+            int previousOffset = stdOffset + this.rules.get((i - 1 + n) % n).getSavings();
+            int totalOffset = stdOffset + this.rules.get(i).getSavings();
 
-            if (t.isGap()) {
-                if (localSecs < tt + t.getPreviousOffset()) {
-                    return null; // offset = t.getPreviousOffset()
-                } else if (localSecs < tt + t.getTotalOffset()) {
-                    return t;
+            if (totalOffset > previousOffset) { // Lücke
+                if (localSecs < tt + previousOffset) {
+                    return null; // offset = previousOffset
+                } else if (localSecs < tt + totalOffset) {
+                    return this.createTransition(tt, i);
                 }
-            } else if (t.isOverlap()) {
-                if (localSecs < tt + t.getTotalOffset()) {
-                    return null; // offset = t.getPreviousOffset()
-                } else if (localSecs < tt + t.getPreviousOffset()) {
-                    return t;
+            } else if (totalOffset < previousOffset) { // Überlappung
+                if (localSecs < tt + totalOffset) {
+                    return null; // offset = previousOffset
+                } else if (localSecs < tt + previousOffset) {
+                    return this.createTransition(tt, i);
                 }
             }
         }
@@ -406,21 +409,25 @@ final class RuleBasedTransitionModel
             return TransitionModel.toList(last);
         }
 
-        for (ZonalTransition t : this.getTransitions(localDate)) {
-            long tt = t.getPosixTime();
-            last = t.getTotalOffset();
+        int year = this.rules.get(0).toCalendarYear(localDate);
+        int stdOffset = this.initial.getStandardOffset();
+
+        for (int i = 0, n = this.rules.size(); i < n; i++) {
+            long tt = this.getTransitionTime(year, i);
+            int previousOffset = stdOffset + this.rules.get((i - 1 + n) % n).getSavings();
+            last = stdOffset + this.rules.get(i).getSavings();
 
-            if (t.isGap()) {
-                if (localSecs < tt + t.getPreviousOffset()) {
-                    return TransitionModel.toList(t.getPreviousOffset());
+            if (last > previousOffset) { // Lücke
+                if (localSecs < tt + previousOffset) {
+                    return TransitionModel.toList(previousOffset);
                 } else if (localSecs < tt + last) {
                     return Collections.emptyList();
                 }
-            } else if (t.isOverlap()) {
+            } else if (last < previousOffset) { // Überlappung
                 if (localSecs < tt + last) {
-                    return TransitionModel.toList(t.getPreviousOffset());
-                } else if (localSecs < tt + t.getPreviousOffset()) {
-                    return TransitionModel.toList(last, t.getPreviousOffset());
+                    return TransitionModel.toList(previousOffset);
+                } else if (localSecs < tt + previousOffset) {
+                    return TransitionModel.toList(last, previousOffset);
                 }
             }
         }
@@ -557,49 +564,87 @@ final class RuleBasedTransitionModel
 
     }
 
-    private List<ZonalTransition> getTransitions(GregorianDate date) {
+    /**
+     * <p>Yields the count of precomputed transitions (for memory accounting). </p>
+     *
+     * @return  length of primitive transition table, {@code 0} if not yet created
+     */
+    int getCachedTransitionCount() {
 
-        return this.getTransitions(this.rules.get(0).toCalendarYear(date));
+        long[] t = this.table;
+        return ((t == null) ? 0 : t.length);
 
     }
 
-    private List<ZonalTransition> getTransitions(int year) {
+    private long getTransitionTime(
+        int year,
+        int index
+    ) {
 
-        Integer key = Integer.valueOf(year);
-        List<ZonalTransition> transitions = this.tCache.get(key);
+        if (this.gregorian && (year >= FIRST_CACHED_YEAR) && (year <= LAST_CACHED_YEAR)) {
+            long[] t = this.table;
+            if (t == null) {
+                t = this.createTable(); // gutartiges Wettrennen, das Ergebnis ist immer gleich
+                this.table = t;
+            }
+            return t[(year - FIRST_CACHED_YEAR) * this.rules.size() + index];
+        }
 
-        if (transitions == null) {
-            List<ZonalTransition> list = new ArrayList<>();
-            int stdOffset = this.initial.getStandardOffset();
+        // außerhalb des Fensters: immer neu berechnen, ohne den Speicher zu belasten
+        return this.computeTransitionTime(year, index);
 
-            for (int i = 0, n = this.rules.size(); i < n; i++) {
-                DaylightSavingRule rule = this.rules.get(i);
-                DaylightSavingRule previous = this.rules.get((i - 1 + n) % n);
-                int shift = getShift(rule, stdOffset, previous.getSavings());
+    }
 
-                list.add(
-                    new ZonalTransition(
-                        getTransitionTime(rule, year, shift),
-                        stdOffset + previous.getSavings(),
-                        stdOffset + rule.getSavings(),
-                        rule.getSavings()));
-            }
+    private long[] createTable() {
 
-            transitions = Collections.unmodifiableList(list);
+        int n = this.rules.size();
+        long[] t = new long[(LAST_CACHED_YEAR - FIRST_CACHED_YEAR + 1) * n];
 
-            if (
-                (year <= LAST_CACHED_YEAR)
-                && this.gregorian
-            ) {
-                List<ZonalTransition> old =
-                    this.tCache.putIfAbsent(key, transitions);
-                if (old != null) {
-                    transitions = old;
-                }
+        for (int year = FIRST_CACHED_YEAR, k = 0; year <= LAST_CACHED_YEAR; year++) {
+            for (int i = 0; i < n; i++) {
+                t[k++] = this.computeTransitionTime(year, i);
             }
         }
 
-        return transitions;
+        return t;
+
+    }
+
+    private long computeTransitionTime(
+        int year,
+        int index
+    ) {
+
+        int n = this.rules.size();
+        DaylightSavingRule rule = this.rules.get(index);
+        DaylightSavingRule previous = this.rules.get((index - 1 + n) % n);
+        int shift = getShift(rule, this.initial.getStandardOffset(), previous.getSavings());
+        return getTransitionTime(rule, year, shift);
+
+    }
+
+    private ZonalTransition createTransition(
+        long tt,
+        int index
+    ) {
+
+        int n = this.rules.size();
+        int stdOffset = this.initial.getStandardOffset();
+        DaylightSavingRule rule = this.rules.get(index);
+        DaylightSavingRule previous = this.rules.get((index - 1 + n) % n);
+
+        return new ZonalTransition(
+            tt,
+            stdOffset + previous.getSavings(),
+            stdOffset + rule.getSavings(),
+            rule.getSavings());
+
+    }
+
+    private static int toYear(long posix) {
+
+        long mjd = EpochDays.MODIFIED_JULIAN_DATE.transform(MathUtils.floorDivide(posix, 86400), EpochDays.UNIX);
+        return GregorianMath.readYear(GregorianMath.toPackedDate(mjd));
 
     }
 
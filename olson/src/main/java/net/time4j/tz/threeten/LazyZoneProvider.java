@@ -0,0 +1,404 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (LazyZoneProvider.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz.threeten;
+
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZoneModelProvider;
+import net.time4j.tz.olson.StdZoneIdentifier;
+
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+import java.time.zone.ZoneRulesException;
+import java.time.zone.ZoneRulesProvider;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+
+/**
+ * <p>Zone model provider which is restricted to a set of regions and only
+ * converts the JDK-rules of a timezone on first request. </p>
+ *
+ * <p>Applications which only ever use a handful of zones can register this
+ * provider under an own name by help of {@code Timezone.registerProvider(...)}
+ * and then refer to zones like &quot;{name}~Europe/Berlin&quot;. The
+ * available identifiers are only enumerated when they are queried for the
+ * first time, and only identifiers of the configured regions will be listed. </p>
+ *
+ * <p>Example: </p>
+ *
+ * <pre>
+ *  LazyZoneProvider provider = LazyZoneProvider.ofRegions(&quot;EU&quot;, EUROPE.class);
+ *  Timezone.registerProvider(provider);
+ *  Timezone tz = Timezone.of(&quot;EU~Europe/Berlin&quot;);
+ *  System.out.println(provider.getLoadedIDs()); // [Europe/Berlin]
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {threadsafe}
+ */
+/*[deutsch]
+ * <p>Auf eine Menge von Regionen beschr&auml;nkter {@code ZoneModelProvider}, der
+ * die JDK-Regeln einer Zeitzone erst bei der ersten Anfrage konvertiert. </p>
+ *
+ * <p>Anwendungen, die immer nur wenige Zeitzonen verwenden, k&ouml;nnen diesen
+ * {@code ZoneModelProvider} mit Hilfe von {@code Timezone.registerProvider(...)}
+ * unter einem eigenen Namen registrieren und dann Zeitzonen in der Form
+ * &quot;{name}~Europe/Berlin&quot; ansprechen. Die verf&uuml;gbaren Kennungen
+ * werden erst bei der ersten Abfrage ermittelt, und nur Kennungen der
+ * konfigurierten Regionen werden aufgelistet. </p>
+ *
+ * <p>Beispiel: </p>
+ *
+ * <pre>
+ *  LazyZoneProvider provider = LazyZoneProvider.ofRegions(&quot;EU&quot;, EUROPE.class);
+ *  Timezone.registerProvider(provider);
+ *  Timezone tz = Timezone.of(&quot;EU~Europe/Berlin&quot;);
+ *  System.out.println(provider.getLoadedIDs()); // [Europe/Berlin]
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {threadsafe}
+ */
+public final class LazyZoneProvider
+    implements ZoneModelProvider {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    // grobe Schätzwerte für eine 64-Bit-JVM mit komprimierten Referenzen
+    private static final int MODEL_SIZE = 64;
+    private static final int TRANSITION_SIZE = 40;
+    private static final int RULE_SIZE = 56;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final String name;
+    private final Set<String> regions;
+    private final ConcurrentMap<String, LoadedZone> loaded;
+
+    private volatile Set<String> ids;
+    private volatile String version;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private LazyZoneProvider(
+        String name,
+        Set<String> regions
+    ) {
+        super();
+
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("Missing name of zone model provider.");
+        }
+
+        this.name = name;
+        this.regions = regions;
+        this.loaded = new ConcurrentHashMap<>();
+        this.ids = null;
+        this.version = null;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a lazy provider for all timezones of the underlying JDK-repository. </p>
+     *
+     * @param   name    name of this provider used as prefix in timezone identifiers
+     * @return  new lazy provider
+     * @throws  IllegalArgumentException if the name is empty
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen {@code LazyZoneProvider} f&uuml;r alle Zeitzonen der JDK-Datenbank. </p>
+     *
+     * @param   name    name of this provider used as prefix in timezone identifiers
+     * @return  new lazy provider
+     * @throws  IllegalArgumentException if the name is empty
+     */
+    public static LazyZoneProvider ofAllRegions(String name) {
+
+        return new LazyZoneProvider(name, Collections.emptySet());
+
+    }
+
+    /**
+     * <p>Creates a lazy provider which is restricted to the given regions. </p>
+     *
+     * <p>Every region is identified by an enum of predefined standard identifiers
+     * like {@code EUROPE.class} or {@code AMERICA.ARGENTINA.class}. All timezones
+     * whose identifiers start with the region followed by a slash are included. </p>
+     *
+     * @param   name    name of this provider used as prefix in timezone identifiers
+     * @param   regions enums of standard identifiers whose regions shall be supported
+     * @return  new lazy provider
+     * @throws  IllegalArgumentException if the name is empty or if no region is given
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen {@code LazyZoneProvider}, der auf die angegebenen Regionen
+     * beschr&auml;nkt ist. </p>
+     *
+     * <p>Jede Region wird durch ein Enum von vordefinierten Standardkennungen wie
+     * {@code EUROPE.class} oder {@code AMERICA.ARGENTINA.class} bestimmt. Alle
+     * Zeitzonen, deren Kennungen mit der Region gefolgt von einem Schr&auml;gstrich
+     * beginnen, werden eingeschlossen. </p>
+     *
+     * @param   name    name of this provider used as prefix in timezone identifiers
+     * @param   regions enums of standard identifiers whose regions shall be supported
+     * @return  new lazy provider
+     * @throws  IllegalArgumentException if the name is empty or if no region is given
+     */
+    @SafeVarargs
+    public static LazyZoneProvider ofRegions(
+        String name,
+        Class<? extends StdZoneIdentifier>... regions
+    ) {
+
+        if (regions.length == 0) {
+            throw new IllegalArgumentException("Missing regions.");
+        }
+
+        Set<String> set = new HashSet<>();
+
+        for (Class<? extends StdZoneIdentifier> region : regions) {
+            StdZoneIdentifier[] constants = region.getEnumConstants();
+            if ((constants == null) || (constants.length == 0)) {
+                throw new IllegalArgumentException("Not an enum of standard identifiers: " + region.getName());
+            }
+            set.add(constants[0].getRegion() + "/");
+        }
+
+        return new LazyZoneProvider(name, Collections.unmodifiableSet(set));
+
+    }
+
+    @Override
+    public Set<String> getAvailableIDs() {
+
+        Set<String> result = this.ids;
+
+        if (result == null) {
+            Set<String> set = new HashSet<>();
+            for (String id : ZoneRulesProvider.getAvailableZoneIds()) {
+                if (this.isSupported(id)) {
+                    set.add(id);
+                }
+            }
+            result = Collections.unmodifiableSet(set);
+            this.ids = result;
+        }
+
+        return result;
+
+    }
+
+    @Override
+    public Map<String, String> getAliases() {
+
+        return Collections.emptyMap();
+
+    }
+
+    @Override
+    public String getFallback() {
+
+        return "";
+
+    }
+
+    @Override
+    public String getName() {
+
+        return this.name;
+
+    }
+
+    @Override
+    public String getLocation() {
+
+        return "{java.home}/lib/tzdb.dat";
+
+    }
+
+    @Override
+    public String getVersion() {
+
+        String v = this.version;
+
+        if (v == null) {
+            v = ZoneRulesProvider.getVersions("America/New_York").lastEntry().getKey();
+            this.version = v;
+        }
+
+        return v;
+
+    }
+
+    @Override
+    public TransitionHistory load(String zoneID) {
+
+        LoadedZone zone = this.loaded.get(zoneID);
+
+        if (zone == null) {
+            if (!this.isSupported(zoneID)) {
+                throw new IllegalArgumentException("Zone not supported by " + this.name + ": " + zoneID);
+            }
+
+            try {
+                ZoneRules zoneRules = ZoneId.of(zoneID).getRules();
+                zone = new LoadedZone(zoneRules);
+            } catch (ZoneRulesException ex) {
+                throw new IllegalArgumentException(ex);
+            }
+
+            LoadedZone old = this.loaded.putIfAbsent(zoneID, zone);
+
+            if (old != null) {
+                zone = old;
+            }
+        }
+
+        return zone.history;
+
+    }
+
+    /**
+     * <p>Yields all timezone identifiers whose transition models have already been loaded. </p>
+     *
+     * @return  unmodifiable snapshot of loaded identifiers
+     */
+    /*[deutsch]
+     * <p>Liefert alle Zeitzonenkennungen, deren &Uuml;bergangsmodelle schon geladen wurden. </p>
+     *
+     * @return  unmodifiable snapshot of loaded identifiers
+     */
+    public Set<String> getLoadedIDs() {
+
+        return Collections.unmodifiableSet(new HashSet<>(this.loaded.keySet()));
+
+    }
+
+    /**
+     * <p>Estimates the heap memory occupied by all loaded transition models in bytes. </p>
+     *
+     * <p>The estimation is based on the count of stored transitions and daylight-saving-rules
+     * and assumes a 64-bit-JVM with compressed object references. It is only a rough figure
+     * suitable for monitoring purposes. </p>
+     *
+     * @return  estimated memory consumption in bytes
+     */
+    /*[deutsch]
+     * <p>Sch&auml;tzt den von allen geladenen &Uuml;bergangsmodellen belegten Hauptspeicher
+     * in Bytes. </p>
+     *
+     * <p>Die Sch&auml;tzung basiert auf der Anzahl der gespeicherten &Uuml;berg&auml;nge und
+     * Sommerzeitregeln und setzt eine 64-Bit-JVM mit komprimierten Objektreferenzen voraus.
+     * Es handelt sich nur um eine grobe Angabe f&uuml;r &Uuml;berwachungszwecke. </p>
+     *
+     * @return  estimated memory consumption in bytes
+     */
+    public long getEstimatedMemoryUsage() {
+
+        long sum = 0;
+
+        for (LoadedZone zone : this.loaded.values()) {
+            sum += zone.size;
+        }
+
+        return sum;
+
+    }
+
+    /**
+     * <p>For debugging purposes. </p>
+     *
+     * @return  String
+     */
+    /*[deutsch]
+     * <p>F&uuml;r Debugging-Zwecke. </p>
+     *
+     * @return  String
+     */
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(64);
+        sb.append("LazyZoneProvider[name=");
+        sb.append(this.name);
+        sb.append(",regions=");
+        sb.append(this.regions.isEmpty() ? "*" : this.regions);
+        sb.append(",loaded=");
+        sb.append(this.loaded.size());
+        sb.append(']');
+        return sb.toString();
+
+    }
+
+    private boolean isSupported(String zoneID) {
+
+        if (this.regions.isEmpty()) {
+            return true;
+        }
+
+        int slash = zoneID.indexOf('/');
+
+        while (slash > 0) {
+            if (this.regions.contains(zoneID.substring(0, slash + 1))) {
+                return true;
+            }
+            slash = zoneID.indexOf('/', slash + 1);
+        }
+
+        return false;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class LoadedZone {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final TransitionHistory history;
+        private final long size;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        LoadedZone(ZoneRules zoneRules) {
+            super();
+
+            this.history = JdkZoneProviderSPI.convert(zoneRules);
+            this.size = (
+                MODEL_SIZE
+                + TRANSITION_SIZE * zoneRules.getTransitions().size()
+                + RULE_SIZE * zoneRules.getTransitionRules().size()
+            );
+
+        }
+
+    }
+
+}
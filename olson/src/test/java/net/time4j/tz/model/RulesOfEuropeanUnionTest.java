@@ -1,5 +1,6 @@
 package net.time4j.tz.model;
 
+import net.time4j.ClockUnit;
 import net.time4j.Moment;
 import net.time4j.Month;
 import net.time4j.PlainDate;
@@ -7,6 +8,7 @@ import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
 import net.time4j.SystemClock;
 import net.time4j.Weekday;
+import net.time4j.scale.TimeScale;
 import net.time4j.tz.OffsetSign;
 import net.time4j.tz.ZonalOffset;
 import net.time4j.tz.ZonalTransition;
@@ -377,6 +379,38 @@ public class RulesOfEuropeanUnionTest {
             is(SPRING_1997));
     }
 
+    @Test
+    public void precomputedWindowLikeRuleEvaluation() {
+        RuleBasedTransitionModel model = createModel();
+        assertThat(model.getCachedTransitionCount(), is(0));
+        for (int year = 1800; year <= 2400; year += 7) {
+            Moment start = PlainTimestamp.of(year, 1, 1, 0, 0).atUTC();
+            Moment end = PlainTimestamp.of(year + 1, 1, 1, 0, 0).atUTC();
+            List<ZonalTransition> expected = model.getTransitions(start, end); // ohne Tabelle
+            assertThat(expected.size(), is(2));
+            for (ZonalTransition t : expected) {
+                Moment at = Moment.of(t.getPosixTime(), TimeScale.POSIX);
+                assertThat(model.findStartTransition(at), is(t));
+                assertThat(model.findStartTransition(at.minus(1, TimeUnit.SECONDS)).equals(t), is(false));
+                PlainTimestamp local = at.toZonalTimestamp(ZonalOffset.ofTotalSeconds(t.getTotalOffset()));
+                if (t.isOverlap()) {
+                    PlainTimestamp ambivalent = local.plus(30, ClockUnit.MINUTES);
+                    assertThat(model.findConflictTransition(ambivalent.getCalendarDate(), ambivalent.getWallTime()), is(t));
+                    assertThat(model.getValidOffsets(ambivalent.getCalendarDate(), ambivalent.getWallTime()).size(), is(2));
+                } else {
+                    PlainTimestamp invalid = local.minus(30, ClockUnit.MINUTES);
+                    assertThat(model.findConflictTransition(invalid.getCalendarDate(), invalid.getWallTime()), is(t));
+                    assertThat(model.getValidOffsets(invalid.getCalendarDate(), invalid.getWallTime()).isEmpty(), is(true));
+                }
+                assertThat(model.findConflictTransition(local.getCalendarDate(), PlainTime.of(12)), nullValue());
+            }
+        }
+        // Fenster standardmäßig von 50 Jahren zurück bis 100 Jahre voraus, zwei Regeln pro Jahr
+        int count = model.getCachedTransitionCount();
+        assertThat(count % 2, is(0));
+        assertThat(count >= 2 * 150 && count <= 2 * 152, is(true));
+    }
+
     private static RuleBasedTransitionModel createModel() {
 
         DaylightSavingRule spring =
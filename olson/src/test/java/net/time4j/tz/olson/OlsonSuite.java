@@ -1,6 +1,7 @@
 package net.time4j.tz.olson;
 
 import net.time4j.tz.threeten.JdkZoneProviderTest;
+import net.time4j.tz.threeten.LazyZoneProviderTest;
 import net.time4j.tz.model.ArrayTransitionModelTest;
 import net.time4j.tz.model.CompositeTransitionModelTest;
 import net.time4j.tz.model.CustomZoneTest;
@@ -26,6 +27,7 @@ import org.junit.runners.Suite.SuiteClasses;
         CustomZoneTest.class,
         DaylightSavingRuleTest.class,
         JdkZoneProviderTest.class,
+        LazyZoneProviderTest.class,
         NegativeDayOfMonthPatternTest.class,
         PredefinedIDTest.class,
         RulesLikeBerlin1947Test.class,
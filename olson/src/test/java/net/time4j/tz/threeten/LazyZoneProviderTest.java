@@ -0,0 +1,75 @@
+package net.time4j.tz.threeten;
+
+import net.time4j.Moment;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.olson.AMERICA;
+import net.time4j.tz.olson.EUROPE;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class LazyZoneProviderTest {
+
+    @Test
+    public void availableIDsOfRegions() {
+        LazyZoneProvider zp = LazyZoneProvider.ofRegions("LAZY-1", EUROPE.class, AMERICA.ARGENTINA.class);
+        assertThat(zp.getAvailableIDs().contains("Europe/Berlin"), is(true));
+        assertThat(zp.getAvailableIDs().contains("America/Argentina/Salta"), is(true));
+        assertThat(zp.getAvailableIDs().contains("America/New_York"), is(false));
+        assertThat(zp.getAvailableIDs().contains("Asia/Tokyo"), is(false));
+        assertThat(zp.getLoadedIDs().isEmpty(), is(true));
+    }
+
+    @Test
+    public void availableIDsOfAllRegions() {
+        LazyZoneProvider zp = LazyZoneProvider.ofAllRegions("LAZY-2");
+        assertThat(zp.getAvailableIDs().contains("Asia/Tokyo"), is(true));
+        assertThat(zp.getAvailableIDs().contains("America/New_York"), is(true));
+    }
+
+    @Test
+    public void loadOnDemand() {
+        LazyZoneProvider zp = LazyZoneProvider.ofRegions("LAZY-3", EUROPE.class);
+        assertThat(zp.getEstimatedMemoryUsage(), is(0L));
+        assertThat(
+            zp.load("Europe/Berlin"),
+            is(new JdkZoneProviderSPI().load("Europe/Berlin")));
+        assertThat(zp.load("Europe/Berlin") == zp.load("Europe/Berlin"), is(true));
+        assertThat(zp.getLoadedIDs(), is(Collections.singleton("Europe/Berlin")));
+        assertThat(zp.getEstimatedMemoryUsage() > 0, is(true));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void loadOutsideOfRegions() {
+        LazyZoneProvider.ofRegions("LAZY-4", EUROPE.class).load("Asia/Tokyo");
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void loadUnknownZone() {
+        LazyZoneProvider.ofAllRegions("LAZY-5").load("Europe/Xyz");
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void emptyName() {
+        LazyZoneProvider.ofAllRegions("");
+    }
+
+    @Test
+    public void registeredProvider() {
+        LazyZoneProvider zp = LazyZoneProvider.ofRegions("LAZY-6", EUROPE.class);
+        assertThat(Timezone.registerProvider(zp), is(true));
+        Timezone tz = Timezone.of("LAZY-6~Europe/Berlin");
+        assertThat(tz.getOffset(Moment.UNIX_EPOCH), is(ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 1)));
+        assertThat(zp.getLoadedIDs().contains("Europe/Berlin"), is(true));
+    }
+
+}
@@ -0,0 +1,350 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (AllenClassifier.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.base.GregorianMath;
+import net.time4j.engine.Temporal;
+
+
+/**
+ * <p>Determines Allen-relations by help of primitive canonical keys. </p>
+ *
+ * <p>Every interval is converted exactly once to the half-open form
+ * {@code [start, end)} where both boundaries are represented by a pair
+ * of primitive values (for example epoch days or posix seconds plus
+ * nanoseconds). The relation itself is then determined by at most five
+ * comparisons of such pairs. Empty intervals have no unique position on
+ * the timeline and are therefore delegated to the predicate-based search
+ * in {@code IntervalRelation}. </p>
+ *
+ * @param   <T> temporal type of interval boundaries
+ * @param   <I> interval type
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @doctags.concurrency {immutable}
+ */
+abstract class AllenClassifier<T extends Temporal<? super T>, I extends IsoInterval<T, I>> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    static final AllenClassifier<PlainDate, DateInterval> DATE = new DateClassifier();
+    static final AllenClassifier<PlainTime, ClockInterval> CLOCK = new ClockClassifier();
+    static final AllenClassifier<PlainTimestamp, TimestampInterval> TIMESTAMP = new TimestampClassifier();
+    static final AllenClassifier<Moment, MomentInterval> MOMENT = new MomentClassifier();
+
+    // Anzahl der Schlüsselwerte pro Intervall (Start- und Endpaar)
+    private static final int FIELDS = 4;
+
+    private static final long INFINITE_PAST = Long.MIN_VALUE;
+    private static final long INFINITE_FUTURE = Long.MAX_VALUE;
+
+    // Nachfolger des Maximums der Zeitachse: liegt vor der unendlichen Zukunft
+    private static final long BEYOND_MAX = Long.MAX_VALUE - 1;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private AllenClassifier() {
+        super();
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Determines the relation between given intervals. </p>
+     *
+     * @param   a   first interval
+     * @param   b   second interval
+     * @return  relation between given intervals
+     */
+    IntervalRelation classify(
+        I a,
+        I b
+    ) {
+
+        return this.classify(a, b, new long[FIELDS * 2]);
+
+    }
+
+    /**
+     * <p>Determines the relations between the intervals at the same
+     * array positions. </p>
+     *
+     * @param   a   array of first intervals
+     * @param   b   array of second intervals
+     * @return  array of relations with the same length as the input
+     * @throws  IllegalArgumentException if the array lengths are different
+     */
+    IntervalRelation[] classify(
+        I[] a,
+        I[] b
+    ) {
+
+        if (a.length != b.length) {
+            throw new IllegalArgumentException(
+                "Arrays of intervals with different lengths: " + a.length + " / " + b.length);
+        }
+
+        IntervalRelation[] relations = new IntervalRelation[a.length];
+        long[] keys = new long[FIELDS * 2];
+
+        for (int i = 0; i < a.length; i++) {
+            relations[i] = this.classify(a[i], b[i], keys);
+        }
+
+        return relations;
+
+    }
+
+    /**
+     * <p>Yields the first part of the canonical key of given time point. </p>
+     *
+     * @param   temporal    finite time point
+     * @return  primary key value in ascending order of the timeline
+     */
+    abstract long high(T temporal);
+
+    /**
+     * <p>Yields the second part of the canonical key of given time point. </p>
+     *
+     * @param   temporal    finite time point
+     * @return  secondary key value (non-negative)
+     */
+    abstract int low(T temporal);
+
+    private IntervalRelation classify(
+        I a,
+        I b,
+        long[] keys
+    ) {
+
+        if (this.canonicalize(a, keys, 0) && this.canonicalize(b, keys, FIELDS)) {
+            return relate(keys);
+        }
+
+        return IntervalRelation.between0(a, b);
+
+    }
+
+    // füllt die Schlüssel von [start, end) und liefert false für leere Intervalle
+    private boolean canonicalize(
+        I interval,
+        long[] keys,
+        int offset
+    ) {
+
+        Boundary<T> start = interval.getStart();
+        Boundary<T> end = interval.getEnd();
+
+        if (start.isInfinite()) {
+            keys[offset] = INFINITE_PAST;
+            keys[offset + 1] = 0;
+        } else {
+            T s = start.getTemporal();
+            if (start.isOpen()) {
+                s = interval.getFactory().getTimeLine().stepForward(s);
+            }
+            this.fill(s, keys, offset);
+        }
+
+        if (end.isInfinite()) {
+            keys[offset + 2] = INFINITE_FUTURE;
+            keys[offset + 3] = 0;
+            return true;
+        }
+
+        T e = end.getTemporal();
+
+        if (end.isClosed()) {
+            e = interval.getFactory().getTimeLine().stepForward(e);
+        }
+
+        this.fill(e, keys, offset + 2);
+        return (compare(keys, offset, offset + 2) < 0);
+
+    }
+
+    // null steht für den Nachfolger des Maximums der Zeitachse
+    private void fill(
+        T temporal,
+        long[] keys,
+        int index
+    ) {
+
+        if (temporal == null) {
+            keys[index] = BEYOND_MAX;
+            keys[index + 1] = 0;
+        } else {
+            keys[index] = this.high(temporal);
+            keys[index + 1] = this.low(temporal);
+        }
+
+    }
+
+    private static IntervalRelation relate(long[] keys) {
+
+        // Indizes: a = [0, 2), b = [4, 6)
+        int endStart = compare(keys, 2, 4);
+
+        if (endStart < 0) {
+            return IntervalRelation.PRECEDES;
+        } else if (endStart == 0) {
+            return IntervalRelation.MEETS;
+        }
+
+        int startEnd = compare(keys, 0, 6);
+
+        if (startEnd > 0) {
+            return IntervalRelation.PRECEDED_BY;
+        } else if (startEnd == 0) {
+            return IntervalRelation.MET_BY;
+        }
+
+        int starts = compare(keys, 0, 4);
+        int ends = compare(keys, 2, 6);
+
+        if (starts == 0) {
+            return (
+                (ends < 0)
+                ? IntervalRelation.STARTS
+                : ((ends == 0) ? IntervalRelation.EQUIVALENT : IntervalRelation.STARTED_BY));
+        } else if (ends == 0) {
+            return ((starts > 0) ? IntervalRelation.FINISHES : IntervalRelation.FINISHED_BY);
+        } else if (starts < 0) {
+            return ((ends < 0) ? IntervalRelation.OVERLAPS : IntervalRelation.ENCLOSES);
+        } else {
+            return ((ends > 0) ? IntervalRelation.OVERLAPPED_BY : IntervalRelation.ENCLOSED_BY);
+        }
+
+    }
+
+    private static int compare(
+        long[] keys,
+        int i,
+        int j
+    ) {
+
+        int cmp = Long.compare(keys[i], keys[j]);
+        return ((cmp == 0) ? Long.compare(keys[i + 1], keys[j + 1]) : cmp);
+
+    }
+
+    private static long secondOfDay(PlainTime time) {
+
+        return time.getHour() * 3600L + time.getMinute() * 60L + time.getSecond();
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class DateClassifier
+        extends AllenClassifier<PlainDate, DateInterval> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        long high(PlainDate temporal) {
+
+            return GregorianMath.toMJD(temporal);
+
+        }
+
+        @Override
+        int low(PlainDate temporal) {
+
+            return 0;
+
+        }
+
+    }
+
+    private static class ClockClassifier
+        extends AllenClassifier<PlainTime, ClockInterval> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        long high(PlainTime temporal) {
+
+            return secondOfDay(temporal);
+
+        }
+
+        @Override
+        int low(PlainTime temporal) {
+
+            return temporal.getNanosecond();
+
+        }
+
+    }
+
+    private static class TimestampClassifier
+        extends AllenClassifier<PlainTimestamp, TimestampInterval> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        long high(PlainTimestamp temporal) {
+
+            long days = GregorianMath.toMJD(temporal.getCalendarDate());
+            return days * 86400 + secondOfDay(temporal.getWallTime());
+
+        }
+
+        @Override
+        int low(PlainTimestamp temporal) {
+
+            return temporal.getNanosecond();
+
+        }
+
+    }
+
+    private static class MomentClassifier
+        extends AllenClassifier<Moment, MomentInterval> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        long high(Moment temporal) {
+
+            return temporal.getPosixTime();
+
+        }
+
+        @Override
+        int low(Moment temporal) {
+
+            // Schaltsekunden folgen auf alle Nanosekunden derselben POSIX-Sekunde
+            int nano = temporal.getNanosecond();
+            return (temporal.isLeapSecond() ? nano + 1_000_000_000 : nano);
+
+        }
+
+    }
+
+}
@@ -741,6 +741,150 @@ public final class DateInterval
 
     }
 
+    /**
+     * <p>Obtains a primitive stream of the day numbers of every calendar date of the canonical form of
+     * this interval. </p>
+     *
+     * <p>No object is created per element, and the stream can be split exactly in parallel processing.
+     * Example for indexing an array: </p>
+     *
+     * <pre>
+     *  DateInterval interval = DateInterval.between(PlainDate.of(2016, 1, 1), PlainDate.of(2016, 12, 31));
+     *  long offset = PlainDate.of(2016, 1, 1).get(EpochDays.UTC);
+     *  interval.streamEpochDays(EpochDays.UTC).parallel().forEach(
+     *      utcDays -&gt; table[(int) (utcDays - offset)] = ...);
+     * </pre>
+     *
+     * @param   epoch       epoch reference of the day numbers
+     * @return  primitive daily stream of day numbers relative to given epoch
+     * @throws  IllegalStateException if this interval is infinite or if there is no canonical form
+     * @see     #streamDaily()
+     * @see     #forEachDay(DayConsumer)
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen primitiven {@code Stream} der Tagesnummern aller Kalenderdaten der kanonischen
+     * Form dieses Intervalls. </p>
+     *
+     * <p>Pro Element wird kein Objekt erzeugt, und der {@code Stream} wird bei paralleler Verarbeitung
+     * exakt aufgeteilt. Beispiel f&uuml;r die Indizierung eines Arrays: </p>
+     *
+     * <pre>
+     *  DateInterval interval = DateInterval.between(PlainDate.of(2016, 1, 1), PlainDate.of(2016, 12, 31));
+     *  long offset = PlainDate.of(2016, 1, 1).get(EpochDays.UTC);
+     *  interval.streamEpochDays(EpochDays.UTC).parallel().forEach(
+     *      utcDays -&gt; table[(int) (utcDays - offset)] = ...);
+     * </pre>
+     *
+     * @param   epoch       epoch reference of the day numbers
+     * @return  primitive daily stream of day numbers relative to given epoch
+     * @throws  IllegalStateException if this interval is infinite or if there is no canonical form
+     * @see     #streamDaily()
+     * @see     #forEachDay(DayConsumer)
+     * @since   4.18
+     */
+    public LongStream streamEpochDays(EpochDays epoch) {
+
+        if (this.isEmpty()) {
+            return LongStream.empty();
+        }
+
+        DateInterval interval = this.toCanonical();
+        PlainDate start = interval.getStartAsCalendarDate();
+        PlainDate end = interval.getEndAsCalendarDate();
+
+        if ((start == null) || (end == null)) {
+            throw new IllegalStateException("Streaming is not supported for infinite intervals.");
+        }
+
+        return DateInterval.streamEpochDays(start, end, epoch);
+
+    }
+
+    /**
+     * <p>Iterates over every calendar date of the canonical form of this interval and reports
+     * the date components as primitive values to given consumer. </p>
+     *
+     * <p>The iteration only uses integer arithmetic and does not create any object per day. </p>
+     *
+     * @param   consumer    callback receiving year, month and day of month
+     * @throws  IllegalStateException if this interval is infinite or if there is no canonical form
+     * @see     #streamEpochDays(EpochDays)
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Iteriert &uuml;ber jedes Kalenderdatum der kanonischen Form dieses Intervalls und meldet
+     * die Datumskomponenten als primitive Werte an den angegebenen Empf&auml;nger. </p>
+     *
+     * <p>Die Iteration verwendet nur Ganzzahlarithmetik und erzeugt pro Tag kein Objekt. </p>
+     *
+     * @param   consumer    callback receiving year, month and day of month
+     * @throws  IllegalStateException if this interval is infinite or if there is no canonical form
+     * @see     #streamEpochDays(EpochDays)
+     * @since   4.18
+     */
+    public void forEachDay(DayConsumer consumer) {
+
+        if (this.isEmpty()) {
+            return;
+        }
+
+        DateInterval interval = this.toCanonical();
+        PlainDate start = interval.getStartAsCalendarDate();
+        PlainDate end = interval.getEndAsCalendarDate();
+
+        if ((start == null) || (end == null)) {
+            throw new IllegalStateException("Iteration is not supported for infinite intervals.");
+        }
+
+        DateInterval.forEachDay(start, end, consumer);
+
+    }
+
+    // gemeinsam mit FixedCalendarInterval genutzt (beide Grenzen inklusive)
+    static LongStream streamEpochDays(
+        PlainDate start,
+        PlainDate end,
+        EpochDays epoch
+    ) {
+
+        long s = epoch.transform(start.getDaysSinceEpochUTC(), EpochDays.UTC);
+        long e = epoch.transform(end.getDaysSinceEpochUTC(), EpochDays.UTC);
+        return LongStream.rangeClosed(s, e);
+
+    }
+
+    // gemeinsam mit FixedCalendarInterval genutzt (beide Grenzen inklusive)
+    static void forEachDay(
+        PlainDate start,
+        PlainDate end,
+        DayConsumer consumer
+    ) {
+
+        int year = start.getYear();
+        int month = start.getMonth();
+        int dom = start.getDayOfMonth();
+        int length = GregorianMath.getLengthOfMonth(year, month);
+
+        for (long i = start.getDaysSinceEpochUTC(), n = end.getDaysSinceEpochUTC(); i <= n; i++) {
+            consumer.accept(year, month, dom);
+
+            if (dom < length) {
+                dom++;
+            } else if (i < n) {
+                dom = 1;
+                if (month == 12) {
+                    year++;
+                    month = 1;
+                } else {
+                    month++;
+                }
+                length = GregorianMath.getLengthOfMonth(year, month);
+            }
+        }
+
+    }
+
     /**
      * <p>Obtains a stream iterating over every calendar date which is the result of addition of given duration
      * to start until the end of this interval is reached. </p>
@@ -0,0 +1,69 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (DayConsumer.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+
+/**
+ * <p>Receives the calendar days of a date interval as primitive gregorian
+ * date components without creating any {@code PlainDate}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @see     DateInterval#forEachDay(DayConsumer)
+ * @see     FixedCalendarInterval#forEachDay(DayConsumer)
+ */
+/*[deutsch]
+ * <p>Empf&auml;ngt die Kalendertage eines Datumsintervalls als primitive
+ * gregorianische Datumskomponenten, ohne ein {@code PlainDate} zu
+ * erzeugen. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @see     DateInterval#forEachDay(DayConsumer)
+ * @see     FixedCalendarInterval#forEachDay(DayConsumer)
+ */
+@FunctionalInterface
+public interface DayConsumer {
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Processes the given calendar day. </p>
+     *
+     * @param   year        proleptic iso year
+     * @param   month       gregorian month (1-12)
+     * @param   dayOfMonth  day of month (1-31)
+     */
+    /*[deutsch]
+     * <p>Verarbeitet den angegebenen Kalendertag. </p>
+     *
+     * @param   year        proleptic iso year
+     * @param   month       gregorian month (1-12)
+     * @param   dayOfMonth  day of month (1-31)
+     */
+    void accept(
+        int year,
+        int month,
+        int dayOfMonth
+    );
+
+}
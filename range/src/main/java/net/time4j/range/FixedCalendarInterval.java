@@ -23,9 +23,11 @@ package net.time4j.range;
 
 import net.time4j.PlainDate;
 import net.time4j.engine.ChronoEntity;
+import net.time4j.engine.EpochDays;
 import net.time4j.engine.Temporal;
 
 import java.io.Serializable;
+import java.util.stream.LongStream;
 
 
 /**
@@ -127,6 +129,56 @@ public abstract class FixedCalendarInterval<T extends FixedCalendarInterval<T>>
 
     }
 
+    /**
+     * <p>Obtains a primitive stream of the day numbers of every calendar date of this interval. </p>
+     *
+     * <p>No object is created per element, and the stream can be split exactly in parallel processing. </p>
+     *
+     * @param   epoch       epoch reference of the day numbers
+     * @return  primitive daily stream of day numbers relative to given epoch
+     * @see     DateInterval#streamEpochDays(EpochDays)
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen primitiven {@code Stream} der Tagesnummern aller Kalenderdaten dieses
+     * Intervalls. </p>
+     *
+     * <p>Pro Element wird kein Objekt erzeugt, und der {@code Stream} wird bei paralleler Verarbeitung
+     * exakt aufgeteilt. </p>
+     *
+     * @param   epoch       epoch reference of the day numbers
+     * @return  primitive daily stream of day numbers relative to given epoch
+     * @see     DateInterval#streamEpochDays(EpochDays)
+     * @since   4.18
+     */
+    public LongStream streamEpochDays(EpochDays epoch) {
+
+        return DateInterval.streamEpochDays(this.getStart().getTemporal(), this.getEnd().getTemporal(), epoch);
+
+    }
+
+    /**
+     * <p>Iterates over every calendar date of this interval and reports the date components
+     * as primitive values to given consumer. </p>
+     *
+     * @param   consumer    callback receiving year, month and day of month
+     * @see     DateInterval#forEachDay(DayConsumer)
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Iteriert &uuml;ber jedes Kalenderdatum dieses Intervalls und meldet die Datumskomponenten
+     * als primitive Werte an den angegebenen Empf&auml;nger. </p>
+     *
+     * @param   consumer    callback receiving year, month and day of month
+     * @see     DateInterval#forEachDay(DayConsumer)
+     * @since   4.18
+     */
+    public void forEachDay(DayConsumer consumer) {
+
+        DateInterval.forEachDay(this.getStart().getTemporal(), this.getEnd().getTemporal(), consumer);
+
+    }
+
     // helper method for toString() in subclasses
     static void formatYear(
         StringBuilder sb,
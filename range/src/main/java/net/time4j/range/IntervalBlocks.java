@@ -0,0 +1,717 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IntervalBlocks.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.engine.Temporal;
+import net.time4j.engine.TimeLine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+
+/**
+ * <p>Mutable set of disjunct blocks which is incrementally maintained when
+ * intervals are added or removed. </p>
+ *
+ * <p>Every block is internally stored as half-open range between a closed
+ * start and an open end in a sorted tree. Adding or removing an interval
+ * hence costs {@code O(log n)} time plus the count of blocks which are merged
+ * or cut. The blocks, the gaps between them and the complement with respect
+ * to a time window can be queried at any time in the same normalized form
+ * as by {@link IntervalCollection#withBlocks()}. </p>
+ *
+ * <pre>
+ *  IntervalBlocks&lt;Moment&gt; bookings = IntervalCollection.onMomentAxis().toBlocks();
+ *  bookings.add(MomentInterval.between(start1, end1));
+ *  bookings.add(MomentInterval.between(start2, end2));
+ *  IntervalCollection&lt;Moment&gt; free = bookings.getComplement(openingHours);
+ * </pre>
+ *
+ * @param   <T> generic type characterizing the associated time axis
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @see     IntervalCollection#toBlocks()
+ * @doctags.concurrency {mutable}
+ */
+/*[deutsch]
+ * <p>Ver&auml;nderliche Menge von disjunkten Bl&ouml;cken, die beim
+ * Hinzuf&uuml;gen oder Entfernen von Intervallen schrittweise aktualisiert
+ * wird. </p>
+ *
+ * <p>Jeder Block wird intern als halb-offener Bereich zwischen einem
+ * geschlossenen Start und einem offenen Ende in einem sortierten Baum
+ * gespeichert. Das Hinzuf&uuml;gen oder Entfernen eines Intervalls kostet
+ * deshalb {@code O(log n)} Zeit plus die Anzahl der Bl&ouml;cke, die
+ * verschmolzen oder zerschnitten werden. Die Bl&ouml;cke, die L&uuml;cken
+ * zwischen ihnen und das Komplement bezogen auf ein Zeitfenster k&ouml;nnen
+ * jederzeit in der gleichen normalisierten Form wie mit
+ * {@link IntervalCollection#withBlocks()} abgefragt werden. </p>
+ *
+ * <pre>
+ *  IntervalBlocks&lt;Moment&gt; bookings = IntervalCollection.onMomentAxis().toBlocks();
+ *  bookings.add(MomentInterval.between(start1, end1));
+ *  bookings.add(MomentInterval.between(start2, end2));
+ *  IntervalCollection&lt;Moment&gt; free = bookings.getComplement(openingHours);
+ * </pre>
+ *
+ * @param   <T> generic type characterizing the associated time axis
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @see     IntervalCollection#toBlocks()
+ * @doctags.concurrency {mutable}
+ */
+public final class IntervalBlocks<T extends Temporal<? super T>> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int PARALLEL_THRESHOLD = 4096;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final IntervalCollection<T> factory;
+    private final TimeLine<T> timeLine;
+    private final boolean calendrical;
+
+    // Start => offenes Ende (null-Schlüssel = unendliche Vergangenheit, null-Wert = unendliche Zukunft)
+    private final TreeMap<T, T> blocks;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates a new instance which initially contains the blocks of given
+     * interval collection. </p>
+     *
+     * @param   coll    interval collection which also serves as factory
+     */
+    IntervalBlocks(IntervalCollection<T> coll) {
+        super();
+
+        this.factory = coll;
+        this.timeLine = coll.getTimeLine();
+        this.calendrical = coll.isCalendrical();
+        this.blocks = new TreeMap<>(new StartComparator<>());
+
+        for (ChronoInterval<T> interval : coll.getIntervals()) {
+            this.add(interval);
+        }
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Adds all time points of given interval to this instance and merges
+     * all overlapping or touching blocks. </p>
+     *
+     * @param   interval    the new interval to be added
+     * @throws  IllegalArgumentException if given interval is finite and has
+     *          open start which cannot be adjusted to one with closed start
+     */
+    /*[deutsch]
+     * <p>F&uuml;gt alle Zeitpunkte des angegebenen Intervalls hinzu und
+     * verschmilzt alle sich &uuml;berlappenden oder ber&uuml;hrenden
+     * Bl&ouml;cke. </p>
+     *
+     * @param   interval    the new interval to be added
+     * @throws  IllegalArgumentException if given interval is finite and has
+     *          open start which cannot be adjusted to one with closed start
+     */
+    public void add(ChronoInterval<T> interval) {
+
+        T s = this.getStart(interval);
+        T e = this.getEnd(interval);
+
+        if (isEmpty(s, e)) {
+            return;
+        }
+
+        Map.Entry<T, T> floor = this.blocks.floorEntry(s);
+
+        if ((floor != null) && !isBefore(floor.getValue(), s)) {
+            s = floor.getKey();
+            e = max(e, floor.getValue());
+        }
+
+        Iterator<Map.Entry<T, T>> iter = this.blocks.tailMap(s, true).entrySet().iterator();
+
+        while (iter.hasNext()) {
+            Map.Entry<T, T> entry = iter.next();
+            T key = entry.getKey();
+
+            if ((e != null) && (key != null) && key.isAfter(e)) {
+                break;
+            }
+
+            e = max(e, entry.getValue());
+            iter.remove();
+        }
+
+        this.blocks.put(s, e);
+
+    }
+
+    /**
+     * <p>Removes all time points of given interval from this instance and
+     * cuts the affected blocks. </p>
+     *
+     * @param   interval    the interval to be removed
+     * @throws  IllegalArgumentException if given interval is finite and has
+     *          open start which cannot be adjusted to one with closed start
+     */
+    /*[deutsch]
+     * <p>Entfernt alle Zeitpunkte des angegebenen Intervalls und schneidet
+     * die betroffenen Bl&ouml;cke zu. </p>
+     *
+     * @param   interval    the interval to be removed
+     * @throws  IllegalArgumentException if given interval is finite and has
+     *          open start which cannot be adjusted to one with closed start
+     */
+    public void remove(ChronoInterval<T> interval) {
+
+        T s = this.getStart(interval);
+        T e = this.getEnd(interval);
+
+        if (isEmpty(s, e)) {
+            return;
+        }
+
+        // Block, der vor dem Intervall beginnt und hineinragt
+        Map.Entry<T, T> lower = ((s == null) ? null : this.blocks.lowerEntry(s));
+
+        if ((lower != null) && isAfter(lower.getValue(), s)) {
+            T end = lower.getValue();
+            this.blocks.put(lower.getKey(), s);
+            if (isAfter(end, e)) {
+                this.blocks.put(e, end);
+                return;
+            }
+        }
+
+        Iterator<Map.Entry<T, T>> iter = this.blocks.tailMap(s, true).entrySet().iterator();
+
+        while (iter.hasNext()) {
+            Map.Entry<T, T> entry = iter.next();
+            T key = entry.getKey();
+
+            if ((e != null) && (key != null) && !key.isBefore(e)) {
+                break;
+            }
+
+            T end = entry.getValue();
+            iter.remove();
+
+            if (isAfter(end, e)) {
+                this.blocks.put(e, end);
+                break;
+            }
+        }
+
+    }
+
+    /**
+     * <p>Yields the count of disjunct blocks. </p>
+     *
+     * @return  count of blocks
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der disjunkten Bl&ouml;cke. </p>
+     *
+     * @return  count of blocks
+     */
+    public int size() {
+
+        return this.blocks.size();
+
+    }
+
+    /**
+     * <p>Queries if there is no block at all. </p>
+     *
+     * @return  {@code true} if there is no block else {@code false}
+     */
+    /*[deutsch]
+     * <p>Ermittelt, ob es &uuml;berhaupt keinen Block gibt. </p>
+     *
+     * @return  {@code true} if there is no block else {@code false}
+     */
+    public boolean isEmpty() {
+
+        return this.blocks.isEmpty();
+
+    }
+
+    /**
+     * <p>Yields all disjunct blocks. </p>
+     *
+     * @return  new interval collection containing the current blocks
+     */
+    /*[deutsch]
+     * <p>Liefert alle disjunkten Bl&ouml;cke. </p>
+     *
+     * @return  new interval collection containing the current blocks
+     */
+    public IntervalCollection<T> getBlocks() {
+
+        List<ChronoInterval<T>> list = new ArrayList<>(this.blocks.size());
+
+        for (Map.Entry<T, T> entry : this.blocks.entrySet()) {
+            list.add(this.toInterval(entry.getKey(), entry.getValue()));
+        }
+
+        return this.factory.create(list);
+
+    }
+
+    /**
+     * <p>Yields the inner gaps between the blocks. </p>
+     *
+     * @return  new interval collection containing the gaps between the current blocks
+     * @see     IntervalCollection#withGaps()
+     */
+    /*[deutsch]
+     * <p>Liefert die inneren L&uuml;cken zwischen den Bl&ouml;cken. </p>
+     *
+     * @return  new interval collection containing the gaps between the current blocks
+     * @see     IntervalCollection#withGaps()
+     */
+    public IntervalCollection<T> getGaps() {
+
+        List<ChronoInterval<T>> list = new ArrayList<>();
+        T previous = null;
+        boolean first = true;
+
+        for (Map.Entry<T, T> entry : this.blocks.entrySet()) {
+            if (!first) {
+                list.add(this.toInterval(previous, entry.getKey()));
+            }
+            previous = entry.getValue();
+            first = false;
+        }
+
+        return this.factory.create(list);
+
+    }
+
+    /**
+     * <p>Determines the gaps within given time window. </p>
+     *
+     * <p>Only the blocks which overlap the time window are visited so the
+     * cost is {@code O(log n)} plus the count of these blocks. </p>
+     *
+     * @param   timeWindow  time window filter
+     * @return  new interval collection containing the uncovered parts of given window
+     * @throws  IllegalArgumentException if given window is finite and has
+     *          open start which cannot be adjusted to one with closed start
+     * @see     IntervalCollection#withComplement(ChronoInterval)
+     */
+    /*[deutsch]
+     * <p>Bestimmt die L&uuml;cken innerhalb des angegebenen Zeitfensters. </p>
+     *
+     * <p>Nur die Bl&ouml;cke, die das Zeitfenster &uuml;berlappen, werden
+     * besucht, so da&szlig; die Kosten {@code O(log n)} plus die Anzahl
+     * dieser Bl&ouml;cke betragen. </p>
+     *
+     * @param   timeWindow  time window filter
+     * @return  new interval collection containing the uncovered parts of given window
+     * @throws  IllegalArgumentException if given window is finite and has
+     *          open start which cannot be adjusted to one with closed start
+     * @see     IntervalCollection#withComplement(ChronoInterval)
+     */
+    public IntervalCollection<T> getComplement(ChronoInterval<T> timeWindow) {
+
+        T ws = this.getStart(timeWindow);
+        T we = this.getEnd(timeWindow);
+        List<ChronoInterval<T>> gaps = new ArrayList<>();
+        boolean overlap = false;
+        boolean infinite = false;
+        T cursor = ws;
+
+        if (!isEmpty(ws, we)) {
+            Map.Entry<T, T> floor = this.blocks.floorEntry(ws);
+            T from = ((floor == null) ? ws : floor.getKey());
+
+            for (Map.Entry<T, T> entry : this.blocks.tailMap(from, true).entrySet()) {
+                T bs = entry.getKey();
+                T be = entry.getValue();
+
+                if ((bs != null) && (we != null) && !bs.isBefore(we)) {
+                    break;
+                } else if ((be != null) && (cursor != null) && !be.isAfter(cursor)) {
+                    continue; // Block endet vor dem Zeitfenster
+                }
+
+                overlap = true;
+
+                if ((bs != null) && ((cursor == null) || cursor.isBefore(bs))) {
+                    this.addGap(gaps, cursor, bs);
+                }
+
+                if (be == null) {
+                    infinite = true;
+                    break;
+                }
+
+                cursor = be;
+            }
+        }
+
+        if (!overlap) {
+            ChronoInterval<T> window = timeWindow;
+            Boundary<T> start = timeWindow.getStart();
+            if (!start.isInfinite() && start.isOpen()) {
+                window = this.factory.newInterval(Boundary.ofClosed(ws), timeWindow.getEnd());
+            }
+            return this.factory.create(Collections.singletonList(window));
+        } else if (!infinite && ((we == null) || cursor.isBefore(we))) {
+            this.addGap(gaps, cursor, we);
+        }
+
+        return this.factory.create(gaps);
+
+    }
+
+    /**
+     * <p>For debugging purposes. </p>
+     *
+     * @return  String
+     */
+    @Override
+    public String toString() {
+
+        return this.getBlocks().toString();
+
+    }
+
+    /**
+     * <p>Combines given unsorted intervals to disjunct blocks. </p>
+     *
+     * <p>Large lists can be split into partial lists whose blocks are
+     * determined in parallel on the common fork-join-pool and finally
+     * merged. </p>
+     *
+     * @param   intervals   unsorted list of intervals
+     * @param   parallel    shall large lists be processed in parallel?
+     * @return  new interval collection containing disjunct blocks
+     */
+    IntervalCollection<T> combine(
+        List<? extends ChronoInterval<T>> intervals,
+        boolean parallel
+    ) {
+
+        List<T> spans;
+
+        if (parallel && (intervals.size() >= 2 * PARALLEL_THRESHOLD)) {
+            spans = ForkJoinPool.commonPool().invoke(new BlockTask<>(this, intervals, 0, intervals.size()));
+        } else {
+            spans = this.coalesce(intervals, 0, intervals.size());
+        }
+
+        List<ChronoInterval<T>> list = new ArrayList<>(spans.size() / 2);
+
+        for (int i = 0, n = spans.size(); i < n; i += 2) {
+            list.add(this.toInterval(spans.get(i), spans.get(i + 1)));
+        }
+
+        return this.factory.create(list);
+
+    }
+
+    // Normalisierung: geschlossener Start, null = unendliche Vergangenheit
+    private T getStart(ChronoInterval<T> interval) {
+
+        Boundary<T> b = interval.getStart();
+
+        if (b.isInfinite()) {
+            return null;
+        }
+
+        T s = b.getTemporal();
+
+        if (b.isOpen()) {
+            s = this.timeLine.stepForward(s);
+            if (s == null) {
+                throw new IllegalArgumentException(
+                    "Interval start with open maximum: " + interval);
+            }
+        }
+
+        return s;
+
+    }
+
+    // Normalisierung: offenes Ende, null = unendliche Zukunft (auch nach dem Achsenmaximum wie in withBlocks())
+    private T getEnd(ChronoInterval<T> interval) {
+
+        Boundary<T> b = interval.getEnd();
+
+        if (b.isInfinite()) {
+            return null;
+        }
+
+        T e = b.getTemporal();
+        return (b.isClosed() ? this.timeLine.stepForward(e) : e);
+
+    }
+
+    private ChronoInterval<T> toInterval(
+        T start,
+        T end
+    ) {
+
+        Boundary<T> s = ((start == null) ? Boundary.<T>infinitePast() : Boundary.ofClosed(start));
+        Boundary<T> e;
+
+        if (end == null) {
+            e = Boundary.infiniteFuture();
+        } else if (this.calendrical) {
+            e = Boundary.ofClosed(this.timeLine.stepBackwards(end));
+        } else {
+            e = Boundary.ofOpen(end);
+        }
+
+        return this.factory.newInterval(s, e);
+
+    }
+
+    private void addGap(
+        List<ChronoInterval<T>> gaps,
+        T start,
+        T end
+    ) {
+
+        // keine leere Lücke vor dem Achsenminimum
+        if ((start != null) || (end == null) || (this.timeLine.stepBackwards(end) != null)) {
+            gaps.add(this.toInterval(start, end));
+        }
+
+    }
+
+    // Blöcke einer Teilliste als flache Liste von Start-Ende-Paaren
+    private List<T> coalesce(
+        List<? extends ChronoInterval<T>> intervals,
+        int lo,
+        int hi
+    ) {
+
+        List<T[]> spans = new ArrayList<>(hi - lo);
+
+        for (int i = lo; i < hi; i++) {
+            ChronoInterval<T> interval = intervals.get(i);
+            T s = this.getStart(interval);
+            T e = this.getEnd(interval);
+            if (!isEmpty(s, e)) {
+                @SuppressWarnings("unchecked")
+                T[] span = (T[]) new Temporal<?>[] {s, e};
+                spans.add(span);
+            }
+        }
+
+        Comparator<T> order = new StartComparator<>();
+        Collections.sort(spans, (a, b) -> order.compare(a[0], b[0]));
+        List<T> result = new ArrayList<>();
+
+        for (T[] span : spans) {
+            append(result, span[0], span[1]);
+        }
+
+        return result;
+
+    }
+
+    // verschmilzt zwei sortierte Listen von Start-Ende-Paaren
+    private static <T extends Temporal<? super T>> List<T> merge(
+        List<T> left,
+        List<T> right
+    ) {
+
+        Comparator<T> order = new StartComparator<>();
+        List<T> result = new ArrayList<>(left.size() + right.size());
+        int i = 0;
+        int j = 0;
+
+        while ((i < left.size()) || (j < right.size())) {
+            if (
+                (j == right.size())
+                || ((i < left.size()) && (order.compare(left.get(i), right.get(j)) <= 0))
+            ) {
+                append(result, left.get(i), left.get(i + 1));
+                i += 2;
+            } else {
+                append(result, right.get(j), right.get(j + 1));
+                j += 2;
+            }
+        }
+
+        return result;
+
+    }
+
+    // hängt ein Paar an eine nach Start sortierte Liste an und verschmilzt dabei
+    private static <T extends Temporal<? super T>> void append(
+        List<T> result,
+        T start,
+        T end
+    ) {
+
+        int n = result.size();
+
+        if ((n > 0) && !isBefore(result.get(n - 1), start)) {
+            result.set(n - 1, max(result.get(n - 1), end));
+        } else {
+            result.add(start);
+            result.add(end);
+        }
+
+    }
+
+    private static <T extends Temporal<? super T>> boolean isEmpty(
+        T start,
+        T end
+    ) {
+
+        return ((start != null) && (end != null) && !end.isAfter(start));
+
+    }
+
+    // Ende vor Start? (beide Werte nullable)
+    private static <T extends Temporal<? super T>> boolean isBefore(
+        T end,
+        T start
+    ) {
+
+        return ((end != null) && (start != null) && end.isBefore(start));
+
+    }
+
+    // erstes Ende nach zweitem Ende? (null = unendliche Zukunft)
+    private static <T extends Temporal<? super T>> boolean isAfter(
+        T end1,
+        T end2
+    ) {
+
+        if (end2 == null) {
+            return false;
+        } else if (end1 == null) {
+            return true;
+        }
+
+        return end1.isAfter(end2);
+
+    }
+
+    private static <T extends Temporal<? super T>> T max(
+        T end1,
+        T end2
+    ) {
+
+        return (isAfter(end1, end2) ? end1 : end2);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class StartComparator<T extends Temporal<? super T>>
+        implements Comparator<T> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int compare(
+            T o1,
+            T o2
+        ) {
+
+            if (o1 == null) {
+                return ((o2 == null) ? 0 : -1);
+            } else if (o2 == null) {
+                return 1;
+            } else if (o1.isBefore(o2)) {
+                return -1;
+            } else if (o1.isAfter(o2)) {
+                return 1;
+            }
+
+            return 0;
+
+        }
+
+    }
+
+    private static class BlockTask<T extends Temporal<? super T>>
+        extends RecursiveTask<List<T>> {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final long serialVersionUID = 3218504961372201840L;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private transient final IntervalBlocks<T> owner;
+        private transient final List<? extends ChronoInterval<T>> intervals;
+        private final int lo;
+        private final int hi;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        BlockTask(
+            IntervalBlocks<T> owner,
+            List<? extends ChronoInterval<T>> intervals,
+            int lo,
+            int hi
+        ) {
+            super();
+
+            this.owner = owner;
+            this.intervals = intervals;
+            this.lo = lo;
+            this.hi = hi;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        protected List<T> compute() {
+
+            if (this.hi - this.lo < PARALLEL_THRESHOLD) {
+                return this.owner.coalesce(this.intervals, this.lo, this.hi);
+            }
+
+            int mid = (this.lo + this.hi) >>> 1;
+            BlockTask<T> left = new BlockTask<>(this.owner, this.intervals, this.lo, mid);
+            BlockTask<T> right = new BlockTask<>(this.owner, this.intervals, mid, this.hi);
+            left.fork();
+            List<T> rightSpans = right.compute();
+            return merge(left.join(), rightSpans);
+
+        }
+
+    }
+
+}
@@ -0,0 +1,498 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IntervalCodec.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.TemporalCodec;
+import net.time4j.engine.Temporal;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+
+/**
+ * <p>Compact binary codec which writes and reads intervals directly into or
+ * from a {@code ByteBuffer} without any reflection or stream overhead. </p>
+ *
+ * <p>The layout consists of a header byte with the serialization type of
+ * the interval followed by the start and the end boundary. Every boundary
+ * starts with one byte as in the serialized form ({@code 1} = infinite past,
+ * {@code 2} = infinite future, {@code 4} = open, {@code 0} = closed) which
+ * is followed by the boundary time point encoded by the appropriate
+ * {@link TemporalCodec}. The fixed form pads infinite boundaries with
+ * zero bytes so that all intervals have the same length. </p>
+ *
+ * <p>All singleton instances are defined as static constants and are
+ * <i>immutable</i>. </p>
+ *
+ * @param   <T> temporal type of interval boundaries
+ * @param   <I> interval type
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @see     TemporalCodec
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Kompakter Bin&auml;rcodec, der Intervalle direkt in einen oder aus
+ * einem {@code ByteBuffer} schreibt oder liest, ohne Reflexion oder den
+ * Aufwand von Datenstr&ouml;men. </p>
+ *
+ * <p>Das Format besteht aus einem Kopfbyte mit dem Serialisierungstyp des
+ * Intervalls, gefolgt von der Start- und der Endgrenze. Jede Grenze beginnt
+ * wie in der serialisierten Form mit einem Byte ({@code 1} = unendliche
+ * Vergangenheit, {@code 2} = unendliche Zukunft, {@code 4} = offen,
+ * {@code 0} = geschlossen), dem der Zeitpunkt der Grenze folgt, codiert mit
+ * dem passenden {@link TemporalCodec}. Die feste Form f&uuml;llt unendliche
+ * Grenzen mit Null-Bytes auf, so da&szlig; alle Intervalle die gleiche
+ * L&auml;nge haben. </p>
+ *
+ * <p>Alle Singleton-Instanzen sind als statische Konstanten definiert und
+ * unver&auml;nderlich (<i>immutable</i>). </p>
+ *
+ * @param   <T> temporal type of interval boundaries
+ * @param   <I> interval type
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @see     TemporalCodec
+ * @doctags.concurrency {immutable}
+ */
+public abstract class IntervalCodec<T extends Temporal<? super T>, I extends IsoInterval<T, I>> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int INFINITE_PAST = 1;
+    private static final int INFINITE_FUTURE = 2;
+    private static final int OPEN = 4;
+    private static final int PADDED = 8;
+
+    /**
+     * <p>Codec for date intervals. </p>
+     */
+    /*[deutsch]
+     * <p>Codec f&uuml;r Datumsintervalle. </p>
+     */
+    public static final IntervalCodec<PlainDate, DateInterval> DATE = new DateCodec();
+
+    /**
+     * <p>Codec for clock intervals. </p>
+     */
+    /*[deutsch]
+     * <p>Codec f&uuml;r Uhrzeitintervalle. </p>
+     */
+    public static final IntervalCodec<PlainTime, ClockInterval> CLOCK = new ClockCodec();
+
+    /**
+     * <p>Codec for timestamp intervals. </p>
+     */
+    /*[deutsch]
+     * <p>Codec f&uuml;r Zeitstempelintervalle. </p>
+     */
+    public static final IntervalCodec<PlainTimestamp, TimestampInterval> TIMESTAMP = new TimestampCodec();
+
+    /**
+     * <p>Codec for moment intervals. </p>
+     */
+    /*[deutsch]
+     * <p>Codec f&uuml;r Momentintervalle. </p>
+     */
+    public static final IntervalCodec<Moment, MomentInterval> MOMENT = new MomentCodec();
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final int type;
+    private final TemporalCodec<T> codec;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private IntervalCodec(
+        int type,
+        TemporalCodec<T> codec
+    ) {
+        super();
+
+        this.type = type;
+        this.codec = codec;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Writes given interval in its compact standard form at the current
+     * position of given buffer. </p>
+     *
+     * @param   interval    interval to be encoded
+     * @param   buffer      target buffer
+     * @throws  BufferOverflowException if there are not enough remaining bytes
+     */
+    /*[deutsch]
+     * <p>Schreibt das angegebene Intervall in seiner kompakten Standardform
+     * an die aktuelle Position des angegebenen Puffers. </p>
+     *
+     * @param   interval    interval to be encoded
+     * @param   buffer      target buffer
+     * @throws  BufferOverflowException if there are not enough remaining bytes
+     */
+    public void write(
+        I interval,
+        ByteBuffer buffer
+    ) {
+
+        buffer.put((byte) (this.type << 2));
+        this.writeBoundary(interval.getStart(), buffer, false);
+        this.writeBoundary(interval.getEnd(), buffer, false);
+
+    }
+
+    /**
+     * <p>Writes given interval in its fixed-length form at the current
+     * position of given buffer. </p>
+     *
+     * @param   interval    interval to be encoded
+     * @param   buffer      target buffer
+     * @throws  BufferOverflowException if there are not enough remaining bytes
+     * @see     #getFixedLength()
+     */
+    /*[deutsch]
+     * <p>Schreibt das angegebene Intervall in seiner Form mit fester
+     * L&auml;nge an die aktuelle Position des angegebenen Puffers. </p>
+     *
+     * @param   interval    interval to be encoded
+     * @param   buffer      target buffer
+     * @throws  BufferOverflowException if there are not enough remaining bytes
+     * @see     #getFixedLength()
+     */
+    public void writeFixed(
+        I interval,
+        ByteBuffer buffer
+    ) {
+
+        if (buffer.remaining() < this.getFixedLength()) {
+            throw new BufferOverflowException();
+        }
+
+        buffer.put((byte) (this.type << 2));
+        this.writeBoundary(interval.getStart(), buffer, true);
+        this.writeBoundary(interval.getEnd(), buffer, true);
+
+    }
+
+    /**
+     * <p>Reads an interval in standard or fixed form from the current
+     * position of given buffer. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  decoded interval
+     * @throws  java.nio.BufferUnderflowException if there are not enough remaining bytes
+     * @throws  IllegalArgumentException if the data are not valid for this codec
+     */
+    /*[deutsch]
+     * <p>Liest ein Intervall in Standardform oder fester Form von der
+     * aktuellen Position des angegebenen Puffers. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  decoded interval
+     * @throws  java.nio.BufferUnderflowException if there are not enough remaining bytes
+     * @throws  IllegalArgumentException if the data are not valid for this codec
+     */
+    public I read(ByteBuffer buffer) {
+
+        int header = (buffer.get() & 0xFF);
+
+        if ((header >> 2) != this.type) {
+            throw new IllegalArgumentException("Unexpected type in header byte: " + (header >> 2));
+        }
+
+        Boundary<T> start = this.readBoundary(buffer);
+        Boundary<T> end = this.readBoundary(buffer);
+        return this.create(start, end);
+
+    }
+
+    /**
+     * <p>Writes all given intervals in standard form one after another. </p>
+     *
+     * @param   intervals   array of intervals to be encoded
+     * @param   buffer      target buffer
+     * @throws  BufferOverflowException if there are not enough remaining bytes
+     * @see     #write(IsoInterval, ByteBuffer)
+     */
+    /*[deutsch]
+     * <p>Schreibt alle angegebenen Intervalle in Standardform
+     * nacheinander. </p>
+     *
+     * @param   intervals   array of intervals to be encoded
+     * @param   buffer      target buffer
+     * @throws  BufferOverflowException if there are not enough remaining bytes
+     * @see     #write(IsoInterval, ByteBuffer)
+     */
+    public void writeAll(
+        I[] intervals,
+        ByteBuffer buffer
+    ) {
+
+        for (I interval : intervals) {
+            this.write(interval, buffer);
+        }
+
+    }
+
+    /**
+     * <p>Writes all given intervals in fixed form one after another. </p>
+     *
+     * <p>The interval at index {@code i} will start at the relative byte
+     * position {@code i * getFixedLength()}. </p>
+     *
+     * @param   intervals   array of intervals to be encoded
+     * @param   buffer      target buffer
+     * @throws  BufferOverflowException if there are not enough remaining bytes
+     * @see     #writeFixed(IsoInterval, ByteBuffer)
+     */
+    /*[deutsch]
+     * <p>Schreibt alle angegebenen Intervalle in fester Form
+     * nacheinander. </p>
+     *
+     * <p>Das Intervall am Index {@code i} beginnt an der relativen
+     * Byte-Position {@code i * getFixedLength()}. </p>
+     *
+     * @param   intervals   array of intervals to be encoded
+     * @param   buffer      target buffer
+     * @throws  BufferOverflowException if there are not enough remaining bytes
+     * @see     #writeFixed(IsoInterval, ByteBuffer)
+     */
+    public void writeAllFixed(
+        I[] intervals,
+        ByteBuffer buffer
+    ) {
+
+        if (buffer.remaining() < this.getFixedLength() * intervals.length) {
+            throw new BufferOverflowException();
+        }
+
+        for (I interval : intervals) {
+            this.writeFixed(interval, buffer);
+        }
+
+    }
+
+    /**
+     * <p>Reads as many intervals as the target array can take. </p>
+     *
+     * @param   buffer      source buffer
+     * @param   target      preallocated array to be filled with decoded intervals
+     * @throws  java.nio.BufferUnderflowException if there are not enough remaining bytes
+     * @throws  IllegalArgumentException if the data are not valid for this codec
+     * @see     #read(ByteBuffer)
+     */
+    /*[deutsch]
+     * <p>Liest so viele Intervalle, wie das Zielarray aufnehmen kann. </p>
+     *
+     * @param   buffer      source buffer
+     * @param   target      preallocated array to be filled with decoded intervals
+     * @throws  java.nio.BufferUnderflowException if there are not enough remaining bytes
+     * @throws  IllegalArgumentException if the data are not valid for this codec
+     * @see     #read(ByteBuffer)
+     */
+    public void readAll(
+        ByteBuffer buffer,
+        I[] target
+    ) {
+
+        for (int i = 0; i < target.length; i++) {
+            target[i] = this.read(buffer);
+        }
+
+    }
+
+    /**
+     * <p>Yields the count of bytes of the fixed form. </p>
+     *
+     * @return  positive count of bytes
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Bytes der festen Form. </p>
+     *
+     * @return  positive count of bytes
+     */
+    public int getFixedLength() {
+
+        return 1 + 2 * (1 + this.codec.getFixedLength());
+
+    }
+
+    /**
+     * <p>Creates the interval. </p>
+     *
+     * @param   start   start boundary
+     * @param   end     end boundary
+     * @return  new interval
+     */
+    abstract I create(
+        Boundary<T> start,
+        Boundary<T> end
+    );
+
+    private void writeBoundary(
+        Boundary<T> boundary,
+        ByteBuffer buffer,
+        boolean fixed
+    ) {
+
+        if (boundary.isInfinite()) {
+            int state = (boundary.equals(Boundary.infinitePast()) ? INFINITE_PAST : INFINITE_FUTURE);
+            if (fixed) {
+                buffer.put((byte) (state | PADDED));
+                for (int i = this.codec.getFixedLength(); i > 0; i--) {
+                    buffer.put((byte) 0);
+                }
+            } else {
+                buffer.put((byte) state);
+            }
+        } else {
+            buffer.put((byte) (boundary.isOpen() ? OPEN : 0));
+            if (fixed) {
+                this.codec.writeFixed(boundary.getTemporal(), buffer);
+            } else {
+                this.codec.write(boundary.getTemporal(), buffer);
+            }
+        }
+
+    }
+
+    private Boundary<T> readBoundary(ByteBuffer buffer) {
+
+        int state = (buffer.get() & 0xFF);
+
+        if ((state & (INFINITE_PAST | INFINITE_FUTURE)) != 0) {
+            if ((state & PADDED) == PADDED) {
+                buffer.position(buffer.position() + this.codec.getFixedLength());
+            }
+            return (((state & INFINITE_PAST) == INFINITE_PAST) ? Boundary.infinitePast() : Boundary.infiniteFuture());
+        }
+
+        IntervalEdge edge = (((state & OPEN) == OPEN) ? IntervalEdge.OPEN : IntervalEdge.CLOSED);
+        return Boundary.of(edge, this.codec.read(buffer));
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class DateCodec
+        extends IntervalCodec<PlainDate, DateInterval> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private DateCodec() {
+            super(SPX.DATE_TYPE, TemporalCodec.DATE);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        DateInterval create(
+            Boundary<PlainDate> start,
+            Boundary<PlainDate> end
+        ) {
+
+            return new DateInterval(start, end);
+
+        }
+
+    }
+
+    private static class ClockCodec
+        extends IntervalCodec<PlainTime, ClockInterval> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private ClockCodec() {
+            super(SPX.TIME_TYPE, TemporalCodec.TIME);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        ClockInterval create(
+            Boundary<PlainTime> start,
+            Boundary<PlainTime> end
+        ) {
+
+            return new ClockInterval(start, end);
+
+        }
+
+    }
+
+    private static class TimestampCodec
+        extends IntervalCodec<PlainTimestamp, TimestampInterval> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private TimestampCodec() {
+            super(SPX.TIMESTAMP_TYPE, TemporalCodec.TIMESTAMP);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        TimestampInterval create(
+            Boundary<PlainTimestamp> start,
+            Boundary<PlainTimestamp> end
+        ) {
+
+            return new TimestampInterval(start, end);
+
+        }
+
+    }
+
+    private static class MomentCodec
+        extends IntervalCodec<Moment, MomentInterval> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private MomentCodec() {
+            super(SPX.MOMENT_TYPE, TemporalCodec.MOMENT);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        MomentInterval create(
+            Boundary<Moment> start,
+            Boundary<Moment> end
+        ) {
+
+            return new MomentInterval(start, end);
+
+        }
+
+    }
+
+}
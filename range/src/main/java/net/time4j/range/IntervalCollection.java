@@ -932,6 +932,92 @@ public abstract class IntervalCollection<T extends Temporal<? super T>>
 
     }
 
+    /**
+     * <p>Combines all intervals of this instance and given unsorted intervals
+     * to disjunct blocks in one step. </p>
+     *
+     * <p>Equivalent to {@code plus(intervals).withBlocks()} but without sorting
+     * all intervals first. The intervals are rather normalized and merged
+     * to blocks in partial lists. If the argument {@code parallel} is
+     * {@code true} then very large lists will be processed on the common
+     * fork-join-pool. </p>
+     *
+     * @param   intervals   unsorted list of new intervals to be added
+     * @param   parallel    shall very large lists be processed in parallel?
+     * @return  new interval collection containing disjunct blocks
+     *          while this instance remains unaffected
+     * @throws  IllegalArgumentException if given list contains a finite
+     *          interval with open start which cannot be adjusted to one
+     *          with closed start
+     * @see     #withBlocks()
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Kombiniert alle Intervalle dieser Instanz und die angegebenen
+     * unsortierten Intervalle in einem Schritt zu disjunkten Bl&ouml;cken. </p>
+     *
+     * <p>&Auml;quivalent zu {@code plus(intervals).withBlocks()}, aber ohne
+     * zuerst alle Intervalle zu sortieren. Die Intervalle werden vielmehr
+     * normalisiert und in Teillisten zu Bl&ouml;cken verschmolzen. Wenn das
+     * Argument {@code parallel} {@code true} ist, werden sehr gro&szlig;e
+     * Listen im gemeinsamen Fork-Join-Pool verarbeitet. </p>
+     *
+     * @param   intervals   unsorted list of new intervals to be added
+     * @param   parallel    shall very large lists be processed in parallel?
+     * @return  new interval collection containing disjunct blocks
+     *          while this instance remains unaffected
+     * @throws  IllegalArgumentException if given list contains a finite
+     *          interval with open start which cannot be adjusted to one
+     *          with closed start
+     * @see     #withBlocks()
+     * @since   4.18
+     */
+    public IntervalCollection<T> withBlocks(
+        List<? extends ChronoInterval<T>> intervals,
+        boolean parallel
+    ) {
+
+        if (this.intervals.size() + intervals.size() < 2) {
+            return this.plus(intervals).withBlocks();
+        }
+
+        List<ChronoInterval<T>> all = new ArrayList<>(this.intervals.size() + intervals.size());
+        all.addAll(this.intervals);
+        all.addAll(intervals);
+        List<ChronoInterval<T>> zero = Collections.emptyList();
+        return new IntervalBlocks<>(this.create(zero)).combine(all, parallel);
+
+    }
+
+    /**
+     * <p>Creates a mutable block structure which is initialized with the
+     * blocks of this instance and can be incrementally updated. </p>
+     *
+     * <p>Recommended if the blocks, gaps or complements are needed again
+     * after every small modification. </p>
+     *
+     * @return  new mutable instance of {@code IntervalBlocks}
+     * @see     #withBlocks()
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine ver&auml;nderliche Blockstruktur, die mit den
+     * Bl&ouml;cken dieser Instanz initialisiert ist und schrittweise
+     * aktualisiert werden kann. </p>
+     *
+     * <p>Empfohlen, wenn die Bl&ouml;cke, L&uuml;cken oder Komplemente nach
+     * jeder kleinen &Auml;nderung erneut gebraucht werden. </p>
+     *
+     * @return  new mutable instance of {@code IntervalBlocks}
+     * @see     #withBlocks()
+     * @since   4.18
+     */
+    public IntervalBlocks<T> toBlocks() {
+
+        return new IntervalBlocks<>(this);
+
+    }
+
     /**
      * <p>Determines the intersection of all contained intervals. </p>
      *
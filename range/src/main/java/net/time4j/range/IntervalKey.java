@@ -0,0 +1,505 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2016 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IntervalKey.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.TemporalKey;
+import net.time4j.engine.Temporal;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+
+/**
+ * <p>Order-preserving binary keys of fixed length for intervals. </p>
+ *
+ * <p>A key consists of the start boundary followed by the end boundary.
+ * Every boundary starts with one byte for infinity which is followed by the
+ * boundary time point encoded by the appropriate {@link TemporalKey} and
+ * finally by one byte for the edge type: </p>
+ *
+ * <ul>
+ *     <li>start: {@code 0x00} = infinite past (followed by zero bytes),
+ *     {@code 0x01} = finite; edge {@code 0x00} = closed, {@code 0x01} = open</li>
+ *     <li>end: {@code 0x01} = finite, {@code 0xFF} = infinite future
+ *     (followed by {@code 0xFF}-bytes); edge {@code 0x00} = open,
+ *     {@code 0x01} = closed</li>
+ * </ul>
+ *
+ * <p>The unsigned lexicographical order of keys hence sorts intervals first
+ * by their start and then by their end. Because the start boundary is the
+ * prefix of every key, sorted key-value stores can find all intervals
+ * starting in a given range by a range scan over encoded keys. Note that
+ * equivalent intervals with different boundary types like {@code [a, b]} and
+ * {@code [a, b+1)} for dates yield different keys. </p>
+ *
+ * @param   <T> temporal type of interval boundaries
+ * @param   <I> interval type
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @see     TemporalKey
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Ordnungserhaltende bin&auml;re Schl&uuml;ssel fester L&auml;nge
+ * f&uuml;r Intervalle. </p>
+ *
+ * <p>Ein Schl&uuml;ssel besteht aus der Startgrenze gefolgt von der
+ * Endgrenze. Jede Grenze beginnt mit einem Byte f&uuml;r Unendlichkeit,
+ * dem der Zeitpunkt der Grenze folgt, codiert mit dem passenden
+ * {@link TemporalKey}, und schlie&szlig;lich ein Byte f&uuml;r den
+ * Grenztyp: </p>
+ *
+ * <ul>
+ *     <li>Start: {@code 0x00} = unendliche Vergangenheit (gefolgt von
+ *     Null-Bytes), {@code 0x01} = endlich; Grenztyp {@code 0x00} =
+ *     geschlossen, {@code 0x01} = offen</li>
+ *     <li>Ende: {@code 0x01} = endlich, {@code 0xFF} = unendliche Zukunft
+ *     (gefolgt von {@code 0xFF}-Bytes); Grenztyp {@code 0x00} = offen,
+ *     {@code 0x01} = geschlossen</li>
+ * </ul>
+ *
+ * <p>Die vorzeichenlose lexikographische Ordnung der Schl&uuml;ssel sortiert
+ * Intervalle deshalb zuerst nach ihrem Start und dann nach ihrem Ende. Weil
+ * die Startgrenze das Pr&auml;fix jedes Schl&uuml;ssels ist, k&ouml;nnen
+ * sortierte Key-Value-Speicher alle Intervalle, die in einem gegebenen
+ * Bereich beginnen, mit einer Bereichssuche &uuml;ber codierte
+ * Schl&uuml;ssel finden. Hinweis: &Auml;quivalente Intervalle mit
+ * verschiedenen Grenztypen wie {@code [a, b]} und {@code [a, b+1)} f&uuml;r
+ * Datumsangaben ergeben verschiedene Schl&uuml;ssel. </p>
+ *
+ * @param   <T> temporal type of interval boundaries
+ * @param   <I> interval type
+ * @author  Meno Hochschild
+ * @since   4.18
+ * @see     TemporalKey
+ * @doctags.concurrency {immutable}
+ */
+public abstract class IntervalKey<T extends Temporal<? super T>, I extends IsoInterval<T, I>> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final byte INFINITE_PAST = 0x00;
+    private static final byte FINITE = 0x01;
+    private static final byte INFINITE_FUTURE = (byte) 0xFF;
+
+    /**
+     * <p>Key of date intervals (16 bytes). </p>
+     */
+    /*[deutsch]
+     * <p>Schl&uuml;ssel von Datumsintervallen (16 Bytes). </p>
+     */
+    public static final IntervalKey<PlainDate, DateInterval> DATE = new DateKey();
+
+    /**
+     * <p>Key of clock intervals (18 bytes). </p>
+     */
+    /*[deutsch]
+     * <p>Schl&uuml;ssel von Uhrzeitintervallen (18 Bytes). </p>
+     */
+    public static final IntervalKey<PlainTime, ClockInterval> CLOCK = new ClockKey();
+
+    /**
+     * <p>Key of timestamp intervals (30 bytes). </p>
+     */
+    /*[deutsch]
+     * <p>Schl&uuml;ssel von Zeitstempelintervallen (30 Bytes). </p>
+     */
+    public static final IntervalKey<PlainTimestamp, TimestampInterval> TIMESTAMP = new TimestampKey();
+
+    /**
+     * <p>Key of moment intervals (28 bytes). </p>
+     */
+    /*[deutsch]
+     * <p>Schl&uuml;ssel von Momentintervallen (28 Bytes). </p>
+     */
+    public static final IntervalKey<Moment, MomentInterval> MOMENT = new MomentKey();
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final TemporalKey<T> key;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private IntervalKey(TemporalKey<T> key) {
+        super();
+
+        this.key = key;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the fixed count of bytes of every key. </p>
+     *
+     * @return  positive key length
+     */
+    /*[deutsch]
+     * <p>Liefert die feste Anzahl der Bytes jedes Schl&uuml;ssels. </p>
+     *
+     * @return  positive key length
+     */
+    public int getLength() {
+
+        return 2 * (2 + this.key.getLength());
+
+    }
+
+    /**
+     * <p>Encodes given interval as new key. </p>
+     *
+     * @param   interval    interval to be encoded
+     * @return  new byte array of length {@link #getLength()}
+     */
+    /*[deutsch]
+     * <p>Codiert das angegebene Intervall als neuen Schl&uuml;ssel. </p>
+     *
+     * @param   interval    interval to be encoded
+     * @return  new byte array of length {@link #getLength()}
+     */
+    public byte[] encode(I interval) {
+
+        byte[] data = new byte[this.getLength()];
+        this.encode(interval, data, 0);
+        return data;
+
+    }
+
+    /**
+     * <p>Encodes given interval into given byte array. </p>
+     *
+     * @param   interval    interval to be encoded
+     * @param   target      target array
+     * @param   offset      start index of key in target array
+     * @throws  IndexOutOfBoundsException if the target array is too small
+     */
+    /*[deutsch]
+     * <p>Codiert das angegebene Intervall in das angegebene Byte-Array. </p>
+     *
+     * @param   interval    interval to be encoded
+     * @param   target      target array
+     * @param   offset      start index of key in target array
+     * @throws  IndexOutOfBoundsException if the target array is too small
+     */
+    public void encode(
+        I interval,
+        byte[] target,
+        int offset
+    ) {
+
+        int len = this.key.getLength();
+
+        if (offset + this.getLength() > target.length) {
+            throw new IndexOutOfBoundsException("Target array too small.");
+        }
+
+        Boundary<T> start = interval.getStart();
+
+        if (start.isInfinite()) {
+            Arrays.fill(target, offset, offset + 2 + len, INFINITE_PAST);
+        } else {
+            target[offset] = FINITE;
+            this.key.encode(start.getTemporal(), target, offset + 1);
+            target[offset + 1 + len] = (byte) (start.isOpen() ? 1 : 0);
+        }
+
+        offset += (2 + len);
+        Boundary<T> end = interval.getEnd();
+
+        if (end.isInfinite()) {
+            Arrays.fill(target, offset, offset + 2 + len, INFINITE_FUTURE);
+        } else {
+            target[offset] = FINITE;
+            this.key.encode(end.getTemporal(), target, offset + 1);
+            target[offset + 1 + len] = (byte) (end.isOpen() ? 0 : 1);
+        }
+
+    }
+
+    /**
+     * <p>Encodes given interval at the current position of given buffer. </p>
+     *
+     * @param   interval    interval to be encoded
+     * @param   buffer      target buffer
+     * @throws  java.nio.BufferOverflowException if there are not enough remaining bytes
+     */
+    /*[deutsch]
+     * <p>Codiert das angegebene Intervall an die aktuelle Position des
+     * angegebenen Puffers. </p>
+     *
+     * @param   interval    interval to be encoded
+     * @param   buffer      target buffer
+     * @throws  java.nio.BufferOverflowException if there are not enough remaining bytes
+     */
+    public void encode(
+        I interval,
+        ByteBuffer buffer
+    ) {
+
+        int len = this.getLength();
+
+        if (buffer.hasArray() && (buffer.remaining() >= len)) {
+            int pos = buffer.position();
+            this.encode(interval, buffer.array(), buffer.arrayOffset() + pos);
+            buffer.position(pos + len);
+        } else {
+            buffer.put(this.encode(interval));
+        }
+
+    }
+
+    /**
+     * <p>Decodes given key. </p>
+     *
+     * @param   data    key with length {@link #getLength()}
+     * @return  decoded interval
+     * @throws  IllegalArgumentException if the key is not valid
+     */
+    /*[deutsch]
+     * <p>Decodiert den angegebenen Schl&uuml;ssel. </p>
+     *
+     * @param   data    key with length {@link #getLength()}
+     * @return  decoded interval
+     * @throws  IllegalArgumentException if the key is not valid
+     */
+    public I decode(byte[] data) {
+
+        if (data.length != this.getLength()) {
+            throw new IllegalArgumentException("Invalid key length: " + data.length);
+        }
+
+        return this.decode(data, 0);
+
+    }
+
+    /**
+     * <p>Decodes the key starting at given index of given byte array. </p>
+     *
+     * @param   source      source array
+     * @param   offset      start index of key in source array
+     * @return  decoded interval
+     * @throws  IndexOutOfBoundsException if the source array is too small
+     * @throws  IllegalArgumentException if the key is not valid
+     */
+    /*[deutsch]
+     * <p>Decodiert den Schl&uuml;ssel, der am angegebenen Index des
+     * angegebenen Byte-Arrays beginnt. </p>
+     *
+     * @param   source      source array
+     * @param   offset      start index of key in source array
+     * @return  decoded interval
+     * @throws  IndexOutOfBoundsException if the source array is too small
+     * @throws  IllegalArgumentException if the key is not valid
+     */
+    public I decode(
+        byte[] source,
+        int offset
+    ) {
+
+        int len = this.key.getLength();
+        Boundary<T> start;
+
+        if (source[offset] == INFINITE_PAST) {
+            start = Boundary.infinitePast();
+        } else if (source[offset] == FINITE) {
+            start = Boundary.of(getEdge(source[offset + 1 + len], 1), this.key.decode(source, offset + 1));
+        } else {
+            throw new IllegalArgumentException("Invalid start state: " + source[offset]);
+        }
+
+        offset += (2 + len);
+        Boundary<T> end;
+
+        if (source[offset] == INFINITE_FUTURE) {
+            end = Boundary.infiniteFuture();
+        } else if (source[offset] == FINITE) {
+            end = Boundary.of(getEdge(source[offset + 1 + len], 0), this.key.decode(source, offset + 1));
+        } else {
+            throw new IllegalArgumentException("Invalid end state: " + source[offset]);
+        }
+
+        return this.create(start, end);
+
+    }
+
+    /**
+     * <p>Decodes the key at the current position of given buffer. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  decoded interval
+     * @throws  java.nio.BufferUnderflowException if there are not enough remaining bytes
+     * @throws  IllegalArgumentException if the key is not valid
+     */
+    /*[deutsch]
+     * <p>Decodiert den Schl&uuml;ssel an der aktuellen Position des
+     * angegebenen Puffers. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  decoded interval
+     * @throws  java.nio.BufferUnderflowException if there are not enough remaining bytes
+     * @throws  IllegalArgumentException if the key is not valid
+     */
+    public I decode(ByteBuffer buffer) {
+
+        int len = this.getLength();
+
+        if (buffer.hasArray() && (buffer.remaining() >= len)) {
+            int pos = buffer.position();
+            I interval = this.decode(buffer.array(), buffer.arrayOffset() + pos);
+            buffer.position(pos + len);
+            return interval;
+        } else {
+            byte[] data = new byte[len];
+            buffer.get(data);
+            return this.decode(data, 0);
+        }
+
+    }
+
+    private static IntervalEdge getEdge(
+        byte state,
+        int open
+    ) {
+
+        if ((state & 0xFE) != 0) {
+            throw new IllegalArgumentException("Invalid edge state: " + state);
+        }
+
+        return ((state == open) ? IntervalEdge.OPEN : IntervalEdge.CLOSED);
+
+    }
+
+    /**
+     * <p>Creates the interval. </p>
+     *
+     * @param   start   start boundary
+     * @param   end     end boundary
+     * @return  new interval
+     */
+    abstract I create(
+        Boundary<T> start,
+        Boundary<T> end
+    );
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class DateKey
+        extends IntervalKey<PlainDate, DateInterval> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private DateKey() {
+            super(TemporalKey.DATE);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        DateInterval create(
+            Boundary<PlainDate> start,
+            Boundary<PlainDate> end
+        ) {
+
+            return new DateInterval(start, end);
+
+        }
+
+    }
+
+    private static class ClockKey
+        extends IntervalKey<PlainTime, ClockInterval> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private ClockKey() {
+            super(TemporalKey.TIME);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        ClockInterval create(
+            Boundary<PlainTime> start,
+            Boundary<PlainTime> end
+        ) {
+
+            return new ClockInterval(start, end);
+
+        }
+
+    }
+
+    private static class TimestampKey
+        extends IntervalKey<PlainTimestamp, TimestampInterval> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private TimestampKey() {
+            super(TemporalKey.TIMESTAMP);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        TimestampInterval create(
+            Boundary<PlainTimestamp> start,
+            Boundary<PlainTimestamp> end
+        ) {
+
+            return new TimestampInterval(start, end);
+
+        }
+
+    }
+
+    private static class MomentKey
+        extends IntervalKey<Moment, MomentInterval> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private MomentKey() {
+            super(TemporalKey.MOMENT);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        MomentInterval create(
+            Boundary<Moment> start,
+            Boundary<Moment> end
+        ) {
+
+            return new MomentInterval(start, end);
+
+        }
+
+    }
+
+}
@@ -411,7 +411,45 @@ public enum IntervalRelation {
         DateInterval b
     ) {
 
-        return between0(a, b);
+        return AllenClassifier.DATE.classify(a, b);
+
+    }
+
+    /**
+     * <p>Determines the relations between the intervals at the same
+     * positions of given arrays. </p>
+     *
+     * <p>Every interval is evaluated only once so this method is suitable
+     * for mass data. The element at index {@code i} of the result is the
+     * relation between {@code a[i]} and {@code b[i]}. </p>
+     *
+     * @param   a   array of first intervals
+     * @param   b   array of second intervals
+     * @return  new array of relations with the same length as the input
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Bestimmt die Beziehungen zwischen den Intervallen an den jeweils
+     * gleichen Positionen der angegebenen Arrays. </p>
+     *
+     * <p>Jedes Intervall wird nur einmal ausgewertet, so da&szlig; diese
+     * Methode f&uuml;r Massendaten geeignet ist. Das Element am Index
+     * {@code i} des Ergebnisses ist die Beziehung zwischen {@code a[i]}
+     * und {@code b[i]}. </p>
+     *
+     * @param   a   array of first intervals
+     * @param   b   array of second intervals
+     * @return  new array of relations with the same length as the input
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     * @since   4.18
+     */
+    public static IntervalRelation[] between(
+        DateInterval[] a,
+        DateInterval[] b
+    ) {
+
+        return AllenClassifier.DATE.classify(a, b);
 
     }
 
@@ -436,7 +474,45 @@ public enum IntervalRelation {
         ClockInterval b
     ) {
 
-        return between0(a, b);
+        return AllenClassifier.CLOCK.classify(a, b);
+
+    }
+
+    /**
+     * <p>Determines the relations between the intervals at the same
+     * positions of given arrays. </p>
+     *
+     * <p>Every interval is evaluated only once so this method is suitable
+     * for mass data. The element at index {@code i} of the result is the
+     * relation between {@code a[i]} and {@code b[i]}. </p>
+     *
+     * @param   a   array of first intervals
+     * @param   b   array of second intervals
+     * @return  new array of relations with the same length as the input
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Bestimmt die Beziehungen zwischen den Intervallen an den jeweils
+     * gleichen Positionen der angegebenen Arrays. </p>
+     *
+     * <p>Jedes Intervall wird nur einmal ausgewertet, so da&szlig; diese
+     * Methode f&uuml;r Massendaten geeignet ist. Das Element am Index
+     * {@code i} des Ergebnisses ist die Beziehung zwischen {@code a[i]}
+     * und {@code b[i]}. </p>
+     *
+     * @param   a   array of first intervals
+     * @param   b   array of second intervals
+     * @return  new array of relations with the same length as the input
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     * @since   4.18
+     */
+    public static IntervalRelation[] between(
+        ClockInterval[] a,
+        ClockInterval[] b
+    ) {
+
+        return AllenClassifier.CLOCK.classify(a, b);
 
     }
 
@@ -461,7 +537,45 @@ public enum IntervalRelation {
         TimestampInterval b
     ) {
 
-        return between0(a, b);
+        return AllenClassifier.TIMESTAMP.classify(a, b);
+
+    }
+
+    /**
+     * <p>Determines the relations between the intervals at the same
+     * positions of given arrays. </p>
+     *
+     * <p>Every interval is evaluated only once so this method is suitable
+     * for mass data. The element at index {@code i} of the result is the
+     * relation between {@code a[i]} and {@code b[i]}. </p>
+     *
+     * @param   a   array of first intervals
+     * @param   b   array of second intervals
+     * @return  new array of relations with the same length as the input
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Bestimmt die Beziehungen zwischen den Intervallen an den jeweils
+     * gleichen Positionen der angegebenen Arrays. </p>
+     *
+     * <p>Jedes Intervall wird nur einmal ausgewertet, so da&szlig; diese
+     * Methode f&uuml;r Massendaten geeignet ist. Das Element am Index
+     * {@code i} des Ergebnisses ist die Beziehung zwischen {@code a[i]}
+     * und {@code b[i]}. </p>
+     *
+     * @param   a   array of first intervals
+     * @param   b   array of second intervals
+     * @return  new array of relations with the same length as the input
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     * @since   4.18
+     */
+    public static IntervalRelation[] between(
+        TimestampInterval[] a,
+        TimestampInterval[] b
+    ) {
+
+        return AllenClassifier.TIMESTAMP.classify(a, b);
 
     }
 
@@ -486,7 +600,45 @@ public enum IntervalRelation {
         MomentInterval b
     ) {
 
-        return between0(a, b);
+        return AllenClassifier.MOMENT.classify(a, b);
+
+    }
+
+    /**
+     * <p>Determines the relations between the intervals at the same
+     * positions of given arrays. </p>
+     *
+     * <p>Every interval is evaluated only once so this method is suitable
+     * for mass data. The element at index {@code i} of the result is the
+     * relation between {@code a[i]} and {@code b[i]}. </p>
+     *
+     * @param   a   array of first intervals
+     * @param   b   array of second intervals
+     * @return  new array of relations with the same length as the input
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Bestimmt die Beziehungen zwischen den Intervallen an den jeweils
+     * gleichen Positionen der angegebenen Arrays. </p>
+     *
+     * <p>Jedes Intervall wird nur einmal ausgewertet, so da&szlig; diese
+     * Methode f&uuml;r Massendaten geeignet ist. Das Element am Index
+     * {@code i} des Ergebnisses ist die Beziehung zwischen {@code a[i]}
+     * und {@code b[i]}. </p>
+     *
+     * @param   a   array of first intervals
+     * @param   b   array of second intervals
+     * @return  new array of relations with the same length as the input
+     * @throws  IllegalArgumentException if the arrays have different lengths
+     * @since   4.18
+     */
+    public static IntervalRelation[] between(
+        MomentInterval[] a,
+        MomentInterval[] b
+    ) {
+
+        return AllenClassifier.MOMENT.classify(a, b);
 
     }
 
@@ -529,7 +681,8 @@ public enum IntervalRelation {
 
     }
 
-    private static <T extends Temporal<? super T>, I extends IsoInterval<T, I>>
+    // Suche per Prädikat: nur noch für leere Intervalle benötigt
+    static <T extends Temporal<? super T>, I extends IsoInterval<T, I>>
     IntervalRelation between0(
         I a,
         I b
@@ -21,21 +21,28 @@
 
 package net.time4j.range;
 
+import net.time4j.CalendarUnit;
+import net.time4j.ClockUnit;
 import net.time4j.Duration;
 import net.time4j.IsoDateUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTimestamp;
 import net.time4j.ZonalDateTime;
+import net.time4j.base.GregorianMath;
+import net.time4j.engine.TimeSpan;
 import net.time4j.format.expert.ChronoFormatter;
 import net.time4j.format.expert.Iso8601Format;
 import net.time4j.tz.ZonalOffset;
 
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -838,12 +845,172 @@ public class IsoRecurrence<I>
 
     }
 
+    /**
+     * <p>Yields the recurrent interval with given index directly. </p>
+     *
+     * <p>If the duration only consists of days, weeks and clock units or only of calendar units
+     * of at least one month (without any special overflow behaviour) then the interval will be
+     * determined by index arithmetic in constant time. In the second case, the day of month is
+     * reduced in exactly the same way as by successive iteration which might have passed shorter
+     * months before. Other durations require an iteration up to given index. </p>
+     *
+     * @param   index       zero-based index of recurrent interval
+     * @return  recurrent interval with given index, equal to the element at this position of {@link #iterator()}
+     * @throws  IndexOutOfBoundsException if given index is negative or not smaller than the count
+     *          of a finite recurrence
+     * @throws  IllegalArgumentException if the interval is out of range
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Liefert das wiederkehrende Intervall mit dem angegebenen Index direkt. </p>
+     *
+     * <p>Wenn die Dauer nur aus Tagen, Wochen und Uhrzeiteinheiten oder nur aus Kalendereinheiten
+     * von mindestens einem Monat (ohne besonderes &Uuml;berlaufverhalten) besteht, wird das Intervall
+     * mit Index-Arithmetik in konstanter Zeit bestimmt. Im zweiten Fall wird der Tag des Monats genau
+     * so wie bei einer schrittweisen Iteration reduziert, die vorher k&uuml;rzere Monate passiert haben
+     * mag. Andere Dauern erfordern eine Iteration bis zum angegebenen Index. </p>
+     *
+     * @param   index       zero-based index of recurrent interval
+     * @return  recurrent interval with given index, equal to the element at this position of {@link #iterator()}
+     * @throws  IndexOutOfBoundsException if given index is negative or not smaller than the count
+     *          of a finite recurrence
+     * @throws  IllegalArgumentException if the interval is out of range
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   4.18
+     */
+    public I getInterval(int index) {
+
+        if ((index < 0) || (!this.isInfinite() && (index >= this.count))) {
+            throw new IndexOutOfBoundsException("Index out of recurrence range: " + index);
+        }
+
+        return this.computeInterval(index);
+
+    }
+
+    /**
+     * <p>Determines the index of the first recurrent interval which intersects given time window. </p>
+     *
+     * <p>The first interval in iteration order which contains or follows a point in time can be found
+     * by an infinite window starting at this point in time (or ending there in case of a backwards
+     * recurrence). Example: </p>
+     *
+     * <pre>
+     *  IsoRecurrence&lt;MomentInterval&gt; hourly = ...;
+     *  int index = hourly.findIndex(MomentInterval.since(SystemClock.currentMoment()));
+     * </pre>
+     *
+     * <p>If the interval with given index can be determined in constant time (see
+     * {@link #getInterval(int)}) then the search will be a binary search requiring
+     * {@code O(log n)} evaluations. </p>
+     *
+     * @param   window      time window
+     * @return  zero-based index or {@code -1} if there is no intersection
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Bestimmt den Index des ersten wiederkehrenden Intervalls, das das angegebene
+     * Zeitfenster schneidet. </p>
+     *
+     * <p>Das erste Intervall in der Iterationsreihenfolge, das einen Zeitpunkt enth&auml;lt oder
+     * ihm folgt, kann mit Hilfe eines unendlichen Fensters gefunden werden, das mit diesem Zeitpunkt
+     * beginnt (oder im Fall einer r&uuml;ckw&auml;rts laufenden Folge dort endet). Beispiel: </p>
+     *
+     * <pre>
+     *  IsoRecurrence&lt;MomentInterval&gt; hourly = ...;
+     *  int index = hourly.findIndex(MomentInterval.since(SystemClock.currentMoment()));
+     * </pre>
+     *
+     * <p>Wenn das Intervall zu einem Index in konstanter Zeit bestimmt werden kann (siehe
+     * {@link #getInterval(int)}), ist die Suche eine bin&auml;re Suche mit {@code O(log n)}
+     * Auswertungen. </p>
+     *
+     * @param   window      time window
+     * @return  zero-based index or {@code -1} if there is no intersection
+     * @since   4.18
+     */
+    public int findIndex(I window) {
+
+        int[] range = this.findRange(window);
+        return ((range[0] < range[1]) ? range[0] : -1);
+
+    }
+
+    /**
+     * <p>Obtains an ordered stream of all recurrent intervals which intersect given time window. </p>
+     *
+     * <p>Only the intersecting intervals will be created. </p>
+     *
+     * @param   window      time window
+     * @return  Stream in iteration order
+     * @see     #findIndex(Object)
+     * @since   4.18
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen geordneten {@code Stream} aller wiederkehrenden Intervalle, die das
+     * angegebene Zeitfenster schneiden. </p>
+     *
+     * <p>Nur die sich schneidenden Intervalle werden erzeugt. </p>
+     *
+     * @param   window      time window
+     * @return  Stream in iteration order
+     * @see     #findIndex(Object)
+     * @since   4.18
+     */
+    public Stream<I> intervalStream(I window) {
+
+        int[] range = this.findRange(window);
+
+        if (range[0] >= range[1]) {
+            return Stream.empty();
+        } else if (this.isIndexable()) {
+            return IntStream.range(range[0], range[1]).mapToObj(this::computeInterval);
+        }
+
+        List<I> intervals = new ArrayList<>();
+        Iterator<I> iter = this.iterator();
+
+        for (int i = 0; i < range[1]; i++) {
+            I interval = iter.next();
+            if (i >= range[0]) {
+                intervals.add(interval);
+            }
+        }
+
+        return intervals.stream();
+
+    }
+
     IsoRecurrence<I> copyWithCount(int count) {
 
         throw new AbstractMethodError();
 
     }
 
+    I computeInterval(int index) {
+
+        throw new AbstractMethodError();
+
+    }
+
+    // kann computeInterval() in konstanter Zeit rechnen?
+    boolean isIndexable() {
+
+        throw new AbstractMethodError();
+
+    }
+
+    // -1 = Intervall vor dem Fenster, 0 = Schnitt, 1 = Intervall nach dem Fenster
+    int locate(
+        I interval,
+        I window
+    ) {
+
+        throw new AbstractMethodError();
+
+    }
+
     int getType() {
 
         return this.type;
@@ -858,6 +1025,106 @@ public class IsoRecurrence<I>
 
     }
 
+    // Indexbereich [von, bis) der Intervalle, die das Fenster schneiden
+    private int[] findRange(I window) {
+
+        int limit = (this.isInfinite() ? Integer.MAX_VALUE : this.count);
+
+        if (ChronoInterval.class.cast(window).isEmpty()) {
+            return new int[] {limit, limit};
+        } else if (this.isIndexable()) {
+            int lo = this.search(window, 0, limit, 0);
+            int hi = ((lo == limit) ? limit : this.search(window, lo, limit, 1));
+            return new int[] {lo, hi};
+        }
+
+        int lo = limit;
+        int index = 0;
+
+        for (Iterator<I> iter = this.iterator(); iter.hasNext(); index++) {
+            int relation;
+            try {
+                relation = this.relation(iter.next(), window);
+            } catch (ArithmeticException | IllegalArgumentException ex) {
+                break; // Ende der Zeitachse
+            }
+            if (relation > 0) {
+                break;
+            } else if ((relation == 0) && (lo == limit)) {
+                lo = index;
+            }
+        }
+
+        return new int[] {lo, ((lo == limit) ? limit : index)};
+
+    }
+
+    // erster Index in [from, limit) mit relation >= threshold (exponentielle, dann binäre Suche)
+    private int search(
+        I window,
+        int from,
+        int limit,
+        int threshold
+    ) {
+
+        int lo = from;
+        int hi;
+        long step = 1;
+
+        while (true) {
+            long probe = lo + step - 1;
+            if (probe >= limit) {
+                hi = limit;
+                break;
+            } else if (this.relation((int) probe, window) >= threshold) {
+                hi = (int) probe;
+                break;
+            }
+            lo = (int) probe + 1;
+            step <<= 1;
+        }
+
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (this.relation(mid, window) >= threshold) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+
+        return lo;
+
+    }
+
+    // relative Lage in Iterationsrichtung (monoton steigend mit dem Index)
+    private int relation(
+        int index,
+        I window
+    ) {
+
+        I interval;
+
+        try {
+            interval = this.computeInterval(index);
+        } catch (ArithmeticException | IllegalArgumentException ex) {
+            return 1; // jenseits der Zeitachse in Iterationsrichtung
+        }
+
+        return this.relation(interval, window);
+
+    }
+
+    private int relation(
+        I interval,
+        I window
+    ) {
+
+        int result = this.locate(interval, window);
+        return (this.isBackwards() ? -result : result);
+
+    }
+
     private static int parseCount(String[] parts)
         throws ParseException {
 
@@ -924,8 +1191,179 @@ public class IsoRecurrence<I>
 
     }
 
+    // schrittweise Iteration für Dauern ohne Index-Arithmetik
+    private static <I> I iterate(
+        IsoRecurrence<I> recurrence,
+        int index
+    ) {
+
+        Iterator<I> iter = recurrence.iterator();
+
+        for (int i = 0; i < index; i++) {
+            iter.next();
+        }
+
+        return iter.next();
+
+    }
+
     //~ Innere Klassen ----------------------------------------------------
 
+    /**
+     * <p>Index arithmetic for durations which either have a fixed length or only consist of
+     * whole months. </p>
+     */
+    private static class Progression {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final int MRD = 1000000000;
+        private static final long DAY = 86400L;
+
+        // Monatslängen wiederholen sich nach 400 Jahren
+        private static final int MONTHS_OF_CYCLE = 4800;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long months;
+        private final long seconds;
+        private final int nanos;
+        private final boolean indexable;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Progression(Duration<?> duration) {
+            super();
+
+            long m = 0;
+            long s = 0;
+            long n = 0;
+            boolean valid = true;
+
+            try {
+                for (TimeSpan.Item<?> item : duration.getTotalLength()) {
+                    Object unit = item.getUnit();
+                    long amount = item.getAmount();
+                    if (unit instanceof CalendarUnit) {
+                        switch ((CalendarUnit) unit) {
+                            case MILLENNIA:
+                                m = Math.addExact(m, Math.multiplyExact(amount, 12000L));
+                                break;
+                            case CENTURIES:
+                                m = Math.addExact(m, Math.multiplyExact(amount, 1200L));
+                                break;
+                            case DECADES:
+                                m = Math.addExact(m, Math.multiplyExact(amount, 120L));
+                                break;
+                            case YEARS:
+                                m = Math.addExact(m, Math.multiplyExact(amount, 12L));
+                                break;
+                            case QUARTERS:
+                                m = Math.addExact(m, Math.multiplyExact(amount, 3L));
+                                break;
+                            case MONTHS:
+                                m = Math.addExact(m, amount);
+                                break;
+                            case WEEKS:
+                                s = Math.addExact(s, Math.multiplyExact(amount, 7 * DAY));
+                                break;
+                            default:
+                                s = Math.addExact(s, Math.multiplyExact(amount, DAY));
+                        }
+                    } else if (unit instanceof ClockUnit) {
+                        ClockUnit cu = (ClockUnit) unit;
+                        if (cu.compareTo(SECONDS) <= 0) {
+                            s = Math.addExact(s, SECONDS.convert(amount, cu));
+                        } else {
+                            n = Math.addExact(n, NANOS.convert(amount, cu));
+                        }
+                    } else {
+                        valid = false; // zum Beispiel Monate mit besonderem Überlaufverhalten
+                    }
+                }
+                s = Math.addExact(s, n / MRD);
+            } catch (ArithmeticException ex) {
+                valid = false;
+            }
+
+            this.months = m;
+            this.seconds = s;
+            this.nanos = (int) (n % MRD);
+
+            // Monate gemischt mit Tagen oder Uhrzeiteinheiten: Ergebnis hängt von jedem Zwischenschritt ab
+            this.indexable = valid && ((m == 0) || ((s == 0) && (n == 0)));
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        boolean isIndexable() {
+
+            return this.indexable;
+
+        }
+
+        // Datum nach k Schritten (k < 0 für rückwärts laufende Folgen)
+        PlainDate date(
+            PlainDate ref,
+            long k
+        ) {
+
+            if (this.months == 0) {
+                return ref.plus(Math.multiplyExact(k, this.seconds / DAY), DAYS);
+            }
+
+            long delta = ((k < 0) ? -this.months : this.months);
+            long start = ref.getYear() * 12L + ref.getMonth() - 1;
+            long target = Math.addExact(start, Math.multiplyExact(k, this.months));
+            int year = Math.toIntExact(Math.floorDiv(target, 12));
+            int month = (int) Math.floorMod(target, 12) + 1;
+            int dom = ref.getDayOfMonth();
+
+            if (dom > 28) {
+                // jeder Schritt kürzt den Tag auf die Länge eines kürzeren passierten Monats
+                int g = gcd((int) Math.floorMod(delta, MONTHS_OF_CYCLE), MONTHS_OF_CYCLE);
+                long steps = Math.min(Math.abs(k), MONTHS_OF_CYCLE / g);
+                for (long i = 1; (i <= steps) && (dom > 28); i++) {
+                    long ym = start + i * delta;
+                    int y = (int) Math.floorDiv(ym, 12);
+                    int m = (int) Math.floorMod(ym, 12) + 1;
+                    dom = Math.min(dom, GregorianMath.getLengthOfMonth(y, m));
+                }
+            }
+
+            return PlainDate.of(year, month, dom);
+
+        }
+
+        // Zeitstempel nach k Schritten (k < 0 für rückwärts laufende Folgen)
+        PlainTimestamp timestamp(
+            PlainTimestamp ref,
+            long k
+        ) {
+
+            if (this.months != 0) {
+                return PlainTimestamp.of(this.date(ref.getCalendarDate(), k), ref.getWallTime());
+            }
+
+            long n = Math.multiplyExact(k, (long) this.nanos);
+            long s = Math.addExact(Math.multiplyExact(k, this.seconds), Math.floorDiv(n, MRD));
+            return ref.plus(s, SECONDS).plus(Math.floorMod(n, MRD), NANOS);
+
+        }
+
+        private static int gcd(
+            int a,
+            int b
+        ) {
+
+            return ((b == 0) ? a : gcd(b, a % b));
+
+        }
+
+    }
+
+
     private abstract static class ReadOnlyIterator<I, R extends IsoRecurrence<?>>
         implements Iterator<I> {
 
@@ -988,6 +1426,7 @@ public class IsoRecurrence<I>
 
         private final PlainDate ref;
         private final Duration<? extends IsoDateUnit> duration;
+        private final Progression progression;
 
         //~ Konstruktoren -------------------------------------------------
 
@@ -1006,6 +1445,8 @@ public class IsoRecurrence<I>
                 throw new IllegalArgumentException("Duration must be positive: " + duration);
             }
 
+            this.progression = new Progression(duration);
+
         }
 
         //~ Methoden ----------------------------------------------------------
@@ -1093,6 +1534,45 @@ public class IsoRecurrence<I>
 
         }
 
+        @Override
+        DateInterval computeInterval(int index) {
+
+            if (!this.progression.isIndexable()) {
+                return iterate(this, index);
+            }
+
+            Boundary<PlainDate> s;
+            Boundary<PlainDate> e;
+
+            if (this.isBackwards()) {
+                s = Boundary.ofClosed(this.progression.date(this.ref, -index - 1L).plus(1, DAYS));
+                e = Boundary.ofClosed(this.progression.date(this.ref, -index));
+            } else {
+                s = Boundary.ofClosed(this.progression.date(this.ref, index));
+                e = Boundary.ofClosed(this.progression.date(this.ref, index + 1L).minus(1, DAYS));
+            }
+
+            return DateIntervalFactory.INSTANCE.between(s, e);
+
+        }
+
+        @Override
+        boolean isIndexable() {
+
+            return this.progression.isIndexable();
+
+        }
+
+        @Override
+        int locate(
+            DateInterval interval,
+            DateInterval window
+        ) {
+
+            return (interval.isBefore(window) ? -1 : (interval.isAfter(window) ? 1 : 0));
+
+        }
+
     }
 
     private static class RecurrentTimestampIntervals
@@ -1104,6 +1584,7 @@ public class IsoRecurrence<I>
 
         private final PlainTimestamp ref;
         private final Duration<?> duration;
+        private final Progression progression;
 
         //~ Konstruktoren -------------------------------------------------
 
@@ -1122,6 +1603,8 @@ public class IsoRecurrence<I>
                 throw new IllegalArgumentException("Duration must be positive: " + duration);
             }
 
+            this.progression = new Progression(duration);
+
         }
 
         //~ Methoden ----------------------------------------------------------
@@ -1209,6 +1692,45 @@ public class IsoRecurrence<I>
 
         }
 
+        @Override
+        TimestampInterval computeInterval(int index) {
+
+            if (!this.progression.isIndexable()) {
+                return iterate(this, index);
+            }
+
+            Boundary<PlainTimestamp> s;
+            Boundary<PlainTimestamp> e;
+
+            if (this.isBackwards()) {
+                s = Boundary.ofClosed(this.progression.timestamp(this.ref, -index - 1L));
+                e = Boundary.ofOpen(this.progression.timestamp(this.ref, -index));
+            } else {
+                s = Boundary.ofClosed(this.progression.timestamp(this.ref, index));
+                e = Boundary.ofOpen(this.progression.timestamp(this.ref, index + 1L));
+            }
+
+            return TimestampIntervalFactory.INSTANCE.between(s, e);
+
+        }
+
+        @Override
+        boolean isIndexable() {
+
+            return this.progression.isIndexable();
+
+        }
+
+        @Override
+        int locate(
+            TimestampInterval interval,
+            TimestampInterval window
+        ) {
+
+            return (interval.isBefore(window) ? -1 : (interval.isAfter(window) ? 1 : 0));
+
+        }
+
     }
 
     private static class RecurrentMomentIntervals
@@ -1221,6 +1743,7 @@ public class IsoRecurrence<I>
         private final PlainTimestamp ref;
         private final ZonalOffset offset;
         private final Duration<?> duration;
+        private final Progression progression;
 
         //~ Konstruktoren -------------------------------------------------
 
@@ -1243,6 +1766,8 @@ public class IsoRecurrence<I>
                 throw new IllegalArgumentException("Offset with seconds is invalid in ISO-8601: " + offset);
             }
 
+            this.progression = new Progression(duration);
+
         }
 
         //~ Methoden ----------------------------------------------------------
@@ -1341,6 +1866,45 @@ public class IsoRecurrence<I>
 
         }
 
+        @Override
+        MomentInterval computeInterval(int index) {
+
+            if (!this.progression.isIndexable()) {
+                return iterate(this, index);
+            }
+
+            Boundary<Moment> s;
+            Boundary<Moment> e;
+
+            if (this.isBackwards()) {
+                s = Boundary.ofClosed(this.progression.timestamp(this.ref, -index - 1L).at(this.offset));
+                e = Boundary.ofOpen(this.progression.timestamp(this.ref, -index).at(this.offset));
+            } else {
+                s = Boundary.ofClosed(this.progression.timestamp(this.ref, index).at(this.offset));
+                e = Boundary.ofOpen(this.progression.timestamp(this.ref, index + 1L).at(this.offset));
+            }
+
+            return MomentIntervalFactory.INSTANCE.between(s, e);
+
+        }
+
+        @Override
+        boolean isIndexable() {
+
+            return this.progression.isIndexable();
+
+        }
+
+        @Override
+        int locate(
+            MomentInterval interval,
+            MomentInterval window
+        ) {
+
+            return (interval.isBefore(window) ? -1 : (interval.isAfter(window) ? 1 : 0));
+
+        }
+
         private String getOffsetAsString() {
 
             if ((this.offset.getIntegralAmount() == 0) && (this.offset.getFractionalAmount() == 0)) {
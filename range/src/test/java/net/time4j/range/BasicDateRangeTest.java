@@ -2,7 +2,10 @@ package net.time4j.range;
 
 import net.time4j.CalendarUnit;
 import net.time4j.Duration;
+import net.time4j.Month;
 import net.time4j.PlainDate;
+import net.time4j.Quarter;
+import net.time4j.engine.EpochDays;
 import net.time4j.format.expert.Iso8601Format;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -482,6 +485,58 @@ public class BasicDateRangeTest {
         assertThat(DateInterval.streamDaily(date, date).collect(Collectors.toList()), is(expected));
     }
 
+    @Test
+    public void streamEpochDays() {
+        PlainDate start = PlainDate.of(2015, 11, 17);
+        PlainDate end = PlainDate.of(2017, 3, 2);
+        DateInterval interval = DateInterval.between(start, end);
+        List<Long> expected =
+            interval.streamDaily().map(d -> d.get(EpochDays.UNIX)).collect(Collectors.toList());
+        assertThat(interval.streamEpochDays(EpochDays.UNIX).boxed().collect(Collectors.toList()), is(expected));
+        assertThat(
+            interval.streamEpochDays(EpochDays.UNIX).parallel().boxed().collect(Collectors.toList()),
+            is(expected));
+        assertThat(
+            interval.withOpenEnd().streamEpochDays(EpochDays.UTC).count(),
+            is(expected.size() - 1L));
+        assertThat(DateInterval.between(start, start).withOpenEnd().streamEpochDays(EpochDays.UTC).count(), is(0L));
+    }
+
+    @Test
+    public void forEachDay() {
+        PlainDate start = PlainDate.of(2015, 11, 17);
+        PlainDate end = PlainDate.of(2017, 3, 2);
+        List<PlainDate> dates = new ArrayList<>();
+        DateInterval.between(start, end).forEachDay(
+            (year, month, dom) -> dates.add(PlainDate.of(year, month, dom)));
+        assertThat(dates, is(DateInterval.between(start, end).streamDaily().collect(Collectors.toList())));
+    }
+
+    @Test
+    public void primitiveDaysOfFixedCalendarIntervals() {
+        List<FixedCalendarInterval<?>> intervals =
+            Arrays.asList(
+                CalendarYear.of(2016),
+                CalendarQuarter.of(2016, Quarter.Q4),
+                CalendarMonth.of(2016, Month.FEBRUARY),
+                CalendarWeek.of(2015, 53));
+        for (FixedCalendarInterval<?> interval : intervals) {
+            List<PlainDate> expected = interval.toFlexInterval().streamDaily().collect(Collectors.toList());
+            List<PlainDate> dates = new ArrayList<>();
+            interval.forEachDay((year, month, dom) -> dates.add(PlainDate.of(year, month, dom)));
+            assertThat(dates, is(expected));
+            assertThat(
+                interval.streamEpochDays(EpochDays.UTC).parallel()
+                    .mapToObj(utcDays -> PlainDate.of(utcDays, EpochDays.UTC)).collect(Collectors.toList()),
+                is(expected));
+        }
+    }
+
+    @Test(expected=IllegalStateException.class)
+    public void forEachDayWhenInfinite() {
+        DateInterval.since(PlainDate.of(2014, 5, 15)).forEachDay((year, month, dom) -> {});
+    }
+
     @Test(expected=IllegalArgumentException.class)
     public void streamDailyWithStartAfterEnd() {
         PlainDate start = PlainDate.of(2014, 5, 15);
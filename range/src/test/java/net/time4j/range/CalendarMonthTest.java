@@ -4,6 +4,7 @@ import net.time4j.PlainDate;
 import net.time4j.Month;
 import net.time4j.SystemClock;
 import net.time4j.ZonalClock;
+import net.time4j.engine.EpochDays;
 import net.time4j.format.DisplayMode;
 import net.time4j.format.expert.ChronoFormatter;
 import net.time4j.format.expert.PatternType;
@@ -91,6 +92,11 @@ public class CalendarMonthTest {
         assertThat(count - 1, is(29));
     }
 
+    @Test
+    public void primitiveDays() {
+        assertThat(CalendarMonth.of(2016, Month.FEBRUARY).streamEpochDays(EpochDays.UTC).count(), is(29L));
+    }
+
     @Test
     public void length() {
         assertThat(CalendarMonth.of(2015, Month.JANUARY).length(), is(31));
@@ -4,6 +4,7 @@ import net.time4j.PlainDate;
 import net.time4j.Quarter;
 import net.time4j.SystemClock;
 import net.time4j.ZonalClock;
+import net.time4j.engine.EpochDays;
 import net.time4j.format.DisplayMode;
 import net.time4j.format.expert.ChronoFormatter;
 import net.time4j.format.expert.PatternType;
@@ -87,6 +88,11 @@ public class CalendarQuarterTest {
         assertThat(count - 1, is(92));
     }
 
+    @Test
+    public void primitiveDays() {
+        assertThat(CalendarQuarter.of(2016, Quarter.Q4).streamEpochDays(EpochDays.UTC).count(), is(92L));
+    }
+
     @Test
     public void length() {
         assertThat(CalendarQuarter.of(2016, Quarter.Q3).length(), is(92));
@@ -4,6 +4,7 @@ import net.time4j.PlainDate;
 import net.time4j.SystemClock;
 import net.time4j.Weekday;
 import net.time4j.ZonalClock;
+import net.time4j.engine.EpochDays;
 import net.time4j.format.expert.ChronoFormatter;
 import net.time4j.format.expert.PatternType;
 import org.junit.Test;
@@ -76,6 +77,11 @@ public class CalendarWeekTest {
         assertThat(count - 1, is(7));
     }
 
+    @Test
+    public void primitiveDays() {
+        assertThat(CalendarWeek.of(2015, 53).streamEpochDays(EpochDays.UTC).count(), is(7L));
+    }
+
     @Test
     public void length() {
         assertThat(CalendarWeek.of(2016, 3).length(), is(7));
@@ -4,6 +4,7 @@ import net.time4j.PlainDate;
 import net.time4j.Quarter;
 import net.time4j.SystemClock;
 import net.time4j.ZonalClock;
+import net.time4j.engine.EpochDays;
 import net.time4j.format.DisplayMode;
 import net.time4j.format.expert.ChronoFormatter;
 import net.time4j.format.expert.PatternType;
@@ -100,6 +101,11 @@ public class CalendarYearTest {
         assertThat(count - 1, is(366));
     }
 
+    @Test
+    public void primitiveDays() {
+        assertThat(CalendarYear.of(2016).streamEpochDays(EpochDays.UTC).count(), is(366L));
+    }
+
     @Test
     public void length() {
         assertThat(CalendarYear.of(2017).length(), is(365));
@@ -0,0 +1,76 @@
+package net.time4j.range;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.nio.ByteBuffer;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class IntervalCodecTest {
+
+    @Test
+    public void dateIntervals() {
+        DateInterval[] intervals = {
+            DateInterval.between(PlainDate.of(2014, 2, 27), PlainDate.of(2016, 2, 29)),
+            DateInterval.since(PlainDate.of(2016, 5, 1)),
+            DateInterval.until(PlainDate.of(1600, 1, 1)),
+            DateInterval.between(PlainDate.of(2014, 2, 27), PlainDate.of(2016, 2, 29)).withOpenEnd()
+        };
+        ByteBuffer buffer = ByteBuffer.allocate(100);
+        IntervalCodec.DATE.writeAll(intervals, buffer);
+        buffer.flip();
+        DateInterval[] result = new DateInterval[intervals.length];
+        IntervalCodec.DATE.readAll(buffer, result);
+        assertThat(result, is(intervals));
+        assertThat(buffer.hasRemaining(), is(false));
+    }
+
+    @Test
+    public void fixedForm() {
+        TimestampInterval[] intervals = {
+            TimestampInterval.between(PlainTimestamp.of(2014, 2, 27, 0, 0), PlainTimestamp.of(2016, 2, 29, 12, 45)),
+            TimestampInterval.since(PlainTimestamp.of(2016, 5, 1, 17, 0)),
+            TimestampInterval.until(PlainTimestamp.of(1600, 1, 1, 0, 0))
+        };
+        int len = IntervalCodec.TIMESTAMP.getFixedLength();
+        assertThat(len, is(29));
+        ByteBuffer buffer = ByteBuffer.allocate(intervals.length * len);
+        IntervalCodec.TIMESTAMP.writeAllFixed(intervals, buffer);
+        assertThat(buffer.hasRemaining(), is(false));
+        buffer.position(2 * len);
+        assertThat(IntervalCodec.TIMESTAMP.read(buffer), is(intervals[2]));
+        buffer.position(len);
+        assertThat(IntervalCodec.TIMESTAMP.read(buffer), is(intervals[1]));
+    }
+
+    @Test
+    public void clockAndMomentIntervals() {
+        ClockInterval ci = ClockInterval.between(PlainTime.of(9, 15), PlainTime.of(17, 30, 0, 1));
+        MomentInterval mi =
+            MomentInterval.between(Moment.UNIX_EPOCH, PlainTimestamp.of(2016, 1, 1, 0, 0).atUTC());
+        ByteBuffer buffer = ByteBuffer.allocate(100);
+        IntervalCodec.CLOCK.write(ci, buffer);
+        IntervalCodec.MOMENT.writeFixed(mi, buffer);
+        buffer.flip();
+        assertThat(IntervalCodec.CLOCK.read(buffer), is(ci));
+        assertThat(IntervalCodec.MOMENT.read(buffer), is(mi));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void readWrongType() {
+        ByteBuffer buffer = ByteBuffer.allocate(100);
+        IntervalCodec.DATE.write(DateInterval.atomic(PlainDate.of(2016, 1, 1)), buffer);
+        buffer.flip();
+        IntervalCodec.CLOCK.read(buffer);
+    }
+
+}
@@ -1,5 +1,6 @@
 package net.time4j.range;
 
+import net.time4j.CalendarUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTimestamp;
@@ -9,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
 
 import net.time4j.scale.TimeScale;
 import org.junit.Test;
@@ -1009,4 +1011,82 @@ public class IntervalCollectionTest {
         assertThat(result, is(expected));
     }
 
+    @Test
+    public void incrementalBlocksLikeWithBlocks() {
+        Random random = new Random(17);
+        PlainDate base = PlainDate.of(2016, 1, 1);
+        IntervalBlocks<PlainDate> blocks = IntervalCollection.onDateAxis().toBlocks();
+        IntervalCollection<PlainDate> expected = IntervalCollection.onDateAxis();
+
+        for (int i = 0; i < 500; i++) {
+            PlainDate start = base.plus(random.nextInt(200), CalendarUnit.DAYS);
+            DateInterval interval =
+                DateInterval.between(start, start.plus(random.nextInt(10), CalendarUnit.DAYS));
+            if (random.nextInt(3) == 0) {
+                blocks.remove(interval);
+                expected = expected.minus(interval).withBlocks();
+            } else {
+                blocks.add(interval);
+                expected = expected.plus(interval).withBlocks();
+            }
+            PlainDate ws = base.plus(random.nextInt(200), CalendarUnit.DAYS);
+            DateInterval window = DateInterval.between(ws, ws.plus(random.nextInt(60), CalendarUnit.DAYS));
+            assertThat(blocks.getBlocks(), is(expected));
+            assertThat(blocks.size(), is(expected.getIntervals().size()));
+            assertThat(blocks.getGaps(), is(expected.withGaps()));
+            assertThat(blocks.getComplement(window), is(expected.withComplement(window)));
+        }
+    }
+
+    @Test
+    public void incrementalBlocksWithInfiniteIntervals() {
+        PlainDate d1 = PlainDate.of(2016, 1, 1);
+        PlainDate d2 = PlainDate.of(2016, 2, 1);
+        PlainDate d3 = PlainDate.of(2016, 3, 1);
+        IntervalBlocks<PlainDate> blocks = IntervalCollection.onDateAxis().toBlocks();
+        blocks.add(DateInterval.until(d1));
+        blocks.add(DateInterval.since(d3));
+        blocks.add(DateInterval.between(d2, d2));
+        assertThat(
+            blocks.getBlocks(),
+            is(IntervalCollection.onDateAxis()
+                .plus(DateInterval.until(d1))
+                .plus(DateInterval.since(d3))
+                .plus(DateInterval.between(d2, d2))
+                .withBlocks()));
+        assertThat(
+            blocks.getComplement(DateInterval.since(PlainDate.of(2015, 12, 1))),
+            is(IntervalCollection.onDateAxis()
+                .plus(DateInterval.between(PlainDate.of(2016, 1, 2), PlainDate.of(2016, 1, 31)))
+                .plus(DateInterval.between(PlainDate.of(2016, 2, 2), PlainDate.of(2016, 2, 29)))));
+        blocks.remove(DateInterval.between(PlainDate.of(2015, 12, 1), PlainDate.of(2016, 3, 9)));
+        assertThat(blocks.size(), is(2));
+        assertThat(blocks.getBlocks().getMaximum(), nullValue());
+        assertThat(blocks.getBlocks().getIntervals().get(1).getStart().getTemporal(), is(PlainDate.of(2016, 3, 10)));
+        blocks.add(DateInterval.since(PlainDate.of(2015, 1, 1)));
+        assertThat(blocks.size(), is(1));
+        assertThat(blocks.getGaps().isEmpty(), is(true));
+    }
+
+    @Test
+    public void parallelBlocksLikeWithBlocks() {
+        Random random = new Random(5);
+        List<ChronoInterval<Moment>> intervals = new ArrayList<>();
+        for (int i = 0; i < 50000; i++) {
+            long start = random.nextInt(10000000);
+            intervals.add(
+                MomentInterval.between(
+                    Moment.of(start, TimeScale.POSIX),
+                    Moment.of(start + 1 + random.nextInt(200), TimeScale.POSIX)));
+        }
+        IntervalCollection<Moment> coll = IntervalCollection.onMomentAxis().plus(intervals.get(0));
+        List<ChronoInterval<Moment>> others = intervals.subList(1, intervals.size());
+        IntervalCollection<Moment> expected = coll.plus(others).withBlocks();
+        assertThat(coll.withBlocks(others, true), is(expected));
+        assertThat(coll.withBlocks(others, false), is(expected));
+        assertThat(
+            IntervalCollection.onMomentAxis().withBlocks(intervals.subList(0, 1), true),
+            is(IntervalCollection.onMomentAxis().plus(intervals.get(0))));
+    }
+
 }
@@ -0,0 +1,85 @@
+package net.time4j.range;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.TemporalKey;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.nio.ByteBuffer;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class IntervalKeyTest {
+
+    @Test
+    public void dateIntervalOrder() {
+        PlainDate d1 = PlainDate.of(2014, 2, 27);
+        PlainDate d2 = PlainDate.of(2016, 2, 29);
+        DateInterval[] sorted = {
+            DateInterval.until(d1),
+            DateInterval.until(d2),
+            DateInterval.between(d1, d2).withOpenEnd(),
+            DateInterval.between(d1, d2),
+            DateInterval.since(d1),
+            new DateInterval(Boundary.ofOpen(d1), Boundary.ofClosed(d2)),
+            DateInterval.since(d2)
+        };
+
+        for (int i = 0; i < sorted.length; i++) {
+            byte[] key = IntervalKey.DATE.encode(sorted[i]);
+            assertThat(key.length, is(IntervalKey.DATE.getLength()));
+            assertThat(IntervalKey.DATE.decode(key), is(sorted[i]));
+            if (i > 0) {
+                assertThat(TemporalKey.compareKeys(IntervalKey.DATE.encode(sorted[i - 1]), key) < 0, is(true));
+            }
+        }
+    }
+
+    @Test
+    public void momentIntervalRoundTrip() {
+        Moment start = PlainTimestamp.of(2012, 6, 30, 23, 0).atUTC();
+        Moment end = PlainTimestamp.of(2012, 7, 1, 1, 0).atUTC();
+        MomentInterval[] intervals = {
+            MomentInterval.between(start, end),
+            MomentInterval.since(start),
+            MomentInterval.until(end)
+        };
+        ByteBuffer buffer = ByteBuffer.allocate(intervals.length * IntervalKey.MOMENT.getLength());
+
+        for (MomentInterval interval : intervals) {
+            IntervalKey.MOMENT.encode(interval, buffer);
+        }
+
+        assertThat(buffer.hasRemaining(), is(false));
+        buffer.flip();
+
+        for (MomentInterval interval : intervals) {
+            assertThat(IntervalKey.MOMENT.decode(buffer), is(interval));
+        }
+    }
+
+    @Test
+    public void startIsPrefix() {
+        PlainDate d1 = PlainDate.of(2014, 2, 27);
+        byte[] key = IntervalKey.DATE.encode(DateInterval.between(d1, PlainDate.of(2016, 2, 29)));
+        byte[] dateKey = TemporalKey.DATE.encode(d1);
+
+        for (int i = 0; i < dateKey.length; i++) {
+            assertThat(key[i + 1], is(dateKey[i]));
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidState() {
+        byte[] key = IntervalKey.DATE.encode(DateInterval.atomic(PlainDate.of(2016, 1, 1)));
+        key[0] = 7;
+        IntervalKey.DATE.decode(key);
+    }
+
+}
@@ -3,6 +3,7 @@ package net.time4j.range;
 import net.time4j.CalendarUnit;
 import net.time4j.ClockUnit;
 import net.time4j.Duration;
+import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTimestamp;
 import net.time4j.tz.OffsetSign;
@@ -14,6 +15,7 @@ import org.junit.runners.JUnit4;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -416,4 +418,97 @@ public class IsoRecurrenceTest {
         assertThat(recurrence.intervalStream().parallel().collect(Collectors.toList()), is(expected));
     }
 
+    @Test
+    public void getIntervalLikeIterator() {
+        List<Duration<CalendarUnit>> dateDurations = new ArrayList<>();
+        dateDurations.add(Duration.of(1, CalendarUnit.MONTHS));
+        dateDurations.add(Duration.ofCalendarUnits(1, 1, 0));
+        dateDurations.add(Duration.of(4, CalendarUnit.YEARS));
+        dateDurations.add(Duration.of(1, CalendarUnit.QUARTERS));
+        dateDurations.add(Duration.of(3, CalendarUnit.WEEKS));
+        dateDurations.add(Duration.of(10, CalendarUnit.DAYS));
+        dateDurations.add(Duration.ofCalendarUnits(0, 1, 1)); // ohne Index-Arithmetik
+
+        for (PlainDate ref : new PlainDate[] {PlainDate.of(2000, 1, 31), PlainDate.of(2016, 2, 29), PlainDate.of(1999, 8, 30)}) {
+            for (Duration<CalendarUnit> duration : dateDurations) {
+                checkIndex(IsoRecurrence.of(250, ref, duration));
+                checkIndex(IsoRecurrence.of(250, duration, ref));
+                PlainTimestamp tsp = ref.atTime(17, 45);
+                checkIndex(IsoRecurrence.of(250, tsp, duration));
+                checkIndex(IsoRecurrence.of(250, duration, tsp));
+            }
+        }
+
+        PlainTimestamp tsp = PlainTimestamp.of(2016, 1, 31, 23, 30);
+        checkIndex(IsoRecurrence.of(500, tsp, Duration.of(1, ClockUnit.HOURS)));
+        checkIndex(IsoRecurrence.of(500, tsp, Duration.ofPositive().days(1).hours(1).millis(250).build()));
+        checkIndex(IsoRecurrence.of(500, Duration.of(1500, ClockUnit.MICROS), tsp));
+        checkIndex(IsoRecurrence.of(500, tsp, Duration.ofPositive().months(1).hours(1).build()));
+        ZonalOffset offset = ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 2);
+        checkIndex(IsoRecurrence.of(500, tsp.atUTC(), Duration.of(7, ClockUnit.MINUTES), offset));
+        checkIndex(IsoRecurrence.of(500, Duration.of(1, CalendarUnit.MONTHS), tsp.atUTC(), offset));
+        checkIndex(
+            IsoRecurrence.of(
+                250, Duration.of(1, CalendarUnit.MONTHS.keepingEndOfMonth()), PlainDate.of(2016, 4, 30)));
+    }
+
+    @Test
+    public void getIntervalOfInfiniteHourlyRecurrence() {
+        IsoRecurrence<MomentInterval> hourly =
+            IsoRecurrence.of(0, Moment.UNIX_EPOCH, Duration.of(1, ClockUnit.HOURS), ZonalOffset.UTC)
+                .withInfiniteCount();
+        Moment start = PlainTimestamp.of(2016, 10, 18, 14, 0).atUTC();
+        int index = (int) (start.getPosixTime() / 3600);
+        assertThat(hourly.getInterval(index), is(MomentInterval.between(start, start.plus(1, TimeUnit.HOURS))));
+        assertThat(hourly.findIndex(MomentInterval.since(start.plus(1, TimeUnit.SECONDS))), is(index));
+        assertThat(
+            hourly.intervalStream(MomentInterval.between(start, start.plus(3, TimeUnit.HOURS))).count(),
+            is(3L));
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void getIntervalWithIndexOutOfRange() {
+        IsoRecurrence.of(4, PlainDate.of(2016, 7, 1), Duration.of(1, CalendarUnit.MONTHS)).getInterval(4);
+    }
+
+    @Test
+    public void findIndexAndIntervalStreamWithWindow() {
+        PlainDate ref = PlainDate.of(2016, 1, 31);
+        for (Duration<CalendarUnit> duration : new Duration[] {
+            Duration.of(1, CalendarUnit.MONTHS), Duration.of(9, CalendarUnit.DAYS), Duration.ofCalendarUnits(0, 1, 2)}
+        ) {
+            for (IsoRecurrence<DateInterval> recurrence : new IsoRecurrence[] {
+                IsoRecurrence.of(100, ref, duration), IsoRecurrence.of(100, duration, ref)}
+            ) {
+                List<DateInterval> all = recurrence.intervalStream().collect(Collectors.toList());
+                for (int i = -400; i < 3500; i += 37) {
+                    PlainDate start = ref.plus(i, CalendarUnit.DAYS);
+                    for (DateInterval window : new DateInterval[] {
+                        DateInterval.between(start, start.plus(i & 63, CalendarUnit.DAYS)),
+                        DateInterval.since(start),
+                        DateInterval.until(start)}
+                    ) {
+                        List<DateInterval> expected =
+                            all.stream().filter(iv -> iv.intersects(window)).collect(Collectors.toList());
+                        assertThat(
+                            recurrence + " / " + window,
+                            recurrence.intervalStream(window).collect(Collectors.toList()),
+                            is(expected));
+                        assertThat(
+                            recurrence.findIndex(window),
+                            is(expected.isEmpty() ? -1 : all.indexOf(expected.get(0))));
+                    }
+                }
+            }
+        }
+    }
+
+    private static <I> void checkIndex(IsoRecurrence<I> recurrence) {
+        int index = 0;
+        for (I interval : recurrence) {
+            assertThat(recurrence + " / " + index, recurrence.getInterval(index), is(interval));
+            index++;
+        }
+    }
+
 }
@@ -21,12 +21,15 @@ import org.junit.runners.Suite.SuiteClasses;
         ClockIntervalFormatTest.class,
         ComparatorTest.class,
         DateIntervalFormatTest.class,
+        IntervalCodecTest.class,
+        IntervalKeyTest.class,
         IntervalCollectionTest.class,
         IsoRecurrenceTest.class,
         MachineTimeTest.class,
         MomentIntervalFormatTest.class,
         RangeConversionTest.class,
         RangeDurationTest.class,
+        RelationClassifierTest.class,
         RelationTest.class,
         SerializationTest.class,
         SingleUnitTest.class,